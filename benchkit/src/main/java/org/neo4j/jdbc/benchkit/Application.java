@@ -22,10 +22,15 @@ import org.openapitools.jackson.nullable.JsonNullableModule;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.FullyQualifiedAnnotationBeanNameGenerator;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @SpringBootApplication(nameGenerator = FullyQualifiedAnnotationBeanNameGenerator.class)
+@EnableConfigurationProperties(BenchkitProperties.class)
 public class Application {
 
 	public static void main(String[] args) {
@@ -38,4 +43,19 @@ public class Application {
 		return new JsonNullableModule();
 	}
 
+	@Bean
+	public AsyncTaskExecutor workloadExecutor(BenchkitProperties properties) {
+		if (properties.virtualThreads()) {
+			var executor = new SimpleAsyncTaskExecutor("benchkit-workload-");
+			executor.setVirtualThreads(true);
+			executor.setConcurrencyLimit(properties.threads());
+			return executor;
+		}
+		var executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("benchkit-workload-");
+		executor.setCorePoolSize(properties.threads());
+		executor.setMaxPoolSize(properties.threads());
+		return executor;
+	}
+
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.benchkit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration of the workload execution.
+ *
+ * @param threads the maximum number of queries executed concurrently in parallel modes,
+ * {@literal 0} or less defaults to the number of available processors
+ * @param virtualThreads whether to use virtual threads instead of a pool of platform
+ * threads, requires a JDK supporting them
+ */
+@ConfigurationProperties("benchkit")
+public record BenchkitProperties(@DefaultValue("0") int threads, @DefaultValue("false") boolean virtualThreads) {
+
+	public BenchkitProperties {
+		if (threads <= 0) {
+			threads = Runtime.getRuntime().availableProcessors();
+		}
+	}
+
+}
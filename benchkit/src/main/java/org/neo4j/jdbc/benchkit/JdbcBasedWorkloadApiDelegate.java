@@ -18,14 +18,20 @@
  */
 package org.neo4j.jdbc.benchkit;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import org.neo4j.jdbc.Neo4jPreparedStatement;
 import org.neo4j.jdbc.benchkit.api.WorkloadApiDelegate;
 import org.neo4j.jdbc.benchkit.model.Workload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
@@ -34,17 +40,20 @@ import org.springframework.stereotype.Service;
 @Service
 public class JdbcBasedWorkloadApiDelegate implements WorkloadApiDelegate {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(JdbcBasedWorkloadApiDelegate.class);
+
 	private final JdbcTemplate jdbcTemplate;
 
-	public JdbcBasedWorkloadApiDelegate(JdbcTemplate jdbcTemplate) {
+	private final AsyncTaskExecutor workloadExecutor;
+
+	public JdbcBasedWorkloadApiDelegate(JdbcTemplate jdbcTemplate, AsyncTaskExecutor workloadExecutor) {
 		this.jdbcTemplate = jdbcTemplate;
+		this.workloadExecutor = workloadExecutor;
 	}
 
 	@Override
 	public ResponseEntity<Void> executeSuppliedWorkload(Workload workload) {
-		if (workload.getMode() != Workload.ModeEnum.SEQUENTIAL_SESSIONS
-				&& workload.getMode() != Workload.ModeEnum.SEQUENTIAL_QUERIES
-				&& workload.getMode() != Workload.ModeEnum.SEQUENTIAL_TRANSACTIONS) {
+		if (workload.getMode() == null) {
 			return ResponseEntity.badRequest().build();
 		}
 		if (!"neo4j".equalsIgnoreCase(
@@ -52,25 +61,51 @@ public class JdbcBasedWorkloadApiDelegate implements WorkloadApiDelegate {
 			return ResponseEntity.badRequest().build();
 		}
 
+		var queries = workload.getQueries();
+		var latencies = new QueryLatencies(queries.size());
+		var start = System.nanoTime();
 		try {
-			workload.getQueries()
-				.forEach(query -> this.jdbcTemplate.execute(query.getText(), (PreparedStatementCallback<Void>) ps -> {
-					if (query.getParameters() != null && query.getParameters() instanceof Map<?, ?> parameters) {
-						var nps = ps.unwrap(Neo4jPreparedStatement.class);
-						for (Map.Entry<?, ?> entry : parameters.entrySet()) {
-							Object k = entry.getKey();
-							Object v = entry.getValue();
-							nps.setObject((String) k, v);
-						}
-					}
-					ps.execute();
-					return null;
-				}));
+			if (workload.getMode() == Workload.ModeEnum.PARALLEL_SESSIONS) {
+				var futures = new ArrayList<CompletableFuture<Void>>(queries.size());
+				for (int i = 0; i < queries.size(); i++) {
+					var idx = i;
+					var query = queries.get(idx);
+					futures.add(this.workloadExecutor.submitCompletable(
+							() -> execute(query.getText(), query.getParameters(), idx, latencies), null));
+				}
+				CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+			}
+			else {
+				for (int i = 0; i < queries.size(); i++) {
+					var query = queries.get(i);
+					execute(query.getText(), query.getParameters(), i, latencies);
+				}
+			}
 		}
 		catch (Exception ex) {
+			LOGGER.error("Could not execute workload", ex);
 			return ResponseEntity.internalServerError().build();
 		}
+		LOGGER.info("Executed {} workload: {}", workload.getMode(),
+				latencies.summarize(Duration.ofNanos(System.nanoTime() - start)));
 		return ResponseEntity.noContent().build();
 	}
 
+	private void execute(String text, Object parameters, int idx, QueryLatencies latencies) {
+		var start = System.nanoTime();
+		this.jdbcTemplate.execute(text, (PreparedStatementCallback<Void>) ps -> {
+			if (parameters instanceof Map<?, ?> map) {
+				var nps = ps.unwrap(Neo4jPreparedStatement.class);
+				for (Map.Entry<?, ?> entry : map.entrySet()) {
+					Object k = entry.getKey();
+					Object v = entry.getValue();
+					nps.setObject((String) k, v);
+				}
+			}
+			ps.execute();
+			return null;
+		});
+		latencies.record(idx, System.nanoTime() - start);
+	}
+
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.benchkit;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Captures the latency of each query in a workload. Every query writes only its own
+ * slot, so that no synchronization is needed as long as the summary is only computed
+ * after all queries have been completed.
+ */
+final class QueryLatencies {
+
+	private final long[] latencies;
+
+	QueryLatencies(int numberOfQueries) {
+		this.latencies = new long[numberOfQueries];
+	}
+
+	void record(int query, long nanos) {
+		this.latencies[query] = nanos;
+	}
+
+	String summarize(Duration wallTime) {
+		if (this.latencies.length == 0) {
+			return "0 queries in %s".formatted(wallTime);
+		}
+		var sorted = this.latencies.clone();
+		Arrays.sort(sorted);
+		return "%d queries in %s (min=%s, p50=%s, p99=%s, max=%s)".formatted(sorted.length, wallTime,
+				Duration.ofNanos(sorted[0]), Duration.ofNanos(percentile(sorted, 0.5)),
+				Duration.ofNanos(percentile(sorted, 0.99)), Duration.ofNanos(sorted[sorted.length - 1]));
+	}
+
+	private static long percentile(long[] sorted, double percentile) {
+		var idx = (int) Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.jdbc.Neo4jTransaction.PullResponse;
+import org.neo4j.jdbc.Neo4jTransaction.ResultSummary;
+import org.neo4j.jdbc.Neo4jTransaction.RunResponse;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the getters of {@link ResultSetImpl} over a canned pull response of
+ * synthetic records. The numbers are reported per row.
+ *
+ * @author Neo4j Drivers Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultSetBenchmarks {
+
+	private static final int NUMBER_OF_ROWS = 1_000;
+
+	private final List<String> keys = List.of("id", "name", "score", "active", "born");
+
+	private RunResponse runResponse;
+
+	private PullResponse pullResponse;
+
+	@Setup
+	public void setup() {
+		var records = new ArrayList<Record>(NUMBER_OF_ROWS);
+		for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+			records.add(Record.of(this.keys,
+					new Value[] { Values.value((long) i), Values.value("Person " + i), Values.value(i / 7.0),
+							Values.value(i % 2 == 0), Values.value(LocalDate.of(1900, 1, 1).plusDays(i)) }));
+		}
+		var theKeys = this.keys;
+		this.runResponse = new RunResponse() {
+			@Override
+			public long queryId() {
+				return 0;
+			}
+
+			@Override
+			public List<String> keys() {
+				return theKeys;
+			}
+		};
+		this.pullResponse = new PullResponse() {
+			@Override
+			public List<Record> records() {
+				return records;
+			}
+
+			@Override
+			public Optional<ResultSummary> resultSummary() {
+				return Optional.empty();
+			}
+
+			@Override
+			public boolean hasMore() {
+				return false;
+			}
+		};
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUMBER_OF_ROWS)
+	public void gettersByIndex(Blackhole blackhole) throws SQLException {
+		try (var resultSet = newResultSet()) {
+			while (resultSet.next()) {
+				blackhole.consume(resultSet.getLong(1));
+				blackhole.consume(resultSet.getString(2));
+				blackhole.consume(resultSet.getDouble(3));
+				blackhole.consume(resultSet.getBoolean(4));
+				blackhole.consume(resultSet.getDate(5));
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUMBER_OF_ROWS)
+	public void gettersByLabel(Blackhole blackhole) throws SQLException {
+		try (var resultSet = newResultSet()) {
+			while (resultSet.next()) {
+				blackhole.consume(resultSet.getLong("id"));
+				blackhole.consume(resultSet.getString("name"));
+				blackhole.consume(resultSet.getDouble("score"));
+				blackhole.consume(resultSet.getBoolean("active"));
+				blackhole.consume(resultSet.getDate("born"));
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(NUMBER_OF_ROWS)
+	public void getObject(Blackhole blackhole) throws SQLException {
+		try (var resultSet = newResultSet()) {
+			while (resultSet.next()) {
+				for (int i = 1; i <= this.keys.size(); ++i) {
+					blackhole.consume(resultSet.getObject(i));
+				}
+			}
+		}
+	}
+
+	private ResultSetImpl newResultSet() {
+		var statement = new LocalStatementImpl(null, this.runResponse, this.pullResponse);
+		return new ResultSetImpl(statement, -1, new ThrowingTransactionImpl(), this.runResponse, this.pullResponse, -1,
+				-1);
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the client-side parsing of statements that happens before anything is sent
+ * to the server, that is the rewriting of JDBC placeholders and the parsing of callable
+ * statements.
+ *
+ * @author Neo4j Drivers Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatementParsingBenchmarks {
+
+	private final String cypherWithPlaceholders = """
+			MATCH (p:Person {name: ?})-[r:ACTED_IN]->(m:Movie)
+			WHERE m.released > ? AND m.title <> '?' // A comment with a ?
+			SET r.roles = ?
+			RETURN p.name, m.title, /* and another ? */ ?""";
+
+	private final String jdbcCall = "{? = call db.index.fulltext.queryNodes(?, ?)}";
+
+	private final String cypherCall = "call db.index.fulltext.queryNodes(?, ?) yield *";
+
+	@Benchmark
+	public String rewritePlaceholders() {
+		return PreparedStatementImpl.rewritePlaceholders(this.cypherWithPlaceholders);
+	}
+
+	@Benchmark
+	public Object parseJdbcCall() {
+		return CallableStatementImpl.parse(this.jdbcCall);
+	}
+
+	@Benchmark
+	public Object parseCypherCall() {
+		return CallableStatementImpl.parse(this.cypherCall);
+	}
+
+}
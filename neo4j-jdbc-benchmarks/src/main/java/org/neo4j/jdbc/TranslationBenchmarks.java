@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.jdbc.translator.impl.SqlToCypherTranslatorFactory;
+import org.neo4j.jdbc.translator.spi.Translator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the SQL to Cypher translation with caching disabled on a corpus of
+ * statements in the shape that tools usually generate.
+ *
+ * @author Neo4j Drivers Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslationBenchmarks {
+
+	private static final Map<String, String> CORPUS = Map.of("select", """
+			SELECT t.a, t.b
+			FROM My_Table AS t
+			WHERE t.a = 1
+			ORDER BY t.b DESC
+			LIMIT 10""", "join", """
+			SELECT p.name AS actor, d.name AS director, m.title
+			FROM people p
+			 JOIN movie_actors r ON r.person_id = p.id
+			 JOIN movies m ON m.id = r.person_id
+			 JOIN movie_directors r2 ON r2.movie_id = m.id
+			 JOIN people d ON r2.person_id = d.id""", "aggregate", """
+			SELECT m.title, count(*) AS actors
+			FROM Person p
+			NATURAL JOIN ACTED_IN r
+			NATURAL JOIN Movie m
+			WHERE m.released BETWEEN ? AND ?
+			GROUP BY m.title
+			HAVING count(*) > 2""", "predicates", """
+			SELECT * FROM movies m
+			WHERE m.title LIKE '%Matrix%' OR m.title LIKE 'M_trix'
+			AND m.released IS NOT NULL AND m.released IN (1999, 2003)""", "insert", """
+			INSERT INTO People (first_name, last_name, born) VALUES (?, ?, ?)""", "upsert", """
+			INSERT INTO People (first_name, last_name, born) VALUES
+			    ('Helge', 'Schneider', 1955),
+			    ('Bela', 'B', 1962)
+			ON CONFLICT(last_name) DO UPDATE SET born = EXCLUDED.born""", "delete", """
+			DELETE FROM person p WHERE p.id = ?""");
+
+	@Param({ "select", "join", "aggregate", "predicates", "insert", "upsert", "delete" })
+	private String statement;
+
+	private Translator translator;
+
+	private String sql;
+
+	@Setup
+	public void setup() {
+		this.translator = new SqlToCypherTranslatorFactory().create(Map.of("s2c.enableCache", "false"));
+		this.sql = CORPUS.get(this.statement);
+	}
+
+	@Benchmark
+	public String translate() {
+		return this.translator.translate(this.sql);
+	}
+
+}
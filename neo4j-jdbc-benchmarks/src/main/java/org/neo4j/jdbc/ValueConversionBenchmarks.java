@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.bolt.connection.values.Value;
+import org.neo4j.bolt.connection.values.ValueFactory;
+import org.neo4j.jdbc.internal.bolt.BoltAdapters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the conversion between the values of the driver and the values of the Bolt
+ * connection, in both directions: Parameters are adapted before they are sent, and
+ * incoming values are created through the value factory while records are decoded.
+ *
+ * @author Neo4j Drivers Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValueConversionBenchmarks {
+
+	private final Map<String, Object> parameters = Map.of("name", "Keanu Reeves", "born", 1964L, "height", 1.86,
+			"active", true, "roles", List.of("Neo", "John Wick", "Johnny Mnemonic"), "address",
+			Map.of("city", "Beirut", "country", "Lebanon"), "birthday", LocalDate.of(1964, 9, 2), "lastSeen",
+			ZonedDateTime.of(2025, 7, 3, 9, 56, 0, 0, ZoneId.of("Europe/Berlin")));
+
+	private final List<String> labels = List.of("Person", "Actor");
+
+	private ValueFactory valueFactory;
+
+	private Map<String, Value> properties;
+
+	@Setup
+	public void setup() {
+		this.valueFactory = BoltAdapters.getValueFactory();
+		this.properties = BoltAdapters.adaptMap(this.parameters);
+	}
+
+	@Benchmark
+	public Map<String, Value> adaptMap() {
+		return BoltAdapters.adaptMap(this.parameters);
+	}
+
+	@Benchmark
+	public void scalarValues(Blackhole blackhole) {
+		for (Object value : this.parameters.values()) {
+			blackhole.consume(this.valueFactory.value(value));
+		}
+	}
+
+	@Benchmark
+	public Object node() {
+		return this.valueFactory.node(4711L, "4:e5e4c7bc:4711", this.labels, this.properties);
+	}
+
+}
@@ -52,6 +52,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.neo4j.jdbc.Neo4jConnection;
+import org.neo4j.jdbc.Neo4jDatabaseMetaData;
 import org.neo4j.jdbc.Neo4jPreparedStatement;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -1699,6 +1700,7 @@ abstract class AbstractDatabaseMetadata extends IntegrationTestBase {
 			assertThat(resultSet.getObject("CARDINALITY")).isNull();
 			assertThat(resultSet.getObject("PAGES")).isNull();
 			assertThat(resultSet.getObject("FILTER_CONDITION")).isNull();
+			assertThat(resultSet.getString("INDEX_TYPE")).isEqualTo("RANGE");
 			assertThat(resultSet.next()).isFalse();
 		}
 		finally {
@@ -1708,6 +1710,42 @@ abstract class AbstractDatabaseMetadata extends IntegrationTestBase {
 		}
 	}
 
+	@Test
+	@DisabledIf("runningAgainstVirtualGraphs")
+	void partitionsShouldBeBalanced() throws SQLException {
+		try (var statement = this.connection.createStatement()) {
+			statement.execute("UNWIND range(0, 999) AS i CREATE (:Partitioned {id: i})");
+			statement.execute("CREATE (:Partitioned)");
+		}
+
+		var predicates = new ArrayList<String>();
+		var metaData = this.connection.getMetaData().unwrap(Neo4jDatabaseMetaData.class);
+		try (var partitions = metaData.getPartitions("Partitioned", "id", 4)) {
+			while (partitions.next()) {
+				assertThat(partitions.getInt("PARTITION")).isEqualTo(predicates.size() + 1);
+				predicates.add(partitions.getString("PREDICATE"));
+			}
+		}
+		assertThat(predicates).containsExactly("id < 250 OR id IS NULL", "id >= 250 AND id < 500",
+				"id >= 500 AND id < 750", "id >= 750");
+
+		var counts = new ArrayList<Long>();
+		try (var connection = getConnection(true, false); var statement = connection.createStatement()) {
+			for (var predicate : predicates) {
+				try (var result = statement.executeQuery("SELECT count(*) FROM Partitioned WHERE " + predicate)) {
+					assertThat(result.next()).isTrue();
+					counts.add(result.getLong(1));
+				}
+			}
+		}
+		finally {
+			try (var statement = this.connection.createStatement()) {
+				statement.execute("MATCH (n:Partitioned) DELETE n");
+			}
+		}
+		assertThat(counts).containsExactly(251L, 250L, 250L, 250L);
+	}
+
 	@Test
 	void catalogEqualsToDatabaseNameIsOk() {
 		assertThatNoException().isThrownBy(() -> this.connection.getMetaData().getTables("neo4j", null, null, null));
@@ -19,7 +19,6 @@
 package org.neo4j.jdbc.it.cp;
 
 import java.sql.SQLException;
-import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -135,7 +134,7 @@ class ConnectionIT extends IntegrationTestBase {
 	}
 
 	@Test
-	void shouldThrowOnMultipleOpenStreamsInAutoCommit() throws SQLException {
+	void shouldSupportMultipleOpenStreamsInAutoCommit() throws SQLException {
 		var uuid = UUID.randomUUID().toString();
 		try (var connection = getConnection();
 				var statement1 = connection.prepareStatement("UNWIND range(1, 5) AS x CREATE (n {test: $1}) RETURN n");
@@ -149,15 +148,53 @@ class ConnectionIT extends IntegrationTestBase {
 
 			// begin tx
 			var resultSet1 = statement1.executeQuery();
-			// attempt to begin another tx should fail
-			assertThatThrownBy(() -> statement2.executeQuery())
-				.isExactlyInstanceOf(SQLFeatureNotSupportedException.class);
-			// commit tx
+			assertThat(resultSet1.next()).isTrue();
+			// the second auto-commit tx runs on an additional connection
+			var resultSet2 = statement2.executeQuery();
+			var rows = 0;
+			while (resultSet2.next()) {
+				++rows;
+			}
+			assertThat(rows).isEqualTo(5);
+			// the first result is still open and can be consumed
+			rows = 1;
+			while (resultSet1.next()) {
+				++rows;
+			}
+			assertThat(rows).isEqualTo(5);
+			// commit both txs
+			resultSet2.close();
 			resultSet1.close();
 
 			var resultSet3 = statement3.executeQuery();
 			assertThat(resultSet3.next()).isTrue();
-			assertThat(resultSet3.getInt(1)).isEqualTo(5);
+			assertThat(resultSet3.getInt(1)).isEqualTo(10);
+		}
+	}
+
+	@Test
+	void shouldLimitMultipleOpenStreamsInAutoCommit() throws SQLException {
+		try (var connection = getConnection(false, false, "maxAuxiliaryConnections", "1");
+				var statement1 = connection.createStatement();
+				var statement2 = connection.createStatement();
+				var statement3 = connection.createStatement()) {
+			statement1.setFetchSize(5);
+			statement2.setFetchSize(5);
+			statement3.setFetchSize(5);
+
+			var resultSet1 = statement1.executeQuery("UNWIND range(1, 100) AS x RETURN x");
+			var resultSet2 = statement2.executeQuery("UNWIND range(1, 100) AS x RETURN x");
+			assertThatThrownBy(() -> statement3.executeQuery("UNWIND range(1, 100) AS x RETURN x"))
+				.isInstanceOf(SQLException.class)
+				.hasMessageContaining("Cannot open more than 1 additional auto-commit results");
+
+			// closing a result frees its connection again
+			resultSet2.close();
+			var resultSet3 = statement3.executeQuery("UNWIND range(1, 100) AS x RETURN x");
+			assertThat(resultSet3.next()).isTrue();
+			assertThat(resultSet3.getInt(1)).isEqualTo(1);
+			assertThat(resultSet1.next()).isTrue();
+			assertThat(resultSet1.getInt(1)).isEqualTo(1);
 		}
 	}
 
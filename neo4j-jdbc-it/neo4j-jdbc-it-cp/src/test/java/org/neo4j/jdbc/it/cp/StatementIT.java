@@ -19,7 +19,6 @@
 package org.neo4j.jdbc.it.cp;
 
 import java.sql.SQLException;
-import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Types;
 import java.util.List;
 import java.util.Map;
@@ -67,15 +66,26 @@ class StatementIT extends IntegrationTestBase {
 	}
 
 	@Test
-	void shouldFailOnMultipleOpenAutoCommit() throws SQLException {
+	void shouldSupportNestedCursorsInAutoCommit() throws SQLException {
 		try (var connection = getConnection();
-				var statement1 = connection.createStatement();
-				var statement2 = connection.createStatement()) {
-			statement1.setFetchSize(5);
-			statement2.setFetchSize(5);
-			statement1.executeQuery("UNWIND range(1, 10000) AS x RETURN x");
-			assertThatThrownBy(() -> statement2.executeQuery("UNWIND range(1, 10000) AS x RETURN x"))
-				.isExactlyInstanceOf(SQLFeatureNotSupportedException.class);
+				var outer = connection.createStatement();
+				var inner = connection.prepareStatement("UNWIND range(1, $1) AS y RETURN y")) {
+			outer.setFetchSize(5);
+			inner.setFetchSize(5);
+			var outerResult = outer.executeQuery("UNWIND range(1, 10000) AS x RETURN x");
+			for (var i = 1; i <= 17; i++) {
+				assertThat(outerResult.next()).isTrue();
+				assertThat(outerResult.getInt(1)).isEqualTo(i);
+
+				inner.setInt(1, i);
+				var sum = 0;
+				try (var innerResult = inner.executeQuery()) {
+					while (innerResult.next()) {
+						sum += innerResult.getInt(1);
+					}
+				}
+				assertThat(sum).isEqualTo(i * (i + 1) / 2);
+			}
 		}
 	}
 
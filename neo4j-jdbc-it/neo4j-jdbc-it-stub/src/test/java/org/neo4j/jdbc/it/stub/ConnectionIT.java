@@ -297,6 +297,26 @@ class ConnectionIT extends IntegrationTestBase {
 		verifyStubServer();
 	}
 
+	@Test
+	@StubScript(path = "writer_tx_with_max_rows.script")
+	void shouldDiscardBeforeCommittingBoundedResults() throws SQLException {
+		try (var connection = getConnection(); var statement = connection.createStatement()) {
+			statement.setMaxRows(2);
+			statement.setFetchSize(2);
+			for (var query : new String[] { "UNWIND range(1, 5) AS x RETURN x", "UNWIND range(1, 2) AS x RETURN x" }) {
+				try (var result = statement.executeQuery(query)) {
+					assertThat(result.next()).isTrue();
+					assertThat(result.getInt(1)).isEqualTo(1);
+					assertThat(result.next()).isTrue();
+					assertThat(result.getInt(1)).isEqualTo(2);
+					assertThat(result.next()).isFalse();
+				}
+			}
+		}
+
+		verifyStubServer();
+	}
+
 	@ParameterizedTest
 	@CsvSource(textBlock = """
 			true, true
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.it.stub;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.jdbc.Neo4jDriver;
+import org.neo4j.jdbc.Neo4jMetadataWriter;
+import org.neo4j.jdbc.it.stub.server.IntegrationTestBase;
+import org.neo4j.jdbc.it.stub.server.StubScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class RoutingIT extends IntegrationTestBase {
+
+	/**
+	 * The script is completed with the address of the stub server, which is the only
+	 * server named in the routing tables. Every connection either fetches a routing table
+	 * or runs one of two writes, told apart by their metadata. The first write is rejected
+	 * as the server is not the leader (anymore), the connection it has been sent on must
+	 * not be used for the second one.
+	 */
+	RoutingIT() throws IOException {
+		try (var template = RoutingIT.class.getResourceAsStream("/routing/leader_switch.script")) {
+			var script = new String(Objects.requireNonNull(template).readAllBytes(), StandardCharsets.UTF_8);
+			addScript("routing/leader_switch.script", script.formatted(bindToFreePort()));
+		}
+	}
+
+	@Test
+	@StubScript(path = "routing/leader_switch.script")
+	void shouldSendNextTransactionToNewLeaderAfterLeaderSwitch() throws SQLException {
+		var properties = new Properties();
+		properties.put(Neo4jDriver.PROPERTY_ROUTING, "true");
+		try (var connection = getConnection(properties)) {
+			assertThatExceptionOfType(SQLException.class).isThrownBy(() -> createLeader(connection, "1"));
+			assertThat(createLeader(connection, "2")).isOne();
+		}
+
+		verifyStubServer();
+	}
+
+	private static int createLeader(Connection connection, String attempt) throws SQLException {
+		try (var statement = connection.createStatement()) {
+			statement.unwrap(Neo4jMetadataWriter.class).withMetadata(Map.of("attempt", attempt));
+			return statement.executeUpdate("CREATE (n:Leader)");
+		}
+	}
+
+}
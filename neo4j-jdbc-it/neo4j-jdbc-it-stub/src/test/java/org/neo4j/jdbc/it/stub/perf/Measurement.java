@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.it.stub.perf;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Measures elapsed time, allocated bytes and the latency of individual operations of a
+ * scenario. The allocated bytes are summed over all live threads, as decoding happens on
+ * the network threads and not on the caller. Bytes allocated by threads that die during
+ * the measurement are not accounted for.
+ *
+ * @author Neo4j Drivers Team
+ */
+final class Measurement {
+
+	private final String scenario;
+
+	private final long[] latencies;
+
+	private final long startAllocatedBytes;
+
+	private final long startTime;
+
+	private int samples;
+
+	private Measurement(String scenario, int expectedSamples) {
+		this.scenario = scenario;
+		this.latencies = new long[Math.max(1, expectedSamples)];
+		this.startAllocatedBytes = allocatedBytes();
+		this.startTime = System.nanoTime();
+	}
+
+	static Measurement start(String scenario, int expectedSamples) {
+		return new Measurement(scenario, expectedSamples);
+	}
+
+	void sample(long nanos) {
+		if (this.samples < this.latencies.length) {
+			this.latencies[this.samples++] = nanos;
+		}
+	}
+
+	Result stop(long operations) {
+		var elapsed = Duration.ofNanos(System.nanoTime() - this.startTime);
+		var allocated = allocatedBytes() - this.startAllocatedBytes;
+		var sorted = Arrays.copyOf(this.latencies, this.samples);
+		Arrays.sort(sorted);
+		return new Result(this.scenario, operations, elapsed, (operations > 0) ? allocated / operations : allocated,
+				Duration.ofNanos(percentile(sorted, 0.5)), Duration.ofNanos(percentile(sorted, 0.99)),
+				Duration.ofNanos(percentile(sorted, 0.999)), Duration.ofNanos(percentile(sorted, 1.0)));
+	}
+
+	private static long percentile(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		var idx = (int) Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+	}
+
+	private static long allocatedBytes() {
+		if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean)
+				|| !threadMXBean.isThreadAllocatedMemoryEnabled()) {
+			return 0;
+		}
+		return Arrays.stream(threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds()))
+			.filter(v -> v > 0)
+			.sum();
+	}
+
+	/**
+	 * The result of a measurement.
+	 *
+	 * @param scenario the name of the scenario
+	 * @param operations the number of operations, i.e. records, batches or connections
+	 * @param elapsed the total elapsed time
+	 * @param allocatedBytesPerOperation the bytes allocated per operation
+	 * @param p50 the median latency of a single operation
+	 * @param p99 the 99th percentile of the latency
+	 * @param p999 the 99.9th percentile of the latency
+	 * @param max the maximum latency
+	 */
+	record Result(String scenario, long operations, Duration elapsed, long allocatedBytesPerOperation, Duration p50,
+			Duration p99, Duration p999, Duration max) {
+
+		double operationsPerSecond() {
+			return (this.elapsed.isZero()) ? 0 : this.operations / (this.elapsed.toNanos() / 1_000_000_000.0);
+		}
+
+	}
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.it.stub.perf;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.neo4j.jdbc.it.stub.server.IntegrationTestBase;
+import org.neo4j.jdbc.it.stub.server.StubScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput, allocation and latency measurements against scripted servers. The suite is
+ * only enabled with {@code -Dstub.perf=true} and can be tuned with the following system
+ * properties:
+ * <ul>
+ * <li>{@code stub.perf.records}: the number of records streamed in the fetch
+ * scenarios</li>
+ * <li>{@code stub.perf.batchSize}: the fetch size and the number of rows per batched
+ * write</li>
+ * <li>{@code stub.perf.batchDelay}: the latency in seconds the server adds to each
+ * batch</li>
+ * <li>{@code stub.perf.slowPullDelay}: the additional latency in seconds of a single slow
+ * pull</li>
+ * <li>{@code stub.perf.writes}: the number of batched writes</li>
+ * <li>{@code stub.perf.connections}: the number of connections opened subsequently</li>
+ * <li>{@code stub.perf.report}: where to write the report</li>
+ * </ul>
+ *
+ * @author Neo4j Drivers Team
+ */
+@EnabledIfSystemProperty(named = "stub.perf", matches = "true")
+class PerformanceIT extends IntegrationTestBase {
+
+	private static final int RECORDS = Integer.getInteger("stub.perf.records", 100_000);
+
+	private static final int BATCH_SIZE = Integer.getInteger("stub.perf.batchSize", 1_000);
+
+	private static final double BATCH_DELAY = Double.parseDouble(System.getProperty("stub.perf.batchDelay", "0"));
+
+	private static final double SLOW_PULL_DELAY = Double
+		.parseDouble(System.getProperty("stub.perf.slowPullDelay", "0.5"));
+
+	private static final int WRITES = Integer.getInteger("stub.perf.writes", 100);
+
+	private static final int CONNECTIONS = Integer.getInteger("stub.perf.connections", 100);
+
+	private static final int NUMBER_OF_BATCHES = Math.max(1, (RECORDS + BATCH_SIZE - 1) / BATCH_SIZE);
+
+	private final PerformanceReport report = new PerformanceReport();
+
+	PerformanceIT() {
+		addScript("perf/fetch.script", ScriptGenerator.streaming(RECORDS, BATCH_SIZE, BATCH_DELAY, -1, 0));
+		addScript("perf/fetch_slow_pull.script", ScriptGenerator.streaming(RECORDS, BATCH_SIZE, BATCH_DELAY,
+				NUMBER_OF_BATCHES / 2, SLOW_PULL_DELAY));
+		addScript("perf/fetch_dropped_connection.script",
+				ScriptGenerator.droppedConnection(RECORDS, BATCH_SIZE, Math.max(1, NUMBER_OF_BATCHES / 2)));
+		addScript("perf/batched_writes.script", ScriptGenerator.batchedWrites(BATCH_SIZE, BATCH_DELAY));
+		addScript("perf/connections.script", ScriptGenerator.connectionChurn(BATCH_DELAY));
+	}
+
+	@AfterAll
+	void writeReport() throws IOException {
+		this.report.write(Path.of(System.getProperty("stub.perf.report", "target/stub-perf-report.csv")));
+	}
+
+	@Test
+	@StubScript(path = "perf/fetch.script")
+	void fetch() throws SQLException {
+		var result = fetchAll("fetch");
+
+		assertThat(result.operations()).isEqualTo(RECORDS);
+		verifyStubServer();
+	}
+
+	@Test
+	@StubScript(path = "perf/fetch_slow_pull.script")
+	void fetchWithSlowPull() throws SQLException {
+		var result = fetchAll("fetch_slow_pull");
+
+		assertThat(result.operations()).isEqualTo(RECORDS);
+		assertThat(result.max()).isGreaterThanOrEqualTo(Duration.ofMillis((long) (SLOW_PULL_DELAY * 1000)));
+		verifyStubServer();
+	}
+
+	@Test
+	@StubScript(path = "perf/fetch_dropped_connection.script")
+	void fetchWithDroppedConnection() throws SQLException {
+		var measurement = Measurement.start("fetch_dropped_connection", RECORDS);
+		var rows = 0;
+		SQLException failure = null;
+		try (var connection = getConnection(); var statement = connection.createStatement()) {
+			statement.setFetchSize(BATCH_SIZE);
+			var resultSet = statement.executeQuery(ScriptGenerator.FETCH_QUERY);
+			var before = System.nanoTime();
+			try {
+				while (resultSet.next()) {
+					++rows;
+					var now = System.nanoTime();
+					measurement.sample(now - before);
+					before = now;
+				}
+			}
+			catch (SQLException ex) {
+				// The last sample is the time it took to detect the dropped connection
+				measurement.sample(System.nanoTime() - before);
+				failure = ex;
+			}
+		}
+		this.report.add(measurement.stop(rows));
+
+		assertThat(failure).isNotNull();
+		assertThat(rows).isEqualTo(Math.max(1, NUMBER_OF_BATCHES / 2) * BATCH_SIZE);
+	}
+
+	@Test
+	@StubScript(path = "perf/batched_writes.script")
+	void batchedWrites() throws SQLException {
+		var measurement = Measurement.start("batched_writes", WRITES);
+		try (var connection = getConnection();
+				var statement = connection.prepareStatement(ScriptGenerator.WRITE_QUERY)) {
+			for (int i = 0; i < WRITES; ++i) {
+				var before = System.nanoTime();
+				for (int j = 0; j < BATCH_SIZE; ++j) {
+					statement.setInt(1, j);
+					statement.addBatch();
+				}
+				statement.executeBatch();
+				measurement.sample(System.nanoTime() - before);
+			}
+		}
+		this.report.add(measurement.stop(WRITES));
+		verifyStubServer();
+	}
+
+	@Test
+	@StubScript(path = "perf/connections.script")
+	void connections() throws SQLException {
+		var measurement = Measurement.start("connections", CONNECTIONS);
+		for (int i = 0; i < CONNECTIONS; ++i) {
+			var before = System.nanoTime();
+			try (var connection = getConnection();
+					var statement = connection.createStatement();
+					var resultSet = statement.executeQuery(ScriptGenerator.CONNECTION_QUERY)) {
+				assertThat(resultSet.next()).isTrue();
+			}
+			measurement.sample(System.nanoTime() - before);
+		}
+		this.report.add(measurement.stop(CONNECTIONS));
+	}
+
+	private Measurement.Result fetchAll(String scenario) throws SQLException {
+		var measurement = Measurement.start(scenario, RECORDS);
+		var rows = 0;
+		try (var connection = getConnection(); var statement = connection.createStatement()) {
+			statement.setFetchSize(BATCH_SIZE);
+			try (var resultSet = statement.executeQuery(ScriptGenerator.FETCH_QUERY)) {
+				var before = System.nanoTime();
+				while (resultSet.next()) {
+					resultSet.getLong(1);
+					resultSet.getString(2);
+					++rows;
+					var now = System.nanoTime();
+					measurement.sample(now - before);
+					before = now;
+				}
+			}
+		}
+		var result = measurement.stop(rows);
+		this.report.add(result);
+		return result;
+	}
+
+}
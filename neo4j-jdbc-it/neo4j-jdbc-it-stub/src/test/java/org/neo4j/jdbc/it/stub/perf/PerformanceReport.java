@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.it.stub.perf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Collects the {@link Measurement.Result results} of a run and writes them as CSV, so
+ * that runs for different commits can be diffed or loaded into a spreadsheet.
+ *
+ * @author Neo4j Drivers Team
+ */
+final class PerformanceReport {
+
+	private static final String HEADER = "scenario,operations,elapsed_ms,operations_per_second,allocated_bytes_per_operation,p50_us,p99_us,p999_us,max_us";
+
+	private final List<Measurement.Result> results = new ArrayList<>();
+
+	synchronized void add(Measurement.Result result) {
+		this.results.add(result);
+	}
+
+	synchronized void write(Path target) throws IOException {
+		var lines = new ArrayList<String>(this.results.size() + 1);
+		lines.add(HEADER);
+		for (var result : this.results) {
+			lines.add(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%d,%d,%d,%d,%d", result.scenario(), result.operations(),
+					result.elapsed().toMillis(), result.operationsPerSecond(), result.allocatedBytesPerOperation(),
+					toMicros(result.p50()), toMicros(result.p99()), toMicros(result.p999()), toMicros(result.max())));
+		}
+		Files.createDirectories(target.toAbsolutePath().getParent());
+		Files.write(target, lines);
+	}
+
+	private static long toMicros(Duration duration) {
+		return duration.toNanos() / 1_000;
+	}
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.it.stub.perf;
+
+import java.util.Locale;
+
+/**
+ * Generates stub server scripts for the performance suite. The scripts are generated
+ * instead of checked in, as the number of records and the latencies are configurable.
+ *
+ * @author Neo4j Drivers Team
+ */
+final class ScriptGenerator {
+
+	static final String FETCH_QUERY = "MATCH (n:Perf) RETURN n.i AS i, n.name AS name";
+
+	static final String WRITE_QUERY = "CREATE (n:Perf {i: $1})";
+
+	static final String CONNECTION_QUERY = "RETURN 1 AS n";
+
+	private static final String PREAMBLE = """
+			!: BOLT 5.1
+			%s
+			A: HELLO {"{}": "*"}
+			A: LOGON {"scheme": "basic", "principal": "neo4j", "credentials": "password"}
+			*: RESET
+			""";
+
+	private static final String BEGIN = """
+			C: BEGIN {"db": "neo4j", "tx_type": "IMPLICIT", "[bookmarks]": "*", "[tx_metadata]": "*"}
+			""";
+
+	private static final String COMMIT = """
+			C: COMMIT
+			S: SUCCESS {"bookmark": "perf"}
+			*: RESET
+			?: GOODBYE
+			""";
+
+	private ScriptGenerator() {
+	}
+
+	/**
+	 * Generates a script that streams {@code numberOfRecords} records in batches of
+	 * {@code batchSize} for {@link #FETCH_QUERY}.
+	 * @param numberOfRecords the total number of records
+	 * @param batchSize the number of records requested with each pull, must match the
+	 * fetch size
+	 * @param batchDelay the delay in seconds before each batch is sent
+	 * @param slowBatch the index of a batch that is delayed by {@code slowBatchDelay} in
+	 * addition, use a negative value for no slow batch
+	 * @param slowBatchDelay the additional delay of the slow batch in seconds
+	 * @return a stub server script
+	 */
+	static String streaming(int numberOfRecords, int batchSize, double batchDelay, int slowBatch,
+			double slowBatchDelay) {
+		return stream(numberOfRecords, batchSize, batchDelay, slowBatch, slowBatchDelay, -1);
+	}
+
+	/**
+	 * Generates a script that behaves like {@link #streaming(int, int, double, int, double)}
+	 * but exits after {@code dropAfterBatches} batches have been sent, dropping the
+	 * connection.
+	 * @param numberOfRecords the total number of records
+	 * @param batchSize the number of records requested with each pull
+	 * @param dropAfterBatches the number of batches sent before the connection is dropped
+	 * @return a stub server script
+	 */
+	static String droppedConnection(int numberOfRecords, int batchSize, int dropAfterBatches) {
+		return stream(numberOfRecords, batchSize, 0, -1, 0, dropAfterBatches);
+	}
+
+	/**
+	 * Generates a script accepting an arbitrary number of batched {@link #WRITE_QUERY
+	 * writes}, each rewritten by the driver into a single {@code UNWIND} statement and
+	 * committed on its own.
+	 * @param batchSize the number of nodes reported as created per batch
+	 * @param batchDelay the delay in seconds before each batch is acknowledged
+	 * @return a stub server script
+	 */
+	static String batchedWrites(int batchSize, double batchDelay) {
+		var script = new StringBuilder(PREAMBLE.formatted(""));
+		script.append("{*\n")
+			.append(BEGIN)
+			.append("   RUN \"UNWIND $__parameters AS __parameter CREATE (n:Perf {i: __parameter['1']})\" ")
+			.append("{\"__parameters\": \"*\"} {}\n")
+			.append("   DISCARD {\"n\": -1}\n")
+			.append("   COMMIT\n")
+			.append("S: ");
+		sleep(script, batchDelay, "   ");
+		script.append("SUCCESS {}\n")
+			.append("   SUCCESS {\"fields\": []}\n")
+			.append("   SUCCESS {\"stats\": {\"nodes-created\": ")
+			.append(batchSize)
+			.append("}}\n")
+			.append("   SUCCESS {\"bookmark\": \"perf\"}\n")
+			.append("*: RESET\n")
+			.append("*}\n")
+			.append("?: GOODBYE\n");
+		return script.toString();
+	}
+
+	/**
+	 * Generates a script that accepts an arbitrary number of subsequent connections, each
+	 * running {@link #CONNECTION_QUERY} once.
+	 * @param delay the delay in seconds before the query is answered
+	 * @return a stub server script
+	 */
+	static String connectionChurn(double delay) {
+		return singleQuery("!: ALLOW RESTART\n", delay);
+	}
+
+	/**
+	 * Generates a script like {@link #connectionChurn(double)}, that accepts the
+	 * connections concurrently.
+	 * @param delay the delay in seconds before the query is answered
+	 * @return a stub server script
+	 */
+	static String concurrentConnections(double delay) {
+		return singleQuery("!: ALLOW RESTART\n!: ALLOW CONCURRENT\n", delay);
+	}
+
+	private static String singleQuery(String flags, double delay) {
+		var script = new StringBuilder(PREAMBLE.formatted(flags));
+		script.append(BEGIN)
+			.append("   RUN \"")
+			.append(CONNECTION_QUERY)
+			.append("\" {} {}\n")
+			.append("   PULL {\"n\": 1000}\n")
+			.append("S: ");
+		sleep(script, delay, "   ");
+		script.append("SUCCESS {}\n")
+			.append("   SUCCESS {\"fields\": [\"n\"]}\n")
+			.append("   RECORD [1]\n")
+			.append("   SUCCESS {\"type\": \"r\"}\n")
+			.append(COMMIT);
+		return script.toString();
+	}
+
+	private static String stream(int numberOfRecords, int batchSize, double batchDelay, int slowBatch,
+			double slowBatchDelay, int dropAfterBatches) {
+		var script = new StringBuilder(PREAMBLE.formatted(""));
+		script.append(BEGIN)
+			.append("   RUN \"")
+			.append(FETCH_QUERY)
+			.append("\" {} {}\n")
+			.append("   PULL {\"n\": ")
+			.append(batchSize)
+			.append("}\n")
+			.append("S: SUCCESS {}\n")
+			.append("   SUCCESS {\"fields\": [\"i\", \"name\"]}\n");
+
+		var numberOfBatches = Math.max(1, (numberOfRecords + batchSize - 1) / batchSize);
+		var record = 0;
+		for (int batch = 0; batch < numberOfBatches; ++batch) {
+			if (batch > 0) {
+				script.append("C: PULL {\"n\": ").append(batchSize).append("}\n").append("S: ");
+			}
+			else {
+				script.append("   ");
+			}
+			if (batch == dropAfterBatches) {
+				script.append("<EXIT>\n");
+				return script.toString();
+			}
+			sleep(script, batchDelay + ((batch == slowBatch) ? slowBatchDelay : 0), "   ");
+			var end = Math.min(numberOfRecords, record + batchSize);
+			for (; record < end; ++record) {
+				script.append("RECORD [").append(record).append(", \"name-").append(record).append("\"]\n   ");
+			}
+			if (batch < numberOfBatches - 1) {
+				script.append("SUCCESS {\"has_more\": true}\n");
+			}
+			else {
+				script.append("SUCCESS {\"type\": \"r\"}\n");
+			}
+		}
+		return script.append(COMMIT).toString();
+	}
+
+	private static void sleep(StringBuilder script, double seconds, String indent) {
+		if (seconds > 0) {
+			script.append(String.format(Locale.ROOT, "<SLEEP> %.3f\n", seconds)).append(indent);
+		}
+	}
+
+}
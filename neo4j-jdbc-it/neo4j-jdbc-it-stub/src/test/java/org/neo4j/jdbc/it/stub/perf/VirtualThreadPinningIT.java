@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.it.stub.perf;
+
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.neo4j.jdbc.it.stub.server.IntegrationTestBase;
+import org.neo4j.jdbc.it.stub.server.StubScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs many clients on virtual threads against a scripted server and asserts that none
+ * of them pinned its carrier thread while blocked inside the driver. Pinning is detected
+ * through the {@code jdk.VirtualThreadPinned} JFR event, which is emitted for the same
+ * situations that {@code -Djdk.tracePinnedThreads} reports, but can be enabled from
+ * within the test. The suite is only enabled with {@code -Dstub.loom=true} on JDK 21 or
+ * higher and can be tuned with the following system properties:
+ * <ul>
+ * <li>{@code stub.loom.clients}: the number of concurrent clients</li>
+ * <li>{@code stub.loom.delay}: the latency in seconds the server adds to each query, so
+ * that clients are actually parked while waiting for the server</li>
+ * </ul>
+ *
+ * @author Neo4j Drivers Team
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "stub.loom", matches = "true")
+class VirtualThreadPinningIT extends IntegrationTestBase {
+
+	private static final int CLIENTS = Integer.getInteger("stub.loom.clients", 2_000);
+
+	private static final double DELAY = Double.parseDouble(System.getProperty("stub.loom.delay", "0.05"));
+
+	VirtualThreadPinningIT() {
+		addScript("perf/concurrent_connections.script", ScriptGenerator.concurrentConnections(DELAY));
+	}
+
+	@Test
+	@StubScript(path = "perf/concurrent_connections.script")
+	void shouldNotPinCarrierThreads() throws Exception {
+		var recordingFile = Files.createTempFile("neo4j-jdbc-pinning", ".jfr");
+		try (var recording = new Recording()) {
+			recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+			recording.start();
+
+			runClients();
+
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+
+		var pinnedInDriver = pinnedInDriver(RecordingFile.readAllEvents(recordingFile));
+		Files.deleteIfExists(recordingFile);
+		assertThat(pinnedInDriver).isEmpty();
+	}
+
+	private void runClients() throws ReflectiveOperationException, InterruptedException, ExecutionException,
+			TimeoutException {
+		var executor = newVirtualThreadPerTaskExecutor();
+		try {
+			var futures = new ArrayList<Future<Integer>>(CLIENTS);
+			for (int i = 0; i < CLIENTS; ++i) {
+				futures.add(executor.submit(this::runQuery));
+			}
+			for (var future : futures) {
+				assertThat(future.get(5, TimeUnit.MINUTES)).isOne();
+			}
+		}
+		finally {
+			executor.shutdown();
+			assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+		}
+	}
+
+	private int runQuery() throws SQLException {
+		try (var connection = getConnection();
+				var statement = connection.createStatement();
+				var resultSet = statement.executeQuery(ScriptGenerator.CONNECTION_QUERY)) {
+			assertThat(resultSet.next()).isTrue();
+			return resultSet.getInt(1);
+		}
+	}
+
+	/**
+	 * Creates a virtual thread per task executor reflectively, as the tests are compiled
+	 * for Java 17.
+	 * @return a new executor
+	 * @throws ReflectiveOperationException if the executor cannot be created
+	 */
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+		return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+	}
+
+	private static List<String> pinnedInDriver(List<RecordedEvent> events) {
+		return events.stream()
+			.filter(event -> event.getStackTrace() != null)
+			.filter(event -> event.getStackTrace()
+				.getFrames()
+				.stream()
+				.anyMatch(frame -> frame.getMethod().getType().getName().startsWith("org.neo4j.jdbc.")
+						&& !frame.getMethod().getType().getName().startsWith("org.neo4j.jdbc.it.")))
+			.map(event -> event.getStackTrace()
+				.getFrames()
+				.stream()
+				.map(VirtualThreadPinningIT::toString)
+				.collect(Collectors.joining(System.lineSeparator() + "\tat ", "Pinned at ", "")))
+			.toList();
+	}
+
+	private static String toString(RecordedFrame frame) {
+		return "%s.%s:%d".formatted(frame.getMethod().getType().getName(), frame.getMethod().getName(),
+				frame.getLineNumber());
+	}
+
+}
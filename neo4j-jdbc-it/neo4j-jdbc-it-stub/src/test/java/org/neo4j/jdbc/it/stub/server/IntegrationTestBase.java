@@ -18,9 +18,13 @@
  */
 package org.neo4j.jdbc.it.stub.server;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Properties;
 import java.util.function.Consumer;
 
@@ -33,6 +37,7 @@ import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.wait.strategy.Wait;
 import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 @Testcontainers(disabledWithoutDocker = true)
@@ -62,6 +67,35 @@ public abstract class IntegrationTestBase {
 		this.stubServer.start();
 	}
 
+	/**
+	 * Adds a script that is generated at runtime to the stub server. Must be called
+	 * before the first test is run, the script can then be referred to via
+	 * {@link StubScript#path()} like any other script.
+	 * @param path the path of the script inside the scripts folder
+	 * @param content the content of the script
+	 */
+	protected final void addScript(String path, String content) {
+		this.stubServer.withCopyToContainer(Transferable.of(content), "/scripts/" + path);
+	}
+
+	/**
+	 * Binds the stub server to a fixed, free port on the host instead of a random one, so
+	 * that generated scripts can contain its address, for example in routing tables. Must
+	 * be called before the first test is run.
+	 * @return the address of the stub server as seen from the driver
+	 */
+	protected final String bindToFreePort() {
+		int port;
+		try (var serverSocket = new ServerSocket(0)) {
+			port = serverSocket.getLocalPort();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		this.stubServer.setPortBindings(List.of(port + ":7687"));
+		return "%s:%d".formatted(this.stubServer.getHost(), port);
+	}
+
 	protected void verifyStubServer() {
 		var state = this.stubServer.getCurrentContainerInfo().getState();
 		if (Boolean.TRUE.equals(state.getRunning())) {
@@ -98,11 +132,16 @@ public abstract class IntegrationTestBase {
 	}
 
 	protected final Connection getConnection() throws SQLException {
+		return getConnection(new Properties());
+	}
+
+	protected final Connection getConnection(Properties additionalProperties) throws SQLException {
 		var url = "jdbc:neo4j://%s:%d".formatted(this.stubServer.getHost(), this.stubServer.getMappedPort(7687));
 		var driver = DriverManager.getDriver(url);
 		var properties = new Properties();
 		properties.put("user", "neo4j");
 		properties.put("password", "password");
+		properties.putAll(additionalProperties);
 		return driver.connect(url, properties);
 	}
 
@@ -19,6 +19,7 @@
 package org.neo4j.jdbc.tracing.micrometer;
 
 import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
 import io.micrometer.tracing.Tracer;
 import org.neo4j.jdbc.tracing.Neo4jSpan;
 
@@ -35,13 +36,24 @@ final class Neo4jSpanImpl implements Neo4jSpan {
 
 	@Override
 	public void end() {
-		this.scope.close();
+		if (this.scope != null) {
+			this.scope.close();
+		}
 		this.span.end();
 	}
 
+	TraceContext context() {
+		return this.span.context();
+	}
+
 	@Override
 	public void annotate(String name) {
 		this.span.event(name);
 	}
 
+	@Override
+	public void tag(String key, String value) {
+		this.span.tag(key, value);
+	}
+
 }
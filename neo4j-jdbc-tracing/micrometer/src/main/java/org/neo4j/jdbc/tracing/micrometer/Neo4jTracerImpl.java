@@ -35,12 +35,25 @@ final class Neo4jTracerImpl implements Neo4jTracer {
 
 	@Override
 	public Neo4jSpan start(String name, Map<String, String> tags) {
+		var span = newSpanBuilder(name, tags).start();
+		return new Neo4jSpanImpl(span, this.tracer.withSpan(span));
+	}
+
+	@Override
+	public Neo4jSpan startDetached(String name, Map<String, String> tags, Neo4jSpan parent) {
+		var builder = newSpanBuilder(name, tags);
+		if (parent instanceof Neo4jSpanImpl parentImpl) {
+			builder.setParent(parentImpl.context());
+		}
+		return new Neo4jSpanImpl(builder.start(), null);
+	}
+
+	private Span.Builder newSpanBuilder(String name, Map<String, String> tags) {
 		var builder = this.tracer.spanBuilder().name(name).kind(Span.Kind.CLIENT);
 		if (tags != null) {
 			tags.forEach(builder::tag);
 		}
-		var span = builder.start();
-		return new Neo4jSpanImpl(span, this.tracer.withSpan(span));
+		return builder;
 	}
 
 }
@@ -38,4 +38,17 @@ class Neo4jTracerImplTests {
 		assertThatNoException().isThrownBy(span::end);
 	}
 
+	@Test
+	void startDetachedShouldWork() {
+
+		var simpleTracer = new SimpleTracer();
+		var tracer = new Neo4jTracerImpl(simpleTracer);
+		var parent = tracer.startDetached("parent", Map.of("a", "b"), null);
+		var child = tracer.startDetached("child", null, parent);
+		assertThat(child).isNotNull();
+		assertThatNoException().isThrownBy(child::end);
+		assertThatNoException().isThrownBy(parent::end);
+		assertThat(simpleTracer.getSpans()).hasSize(2);
+	}
+
 }
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.translator.impl;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A SQL statement in which literals have been replaced with named parameters. Only
+ * literals in positions that are known to be translated into plain expressions are
+ * replaced: the right-hand side of comparisons that don't compare two literals, both
+ * bounds of {@code BETWEEN}, {@code IN} lists with more than one element, rows of
+ * {@code VALUES}, {@code LIMIT} and {@code OFFSET}. All other literals, for example
+ * patterns of {@code LIKE} or typed literals such as {@code DATE '2024-01-01'}, are kept,
+ * so that the rewritten statement can be used as the shape of all statements only
+ * differing in the replaced literals.
+ *
+ * @param sql the SQL statement with literals replaced by named parameters
+ * @param literals the values of the replaced literals by the name of their parameter
+ * @author Neo4j Drivers Team
+ */
+record ParameterizedSql(String sql, Map<String, Object> literals) {
+
+	private static final String LITERAL_PARAMETER_PREFIX = "literal";
+
+	private static final Set<String> COMPARISONS = Set.of("=", "<>", "!=", "<", ">", "<=", ">=");
+
+	private static final Set<String> LIMITS = Set.of("LIMIT", "OFFSET");
+
+	private static final String LITERAL = "literal";
+
+	private static final String BETWEEN = "BETWEEN";
+
+	/**
+	 * Marks the {@code AND} separating the bounds of a {@code BETWEEN} predicate.
+	 */
+	private static final String BETWEEN_AND = "BETWEEN AND";
+
+	ParameterizedSql {
+		literals = Collections.unmodifiableMap(literals);
+	}
+
+	/**
+	 * Replaces the literals of the given statement.
+	 * @param sql the statement to parameterize
+	 * @param namedParameterPrefix the prefix for named parameters the parser recognizes
+	 * @return the parameterized statement
+	 */
+	static ParameterizedSql of(String sql, String namedParameterPrefix) {
+		return new Lexer(sql, namedParameterPrefix).parameterize();
+	}
+
+	private static final class Lexer {
+
+		private final String sql;
+
+		private final String namedParameterPrefix;
+
+		private final ParameterNameGenerator parameterNameGenerator = new ParameterNameGenerator();
+
+		private final Map<String, Object> literals = new LinkedHashMap<>();
+
+		private final StringBuilder result;
+
+		/**
+		 * One entry per open parenthesis, lists are the parenthesis of {@code IN} and
+		 * {@code VALUES}.
+		 */
+		private final Deque<Parenthesis> parentheses = new ArrayDeque<>();
+
+		private String previousToken = "";
+
+		/**
+		 * The token before the previous one, used to keep comparisons of two literals,
+		 * such as {@code 1 = 0}, as they are.
+		 */
+		private String tokenBeforePrevious = "";
+
+		private boolean betweenPending;
+
+		private boolean valuesRowClosed;
+
+		private int position;
+
+		Lexer(String sql, String namedParameterPrefix) {
+			this.sql = sql;
+			this.namedParameterPrefix = namedParameterPrefix;
+			this.result = new StringBuilder(sql.length());
+		}
+
+		ParameterizedSql parameterize() {
+			var length = this.sql.length();
+			while (this.position < length) {
+				var c = this.sql.charAt(this.position);
+				if (Character.isWhitespace(c)) {
+					this.result.append(c);
+					++this.position;
+				}
+				else if (c == '-' && peek(1) == '-') {
+					copyUntil("\n", true);
+				}
+				else if (c == '/' && peek(1) == '*') {
+					copyUntil("*/", false);
+				}
+				else if (c == '"' || c == '`') {
+					var start = this.position;
+					this.position = quotedEnd(c);
+					copyToken(start, this.position, "identifier");
+				}
+				else if (c == '\'') {
+					string();
+				}
+				else if (Character.isDigit(c) || (c == '.' && Character.isDigit(peek(1)))
+						|| (c == '-' && (Character.isDigit(peek(1)) || peek(1) == '.') && isLiftable())) {
+					number();
+				}
+				else if (Character.isLetter(c) || c == '_') {
+					word();
+				}
+				else {
+					punctuation(c);
+				}
+			}
+			return new ParameterizedSql(this.result.toString(), this.literals);
+		}
+
+		private char peek(int offset) {
+			var index = this.position + offset;
+			return (index < this.sql.length()) ? this.sql.charAt(index) : '\0';
+		}
+
+		private void copyUntil(String terminator, boolean keepTerminator) {
+			var end = this.sql.indexOf(terminator, this.position + 2);
+			end = (end < 0) ? this.sql.length() : (end + (keepTerminator ? 0 : terminator.length()));
+			this.result.append(this.sql, this.position, end);
+			this.position = end;
+		}
+
+		private int quotedEnd(char quote) {
+			var index = this.position + 1;
+			var length = this.sql.length();
+			while (index < length) {
+				if (this.sql.charAt(index) == quote) {
+					if (index + 1 < length && this.sql.charAt(index + 1) == quote) {
+						index += 2;
+						continue;
+					}
+					return index + 1;
+				}
+				++index;
+			}
+			return length;
+		}
+
+		private void copyToken(int start, int end, String token) {
+			this.result.append(this.sql, start, end);
+			this.tokenBeforePrevious = this.previousToken;
+			this.previousToken = token;
+		}
+
+		private void string() {
+			var start = this.position;
+			var end = quotedEnd('\'');
+			this.position = end;
+			if (end - start < 2 || this.sql.charAt(end - 1) != '\'') {
+				copyToken(start, end, LITERAL);
+				return;
+			}
+			var value = this.sql.substring(start + 1, end - 1).replace("''", "'");
+			literal(start, end, value);
+		}
+
+		private void number() {
+			var start = this.position;
+			var index = start + 1;
+			var length = this.sql.length();
+			var decimal = this.sql.charAt(start) == '.';
+			while (index < length && (Character.isDigit(this.sql.charAt(index)) || this.sql.charAt(index) == '.')) {
+				decimal |= this.sql.charAt(index) == '.';
+				++index;
+			}
+			if (index < length && (this.sql.charAt(index) == 'e' || this.sql.charAt(index) == 'E')) {
+				var exponent = index + 1;
+				if (exponent < length && (this.sql.charAt(exponent) == '+' || this.sql.charAt(exponent) == '-')) {
+					++exponent;
+				}
+				if (exponent < length && Character.isDigit(this.sql.charAt(exponent))) {
+					decimal = true;
+					index = exponent;
+					while (index < length && Character.isDigit(this.sql.charAt(index))) {
+						++index;
+					}
+				}
+			}
+			this.position = index;
+			Object value = null;
+			if (index >= length || !isWordPart(this.sql.charAt(index))) {
+				var text = this.sql.substring(start, index);
+				try {
+					value = decimal ? (Object) Double.valueOf(text) : (Object) Long.valueOf(text);
+				}
+				catch (NumberFormatException ex) {
+					// Keep the literal as is
+				}
+			}
+			if (value == null) {
+				copyToken(start, index, LITERAL);
+				return;
+			}
+			literal(start, index, value);
+		}
+
+		private void literal(int start, int end, Object value) {
+			if (!isLiftable()) {
+				copyToken(start, end, LITERAL);
+				return;
+			}
+			var name = LITERAL_PARAMETER_PREFIX + this.parameterNameGenerator.newIndex();
+			this.literals.put(name, value);
+			var parenthesis = this.parentheses.peek();
+			if (parenthesis != null && parenthesis.list && parenthesis.elements == 0) {
+				parenthesis.first = new Replacement(this.result.length(), this.sql.substring(start, end), name);
+			}
+			this.result.append(this.namedParameterPrefix).append(name);
+			this.tokenBeforePrevious = this.previousToken;
+			this.previousToken = LITERAL;
+		}
+
+		private boolean isLiftable() {
+			if (COMPARISONS.contains(this.previousToken)) {
+				return !LITERAL.equals(this.tokenBeforePrevious);
+			}
+			if (LIMITS.contains(this.previousToken)
+					|| BETWEEN.equals(this.previousToken) || BETWEEN_AND.equals(this.previousToken)) {
+				return true;
+			}
+			var parenthesis = this.parentheses.peek();
+			return parenthesis != null && parenthesis.list
+					&& ("(".equals(this.previousToken) || ",".equals(this.previousToken));
+		}
+
+		private void word() {
+			var start = this.position;
+			var index = start + 1;
+			while (index < this.sql.length() && isWordPart(this.sql.charAt(index))) {
+				++index;
+			}
+			this.position = index;
+			var word = this.sql.substring(start, index).toUpperCase(Locale.ROOT);
+			var betweenAnd = this.betweenPending && "AND".equals(word);
+			this.betweenPending = BETWEEN.equals(word) || (this.betweenPending && !betweenAnd);
+			this.valuesRowClosed = false;
+			copyToken(start, index, betweenAnd ? BETWEEN_AND : word);
+		}
+
+		private static boolean isWordPart(char c) {
+			return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+		}
+
+		private void punctuation(char c) {
+			var start = this.position;
+			var next = peek(1);
+			var end = start + 1;
+			if ((c == '<' && (next == '=' || next == '>')) || ((c == '>' || c == '!') && next == '=')) {
+				end = start + 2;
+			}
+			this.position = end;
+			var token = this.sql.substring(start, end);
+			if (c == '(') {
+				var values = "VALUES".equals(this.previousToken)
+						|| (this.valuesRowClosed && ",".equals(this.previousToken));
+				this.parentheses.push(new Parenthesis(values || "IN".equals(this.previousToken), values));
+				this.valuesRowClosed = false;
+				copyToken(start, end, token);
+			}
+			else if (c == ')') {
+				var parenthesis = this.parentheses.poll();
+				copyToken(start, end, token);
+				if (parenthesis != null) {
+					parenthesis.close(this);
+				}
+				this.valuesRowClosed = parenthesis != null && parenthesis.values;
+			}
+			else {
+				var parenthesis = this.parentheses.peek();
+				if (c == ',' && parenthesis != null) {
+					++parenthesis.elements;
+				}
+				if (c != ',') {
+					this.valuesRowClosed = false;
+				}
+				copyToken(start, end, token);
+			}
+		}
+
+		/**
+		 * Puts the literal of a single element {@code IN} list back, as a single
+		 * parameter is treated as the whole list by the translator.
+		 * @param replacement the replacement to revert
+		 */
+		private void revert(Replacement replacement) {
+			var replaced = this.namedParameterPrefix + replacement.name;
+			this.result.replace(replacement.offset, replacement.offset + replaced.length(), replacement.original);
+			this.literals.remove(replacement.name);
+		}
+
+	}
+
+	private static final class Parenthesis {
+
+		private final boolean list;
+
+		private final boolean values;
+
+		private int elements;
+
+		private Replacement first;
+
+		Parenthesis(boolean list, boolean values) {
+			this.list = list;
+			this.values = values;
+		}
+
+		void close(Lexer lexer) {
+			if (this.list && !this.values && this.elements == 0 && this.first != null) {
+				lexer.revert(this.first);
+			}
+		}
+
+	}
+
+	private record Replacement(int offset, String original, String name) {
+	}
+
+}
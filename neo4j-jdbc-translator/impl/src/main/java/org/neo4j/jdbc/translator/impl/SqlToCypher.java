@@ -34,9 +34,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -131,6 +135,7 @@ final class SqlToCypher implements Translator {
 	static final String ELEMENT_ID_ALIAS = "v$id";
 	static final Pattern PERCENT_OR_UNDERSCORE = Pattern.compile("[%_]");
 	static final String PROPERTIES = "properties";
+	static final String BATCH_ROW = "row";
 	static final String NODE_NAME_START = "_start";
 	static final String NODE_NAME_END = "_end";
 	static final String NG_START = "start";
@@ -151,6 +156,9 @@ final class SqlToCypher implements Translator {
 
 	private static final int STATEMENT_CACHE_SIZE = 64;
 
+	private static final String WARM_UP_STATEMENT = "SELECT m.title, count(*) FROM Movie m WHERE m.released > ? "
+			+ "GROUP BY m.title ORDER BY m.title LIMIT 1";
+
 	static Translator defaultTranslator() {
 		return new SqlToCypher(SqlToCypherConfig.defaultConfig());
 	}
@@ -163,6 +171,33 @@ final class SqlToCypher implements Translator {
 
 	private final Cache<Query, String> cache = Cache.getInstance(STATEMENT_CACHE_SIZE);
 
+	/**
+	 * Guards the cache, which is not thread-safe. Only held while accessing the cache,
+	 * never while translating, as translations might fetch metadata from the server.
+	 */
+	private final Lock cacheLock = new ReentrantLock();
+
+	/**
+	 * Translations that are currently computed, so that concurrent misses for the same
+	 * query wait for a single computation.
+	 */
+	private final Map<Query, CompletableFuture<String>> pendingTranslations = new ConcurrentHashMap<>();
+
+	/**
+	 * Translations of statements in which literals have been replaced with parameters,
+	 * keyed by the parameterized SQL. An empty translation marks a statement that cannot
+	 * be translated after its literals have been replaced. Guarded by the
+	 * {@link #cacheLock}.
+	 */
+	private final Cache<String, Optional<String>> templates = Cache.getInstance(STATEMENT_CACHE_SIZE);
+
+	/**
+	 * The first columns of the range indexes of a label, so that the index information
+	 * is looked up at most once per label until the cache is flushed. Guarded by the
+	 * {@link #cacheLock}.
+	 */
+	private final Cache<String, Set<String>> rangeIndexes = Cache.getInstance(STATEMENT_CACHE_SIZE);
+
 	private final Map<String, View> views;
 
 	private volatile DSLContext dslContext;
@@ -203,7 +238,26 @@ final class SqlToCypher implements Translator {
 
 	@Override
 	public void flushCache() {
-		this.cache.flush();
+		this.cacheLock.lock();
+		try {
+			this.cache.flush();
+			this.templates.flush();
+			this.rangeIndexes.flush();
+		}
+		finally {
+			this.cacheLock.unlock();
+		}
+	}
+
+	/**
+	 * Creates the jOOQ context and translates a representative statement without
+	 * metadata, so that the parser, the Cypher-DSL and the renderer are initialized
+	 * before the first statement is translated.
+	 */
+	@Override
+	public void warmUp() {
+		var query = getDSLContext().parser().parseQuery(WARM_UP_STATEMENT);
+		translate0(query, null);
 	}
 
 	@Override
@@ -235,17 +289,224 @@ final class SqlToCypher implements Translator {
 		}
 
 		if (this.config.isCacheEnabled()) {
-			synchronized (this) {
-				return this.cache.computeIfAbsent(query, key -> translate0(query, optionalDatabaseMetaData));
-			}
+			return translateCached(query, optionalDatabaseMetaData);
 		}
 		return translate0(query, optionalDatabaseMetaData);
 	}
 
+	@Override
+	public boolean replacesLiterals() {
+		return this.config.isParameterizeLiterals();
+	}
+
+	/**
+	 * Replaces the literals of the statement with parameters if configured, so that all
+	 * statements only differing in their literals share one translation and one Cypher
+	 * statement, which allows the server to reuse the plan of that statement. Statements
+	 * that cannot be translated after their literals have been replaced are translated
+	 * as is.
+	 * @param sql the SQL statement
+	 * @param optionalDatabaseMetaData optional database meta-data
+	 * @param literalParameters receives the values of the replaced literals
+	 * @return the translated statement
+	 */
+	@Override
+	public String translate(String sql, DatabaseMetaData optionalDatabaseMetaData,
+			Map<String, Object> literalParameters) {
+
+		if (!this.config.isParameterizeLiterals() || sql == null) {
+			return translate(sql, optionalDatabaseMetaData);
+		}
+
+		var parameterizedSql = ParameterizedSql.of(sql, Optional.ofNullable(this.config.getParseNamedParamPrefix())
+			.filter(Predicate.not(String::isBlank))
+			.map(String::trim)
+			.orElse(":"));
+		if (parameterizedSql.literals().isEmpty()) {
+			return translate(sql, optionalDatabaseMetaData);
+		}
+
+		var template = getTemplate(parameterizedSql.sql());
+		if (template == null) {
+			try {
+				template = Optional.of(translate(parameterizedSql.sql(), optionalDatabaseMetaData));
+			}
+			catch (IllegalArgumentException | UnsupportedOperationException ex) {
+				LOGGER.log(Level.FINE, ex,
+						() -> "Could not translate `%s` with parameterized literals".formatted(parameterizedSql.sql()));
+				template = Optional.empty();
+			}
+			this.cacheLock.lock();
+			try {
+				this.templates.put(parameterizedSql.sql(), template);
+			}
+			finally {
+				this.cacheLock.unlock();
+			}
+		}
+
+		if (template.isEmpty()) {
+			return translate(sql, optionalDatabaseMetaData);
+		}
+		literalParameters.putAll(parameterizedSql.literals());
+		return template.get();
+	}
+
+	private Optional<String> getTemplate(String parameterizedSql) {
+		this.cacheLock.lock();
+		try {
+			return this.templates.get(parameterizedSql);
+		}
+		finally {
+			this.cacheLock.unlock();
+		}
+	}
+
+	/**
+	 * Translates the query at most once at a time: The first thread missing the cache
+	 * computes the translation, all other threads asking for the same query in the
+	 * meantime wait for its result. Translations of different queries run in parallel.
+	 * Failures are not cached.
+	 * @param query the query to translate
+	 * @param databaseMetaData optional database meta-data
+	 * @return the translated query
+	 */
+	private String translateCached(Query query, DatabaseMetaData databaseMetaData) {
+
+		var cached = getCached(query);
+		if (cached != null) {
+			return cached;
+		}
+
+		var translation = new CompletableFuture<String>();
+		var pendingTranslation = this.pendingTranslations.putIfAbsent(query, translation);
+		if (pendingTranslation != null) {
+			try {
+				return pendingTranslation.join();
+			}
+			catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException rt) {
+					throw rt;
+				}
+				throw ex;
+			}
+		}
+
+		try {
+			// Another thread might have finished the same translation after the first
+			// lookup
+			var cypher = getCached(query);
+			if (cypher == null) {
+				cypher = translate0(query, databaseMetaData);
+				this.cacheLock.lock();
+				try {
+					this.cache.put(query, cypher);
+				}
+				finally {
+					this.cacheLock.unlock();
+				}
+			}
+			translation.complete(cypher);
+			return cypher;
+		}
+		catch (RuntimeException ex) {
+			translation.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.pendingTranslations.remove(query, translation);
+		}
+	}
+
+	private String getCached(Query query) {
+		this.cacheLock.lock();
+		try {
+			return this.cache.get(query);
+		}
+		finally {
+			this.cacheLock.unlock();
+		}
+	}
+
+	/**
+	 * Translates parameterized {@code INSERT}, {@code UPDATE} and {@code DELETE}
+	 * statements into a statement unwinding all parameter sets of a batch. Parameters are
+	 * not rendered as parameters but as property lookups on the current row, so that the
+	 * whole batch is executed as one set based operation.
+	 * @param sql the SQL statement
+	 * @param optionalDatabaseMetaData optional database meta-data
+	 * @return a statement for a whole batch, or an empty optional for all other statements
+	 */
+	@Override
+	public Optional<String> translateBatch(String sql, DatabaseMetaData optionalDatabaseMetaData) {
+
+		Query query;
+		try {
+			query = getDSLContext().parser().parseQuery(sql);
+		}
+		catch (ParserException pe) {
+			throw new IllegalArgumentException(pe);
+		}
+
+		if (!(query instanceof QOM.Insert<?> || query instanceof QOM.Update<?> || query instanceof QOM.Delete<?>)) {
+			return Optional.empty();
+		}
+
+		var statement = ContextAwareStatementBuilder.build(this.config, this.getDSLContext(), optionalDatabaseMetaData,
+				query, this.views, Cypher.name(BATCH_ROW),
+				tableName -> getFirstColumnsOfRangeIndexes(optionalDatabaseMetaData, tableName));
+		return Optional.of("UNWIND $%s AS %s %s".formatted(BATCH_PARAMETER_NAME, BATCH_ROW, render(statement)));
+	}
+
 	private String translate0(Query query, DatabaseMetaData databaseMetaData) {
 
 		return render(ContextAwareStatementBuilder.build(this.config, this.getDSLContext(), databaseMetaData, query,
-				this.views));
+				this.views, null, tableName -> getFirstColumnsOfRangeIndexes(databaseMetaData, tableName)));
+	}
+
+	/**
+	 * Looks up the first columns of all range indexes of the given label. Failures are
+	 * not cached and result in an empty set, as the information is only used to make
+	 * statements easier to plan.
+	 * @param databaseMetaData the metadata to look the indexes up with
+	 * @param tableName the label
+	 * @return the names of the first columns of the range indexes
+	 */
+	private Set<String> getFirstColumnsOfRangeIndexes(DatabaseMetaData databaseMetaData, String tableName) {
+
+		this.cacheLock.lock();
+		try {
+			var cached = this.rangeIndexes.get(tableName);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		finally {
+			this.cacheLock.unlock();
+		}
+
+		var columns = new HashSet<String>();
+		try (var rs = databaseMetaData.getIndexInfo(null, null, tableName, false, false)) {
+			while (rs != null && rs.next()) {
+				if (rs.getInt("ORDINAL_POSITION") == 1 && "RANGE".equals(rs.getString("INDEX_TYPE"))) {
+					columns.add(rs.getString("COLUMN_NAME"));
+				}
+			}
+		}
+		catch (SQLException ex) {
+			// Metadata of older servers or other drivers might not report the index type
+			return Set.of();
+		}
+
+		var result = Set.copyOf(columns);
+		this.cacheLock.lock();
+		try {
+			this.rangeIndexes.put(tableName, result);
+		}
+		finally {
+			this.cacheLock.unlock();
+		}
+		return result;
 	}
 
 	@SuppressWarnings("ResultOfMethodCallIgnored")
@@ -340,9 +601,21 @@ final class SqlToCypher implements Translator {
 
 		private final Pattern relationshipPattern;
 
+		/**
+		 * The row of a batch, parameters are looked up as properties of that row if set.
+		 */
+		private final SymbolicName batchRow;
+
+		/**
+		 * Looks up the first columns of the range indexes of a label.
+		 */
+		private final Function<String, Set<String>> rangeIndexes;
+
 		static Statement build(SqlToCypherConfig config, DSLContext dslContext, DatabaseMetaData databaseMetaData,
-				Query query, Map<String, View> views) {
-			var builder = new ContextAwareStatementBuilder(config, dslContext, databaseMetaData, views);
+				Query query, Map<String, View> views, SymbolicName batchRow,
+				Function<String, Set<String>> rangeIndexes) {
+			var builder = new ContextAwareStatementBuilder(config, dslContext, databaseMetaData, views, batchRow,
+					rangeIndexes);
 			if (query instanceof Select<?> s) {
 				return builder.statement(s);
 			}
@@ -367,12 +640,14 @@ final class SqlToCypher implements Translator {
 		}
 
 		ContextAwareStatementBuilder(SqlToCypherConfig config, DSLContext dslContext, DatabaseMetaData databaseMetaData,
-				Map<String, View> views) {
+				Map<String, View> views, SymbolicName batchRow, Function<String, Set<String>> rangeIndexes) {
 			this.config = config;
 			this.dslContext = dslContext;
 			this.relationshipPattern = this.config.getRelationshipPattern();
 			this.databaseMetaData = databaseMetaData;
 			this.views = views;
+			this.batchRow = batchRow;
+			this.rangeIndexes = rangeIndexes;
 		}
 
 		private boolean ownsView(CbvPointer cbvPointer) {
@@ -730,12 +1005,71 @@ final class SqlToCypher implements Translator {
 		}
 
 		private OngoingReading createOngoingReadingFromSources(Select<?> selectStatement) {
-			OngoingReading m2;
-			OngoingReadingWithoutWhere m1 = Cypher
-				.match(getFromClause(selectStatement).stream().flatMap(t -> resolveTableOrJoin(t).stream()).toList());
-			m2 = (selectStatement.$where() != null) ? m1.where(condition(selectStatement.$where()))
-					: (OngoingReadingWithWhere) m1;
-			return m2;
+			var patternElements = getFromClause(selectStatement).stream()
+				.flatMap(t -> resolveTableOrJoin(t).stream())
+				.toList();
+			OngoingReadingWithoutWhere m1 = Cypher.match(patternElements);
+			var condition = (selectStatement.$where() != null) ? condition(selectStatement.$where()) : null;
+			var indexedProperty = findIndexedAggregatedProperty(selectStatement, patternElements);
+			if (indexedProperty != null) {
+				condition = (condition != null) ? condition.and(indexedProperty.isNotNull())
+						: indexedProperty.isNotNull();
+			}
+			return (condition != null) ? m1.where(condition) : (OngoingReadingWithWhere) m1;
+		}
+
+		/**
+		 * Neo4j can answer {@code min}, {@code max} and other aggregates ignoring
+		 * {@literal null} values from a range index instead of scanning all nodes with a
+		 * label, but only if the query states that the aggregated property must exist.
+		 * This method finds the property for which such a condition can be added without
+		 * changing the result: all selected fields must aggregate the same property of a
+		 * single node without grouping, and the metadata must report a range index
+		 * starting with that property.
+		 * @param selectStatement the statement being translated
+		 * @param patternElements the resolved pattern elements of the statement
+		 * @return the indexed property or {@literal null} if there is none
+		 */
+		private Property findIndexedAggregatedProperty(Select<?> selectStatement,
+				List<PatternElement> patternElements) {
+			if (this.databaseMetaData == null || patternElements.size() != 1
+					|| !(patternElements.get(0) instanceof Node node) || node.getLabels().size() != 1
+					|| !selectStatement.$groupBy().isEmpty() || selectStatement.$having() != null) {
+				return null;
+			}
+
+			Property property = null;
+			for (var selectField : selectStatement.$select()) {
+				var field = (selectField instanceof QOM.FieldAlias<?> fa) ? fa.$field() : selectField;
+				var argument = aggregatedFieldIgnoringNulls(field);
+				if (argument == null || !(expression(argument, true) instanceof Property candidate)
+						|| !node.getRequiredSymbolicName().equals(candidate.getContainer().getRequiredSymbolicName())
+						|| (property != null && !property.getName().equals(candidate.getName()))) {
+					return null;
+				}
+				property = candidate;
+			}
+			return (property != null && this.rangeIndexes.apply(toTableName(node)).contains(property.getName()))
+					? property : null;
+		}
+
+		private static Field<?> aggregatedFieldIgnoringNulls(SelectFieldOrAsterisk field) {
+			if (field instanceof QOM.Min<?> m) {
+				return m.$field();
+			}
+			else if (field instanceof QOM.Max<?> m) {
+				return m.$field();
+			}
+			else if (field instanceof QOM.Sum s) {
+				return s.$field();
+			}
+			else if (field instanceof QOM.Avg a) {
+				return a.$field();
+			}
+			else if (field instanceof QOM.Count c && !isCountOfRows(c)) {
+				return c.$field();
+			}
+			return null;
 		}
 
 		private static boolean limitIsTopNWithAsterisk(Select<?> selectStatement) {
@@ -1701,8 +2035,11 @@ final class SqlToCypher implements Translator {
 						parameterName = this.parameterNameGenerator.newIndex(p.getParamName());
 					}
 
-					return (parameterName != null) ? Cypher.parameter(parameterName, p.getValue())
-							: Cypher.anonParameter(p.getValue());
+					if (parameterName == null) {
+						return Cypher.anonParameter(p.getValue());
+					}
+					return (this.batchRow != null) ? this.batchRow.property(parameterName)
+							: Cypher.parameter(parameterName, p.getValue());
 				}
 			}
 			else if (f instanceof TableField<?, ?> tf) {
@@ -1987,15 +2324,8 @@ final class SqlToCypher implements Translator {
 				return this.columnsAndValues.get(excluded.$field().$name());
 			}
 			else if (f instanceof QOM.Count c) {
-				var field = c.$field();
-				Expression exp;
-				// See https://github.com/jOOQ/jOOQ/issues/16344
-				if (field == null || field instanceof Asterisk || "*".equals(field.toString())) {
-					exp = Cypher.asterisk();
-				}
-				else {
-					exp = expression(field, true);
-				}
+				// Counting constants is rewritten, as only count(*) is answered from the count store
+				var exp = isCountOfRows(c) ? Cypher.asterisk() : expression(c.$field(), true);
 				return c.$distinct() ? Cypher.countDistinct(exp) : Cypher.count(exp);
 			}
 			else if (f instanceof Asterisk) {
@@ -2524,6 +2854,18 @@ final class SqlToCypher implements Translator {
 				.anyMatch(c -> c.name().equals(eq.$arg1().getName()) || c.name().equals(eq.$arg2().getName()));
 		}
 
+		/**
+		 * {@return true if the given count counts all rows, that is if it is a
+		 * {@code count(*)} or counts a constant that is not {@literal null}}
+		 * @param count the count to check
+		 */
+		private static boolean isCountOfRows(QOM.Count count) {
+			var field = count.$field();
+			// See https://github.com/jOOQ/jOOQ/issues/16344
+			return field == null || field instanceof Asterisk || "*".equals(field.toString())
+					|| (!count.$distinct() && field instanceof Param<?> p && p.$inline() && p.getValue() != null);
+		}
+
 		private static String toTableName(PatternElement patternElement) {
 			if (patternElement instanceof Relationship relationship) {
 				return "%s_%s_%s".formatted(toTableName(relationship.getLeft()),
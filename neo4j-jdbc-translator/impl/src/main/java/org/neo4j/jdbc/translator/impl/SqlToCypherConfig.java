@@ -74,7 +74,8 @@ public final class SqlToCypherConfig {
 	// Don't want to use the deprecated properties, better repeat them here
 	@SuppressWarnings("squid:S1192")
 	private static final Map<String, String> DRIVER_CONFIG_TO_TRANSLATOR_CONFIG_MAPPING = Map.of("cacheSQLTranslations",
-			"s2c.enableCache", "viewDefinitions", "s2c.viewDefinitions");
+			"s2c.enableCache", "viewDefinitions", "s2c.viewDefinitions", "parameterizeLiterals",
+			"s2c.parameterizeLiterals");
 
 	/**
 	 * Derives a configuration for {@code Sql2Cypher} based from the properties given.
@@ -118,6 +119,7 @@ public final class SqlToCypherConfig {
 				case "precedence" -> builder.withPrecedence(toInteger(v));
 				case "viewDefinitions" -> builder.withViewDefinitions(toString(v));
 				case "relationshipPattern" -> builder.withRelationshipPattern(toString(v));
+				case "parameterizeLiterals" -> builder.withParameterizedLiterals(toBoolean(v));
 				default -> {
 					SqlToCypher.LOGGER.log(Level.WARNING, "Unknown config option {0}", m.group());
 					yield null;
@@ -256,6 +258,8 @@ public final class SqlToCypherConfig {
 
 	private final String relationshipPattern;
 
+	private final boolean parameterizeLiterals;
+
 	private final Configuration rendererConfig;
 
 	private SqlToCypherConfig(Builder builder) {
@@ -273,6 +277,7 @@ public final class SqlToCypherConfig {
 		this.precedence = builder.precedence;
 		this.viewDefinitions = builder.viewDefinitions;
 		this.relationshipPattern = builder.relationshipPattern;
+		this.parameterizeLiterals = builder.parameterizeLiterals;
 		this.rendererConfig = Configuration.newConfig()
 			.withPrettyPrint(this.isPrettyPrint())
 			.alwaysEscapeNames(this.isAlwaysEscapeNames())
@@ -392,6 +397,15 @@ public final class SqlToCypherConfig {
 		return this.viewDefinitions;
 	}
 
+	/**
+	 * Returns whether literals are replaced with parameters.
+	 * @return whether literals are replaced with parameters
+	 * @since 6.15.0
+	 */
+	public boolean isParameterizeLiterals() {
+		return this.parameterizeLiterals;
+	}
+
 	/**
 	 * Converts this configuration into jOOQ settings.
 	 * @return jOOQ Settings
@@ -462,23 +476,26 @@ public final class SqlToCypherConfig {
 
 		private String relationshipPattern;
 
+		private boolean parameterizeLiterals;
+
 		private Builder() {
 			this(ParseNameCase.AS_IS, RenderNameCase.AS_IS, false, Map.of(), Map.of(), SQLDialect.DEFAULT, false, false,
 					null, false, Translator.LOWEST_PRECEDENCE, null,
-					"(?<start>.+?)_(?<=_)(?<reltype>[_\\p{Lu}]+)(?=_)_(?<end>.+?)");
+					"(?<start>.+?)_(?<=_)(?<reltype>[_\\p{Lu}]+)(?=_)_(?<end>.+?)", false);
 		}
 
 		private Builder(SqlToCypherConfig config) {
 			this(config.parseNameCase, config.renderNameCase, config.jooqDiagnosticLogging, config.tableToLabelMappings,
 					config.joinColumnsToTypeMappings, config.sqlDialect, config.prettyPrint, config.alwaysEscapeNames,
 					config.parseNamedParamPrefix, config.cacheEnabled, config.precedence, config.viewDefinitions,
-					config.relationshipPattern);
+					config.relationshipPattern, config.parameterizeLiterals);
 		}
 
 		private Builder(ParseNameCase parseNameCase, RenderNameCase renderNameCase, boolean jooqDiagnosticLogging,
 				Map<String, String> tableToLabelMappings, Map<String, String> joinColumnsToTypeMappings,
 				SQLDialect sqlDialect, boolean prettyPrint, boolean alwaysEscapeNames, String parseNamedParamPrefix,
-				boolean enableCache, Integer precedence, String viewDefinitions, String relationshipPattern) {
+				boolean enableCache, Integer precedence, String viewDefinitions, String relationshipPattern,
+				boolean parameterizeLiterals) {
 			this.parseNameCase = parseNameCase;
 			this.renderNameCase = renderNameCase;
 			this.jooqDiagnosticLogging = jooqDiagnosticLogging;
@@ -492,6 +509,7 @@ public final class SqlToCypherConfig {
 			this.precedence = precedence;
 			this.viewDefinitions = viewDefinitions;
 			this.relationshipPattern = relationshipPattern;
+			this.parameterizeLiterals = parameterizeLiterals;
 		}
 
 		/**
@@ -650,6 +668,23 @@ public final class SqlToCypherConfig {
 			return this;
 		}
 
+		/**
+		 * Configures whether literals in comparisons, {@code IN} lists, {@code VALUES},
+		 * {@code LIMIT} and {@code OFFSET} clauses are replaced with parameters, so that
+		 * statements only differing in their literals are translated once and result in
+		 * the same Cypher statement. This only applies to translators invoked with a
+		 * sink for the values of such parameters.
+		 * @param parameterizeLiterals use {@literal true} to replace literals with
+		 * parameters
+		 * @return this builder
+		 * @since 6.15.0
+		 * @see Translator#translate(String, java.sql.DatabaseMetaData, Map)
+		 */
+		public Builder withParameterizedLiterals(boolean parameterizeLiterals) {
+			this.parameterizeLiterals = parameterizeLiterals;
+			return this;
+		}
+
 	}
 
 }
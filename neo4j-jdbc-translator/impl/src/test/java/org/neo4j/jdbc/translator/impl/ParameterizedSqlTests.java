@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.translator.impl;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParameterizedSqlTests {
+
+	@Test
+	void shouldReplaceLiteralsWithParameters() {
+
+		var parameterizedSql = ParameterizedSql
+			.of("SELECT * FROM Movie m WHERE m.title = 'It''s' AND m.released >= -1999 LIMIT 10 OFFSET 2.5e1", ":");
+
+		assertThat(parameterizedSql.sql()).isEqualTo(
+				"SELECT * FROM Movie m WHERE m.title = :literal1 AND m.released >= :literal2 LIMIT :literal3 OFFSET :literal4");
+		assertThat(parameterizedSql.literals())
+			.containsExactly(Map.entry("literal1", "It's"), Map.entry("literal2", -1999L),
+					Map.entry("literal3", 10L), Map.entry("literal4", 25.0));
+	}
+
+	@Test
+	void shapeShouldNotDependOnLiterals() {
+
+		var first = ParameterizedSql.of("SELECT * FROM Movie WHERE id = 1 AND title IN ('A', 'B')", "$");
+		var second = ParameterizedSql.of("SELECT * FROM Movie WHERE id = 42 AND title IN ('C', 'D')", "$");
+
+		assertThat(first.sql()).isEqualTo("SELECT * FROM Movie WHERE id = $literal1 AND title IN ($literal2, $literal3)")
+			.isEqualTo(second.sql());
+		assertThat(second.literals()).containsValues(42L, "C", "D");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "SELECT * FROM Movie WHERE title LIKE 'The%'",
+			"SELECT * FROM Movie WHERE released > DATE '2024-01-01'",
+			"SELECT * FROM \"Movie\" WHERE \"title = 1\" = title", "SELECT * FROM Movie WHERE 1 = 0",
+			"SELECT * FROM Movie WHERE id IN (1)", "SELECT TOP 10 * FROM Movie",
+			"SELECT CAST(title AS VARCHAR(10)) FROM Movie", "SELECT * FROM Movie -- WHERE id = 1",
+			"SELECT * FROM Movie /* WHERE id = 1 */", "SELECT * FROM Movie WHERE id = 1a" })
+	void shouldKeepLiteralsOutsideKnownPositions(String sql) {
+
+		var parameterizedSql = ParameterizedSql.of(sql, ":");
+
+		assertThat(parameterizedSql.sql()).isEqualTo(sql);
+		assertThat(parameterizedSql.literals()).isEmpty();
+	}
+
+	@Test
+	void shouldReplaceLiteralsInAllRowsOfValues() {
+
+		var parameterizedSql = ParameterizedSql
+			.of("INSERT INTO Movie (title, released) VALUES ('A', 1999), ('B', 2003) ", ":");
+
+		assertThat(parameterizedSql.sql()).isEqualTo(
+				"INSERT INTO Movie (title, released) VALUES (:literal1, :literal2), (:literal3, :literal4) ");
+		assertThat(parameterizedSql.literals()).hasSize(4);
+	}
+
+	@Test
+	void shouldReplaceBoundsOfBetween() {
+
+		var parameterizedSql = ParameterizedSql
+			.of("SELECT * FROM Movie WHERE released BETWEEN 1990 AND 2000 AND title = 'A'", ":");
+
+		assertThat(parameterizedSql.sql()).isEqualTo(
+				"SELECT * FROM Movie WHERE released BETWEEN :literal1 AND :literal2 AND title = :literal3");
+	}
+
+}
@@ -22,11 +22,18 @@ import java.io.File;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -49,6 +56,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
@@ -207,6 +215,73 @@ class SqlToCypherTests {
 		assertThat(NON_PRETTY_PRINTING_TRANSLATOR.translate(sql, databaseMetaData)).isEqualTo(expected);
 	}
 
+	@ParameterizedTest
+	@CsvSource(delimiterString = "|", textBlock = """
+			SELECT min(released) FROM Movie m|MATCH (m:Movie) WHERE m.released IS NOT NULL RETURN min(m.released)
+			SELECT min(released), max(m.released) AS latest FROM Movie m WHERE m.title <> 'x'|MATCH (m:Movie) WHERE (m.title <> 'x' AND m.released IS NOT NULL) RETURN min(m.released), max(m.released) AS latest
+			SELECT count(released) FROM Movie m|MATCH (m:Movie) WHERE m.released IS NOT NULL RETURN count(m.released)
+			SELECT count(*), max(released) FROM Movie m|MATCH (m:Movie) RETURN count(*), max(m.released)
+			SELECT min(released), max(title) FROM Movie m|MATCH (m:Movie) RETURN min(m.released), max(m.title)
+			SELECT max(title) FROM Movie m|MATCH (m:Movie) RETURN max(m.title)
+			SELECT title, max(released) FROM Movie m GROUP BY title|MATCH (m:Movie) RETURN m.title AS title, max(m.released)
+			SELECT count(1) FROM Movie m|MATCH (m:Movie) RETURN count(*)
+			""")
+	void aggregatesShouldUseRangeIndexes(String sql, String expected) throws SQLException {
+
+		var indexInfo = mock(ResultSet.class);
+		given(indexInfo.next()).willReturn(true, false);
+		given(indexInfo.getInt("ORDINAL_POSITION")).willReturn(1);
+		given(indexInfo.getString("COLUMN_NAME")).willReturn("released");
+		given(indexInfo.getString("INDEX_TYPE")).willReturn("RANGE");
+
+		var databaseMetaData = mock(DatabaseMetaData.class);
+		given(databaseMetaData.getTables(any(), any(), any(), any())).willReturn(mock(ResultSet.class));
+		given(databaseMetaData.getColumns(any(), any(), any(), any())).willReturn(mock(ResultSet.class));
+		given(databaseMetaData.getIndexInfo(null, null, "Movie", false, false)).willReturn(indexInfo);
+
+		var translator = SqlToCypher
+			.with(SqlToCypherConfig.builder().withPrettyPrint(false).withAlwaysEscapeNames(false).build());
+		assertThat(translator.translate(sql, databaseMetaData)).isEqualTo(expected);
+	}
+
+	@Test
+	void aggregatesShouldOnlyUseRangeIndexes() throws SQLException {
+
+		var indexInfo = mock(ResultSet.class);
+		given(indexInfo.next()).willReturn(true, false);
+		given(indexInfo.getInt("ORDINAL_POSITION")).willReturn(1);
+		given(indexInfo.getString("COLUMN_NAME")).willReturn("title");
+		given(indexInfo.getString("INDEX_TYPE")).willReturn("TEXT");
+
+		var databaseMetaData = mock(DatabaseMetaData.class);
+		given(databaseMetaData.getTables(any(), any(), any(), any())).willReturn(mock(ResultSet.class));
+		given(databaseMetaData.getColumns(any(), any(), any(), any())).willReturn(mock(ResultSet.class));
+		given(databaseMetaData.getIndexInfo(null, null, "Movie", false, false)).willReturn(indexInfo);
+
+		var translator = SqlToCypher
+			.with(SqlToCypherConfig.builder().withPrettyPrint(false).withAlwaysEscapeNames(false).build());
+		assertThat(translator.translate("SELECT max(title) FROM Movie m", databaseMetaData))
+			.isEqualTo("MATCH (m:Movie) RETURN max(m.title)");
+		assertThat(translator.translate("SELECT min(title) FROM Movie m", databaseMetaData))
+			.isEqualTo("MATCH (m:Movie) RETURN min(m.title)");
+		verify(databaseMetaData, times(1)).getIndexInfo(null, null, "Movie", false, false);
+	}
+
+	@Test
+	void failingIndexLookupsShouldNotFailTranslations() throws SQLException {
+
+		var databaseMetaData = mock(DatabaseMetaData.class);
+		given(databaseMetaData.getTables(any(), any(), any(), any())).willReturn(mock(ResultSet.class));
+		given(databaseMetaData.getColumns(any(), any(), any(), any())).willReturn(mock(ResultSet.class));
+		given(databaseMetaData.getIndexInfo(null, null, "Movie", false, false))
+			.willThrow(new SQLException("Not available"));
+
+		var translator = SqlToCypher
+			.with(SqlToCypherConfig.builder().withPrettyPrint(false).withAlwaysEscapeNames(false).build());
+		assertThat(translator.translate("SELECT max(released) FROM Movie m", databaseMetaData))
+			.isEqualTo("MATCH (m:Movie) RETURN max(m.released)");
+	}
+
 	@Test
 	void projectingRandomColumnsFromTable() {
 
@@ -515,6 +590,23 @@ class SqlToCypherTests {
 			.isEqualTo("MATCH (a:Actor) WHERE id(a) = 4711 SET a.name = 'Foo'");
 	}
 
+	@ParameterizedTest
+	@CsvSource(delimiterString = "|", textBlock = """
+			INSERT INTO Movie (title, released) VALUES (?, ?)|UNWIND $rows AS row CREATE (movie:Movie {title: row.`1`, released: row.`2`})
+			UPDATE Movie SET title = ? WHERE id = ?|UNWIND $rows AS row MATCH (movie:Movie) WHERE movie.id = row.`2` SET movie.title = row.`1`
+			DELETE FROM Movie WHERE id = ?|UNWIND $rows AS row MATCH (movie:Movie) WHERE movie.id = row.`1` DELETE movie
+			""")
+	void batchesShouldBeUnwound(String sql, String cypher) {
+
+		assertThat(NON_PRETTY_PRINTING_TRANSLATOR.translateBatch(sql, null)).hasValue(cypher);
+	}
+
+	@Test
+	void selectsShouldNotBeTranslatedIntoBatches() {
+
+		assertThat(NON_PRETTY_PRINTING_TRANSLATOR.translateBatch("SELECT * FROM Movie WHERE id = ?", null)).isEmpty();
+	}
+
 	@Test
 	void emptyStatementShouldNotFail() {
 
@@ -835,6 +927,106 @@ class SqlToCypherTests {
 		assertThat(result).isEqualTo("MATCH (p:People) RETURN p.name AS name");
 	}
 
+	@Test
+	void concurrentTranslationsShouldShareOneComputationPerQuery() throws Exception {
+
+		var translator = SqlToCypher.with(SqlToCypherConfig.builder()
+			.withPrettyPrint(false)
+			.withAlwaysEscapeNames(false)
+			.withCacheEnabled(true)
+			.build());
+		var metadataRequests = new AtomicInteger();
+		var bothQueriesTranslating = new CountDownLatch(2);
+		var release = new CountDownLatch(1);
+		var databaseMetaData = mock(DatabaseMetaData.class);
+		given(databaseMetaData.getColumns(any(), any(), any(), any())).willAnswer(invocation -> mock(ResultSet.class));
+		given(databaseMetaData.getTables(any(), any(), any(), any())).willAnswer(invocation -> {
+			String[] types = invocation.getArgument(3);
+			if (types != null && Arrays.asList(types).contains("CBV")) {
+				metadataRequests.incrementAndGet();
+				bothQueriesTranslating.countDown();
+				release.await(10, TimeUnit.SECONDS);
+			}
+			return mock(ResultSet.class);
+		});
+
+		var executor = Executors.newFixedThreadPool(8);
+		try {
+			var results = new ArrayList<Future<String>>();
+			for (int i = 0; i < 8; ++i) {
+				var sql = (i % 2 == 0) ? "DELETE FROM Movie" : "DELETE FROM Person";
+				results.add(executor.submit(() -> translator.translate(sql, databaseMetaData)));
+			}
+
+			// Would time out if translations of different queries were serialized
+			assertThat(bothQueriesTranslating.await(10, TimeUnit.SECONDS)).isTrue();
+			release.countDown();
+
+			var translations = new HashSet<String>();
+			for (var result : results) {
+				translations.add(result.get(10, TimeUnit.SECONDS));
+			}
+			assertThat(translations).containsExactlyInAnyOrder("MATCH (movie:Movie) DELETE movie",
+					"MATCH (person:Person) DELETE person");
+			assertThat(metadataRequests).hasValue(2);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void literalsShouldBeParameterizedAndTranslatedOncePerShape() throws SQLException {
+
+		var translator = SqlToCypher.with(SqlToCypherConfig.builder()
+			.withPrettyPrint(false)
+			.withAlwaysEscapeNames(false)
+			.withParameterizedLiterals(true)
+			.build());
+		var metadataRequests = new AtomicInteger();
+		var databaseMetaData = mock(DatabaseMetaData.class);
+		given(databaseMetaData.getColumns(any(), any(), any(), any())).willAnswer(invocation -> mock(ResultSet.class));
+		given(databaseMetaData.getTables(any(), any(), any(), any())).willAnswer(invocation -> {
+			metadataRequests.incrementAndGet();
+			return mock(ResultSet.class);
+		});
+
+		var first = new HashMap<String, Object>();
+		var second = new HashMap<String, Object>();
+		var cypher = translator.translate("SELECT * FROM Movie m WHERE m.title = 'The Matrix' LIMIT 10",
+				databaseMetaData, first);
+		var requestsForFirstTranslation = metadataRequests.get();
+
+		assertThat(cypher).isEqualTo("MATCH (m:Movie) WHERE m.title = $literal1 RETURN * LIMIT $literal2");
+		assertThat(translator.translate("SELECT * FROM Movie m WHERE m.title = 'Cloud Atlas' LIMIT 5",
+				databaseMetaData, second))
+			.isEqualTo(cypher);
+		assertThat(metadataRequests).hasValue(requestsForFirstTranslation);
+		assertThat(first).containsExactlyInAnyOrderEntriesOf(Map.of("literal1", "The Matrix", "literal2", 10L));
+		assertThat(second).containsExactlyInAnyOrderEntriesOf(Map.of("literal1", "Cloud Atlas", "literal2", 5L));
+		assertThat(translator.replacesLiterals()).isTrue();
+	}
+
+	@Test
+	void literalsShouldOnlyBeParameterizedWhenEnabled() {
+
+		var literalParameters = new HashMap<String, Object>();
+		var cypher = NON_PRETTY_PRINTING_TRANSLATOR.translate("SELECT * FROM Movie m WHERE m.title = 'The Matrix'",
+				null, literalParameters);
+
+		assertThat(cypher).isEqualTo("MATCH (m:Movie) WHERE m.title = 'The Matrix' RETURN *");
+		assertThat(literalParameters).isEmpty();
+		assertThat(NON_PRETTY_PRINTING_TRANSLATOR.replacesLiterals()).isFalse();
+	}
+
+	@Test
+	void warmUpShouldNotRequireMetadata() {
+
+		var translator = SqlToCypher.defaultTranslator();
+		assertThatNoException().isThrownBy(translator::warmUp);
+		assertThatNoException().isThrownBy(translator::warmUp);
+	}
+
 	private record SqlAndCypher(String name, String sql, String cypher) {
 		static SqlAndCypher of(String name, String sql, String cypher) {
 			return new SqlAndCypher(name, sql, cypher);
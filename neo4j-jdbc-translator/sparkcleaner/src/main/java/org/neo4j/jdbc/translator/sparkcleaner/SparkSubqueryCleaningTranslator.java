@@ -21,6 +21,8 @@ package org.neo4j.jdbc.translator.sparkcleaner;
 import java.sql.DatabaseMetaData;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 import org.antlr.v4.runtime.BailErrorStrategy;
@@ -30,6 +32,7 @@ import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.neo4j.cypher.internal.parser.v5.Cypher5Lexer;
 import org.neo4j.cypher.internal.parser.v5.Cypher5Parser;
+import org.neo4j.jdbc.translator.spi.Cache;
 import org.neo4j.jdbc.translator.spi.Translator;
 
 /**
@@ -37,6 +40,10 @@ import org.neo4j.jdbc.translator.spi.Translator;
  * before passing it on towards to the next translator. If such a literal is found, a
  * check if it might be a spark subquery containing cypher instead of SQL is performed.
  * The check is performed by parsing it with jOOQ as well.
+ * <p>
+ * Spark sends the same subquery once per partition and task, so the result of the check
+ * is cached for all instances of this translator, and each instance reuses its lexer and
+ * parser.
  *
  * @author Michael J. Simons
  * @since 6.1.2
@@ -46,8 +53,27 @@ final class SparkSubqueryCleaningTranslator implements Translator {
 	private static final Pattern SUBQUERY_PATTERN = Pattern.compile(
 			"(?ims)SELECT\\s+\\*\\s+FROM\\s+\\((.*?)\\)\\s+SPARK_GEN_SUBQ_\\d+(?:(?!SPARK_GEN_SUBQ_\\d|\\)).)*\\z");
 
+	private static final int VALIDITY_CACHE_SIZE = 128;
+
+	/**
+	 * Caches whether a subquery can be parsed as Cypher, guarded by
+	 * {@link #VALIDITY_CACHE_LOCK}.
+	 */
+	private static final Cache<String, Boolean> VALIDITY_CACHE = Cache.getInstance(VALIDITY_CACHE_SIZE);
+
+	private static final Lock VALIDITY_CACHE_LOCK = new ReentrantLock();
+
 	private final int precedence;
 
+	/**
+	 * Parsing might happen on virtual threads, a monitor would pin them.
+	 */
+	private final Lock parserLock = new ReentrantLock();
+
+	private Cypher5Lexer lexer;
+
+	private Cypher5Parser parser;
+
 	SparkSubqueryCleaningTranslator(int precedence) {
 		this.precedence = precedence;
 	}
@@ -64,7 +90,7 @@ final class SparkSubqueryCleaningTranslator implements Translator {
 		}
 
 		var extractedSubquery = extractSubquery(statement);
-		return extractedSubquery.filter(this::canParseAsCypher).map(v -> """
+		return extractedSubquery.filter(this::isCypher).map(v -> """
 				/*+ NEO4J FORCE_CYPHER */
 				CALL {%s} RETURN * LIMIT 1
 				""".formatted(v).strip()).orElse(null);
@@ -82,30 +108,85 @@ final class SparkSubqueryCleaningTranslator implements Translator {
 		return Optional.of(matcher.group(1).trim());
 	}
 
-	boolean canParseAsCypher(String statement) {
+	/**
+	 * Same as {@link #canParseAsCypher(String)}, but looks up the result in the cache
+	 * first.
+	 * @param statement the statement to check
+	 * @return {@literal true} if the statement can be parsed as Cypher
+	 */
+	boolean isCypher(String statement) {
 
-		// We might want to replace Unicode escape characters in the future
-		// https://github.com/neo-technology/neo4j/blob/dev/public/community/cypher/front-end/parser/common/antlr-ast-common/src/main/java/org/neo4j/cypher/internal/parser/lexer/UnicodeEscapeReplacementReader.java
-		var tokens = new CommonTokenStream(new Cypher5Lexer(CharStreams.fromString(statement)));
-		var parser = new Cypher5Parser(tokens);
-		parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
-		parser.setErrorHandler(new BailErrorStrategy());
+		VALIDITY_CACHE_LOCK.lock();
 		try {
-			parser.statements();
+			var cached = VALIDITY_CACHE.get(statement);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		finally {
+			VALIDITY_CACHE_LOCK.unlock();
+		}
+
+		var result = canParseAsCypher(statement);
+		VALIDITY_CACHE_LOCK.lock();
+		try {
+			VALIDITY_CACHE.put(statement, result);
+		}
+		finally {
+			VALIDITY_CACHE_LOCK.unlock();
 		}
-		catch (Exception ex) {
-			tokens.seek(0);
-			parser.reset();
-			parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+		return result;
+	}
+
+	boolean canParseAsCypher(String statement) {
+
+		this.parserLock.lock();
+		try {
+			// We might want to replace Unicode escape characters in the future
+			// https://github.com/neo-technology/neo4j/blob/dev/public/community/cypher/front-end/parser/common/antlr-ast-common/src/main/java/org/neo4j/cypher/internal/parser/lexer/UnicodeEscapeReplacementReader.java
+			var tokens = newTokenStream(statement);
+			// The DFA built while predicting is shared by all parsers, so that only the
+			// first statement pays for building it
+			this.parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
 			try {
-				parser.statements();
+				this.parser.statements();
 			}
-			catch (ParseCancellationException ex2) {
-				return false;
+			catch (Exception ex) {
+				tokens.seek(0);
+				this.parser.reset();
+				this.parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+				try {
+					this.parser.statements();
+				}
+				catch (ParseCancellationException ex2) {
+					return false;
+				}
 			}
+
+			return true;
 		}
+		finally {
+			this.parserLock.unlock();
+		}
+	}
 
-		return true;
+	private CommonTokenStream newTokenStream(String statement) {
+		var input = CharStreams.fromString(statement);
+		if (this.lexer == null) {
+			this.lexer = new Cypher5Lexer(input);
+		}
+		else {
+			this.lexer.setInputStream(input);
+		}
+		var tokens = new CommonTokenStream(this.lexer);
+		if (this.parser == null) {
+			this.parser = new Cypher5Parser(tokens);
+			this.parser.setErrorHandler(new BailErrorStrategy());
+		}
+		else {
+			this.parser.setTokenStream(tokens);
+		}
+		return tokens;
 	}
 
 }
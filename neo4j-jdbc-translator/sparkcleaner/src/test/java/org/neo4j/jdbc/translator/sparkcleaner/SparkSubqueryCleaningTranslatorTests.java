@@ -27,6 +27,12 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atMostOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 
 class SparkSubqueryCleaningTranslatorTests {
 
@@ -112,6 +118,45 @@ class SparkSubqueryCleaningTranslatorTests {
 		assertThat(translator.canParseAsCypher(statement)).isEqualTo(expectation);
 	}
 
+	@Test
+	void parserShouldBeReusable() {
+
+		var translator = new SparkSubqueryCleaningTranslator(RANDOM_PRECEDENCE);
+		for (int i = 0; i < 2; ++i) {
+			assertThat(translator.canParseAsCypher("SELECT * FROM Movie")).isFalse();
+			assertThat(translator.canParseAsCypher("MATCH (n:Movie) RETURN n.title")).isTrue();
+		}
+	}
+
+	@Test
+	void schemaProbeShouldBeTranslated() {
+
+		var probe = new SparkSubqueryCleaningTranslator(RANDOM_PRECEDENCE)
+			.translate("SELECT * FROM (MATCH (n:Movie) RETURN n.title AS title) SPARK_GEN_SUBQ_0 WHERE 1=0");
+
+		assertThat(probe)
+			.isEqualTo("/*+ NEO4J FORCE_CYPHER */\nCALL {MATCH (n:Movie) RETURN n.title AS title} RETURN * LIMIT 1");
+	}
+
+	@Test
+	void validityShouldBeCachedForAllInstances() {
+
+		// The cache is shared, so the statement must not have been checked by other tests
+		var statement = "MATCH (n:Movie) RETURN n.title AS title_%d".formatted(System.nanoTime());
+		var translator = spy(new SparkSubqueryCleaningTranslator(RANDOM_PRECEDENCE));
+		assertThat(translator.isCypher(statement)).isTrue();
+		assertThat(translator.isCypher(statement)).isTrue();
+		then(translator).should(times(1)).canParseAsCypher(statement);
+
+		var otherTranslator = spy(new SparkSubqueryCleaningTranslator(RANDOM_PRECEDENCE));
+		assertThat(otherTranslator.isCypher(statement)).isTrue();
+		then(otherTranslator).should(never()).canParseAsCypher(any());
+
+		assertThat(otherTranslator.isCypher("SELECT * FROM Movie")).isFalse();
+		assertThat(otherTranslator.isCypher("SELECT * FROM Movie")).isFalse();
+		then(otherTranslator).should(atMostOnce()).canParseAsCypher("SELECT * FROM Movie");
+	}
+
 	@Test
 	void shouldWrap() {
 		var translator = new SparkSubqueryCleaningTranslator(RANDOM_PRECEDENCE);
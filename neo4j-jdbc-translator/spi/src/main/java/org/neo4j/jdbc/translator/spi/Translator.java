@@ -19,6 +19,8 @@
 package org.neo4j.jdbc.translator.spi;
 
 import java.sql.DatabaseMetaData;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -73,12 +75,30 @@ public interface Translator {
 	 */
 	int LOWEST_PRECEDENCE = Integer.MAX_VALUE;
 
+	/**
+	 * Name of the parameter that holds all parameter sets of a batch in a statement
+	 * returned by {@link #translateBatch(String, DatabaseMetaData)}.
+	 * @since 6.15.0
+	 */
+	String BATCH_PARAMETER_NAME = "rows";
+
 	/**
 	 * This method can be overwritten if the translator supports caching.
 	 */
 	default void flushCache() {
 	}
 
+	/**
+	 * Prepares this translator for its first translation, for example by initializing
+	 * parsers and loading the classes needed for translating statements. The driver calls
+	 * this method on a background thread when warm-up has been enabled, concurrent calls
+	 * to the translation methods must be possible. The default implementation does
+	 * nothing.
+	 * @since 6.15.0
+	 */
+	default void warmUp() {
+	}
+
 	/**
 	 * Translate the given statement into a Neo4j native query or an intermediate format
 	 * that needs further processing by other translators.
@@ -110,6 +130,64 @@ public interface Translator {
 	 */
 	String translate(String statement, DatabaseMetaData optionalDatabaseMetaData);
 
+	/**
+	 * Translate the given statement like {@link #translate(String, DatabaseMetaData)},
+	 * but allows this translator to replace literal values of the statement with
+	 * parameters, so that statements only differing in their literals result in the same
+	 * native query. The values of those parameters must be added to
+	 * {@code literalParameters}. The default implementation does not replace any
+	 * literals.
+	 * @param statement the statement. Must not be {@literal null} and must be a valid
+	 * statement.
+	 * @param optionalDatabaseMetaData optional {@link DatabaseMetaData} that might be
+	 * used to further refine translations, can safely be left {@literal null}
+	 * @param literalParameters a mutable map receiving the values of all literals that
+	 * have been replaced with parameters
+	 * @return a Neo4j native query
+	 * @throws NullPointerException if {@code statement} is {@literal null}
+	 * @throws IllegalArgumentException if {@code statement} cannot be translated by this
+	 * translator
+	 * @since 6.15.0
+	 */
+	default String translate(String statement, DatabaseMetaData optionalDatabaseMetaData,
+			Map<String, Object> literalParameters) {
+		return translate(statement, optionalDatabaseMetaData);
+	}
+
+	/**
+	 * Returns whether this translator replaces literals with parameters in
+	 * {@link #translate(String, DatabaseMetaData, Map)}. The driver only offers
+	 * statements for replacing their literals to translators returning {@literal true}.
+	 * The default implementation returns {@literal false}.
+	 * @return {@literal true} if this translator replaces literals with parameters
+	 * @since 6.15.0
+	 */
+	default boolean replacesLiterals() {
+		return false;
+	}
+
+	/**
+	 * Translates the given statement into a Neo4j native query that executes a whole
+	 * batch of parameter sets at once, for example by unwinding them. The resulting query
+	 * must expect the parameter sets as a list of maps in a parameter named
+	 * {@value #BATCH_PARAMETER_NAME}, each map keyed by the parameter names or indexes of
+	 * the original statement. Translators that don't support batches for a statement
+	 * return an empty optional, the driver will then rewrite the result of
+	 * {@link #translate(String, DatabaseMetaData)} on its own.
+	 * @param statement the statement. Must not be {@literal null} and must be a valid
+	 * statement.
+	 * @param optionalDatabaseMetaData optional {@link DatabaseMetaData} that might be
+	 * used to further refine translations, can safely be left {@literal null}
+	 * @return a Neo4j native query executing a whole batch or an empty optional
+	 * @throws NullPointerException if {@code statement} is {@literal null}
+	 * @throws IllegalArgumentException if {@code statement} cannot be translated by this
+	 * translator
+	 * @since 6.15.0
+	 */
+	default Optional<String> translateBatch(String statement, DatabaseMetaData optionalDatabaseMetaData) {
+		return Optional.empty();
+	}
+
 	/**
 	 * Get the order value of this object.
 	 * <p>
@@ -37,7 +37,7 @@ final class BoltCursor extends AbstractCursor {
 
 	private final RunResponse runResponse;
 
-	private final Runnable onNextBatch;
+	private final Observer observer;
 
 	private int fetchSize;
 
@@ -48,12 +48,12 @@ final class BoltCursor extends AbstractCursor {
 	private PullResponse currentBatchResponse;
 
 	BoltCursor(Record sampleRecord, Neo4jTransaction transaction, RunResponse runResponse, int remainingRowAllowance,
-			int fetchSize, PullResponse currentBatchResponse, Iterator<Record> currentBatch, Runnable onNextBatch) {
+			int fetchSize, PullResponse currentBatchResponse, Iterator<Record> currentBatch, Observer observer) {
 		super(sampleRecord);
 
 		this.transaction = transaction;
 		this.runResponse = runResponse;
-		this.onNextBatch = onNextBatch;
+		this.observer = observer;
 		this.fetchSize = fetchSize;
 
 		this.remainingRowAllowance = remainingRowAllowance;
@@ -70,9 +70,16 @@ final class BoltCursor extends AbstractCursor {
 			return pullNext();
 		}
 		if (this.currentBatchResponse.hasMore()) {
-			this.currentBatchResponse = this.transaction.pull(this.runResponse, calculateFetchSize());
+			this.observer.beforeNextBatch();
+			PullResponse nextBatchResponse = null;
+			try {
+				nextBatchResponse = this.transaction.pull(this.runResponse, calculateFetchSize());
+			}
+			finally {
+				this.observer.afterNextBatch(nextBatchResponse);
+			}
+			this.currentBatchResponse = nextBatchResponse;
 			this.currentBatch = this.currentBatchResponse.records().iterator();
-			this.onNextBatch.run();
 			return pullNext();
 		}
 		this.currentRecord = null;
@@ -97,10 +104,21 @@ final class BoltCursor extends AbstractCursor {
 		this.fetchSize = fetchSize;
 	}
 
+	@Override
+	public boolean hasPendingCommit() {
+		return this.transaction.isAutoCommit() && this.transaction.isRunnable();
+	}
+
 	@Override
 	public void close() throws SQLException {
-		if (this.transaction.isAutoCommit() && this.transaction.isRunnable()) {
-			this.transaction.commit();
+		if (hasPendingCommit()) {
+			this.observer.beforeCommit();
+			try {
+				this.transaction.commit();
+			}
+			finally {
+				this.observer.afterCommit();
+			}
 		}
 	}
 
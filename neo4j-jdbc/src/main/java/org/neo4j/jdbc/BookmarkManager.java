@@ -29,6 +29,13 @@ import java.util.function.Function;
  */
 interface BookmarkManager {
 
+	/**
+	 * {@return an immutable snapshot of the current bookmarks}
+	 */
+	default Set<String> getBookmarks() {
+		return getBookmarks(Function.identity());
+	}
+
 	<T> Set<T> getBookmarks(Function<String, T> transformer);
 
 	<T> void updateBookmarks(Function<T, String> transformer, Collection<T> usedBookmarks, Collection<T> newBookmarks);
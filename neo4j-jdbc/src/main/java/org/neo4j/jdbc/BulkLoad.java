@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.neo4j.cypherdsl.support.schema_name.SchemaNames;
+import org.neo4j.jdbc.Neo4jException.GQLError;
+
+/**
+ * Describes how rows are loaded into Neo4j via
+ * {@link Neo4jConnection#bulkLoad(BulkLoad, java.util.Iterator)} and its overloads. A bulk
+ * load either creates or merges nodes with one label, or relationships of one type
+ * between nodes identified by a key property. Each row is a map from column names to
+ * values. Columns become properties, except for the columns used to identify the start
+ * and end node of a relationship. Rows without a value for a key column or for the
+ * column of an endpoint are rejected before anything of their chunk is sent.
+ * <p>
+ * Comma separated values only contain strings, and a string never matches a numeric or
+ * boolean property when looking up nodes. Use
+ * {@link #withColumnConverter(String, Function)} to convert the values of such columns.
+ * <p>
+ * Rows are sent in chunks of {@link #withChunkSize(int) chunk size} rows as
+ * {@code UNWIND $rows AS row ...} statements. Chunks are pipelined, with at most
+ * {@link #withMaxChunksInFlight(int) max chunks in flight} chunks sent but not yet
+ * acknowledged by the server. No further rows are read from the source while that limit
+ * is reached.
+ * <p>
+ * Instances are immutable, all {@code with} methods return a new instance.
+ *
+ * @author Neo4j Drivers Team
+ * @since 6.15.0
+ */
+public final class BulkLoad {
+
+	/**
+	 * The default number of rows per chunk.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 10_000;
+
+	/**
+	 * The default number of chunks that may be in flight.
+	 */
+	public static final int DEFAULT_MAX_CHUNKS_IN_FLIGHT = 4;
+
+	private final String labelOrType;
+
+	private final List<String> keyColumns;
+
+	private final Endpoint start;
+
+	private final Endpoint end;
+
+	private final int chunkSize;
+
+	private final int maxChunksInFlight;
+
+	private final Consumer<ChunkResult> chunkListener;
+
+	private final Map<String, Function<String, ?>> columnConverters;
+
+	private BulkLoad(String labelOrType, List<String> keyColumns, Endpoint start, Endpoint end, int chunkSize,
+			int maxChunksInFlight, Consumer<ChunkResult> chunkListener,
+			Map<String, Function<String, ?>> columnConverters) {
+		this.labelOrType = labelOrType;
+		this.keyColumns = keyColumns;
+		this.start = start;
+		this.end = end;
+		this.chunkSize = chunkSize;
+		this.maxChunksInFlight = maxChunksInFlight;
+		this.chunkListener = chunkListener;
+		this.columnConverters = columnConverters;
+	}
+
+	/**
+	 * Loads rows as nodes with the given label. Nodes are merged on the given key columns,
+	 * and all columns are set as properties. Without key columns, a new node is created
+	 * for each row.
+	 * @param label the label of the nodes
+	 * @param keyColumns the columns identifying a node
+	 * @return a new bulk load
+	 */
+	public static BulkLoad nodes(String label, String... keyColumns) {
+		return new BulkLoad(requireText(label, "label"), List.of(keyColumns), null, null, DEFAULT_CHUNK_SIZE,
+				DEFAULT_MAX_CHUNKS_IN_FLIGHT, chunkResult -> {
+				}, Map.of());
+	}
+
+	/**
+	 * Loads rows as relationships of the given type between existing nodes. Rows whose
+	 * start or end node does not exist are skipped by the server. Relationships are
+	 * merged on the given key columns, all columns except the ones of the endpoints are set
+	 * as properties. Without key columns, a new relationship is created for each row.
+	 * @param type the type of the relationships
+	 * @param start the start node of each relationship
+	 * @param end the end node of each relationship
+	 * @param keyColumns the columns identifying a relationship between two nodes
+	 * @return a new bulk load
+	 */
+	public static BulkLoad relationships(String type, Endpoint start, Endpoint end, String... keyColumns) {
+		return new BulkLoad(requireText(type, "type"), List.of(keyColumns), Objects.requireNonNull(start),
+				Objects.requireNonNull(end), DEFAULT_CHUNK_SIZE, DEFAULT_MAX_CHUNKS_IN_FLIGHT, chunkResult -> {
+				}, Map.of());
+	}
+
+	/**
+	 * Changes the number of rows sent per statement.
+	 * @param newChunkSize the new number of rows per chunk, must be greater than 0
+	 * @return a new bulk load
+	 */
+	public BulkLoad withChunkSize(int newChunkSize) {
+		if (newChunkSize <= 0) {
+			throw new IllegalArgumentException("The chunk size must be greater than 0");
+		}
+		return new BulkLoad(this.labelOrType, this.keyColumns, this.start, this.end, newChunkSize,
+				this.maxChunksInFlight, this.chunkListener, this.columnConverters);
+	}
+
+	/**
+	 * Changes the number of chunks that have been sent but not been acknowledged by the
+	 * server yet.
+	 * @param newMaxChunksInFlight the new number of chunks, must be greater than 0
+	 * @return a new bulk load
+	 */
+	public BulkLoad withMaxChunksInFlight(int newMaxChunksInFlight) {
+		if (newMaxChunksInFlight <= 0) {
+			throw new IllegalArgumentException("The number of chunks in flight must be greater than 0");
+		}
+		return new BulkLoad(this.labelOrType, this.keyColumns, this.start, this.end, this.chunkSize,
+				newMaxChunksInFlight, this.chunkListener, this.columnConverters);
+	}
+
+	/**
+	 * Registers a listener that is notified with the counters of each chunk once the
+	 * server acknowledged it. The listener is called on the thread running the bulk load.
+	 * @param newChunkListener the listener to notify
+	 * @return a new bulk load
+	 */
+	public BulkLoad withChunkListener(Consumer<ChunkResult> newChunkListener) {
+		return new BulkLoad(this.labelOrType, this.keyColumns, this.start, this.end, this.chunkSize,
+				this.maxChunksInFlight, Objects.requireNonNull(newChunkListener), this.columnConverters);
+	}
+
+	/**
+	 * Registers a converter for the string values of a column, for example
+	 * {@code Long::valueOf} for numeric keys read from comma separated values. Values that
+	 * are not strings and {@literal null} values are not converted. A converter that throws
+	 * an exception fails the load with the number of the offending row.
+	 * @param column the column whose values should be converted
+	 * @param converter the converter to apply
+	 * @return a new bulk load
+	 */
+	public BulkLoad withColumnConverter(String column, Function<String, ?> converter) {
+		var newColumnConverters = new HashMap<>(this.columnConverters);
+		newColumnConverters.put(requireText(column, "column"), Objects.requireNonNull(converter));
+		return new BulkLoad(this.labelOrType, this.keyColumns, this.start, this.end, this.chunkSize,
+				this.maxChunksInFlight, this.chunkListener, Map.copyOf(newColumnConverters));
+	}
+
+	int chunkSize() {
+		return this.chunkSize;
+	}
+
+	int maxChunksInFlight() {
+		return this.maxChunksInFlight;
+	}
+
+	Consumer<ChunkResult> chunkListener() {
+		return this.chunkListener;
+	}
+
+	/**
+	 * {@return the statement run for each chunk, expecting the chunk as <code>$rows</code>}
+	 */
+	String toCypher() {
+		var verb = this.keyColumns.isEmpty() ? "CREATE" : "MERGE";
+		var keys = this.keyColumns.isEmpty() ? ""
+				: this.keyColumns.stream()
+					.map(column -> "%s: row.properties.%s".formatted(quote(column), quote(column)))
+					.collect(Collectors.joining(", ", " {", "}"));
+		if (this.start == null) {
+			return "UNWIND $rows AS row %s (n:%s%s) SET n += row.properties".formatted(verb, quote(this.labelOrType),
+					keys);
+		}
+		return ("UNWIND $rows AS row MATCH (s:%s {%s: row.start}) MATCH (e:%s {%s: row.end}) "
+				+ "%s (s)-[r:%s%s]->(e) SET r += row.properties")
+			.formatted(quote(this.start.label()), quote(this.start.keyProperty()), quote(this.end.label()),
+					quote(this.end.keyProperty()), verb, quote(this.labelOrType), keys);
+	}
+
+	/**
+	 * Turns a row into the structure expected by {@link #toCypher()}. Columns with
+	 * {@literal null} values are not set.
+	 * @param row the row to convert
+	 * @param rowNumber the number of the row, starting at 1, used in error messages
+	 * @return the converted row
+	 * @throws SQLException if a value cannot be converted or a key or endpoint column has
+	 * no value
+	 */
+	Map<String, Object> toParameter(Map<String, ?> row, long rowNumber) throws SQLException {
+		var properties = new LinkedHashMap<String, Object>(row.size());
+		Object startValue = null;
+		Object endValue = null;
+		for (var entry : row.entrySet()) {
+			var column = entry.getKey();
+			var value = convert(column, entry.getValue(), rowNumber);
+			if (this.start != null && column.equals(this.start.column())) {
+				startValue = value;
+			}
+			else if (this.start != null && column.equals(this.end.column())) {
+				endValue = value;
+			}
+			else if (value != null) {
+				properties.put(column, value);
+			}
+		}
+		for (var keyColumn : this.keyColumns) {
+			requireValue(properties.get(keyColumn), keyColumn, rowNumber);
+		}
+		var parameter = new HashMap<String, Object>(4);
+		parameter.put("properties", properties);
+		if (this.start != null) {
+			parameter.put("start", requireValue(startValue, this.start.column(), rowNumber));
+			parameter.put("end", requireValue(endValue, this.end.column(), rowNumber));
+		}
+		return parameter;
+	}
+
+	private Object convert(String column, Object value, long rowNumber) throws SQLException {
+		var converter = this.columnConverters.get(column);
+		if (converter == null || !(value instanceof String stringValue)) {
+			return value;
+		}
+		try {
+			return converter.apply(stringValue);
+		}
+		catch (RuntimeException ex) {
+			throw new Neo4jException(GQLError.$22N11.causedBy(ex)
+				.withTemplatedMessage("value '%s' of column %s in row %d".formatted(stringValue, column, rowNumber)));
+		}
+	}
+
+	private static Object requireValue(Object value, String column, long rowNumber) throws SQLException {
+		if (value == null) {
+			throw new Neo4jException(
+					GQLError.$22N06.withTemplatedMessage("column %s in row %d".formatted(column, rowNumber)));
+		}
+		return value;
+	}
+
+	private static String quote(String identifier) {
+		return SchemaNames.sanitize(identifier, true)
+			.orElseThrow(() -> new IllegalArgumentException("Cannot quote identifier " + identifier));
+	}
+
+	private static String requireText(String value, String name) {
+		if (value == null || value.isBlank()) {
+			throw new IllegalArgumentException("The %s must not be null or blank".formatted(name));
+		}
+		return value;
+	}
+
+	/**
+	 * Identifies the start or end node of a relationship.
+	 *
+	 * @param label the label of the node
+	 * @param keyProperty the property identifying the node
+	 * @param column the column of a row containing the value of the key property
+	 */
+	public record Endpoint(String label, String keyProperty, String column) {
+
+		/**
+		 * Validates the components.
+		 * @param label the label of the node
+		 * @param keyProperty the property identifying the node
+		 * @param column the column of a row containing the value of the key property
+		 */
+		public Endpoint {
+			requireText(label, "label");
+			requireText(keyProperty, "key property");
+			requireText(column, "column");
+		}
+
+	}
+
+	/**
+	 * The counters of a single chunk.
+	 *
+	 * @param chunk the number of the chunk, starting at 1
+	 * @param rows the number of rows in the chunk
+	 * @param nodesCreated the number of nodes created
+	 * @param relationshipsCreated the number of relationships created
+	 * @param propertiesSet the number of properties set
+	 * @param labelsAdded the number of labels added
+	 */
+	public record ChunkResult(int chunk, int rows, int nodesCreated, int relationshipsCreated, int propertiesSet,
+			int labelsAdded) {
+	}
+
+	/**
+	 * The totals of a bulk load.
+	 *
+	 * @param chunks the number of chunks sent
+	 * @param rows the number of rows read
+	 * @param nodesCreated the number of nodes created
+	 * @param relationshipsCreated the number of relationships created
+	 * @param propertiesSet the number of properties set
+	 * @param labelsAdded the number of labels added
+	 */
+	public record Result(int chunks, long rows, long nodesCreated, long relationshipsCreated, long propertiesSet,
+			long labelsAdded) {
+
+		Result add(ChunkResult chunkResult) {
+			return new Result(this.chunks + 1, this.rows + chunkResult.rows(),
+					this.nodesCreated + chunkResult.nodesCreated(),
+					this.relationshipsCreated + chunkResult.relationshipsCreated(),
+					this.propertiesSet + chunkResult.propertiesSet(), this.labelsAdded + chunkResult.labelsAdded());
+		}
+
+	}
+
+}
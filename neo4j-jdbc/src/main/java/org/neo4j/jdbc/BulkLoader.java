@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.neo4j.bolt.connection.SummaryCounters;
+import org.neo4j.jdbc.Neo4jTransaction.DiscardResponse;
+import org.neo4j.jdbc.Neo4jTransaction.ResultSummary;
+
+import static org.neo4j.jdbc.Neo4jException.withCause;
+
+/**
+ * Runs a {@link BulkLoad} inside a single transaction. Chunks are pipelined via
+ * {@link Neo4jTransaction#runAndDiscardAsync(String, Map)}: The next chunk is only
+ * assembled from the source once fewer than the maximum number of chunks are waiting for
+ * their response, which bounds the memory used on the client and throttles reading the
+ * source to the speed of the server.
+ *
+ * @author Neo4j Drivers Team
+ */
+final class BulkLoader {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.bulk-load");
+
+	private final BulkLoad bulkLoad;
+
+	private final String query;
+
+	private BulkLoader(BulkLoad bulkLoad) {
+		this.bulkLoad = bulkLoad;
+		this.query = bulkLoad.toCypher();
+	}
+
+	static BulkLoad.Result load(Neo4jTransaction transaction, BulkLoad bulkLoad,
+			Iterator<? extends Map<String, ?>> rows) throws SQLException {
+		return new BulkLoader(bulkLoad).load(transaction, rows);
+	}
+
+	private BulkLoad.Result load(Neo4jTransaction transaction, Iterator<? extends Map<String, ?>> rows)
+			throws SQLException {
+
+		var result = new BulkLoad.Result(0, 0, 0, 0, 0, 0);
+		var inFlight = new ArrayDeque<PendingChunk>(this.bulkLoad.maxChunksInFlight());
+		var chunkNumber = 0;
+		var rowNumber = 0L;
+		try {
+			while (rows.hasNext()) {
+				if (inFlight.size() >= this.bulkLoad.maxChunksInFlight()) {
+					result = result.add(await(inFlight.poll()));
+				}
+				var chunk = new ArrayList<Map<String, Object>>(this.bulkLoad.chunkSize());
+				while (rows.hasNext() && chunk.size() < this.bulkLoad.chunkSize()) {
+					chunk.add(this.bulkLoad.toParameter(rows.next(), ++rowNumber));
+				}
+				var number = ++chunkNumber;
+				LOGGER.log(Level.FINER, () -> "Sending chunk %d with %d rows".formatted(number, chunk.size()));
+				inFlight.add(new PendingChunk(number, chunk.size(),
+						transaction.runAndDiscardAsync(this.query, Map.of("rows", chunk)).toCompletableFuture()));
+			}
+			while (!inFlight.isEmpty()) {
+				result = result.add(await(inFlight.poll()));
+			}
+		}
+		catch (UncheckedSQLException ex) {
+			throw ex.getCause();
+		}
+		finally {
+			drain(inFlight);
+		}
+		return result;
+	}
+
+	private BulkLoad.ChunkResult await(PendingChunk pendingChunk) throws SQLException {
+		DiscardResponse response;
+		try {
+			response = pendingChunk.response().join();
+		}
+		catch (CompletionException ex) {
+			var cause = ex.getCause();
+			if (cause instanceof SQLException sqlException) {
+				throw sqlException;
+			}
+			throw new Neo4jException(withCause((cause != null) ? cause : ex));
+		}
+		var counters = response.resultSummary().map(ResultSummary::counters);
+		var chunkResult = new BulkLoad.ChunkResult(pendingChunk.number(), pendingChunk.rows(),
+				counters.map(SummaryCounters::nodesCreated).orElse(0),
+				counters.map(SummaryCounters::relationshipsCreated).orElse(0),
+				counters.map(SummaryCounters::propertiesSet).orElse(0),
+				counters.map(SummaryCounters::labelsAdded).orElse(0));
+		this.bulkLoad.chunkListener().accept(chunkResult);
+		return chunkResult;
+	}
+
+	/**
+	 * Waits for all chunks that are still in flight after a failure, so that their
+	 * responses have been consumed before the transaction is used otherwise.
+	 * @param inFlight the chunks still in flight
+	 */
+	private static void drain(Deque<PendingChunk> inFlight) {
+		for (var pendingChunk : inFlight) {
+			pendingChunk.response().handle((response, failure) -> null).join();
+		}
+		inFlight.clear();
+	}
+
+	private record PendingChunk(int number, int rows, CompletableFuture<DiscardResponse> response) {
+	}
+
+}
@@ -69,7 +69,26 @@ final class CallableStatementImpl extends PreparedStatementImpl implements Neo4j
 			Consumer<Class<? extends Statement>> onClose, boolean rewriteBatchedStatements, String sql)
 			throws SQLException {
 
-		// We should cache the descriptor if this gets widely used.
+		return prepareCall(connection, transactionSupplier, onClose, rewriteBatchedStatements,
+				describeCall(connection, sql));
+	}
+
+	static CallableStatementImpl prepareCall(Connection connection, Neo4jTransactionSupplier transactionSupplier,
+			Consumer<Class<? extends Statement>> onClose, boolean rewriteBatchedStatements, PreparedCall call) {
+
+		return new CallableStatementImpl(connection, transactionSupplier, onClose, rewriteBatchedStatements,
+				call.cypher(), call.parameterMetaData());
+	}
+
+	/**
+	 * Parses the given SQL and introspects the called procedure or function. The result
+	 * doesn't depend on the connection it has been created with and can be cached.
+	 * @param connection the connection used to introspect the procedure or function
+	 * @param sql the SQL of the call
+	 * @return the Cypher and the parameter metadata for the call
+	 * @throws SQLException if the call cannot be parsed or refers to unknown parameters
+	 */
+	static PreparedCall describeCall(Connection connection, String sql) throws SQLException {
 
 		var descriptor = parse(sql);
 		var parameterOrder = new HashMap<String, Integer>();
@@ -117,8 +136,7 @@ final class CallableStatementImpl extends PreparedStatementImpl implements Neo4j
 
 		// We can always store the descriptor with the statement to check for yielded /
 		// return values if wished / needed
-		return new CallableStatementImpl(connection, transactionSupplier, onClose, rewriteBatchedStatements,
-				descriptor.toCypher(parameterOrder), new ParameterMetaDataImpl(parameterTypes));
+		return new PreparedCall(descriptor.toCypher(parameterOrder), new ParameterMetaDataImpl(parameterTypes));
 	}
 
 	private final AtomicBoolean cursorMoved = new AtomicBoolean(false);
@@ -1278,6 +1296,15 @@ final class CallableStatementImpl extends PreparedStatementImpl implements Neo4j
 
 	}
 
+	/**
+	 * The outcome of preparing a call.
+	 *
+	 * @param cypher the Cypher statement generated for the call
+	 * @param parameterMetaData the metadata of the parameters of the call
+	 */
+	record PreparedCall(String cypher, ParameterMetaData parameterMetaData) {
+	}
+
 	/**
 	 * Tuple needed for describing the parameter list.
 	 *
@@ -18,10 +18,14 @@
  */
 package org.neo4j.jdbc;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
@@ -34,6 +38,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLClientInfoException;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Savepoint;
@@ -41,22 +46,32 @@ import java.sql.Statement;
 import java.sql.Struct;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -72,6 +87,7 @@ import org.neo4j.bolt.connection.exception.BoltConnectionReadTimeoutException;
 import org.neo4j.bolt.connection.exception.BoltFailureException;
 import org.neo4j.bolt.connection.message.Messages;
 import org.neo4j.jdbc.BoltConnectionObservations.NoopObservation;
+import org.neo4j.jdbc.DefaultTransactionImpl.FatalExceptionHandler;
 import org.neo4j.jdbc.Neo4jException.GQLError;
 import org.neo4j.jdbc.Neo4jTransaction.State;
 import org.neo4j.jdbc.authn.spi.Authentication;
@@ -108,15 +124,110 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	private static final int TRANSLATION_CACHE_SIZE = 128;
 
+	/**
+	 * How long to wait for pending explains before using the metadata connection if no
+	 * network timeout has been set.
+	 */
+	private static final Duration PENDING_EXPLAINS_TIMEOUT = Duration.ofSeconds(30);
+
+	static final int DEFAULT_MAX_AUXILIARY_CONNECTIONS = 4;
+
 	private final URI databaseUrl;
 
-	private final BoltConnection boltConnection;
+	/**
+	 * The connection for transactions in read-write mode. If routing is enabled, it is
+	 * replaced when a routing failure shows that its server is no longer the leader.
+	 */
+	private BoltConnection boltConnection;
 
 	private final Lazy<BoltConnection> boltConnectionForMetaData;
 
+	private final Function<Authentication, BoltConnection> boltConnectionSupplier;
+
+	/**
+	 * Additional connections for auto-commit transactions that are started while the
+	 * result of another auto-commit transaction is still open, for example in nested read
+	 * loops. The connections are reused once their transaction has been finished and are
+	 * closed together with this connection.
+	 */
+	private final List<AuxiliaryConnection> auxiliaryConnections = new ArrayList<>();
+
+	/**
+	 * The maximum number of {@link #auxiliaryConnections}.
+	 */
+	private final int maxAuxiliaryConnections;
+
+	/**
+	 * Optional router for client side routing. If present, transactions in read only
+	 * mode are executed on a separate connection to a reader.
+	 */
+	private final Router router;
+
+	/**
+	 * Connections on which a transaction failed because their server has lost its role,
+	 * for example after a leader switch. They are replaced before they are used for the
+	 * next transaction.
+	 */
+	private final Set<BoltConnection> misroutedConnections = ConcurrentHashMap.newKeySet();
+
+	private final FatalExceptionHandler fatalExceptionHandler = new FatalExceptionHandler() {
+
+		@Override
+		public void handle(SQLException fatalSqlException, SQLException sqlException) {
+			handleFatalException(fatalSqlException, sqlException);
+		}
+
+		@Override
+		public void handleRoutingFailure(BoltConnection boltConnection) {
+			ConnectionImpl.this.handleRoutingFailure(boltConnection);
+		}
+
+	};
+
+	private AuxiliaryConnection readerConnection;
+
+	/**
+	 * Flag whether auto-commit statements use implicit Bolt transactions instead of
+	 * explicit ones.
+	 */
+	private final boolean implicitTransactions;
+
+	private final PreparedStatementCache preparedStatementCache;
+
+	private final boolean explainOnPrepare;
+
+	/**
+	 * Successful translations are kept in this store across restarts of the application,
+	 * might be {@literal null}.
+	 */
+	private final TranslationStore.Scope translationStore;
+
+	/**
+	 * Shared with all connections of the same driver configuration, might be
+	 * {@literal null}.
+	 */
+	private final KeysetPagination keysetPagination;
+
+	/**
+	 * Explains are sent one after another on the metadata connection and are completed
+	 * before that connection is used otherwise. Holds the stage completing after the last
+	 * explain that has been requested.
+	 */
+	private final AtomicReference<CompletableFuture<Void>> pendingExplains = new AtomicReference<>(
+			CompletableFuture.completedFuture(null));
+
+	/**
+	 * Explains that have not completed yet, cancelled when this connection is closed.
+	 */
+	private final Set<CompletableFuture<List<String>>> explainsInFlight = ConcurrentHashMap.newKeySet();
+
 	private final Lazy<DatabaseMetaData> databaseMetadData;
 
-	private final Set<Reference<Statement>> trackedStatementReferences = new HashSet<>();
+	/**
+	 * Concurrent, as the statements are closed by the handler of fatal exceptions, which
+	 * runs on a different thread for asynchronous executions.
+	 */
+	private final Set<Reference<Statement>> trackedStatementReferences = ConcurrentHashMap.newKeySet();
 
 	private final ReferenceQueue<Statement> trackedStatementReferenceQueue = new ReferenceQueue<>();
 
@@ -142,6 +253,8 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	private int networkTimeout;
 
+	private volatile Executor asyncExecutor = ForkJoinPool.commonPool();
+
 	private final Warnings warnings = new Warnings();
 
 	private SQLException fatalException;
@@ -150,6 +263,8 @@ final class ConnectionImpl implements Neo4jConnection {
 
 	private final Cache<String, String> l2cache = Cache.getInstance(TRANSLATION_CACHE_SIZE);
 
+	private final Lock translationLock = new ReentrantLock();
+
 	private final BookmarkManager bookmarkManager;
 
 	private final AuthenticationManager authenticationManager;
@@ -181,7 +296,20 @@ final class ConnectionImpl implements Neo4jConnection {
 			boolean rewritePlaceholders, BookmarkManager bookmarkManager, Map<String, Object> transactionMetadata,
 			int relationshipSampleSize, String databaseName, Consumer<Boolean> onClose,
 			List<ConnectionListener> initalListeners) {
+		this(databaseUrl, authenticationSupplier, boltConnectionSupplier, translators, enableSQLTranslation,
+				enableTranslationCaching, rewriteBatchedStatements, rewritePlaceholders, bookmarkManager,
+				transactionMetadata, relationshipSampleSize, databaseName, onClose, initalListeners,
+				ConnectionOptions.DEFAULTS);
+	}
+
+	ConnectionImpl(URI databaseUrl, Supplier<Authentication> authenticationSupplier,
+			Function<Authentication, BoltConnection> boltConnectionSupplier, Supplier<List<Translator>> translators,
+			boolean enableSQLTranslation, boolean enableTranslationCaching, boolean rewriteBatchedStatements,
+			boolean rewritePlaceholders, BookmarkManager bookmarkManager, Map<String, Object> transactionMetadata,
+			int relationshipSampleSize, String databaseName, Consumer<Boolean> onClose,
+			List<ConnectionListener> initalListeners, ConnectionOptions options) {
 		Objects.requireNonNull(boltConnectionSupplier);
+		Objects.requireNonNull(options);
 
 		this.databaseUrl = Objects.requireNonNull(databaseUrl);
 		this.authenticationManager = new DefaultAuthenticationManagerImpl(this.databaseUrl, authenticationSupplier,
@@ -189,6 +317,14 @@ final class ConnectionImpl implements Neo4jConnection {
 		// Must happen before the initial opening below, so that this is tracked, too
 		initalListeners.forEach(this::addListener);
 
+		this.router = options.router();
+		this.implicitTransactions = options.implicitTransactions();
+		this.preparedStatementCache = options.preparedStatementCache();
+		this.explainOnPrepare = options.explainOnPrepare();
+		this.translationStore = options.translationStore();
+		this.keysetPagination = options.keysetPagination();
+		this.maxAuxiliaryConnections = options.maxAuxiliaryConnections();
+		this.boltConnectionSupplier = boltConnectionSupplier;
 		this.boltConnection = boltConnectionSupplier.apply(this.authenticationManager.getOrRefresh());
 		this.boltConnectionForMetaData = Lazy
 			.of(() -> boltConnectionSupplier.apply(this.authenticationManager.getOrRefresh()));
@@ -203,15 +339,31 @@ final class ConnectionImpl implements Neo4jConnection {
 		this.databaseName = Objects.requireNonNull(databaseName);
 		this.databaseMetadData = Lazy.of(() -> {
 			var views = this.translators.resolve().stream().flatMap(t -> t.getViews().stream()).toList();
-			return new DatabaseMetadataImpl(this, this.enableSqlTranslation, this.relationshipSampleSize, views);
+			return new DatabaseMetadataImpl(this, this.enableSqlTranslation, this.relationshipSampleSize, views,
+					options.schemaCatalog());
 		});
 		this.onClose = Objects.requireNonNullElse(onClose, aborted -> {
 		});
 	}
 
 	void notifyStatementListeners(Class<? extends Statement> type) {
-		var event = new StatementClosedEvent(this.databaseUrl, type);
-		Events.notify(this.listeners, listener -> listener.onStatementClosed(event));
+		Events.notify(this.listeners, () -> new StatementClosedEvent(this.databaseUrl, type),
+				ConnectionListener::onStatementClosed);
+	}
+
+	/**
+	 * Resolves the translators of this connection and its metadata and warms up the
+	 * translators. Failures are logged only, the translators will be resolved again when
+	 * they are needed.
+	 */
+	void warmUpTranslators() {
+		try {
+			this.translators.resolve().forEach(Translator::warmUp);
+			this.databaseMetadData.resolve();
+		}
+		catch (RuntimeException ex) {
+			LOGGER.log(Level.FINE, ex, () -> "Could not warm up the translators of %s".formatted(this.databaseUrl));
+		}
 	}
 
 	UnaryOperator<String> getTranslator(Consumer<SQLWarning> warningConsumer) throws SQLException {
@@ -219,39 +371,101 @@ final class ConnectionImpl implements Neo4jConnection {
 	}
 
 	UnaryOperator<String> getTranslator(boolean force, Consumer<SQLWarning> warningConsumer) throws SQLException {
+		return getTranslator(newTranslatorChain(force, warningConsumer));
+	}
+
+	private UnaryOperator<String> getTranslator(TranslatorChain sqlTranslator) {
+		if (this.enableTranslationCaching) {
+			return sql -> translateCached(sqlTranslator, sql, null);
+		}
+		return sqlTranslator;
+	}
+
+	/**
+	 * Returns a function that translates statements like
+	 * {@link #getTranslator(Consumer)}, but lets the translators replace literals with
+	 * parameters. The values of these parameters are added to the map passed to the
+	 * function. Translations in which literals have been replaced are not cached by the
+	 * connection, so that statements only differing in their literals don't push other
+	 * translations out of the cache.
+	 * @param sqlTranslator the chain of translators to use
+	 * @return a function translating statements and collecting literal parameters, or
+	 * {@literal null} if none of the translators replaces literals
+	 * @see Translator#translate(String, java.sql.DatabaseMetaData, Map)
+	 */
+	private BiFunction<String, Map<String, Object>, String> getParameterizingTranslator(
+			TranslatorChain sqlTranslator) {
+
+		if (!sqlTranslator.replacesLiterals()) {
+			return null;
+		}
+		if (this.enableTranslationCaching) {
+			return (sql, literalParameters) -> translateCached(sqlTranslator, sql, literalParameters);
+		}
+		return sqlTranslator::apply;
+	}
+
+	private TranslatorChain newTranslatorChain(boolean force, Consumer<SQLWarning> warningConsumer)
+			throws SQLException {
 
 		List<Translator> resolvedTranslators;
+		TranslationStore.Scope store = null;
 		if (!(this.enableSqlTranslation || force)) {
 			resolvedTranslators = List.of((statement, optionalDatabaseMetaData) -> statement);
 		}
 		else {
 			resolvedTranslators = this.translators.resolve();
+			store = this.translationStore;
 		}
 
 		if (resolvedTranslators.isEmpty()) {
 			throw Neo4jDriver.noTranslatorsAvailableException();
 		}
 
-		var metaData = this.getMetaData();
-		var sqlTranslator = new TranslatorChain(resolvedTranslators, metaData, warningConsumer);
+		return new TranslatorChain(resolvedTranslators, this.getMetaData(), warningConsumer, store);
+	}
 
-		if (this.enableTranslationCaching) {
-			return sql -> {
-				synchronized (ConnectionImpl.this) {
-					if (this.l2cache.containsKey(sql)) {
-						return this.l2cache.get(sql);
-					}
-					else {
-						var translation = sqlTranslator.apply(sql);
-						this.l2cache.put(sql, translation);
-						var event = new TranslationCachedEvent(this.l2cache.size());
-						Events.notify(this.listeners, listener -> listener.onTranslationCached(event));
-						return translation;
-					}
-				}
-			};
+	private String translateCached(TranslatorChain sqlTranslator, String sql, Map<String, Object> literalParameters) {
+		// Translation might fetch metadata from the server, a monitor would pin
+		// virtual threads while waiting for it
+		this.translationLock.lock();
+		try {
+			if (this.l2cache.containsKey(sql)) {
+				return this.l2cache.get(sql);
+			}
+			var translation = sqlTranslator.apply(sql, literalParameters);
+			if (literalParameters == null || literalParameters.isEmpty()) {
+				this.l2cache.put(sql, translation);
+				Events.notify(this.listeners, () -> new TranslationCachedEvent(this.l2cache.size()),
+						ConnectionListener::onTranslationCached);
+			}
+			return translation;
+		}
+		finally {
+			this.translationLock.unlock();
 		}
-		return sqlTranslator;
+	}
+
+	/**
+	 * Returns a function that translates statements into a native statement for a whole
+	 * batch of parameter sets, if a translator supports it. The function returns an empty
+	 * optional if SQL translation is disabled.
+	 * @param warningConsumer consumer for warnings that occur during translation
+	 * @return a function for translating a batch
+	 * @throws SQLException if the translators cannot be resolved
+	 * @see Translator#translateBatch(String, java.sql.DatabaseMetaData)
+	 */
+	Function<String, Optional<String>> getBatchTranslator(Consumer<SQLWarning> warningConsumer) throws SQLException {
+
+		if (!this.enableSqlTranslation) {
+			return sql -> Optional.empty();
+		}
+
+		var resolvedTranslators = this.translators.resolve();
+		if (resolvedTranslators.isEmpty()) {
+			throw Neo4jDriver.noTranslatorsAvailableException();
+		}
+		return new TranslatorChain(resolvedTranslators, this.getMetaData(), warningConsumer)::applyBatch;
 	}
 
 	@SuppressWarnings("MagicConstant") // On purpose
@@ -297,6 +511,11 @@ final class ConnectionImpl implements Neo4jConnection {
 				this.transaction.commit();
 			}
 		}
+		for (var auxiliaryConnection : this.auxiliaryConnections) {
+			if (auxiliaryConnection.transaction != null && auxiliaryConnection.transaction.isRunnable()) {
+				auxiliaryConnection.transaction.commit();
+			}
+		}
 
 		this.autoCommit = autoCommit;
 	}
@@ -358,6 +577,7 @@ final class ConnectionImpl implements Neo4jConnection {
 			}
 		}
 
+		cancelPendingExplains();
 		try {
 			closeBoltConnections();
 		}
@@ -377,11 +597,42 @@ final class ConnectionImpl implements Neo4jConnection {
 		}
 	}
 
+	/**
+	 * Cancels all explains that have not completed yet, queued explains are not sent
+	 * anymore.
+	 */
+	private void cancelPendingExplains() {
+		for (var keys : this.explainsInFlight) {
+			keys.cancel(false);
+		}
+		this.pendingExplains.get().cancel(false);
+	}
+
 	private void closeBoltConnections() throws InterruptedException, ExecutionException {
-		this.boltConnection.close().toCompletableFuture().get();
-		synchronized (this.boltConnectionForMetaData) {
-			if (this.boltConnectionForMetaData.isResolved()) {
-				this.boltConnectionForMetaData.resolve().close();
+		closeBoltConnection(this.boltConnection);
+		for (var auxiliaryConnection : this.auxiliaryConnections) {
+			closeBoltConnection(auxiliaryConnection.boltConnection);
+		}
+		this.auxiliaryConnections.clear();
+		if (this.readerConnection != null) {
+			closeBoltConnection(this.readerConnection.boltConnection);
+			this.readerConnection = null;
+		}
+		this.boltConnectionForMetaData.ifResolved(connection -> {
+			connection.close();
+			if (this.router != null) {
+				this.router.release(connection);
+			}
+		});
+	}
+
+	private void closeBoltConnection(BoltConnection connection) throws InterruptedException, ExecutionException {
+		try {
+			connection.close().toCompletableFuture().get();
+		}
+		finally {
+			if (this.router != null) {
+				this.router.release(connection);
 			}
 		}
 	}
@@ -396,14 +647,15 @@ final class ConnectionImpl implements Neo4jConnection {
 	public DatabaseMetaData getMetaData() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Getting metadata");
 		assertIsOpen();
-		return this.databaseMetadData.resolve().unwrap(Neo4jDatabaseMetaData.class).flush();
+		return this.databaseMetadData.resolve().unwrap(DatabaseMetadataImpl.class).flushLocal();
 	}
 
 	@Override
 	public void setReadOnly(boolean readOnly) throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Setting read only to %s".formatted(readOnly));
 		assertIsOpen();
-		if (this.transaction != null && this.transaction.isOpen()) {
+		if (this.transaction != null && this.transaction.isOpen() || this.auxiliaryConnections.stream()
+			.anyMatch(c -> c.transaction != null && c.transaction.isOpen())) {
 			throw new Neo4jException(
 					withReason("Updating read only setting during an unfinished transaction is not permitted"));
 		}
@@ -544,8 +796,15 @@ final class ConnectionImpl implements Neo4jConnection {
 		assertValidResultSetTypeAndConcurrency(resultSetType, resultSetConcurrency);
 		assertValidResultSetHoldability(resultSetHoldability);
 		var localWarnings = new Warnings();
-		return trackStatement(new StatementImpl(this, this::getTransaction, getTranslator(localWarnings), localWarnings,
-				this::notifyStatementListeners));
+		// Both translators share one chain and therefore one view on the metadata
+		var translatorChain = newTranslatorChain(false, localWarnings);
+		var statement = new StatementImpl(this, this::getTransaction, getTranslator(translatorChain),
+				this.enableSqlTranslation ? getParameterizingTranslator(translatorChain) : null, localWarnings,
+				this::notifyStatementListeners);
+		if (this.enableSqlTranslation && this.keysetPagination != null) {
+			statement.useKeysetPagination(this.keysetPagination);
+		}
+		return trackStatement(statement);
 	}
 
 	@Override
@@ -564,9 +823,16 @@ final class ConnectionImpl implements Neo4jConnection {
 		assertValidResultSetHoldability(resultSetHoldability);
 		StatementImpl.assertAutoGeneratedKeys(autoGeneratedKeys);
 		var localWarnings = new Warnings();
-		return trackStatement(new PreparedStatementImpl(this, this::getTransaction, getTranslator(localWarnings),
-				localWarnings, this::notifyStatementListeners, this.rewritePlaceholders, this.rewriteBatchedStatements,
-				autoGeneratedKeys, sql));
+		var cacheKey = (this.preparedStatementCache != null) ? new PreparedStatementCache.Key(sql, false,
+				resultSetType, resultSetConcurrency, resultSetHoldability, autoGeneratedKeys) : null;
+		var statement = new PreparedStatementImpl(this, this::getTransaction, getTranslator(localWarnings),
+				getBatchTranslator(localWarnings), localWarnings, this::notifyStatementListeners,
+				this.rewritePlaceholders, this.rewriteBatchedStatements, autoGeneratedKeys, sql,
+				this.preparedStatementCache, cacheKey);
+		if (this.explainOnPrepare) {
+			statement.explain(this::explain);
+		}
+		return trackStatement(statement);
 	}
 
 	@Override
@@ -577,8 +843,16 @@ final class ConnectionImpl implements Neo4jConnection {
 		assertIsOpen();
 		assertValidResultSetTypeAndConcurrency(resultSetType, resultSetConcurrency);
 		assertValidResultSetHoldability(resultSetHoldability);
+		if (this.preparedStatementCache == null) {
+			return trackStatement(CallableStatementImpl.prepareCall(this, this::getTransaction,
+					this::notifyStatementListeners, this.rewriteBatchedStatements, sql));
+		}
+		var cacheKey = new PreparedStatementCache.Key(sql, true, resultSetType, resultSetConcurrency,
+				resultSetHoldability, Statement.NO_GENERATED_KEYS);
+		var call = this.preparedStatementCache.computeIfAbsent(cacheKey, CallableStatementImpl.PreparedCall.class,
+				() -> CallableStatementImpl.describeCall(this, sql));
 		return trackStatement(CallableStatementImpl.prepareCall(this, this::getTransaction,
-				this::notifyStatementListeners, this.rewriteBatchedStatements, sql));
+				this::notifyStatementListeners, this.rewriteBatchedStatements, call));
 	}
 
 	private static void assertValidResultSetHoldability(int resultSetHoldability) throws SQLException {
@@ -798,6 +1072,7 @@ final class ConnectionImpl implements Neo4jConnection {
 		if (this.transaction != null && this.transaction.isRunnable()) {
 			this.transaction.fail(this.fatalException);
 		}
+		cancelPendingExplains();
 		try {
 			closeBoltConnections();
 		}
@@ -834,9 +1109,19 @@ final class ConnectionImpl implements Neo4jConnection {
 	}
 
 	private void setReadTimeout0(Duration duration) throws Neo4jException {
+		setReadTimeout0(this.boltConnection, duration);
+		for (var auxiliaryConnection : this.auxiliaryConnections) {
+			setReadTimeout0(auxiliaryConnection.boltConnection, duration);
+		}
+		if (this.readerConnection != null) {
+			setReadTimeout0(this.readerConnection.boltConnection, duration);
+		}
+	}
+
+	private static void setReadTimeout0(BoltConnection boltConnection, Duration duration) throws Neo4jException {
 		var failureMessage = "Failed to set read timeout";
 		try {
-			this.boltConnection.setReadTimeout(duration).toCompletableFuture().get();
+			boltConnection.setReadTimeout(duration).toCompletableFuture().get();
 		}
 		catch (ExecutionException ex) {
 			throw new Neo4jException(withInternal(ex, failureMessage));
@@ -881,45 +1166,207 @@ final class ConnectionImpl implements Neo4jConnection {
 	 * @param additionalTransactionMetadata any additional metadata that should be
 	 * attached to the transaction
 	 * @return a transaction
-	 * @throws SQLException if there's already an open transaction and the connection is
-	 * using auto commit mode
+	 * @throws SQLException if the connection is closed or has failed fatally
 	 */
 	Neo4jTransaction getTransaction(Map<String, Object> additionalTransactionMetadata) throws SQLException {
+		return getTransaction(additionalTransactionMetadata, this.implicitTransactions);
+	}
+
+	private Neo4jTransaction getTransaction(Map<String, Object> additionalTransactionMetadata, boolean implicit)
+			throws SQLException {
 		assertIsOpen();
 		if (this.fatalException != null) {
 			throw this.fatalException;
 		}
 		if (this.transaction != null && this.transaction.isOpen()) {
 			if (this.transaction.isAutoCommit()) {
-				throw new SQLFeatureNotSupportedException("Only a single autocommit transaction is supported");
+				return getAuxiliaryTransaction(additionalTransactionMetadata, implicit);
 			}
 			return this.transaction;
 		}
 
 		var combinedTransactionMetadata = getCombinedTransactionMetadata(additionalTransactionMetadata);
-		this.transaction = new DefaultTransactionImpl(this.boltConnection, this.bookmarkManager,
-				combinedTransactionMetadata, this::handleFatalException, this.resetNeeded.getAndSet(false),
+		var useReader = this.readOnly && this.router != null;
+		if (useReader && this.readerConnection == null) {
+			this.readerConnection = new AuxiliaryConnection(openBoltConnection(), AccessMode.READ);
+		}
+		if (!useReader && this.misroutedConnections.contains(this.boltConnection)) {
+			var misroutedConnection = this.boltConnection;
+			this.boltConnection = openBoltConnection();
+			this.resetNeeded.set(false);
+			this.misroutedConnections.remove(misroutedConnection);
+			closeMisroutedConnection(misroutedConnection);
+		}
+		var targetConnection = useReader ? this.readerConnection.boltConnection : this.boltConnection;
+		var targetResetNeeded = useReader ? this.readerConnection.resetNeeded : this.resetNeeded;
+		this.transaction = new DefaultTransactionImpl(targetConnection, this.bookmarkManager,
+				combinedTransactionMetadata, this.fatalExceptionHandler, targetResetNeeded.getAndSet(false),
 				this.autoCommit, getAccessMode(), null, this.databaseName,
-				state -> this.resetNeeded.compareAndSet(false,
+				state -> targetResetNeeded.compareAndSet(false,
 						EnumSet.of(State.FAILED, State.OPEN_FAILED).contains(state)),
-				this.authenticationManager.getOrRefresh());
+				this.authenticationManager.getOrRefresh(), implicit);
 		return this.transaction;
 	}
 
+	/**
+	 * Closes a connection to a server that has lost its role. The router has been
+	 * invalidated when the routing failure occurred, so that a connection replacing this
+	 * one is opened to the server that has the role now.
+	 * @param misroutedConnection the connection to close
+	 * @throws SQLException if the thread is interrupted while closing the connection
+	 */
+	private void closeMisroutedConnection(BoltConnection misroutedConnection) throws SQLException {
+		LOGGER.log(Level.FINE, "Replacing a connection to a server that has lost its role");
+		try {
+			closeBoltConnection(misroutedConnection);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new Neo4jException(withInternal(ex, "The thread has been interrupted."));
+		}
+		catch (ExecutionException ex) {
+			LOGGER.log(Level.FINE, ex, () -> "Could not close a connection to a server that has lost its role");
+		}
+	}
+
+	/**
+	 * Opens a new Bolt connection, through the router for the current access mode if
+	 * routing is enabled.
+	 * @return a new Bolt connection
+	 * @throws SQLException if the read timeout cannot be applied to the new connection
+	 */
+	private BoltConnection openBoltConnection() throws SQLException {
+		var authentication = this.authenticationManager.getOrRefresh();
+		var newBoltConnection = (this.router != null) ? this.router.acquire(getAccessMode(), authentication)
+				: this.boltConnectionSupplier.apply(authentication);
+		if (this.networkTimeout > 0) {
+			setReadTimeout0(newBoltConnection, Duration.ofMillis(this.networkTimeout));
+		}
+		return newBoltConnection;
+	}
+
+	/**
+	 * Creates a new auto-commit transaction on an auxiliary connection, reusing a
+	 * connection whose transaction has already been finished if possible.
+	 * @param additionalTransactionMetadata any additional metadata that should be
+	 * attached to the transaction
+	 * @param implicit whether to use an implicit transaction
+	 * @return a transaction
+	 * @throws SQLException if a new connection cannot be opened or the maximum number of
+	 * auxiliary connections is in use
+	 */
+	private Neo4jTransaction getAuxiliaryTransaction(Map<String, Object> additionalTransactionMetadata,
+			boolean implicit) throws SQLException {
+		AuxiliaryConnection auxiliaryConnection = null;
+		for (var iterator = this.auxiliaryConnections.iterator(); iterator.hasNext();) {
+			var candidate = iterator.next();
+			if (candidate.transaction != null && candidate.transaction.isOpen()) {
+				continue;
+			}
+			if (this.misroutedConnections.remove(candidate.boltConnection)) {
+				iterator.remove();
+				closeMisroutedConnection(candidate.boltConnection);
+			}
+			else if (this.router == null || candidate.accessMode == getAccessMode()) {
+				auxiliaryConnection = candidate;
+				break;
+			}
+		}
+		if (auxiliaryConnection == null) {
+			if (this.auxiliaryConnections.size() >= this.maxAuxiliaryConnections) {
+				throw new Neo4jException(withReason(("Cannot open more than %d additional auto-commit results, "
+						+ "close a result set or increase %s")
+					.formatted(this.maxAuxiliaryConnections, Neo4jDriver.PROPERTY_MAX_AUXILIARY_CONNECTIONS)));
+			}
+			LOGGER.log(Level.FINE, "Opening an auxiliary connection for a concurrent auto-commit transaction");
+			auxiliaryConnection = new AuxiliaryConnection(openBoltConnection(), getAccessMode());
+			this.auxiliaryConnections.add(auxiliaryConnection);
+		}
+
+		var combinedTransactionMetadata = getCombinedTransactionMetadata(additionalTransactionMetadata);
+		var resetNeeded = auxiliaryConnection.resetNeeded;
+		auxiliaryConnection.transaction = new DefaultTransactionImpl(auxiliaryConnection.boltConnection,
+				this.bookmarkManager, combinedTransactionMetadata, this.fatalExceptionHandler,
+				resetNeeded.getAndSet(false), true, getAccessMode(), null, this.databaseName,
+				state -> resetNeeded.compareAndSet(false, EnumSet.of(State.FAILED, State.OPEN_FAILED).contains(state)),
+				this.authenticationManager.getOrRefresh(), implicit);
+		return auxiliaryConnection.transaction;
+	}
+
 	/**
 	 * Creates a new transaction that is not yet attached to this connection and might
 	 * never will.
 	 * @param additionalTransactionMetadata any additional metadata that should be
 	 * attached to the transaction
 	 * @return a transaction
-	 * @throws SQLException if {@link #getApp()} fails to retrieve client info
+	 * @throws SQLException if {@link #getApp()} fails to retrieve client info or pending
+	 * explains don't complete in time
 	 */
 	Neo4jTransaction newMetadataTransaction(Map<String, Object> additionalTransactionMetadata) throws SQLException {
+		awaitPendingExplains();
+		return newMetadataTransaction0(additionalTransactionMetadata, this.autoCommit);
+	}
+
+	private void awaitPendingExplains() throws SQLException {
+		var timeout = (this.networkTimeout > 0) ? this.networkTimeout : PENDING_EXPLAINS_TIMEOUT.toMillis();
+		try {
+			this.pendingExplains.get().get(timeout, TimeUnit.MILLISECONDS);
+		}
+		catch (CancellationException ignored) {
+			// Only happens when this connection is closed
+		}
+		catch (TimeoutException ex) {
+			throw new SQLTimeoutException("Pending explains did not complete within %d ms".formatted(timeout), ex);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new Neo4jException(withInternal(ex, "The thread has been interrupted."));
+		}
+		catch (ExecutionException ex) {
+			// Not expected, failures of explains are handled when they are chained
+			throw new Neo4jException(withInternal(ex));
+		}
+	}
+
+	private Neo4jTransaction newMetadataTransaction0(Map<String, Object> additionalTransactionMetadata,
+			boolean autoCommit) throws SQLException {
 		var combinedTransactionMetadata = getCombinedTransactionMetadata(additionalTransactionMetadata);
 		return new DefaultTransactionImpl(this.boltConnectionForMetaData.resolve(), this.bookmarkManager,
-				combinedTransactionMetadata, this::handleFatalException, false, this.autoCommit, getAccessMode(), null,
+				combinedTransactionMetadata, this.fatalExceptionHandler, false, autoCommit, getAccessMode(), null,
 				this.databaseName, state -> {
-				}, this.authenticationManager.getOrRefresh());
+				}, this.authenticationManager.getOrRefresh(), this.implicitTransactions);
+	}
+
+	/**
+	 * Sends {@code EXPLAIN} for the given Cypher statement in an auto-commit transaction
+	 * on the metadata connection without waiting for the response, so that the server
+	 * plans and caches the statement before it is executed. Explains that have not been
+	 * sent when this connection is closed are cancelled.
+	 * @param cypher the statement to explain
+	 * @return a stage completing with the names of the columns the statement will return
+	 */
+	CompletionStage<List<String>> explain(String cypher) {
+		var next = new CompletableFuture<Void>();
+		var keys = this.pendingExplains.getAndSet(next).thenCompose(ignored -> {
+			Neo4jTransaction transaction;
+			try {
+				transaction = newMetadataTransaction0(Map.of(), true);
+			}
+			catch (SQLException ex) {
+				return CompletableFuture.failedStage(ex);
+			}
+			return transaction.runAndPullAsync("EXPLAIN " + cypher, Map.of(), -1, 0)
+				.thenCompose(responses -> transaction.commitAsync().thenApply(v -> responses.runResponse().keys()));
+		});
+		this.explainsInFlight.add(keys);
+		keys.whenComplete((ignored, failure) -> {
+			this.explainsInFlight.remove(keys);
+			if (failure != null) {
+				LOGGER.log(Level.FINE, failure, () -> "Could not explain `%s`".formatted(cypher));
+			}
+			next.complete(null);
+		});
+		return keys;
 	}
 
 	private Map<String, Object> getCombinedTransactionMetadata(Map<String, Object> additionalTransactionMetadata)
@@ -941,12 +1388,84 @@ final class ConnectionImpl implements Neo4jConnection {
 	@Override
 	public void flushTranslationCache() {
 		LOGGER.log(Level.FINER, () -> "Flushing translation cache");
-		synchronized (this) {
+		this.translationLock.lock();
+		try {
 			this.l2cache.flush();
 			this.translators.resolve().forEach(Translator::flushCache);
+			if (this.translationStore != null) {
+				this.translationStore.flush();
+			}
+		}
+		finally {
+			this.translationLock.unlock();
+		}
+		if (this.preparedStatementCache != null) {
+			this.preparedStatementCache.flush();
 		}
 	}
 
+	@Override
+	public BulkLoad.Result bulkLoad(BulkLoad bulkLoad, Iterator<? extends Map<String, ?>> rows) throws SQLException {
+		LOGGER.log(Level.FINER, () -> "Bulk loading rows");
+		assertIsOpen();
+		Objects.requireNonNull(bulkLoad);
+		Objects.requireNonNull(rows);
+		// Several queries are pipelined in the transaction, which is not possible with
+		// implicit transactions
+		var transaction = getTransaction(Map.of(), false);
+		BulkLoad.Result result;
+		try {
+			result = BulkLoader.load(transaction, bulkLoad, rows);
+		}
+		catch (SQLException | RuntimeException ex) {
+			// Chunks that have already been loaded must not be committed together with
+			// the next statement of the auto-commit transaction
+			if (transaction.isAutoCommit() && transaction.isRunnable()) {
+				try {
+					transaction.rollback();
+				}
+				catch (SQLException rollbackException) {
+					ex.addSuppressed(rollbackException);
+				}
+			}
+			throw ex;
+		}
+		if (transaction.isAutoCommit()) {
+			transaction.commit();
+		}
+		return result;
+	}
+
+	@Override
+	public BulkLoad.Result bulkLoad(BulkLoad bulkLoad, Reader csv) throws SQLException {
+		try {
+			return bulkLoad(bulkLoad, new CsvRows(Objects.requireNonNull(csv)));
+		}
+		catch (UncheckedSQLException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	@Override
+	public BulkLoad.Result bulkLoad(BulkLoad bulkLoad, InputStream csv) throws SQLException {
+		return bulkLoad(bulkLoad, new InputStreamReader(Objects.requireNonNull(csv), StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public void setAsyncExecutor(Executor executor) {
+		this.asyncExecutor = Objects.requireNonNull(executor);
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		return this.asyncExecutor;
+	}
+
+	@Override
+	public Optional<PreparedStatementCacheStatistics> getPreparedStatementCacheStatistics() {
+		return Optional.ofNullable(this.preparedStatementCache).map(PreparedStatementCache::getStatistics);
+	}
+
 	@Override
 	public String getDatabaseName() {
 		LOGGER.log(Level.FINER, () -> "Getting database name");
@@ -971,9 +1490,9 @@ final class ConnectionImpl implements Neo4jConnection {
 				}
 			});
 
-			Class<? extends Statement> type = statement.getType();
-			var statementCreatedEvent = new StatementCreatedEvent(this.databaseUrl, type, statement);
-			Events.notify(this.listeners, listener -> listener.onStatementCreated(statementCreatedEvent));
+			Events.notify(this.listeners,
+					() -> new StatementCreatedEvent(this.databaseUrl, statement.getType(), statement),
+					ConnectionListener::onStatementCreated);
 		}
 
 		return statement;
@@ -987,7 +1506,18 @@ final class ConnectionImpl implements Neo4jConnection {
 		}
 	}
 
+	private void handleRoutingFailure(BoltConnection misroutedConnection) {
+		if (this.router != null) {
+			this.router.invalidate();
+			this.misroutedConnections.add(misroutedConnection);
+		}
+	}
+
 	private void handleFatalException(SQLException fatalSqlException, SQLException sqlException) {
+		if (this.router != null) {
+			// The server might have left the cluster or lost its role
+			this.router.invalidate();
+		}
 		var cause = sqlException.getCause();
 		if (cause instanceof BoltConnectionReadTimeoutException) {
 			for (var reference : this.trackedStatementReferences) {
@@ -1101,14 +1631,49 @@ final class ConnectionImpl implements Neo4jConnection {
 
 		private final Consumer<SQLWarning> warningSink;
 
+		private final TranslationStore.Scope store;
+
 		TranslatorChain(List<Translator> translators, DatabaseMetaData metaData, Consumer<SQLWarning> warningSink) {
+			this(translators, metaData, warningSink, null);
+		}
+
+		TranslatorChain(List<Translator> translators, DatabaseMetaData metaData, Consumer<SQLWarning> warningSink,
+				TranslationStore.Scope store) {
 			this.translators = translators;
 			this.metaData = metaData;
 			this.warningSink = warningSink;
+			this.store = store;
 		}
 
 		@Override
 		public String apply(String statement) {
+			return apply(statement, null);
+		}
+
+		/**
+		 * {@return true if any translator of this chain replaces literals with
+		 * parameters}
+		 */
+		boolean replacesLiterals() {
+			return this.translators.stream().anyMatch(Translator::replacesLiterals);
+		}
+
+		/**
+		 * Passes the statement through the chain, allowing translators to replace
+		 * literals with parameters if {@code literalParameters} is not {@literal null}.
+		 * Translations found in the store of this chain are returned as is, successful
+		 * translations without replaced literals are added to it.
+		 * @param statement the statement to translate
+		 * @param literalParameters receives the values of replaced literals, might be
+		 * {@literal null}
+		 * @return the translated statement
+		 */
+		String apply(String statement, Map<String, Object> literalParameters) {
+
+			var storedTranslation = (this.store != null) ? this.store.get(statement) : null;
+			if (storedTranslation != null) {
+				return storedTranslation;
+			}
 
 			Throwable lastException = null;
 			String result = null;
@@ -1122,7 +1687,8 @@ final class ConnectionImpl implements Neo4jConnection {
 					break;
 				}
 				try {
-					result = translator.translate(in, this.metaData);
+					result = (literalParameters != null) ? translator.translate(in, this.metaData, literalParameters)
+							: translator.translate(in, this.metaData);
 					// Don't overwrite previous results if the intermediate is null
 					if (result != null) {
 						in = result;
@@ -1149,9 +1715,63 @@ final class ConnectionImpl implements Neo4jConnection {
 						lastException);
 			}
 
+			if (this.store != null && (literalParameters == null || literalParameters.isEmpty())) {
+				this.store.put(statement, result);
+			}
 			return result;
 		}
 
+		/**
+		 * Passes the statement through the chain like {@link #apply(String)}, but gives
+		 * each translator the chance to translate it into a statement for a whole batch
+		 * first. The first batch translation is final.
+		 * @param statement the statement to translate
+		 * @return a statement for a whole batch or an empty optional
+		 */
+		Optional<String> applyBatch(String statement) {
+
+			String in = statement;
+			for (var translator : this.translators) {
+				if (forceCypher(in)) {
+					break;
+				}
+				try {
+					var batch = translator.translateBatch(in, this.metaData);
+					if (batch.isPresent()) {
+						return batch;
+					}
+					var result = translator.translate(in, this.metaData);
+					if (result != null) {
+						in = result;
+					}
+				}
+				catch (IllegalArgumentException ex) {
+					// The regular translation will report the failure if no batch can be
+					// created
+					LOGGER.log(Level.FINE, ex, () -> "Translator %s failed to translate batch `%s`"
+						.formatted(translator.getClass().getName(), statement));
+				}
+			}
+			return Optional.empty();
+		}
+
+	}
+
+	private static final class AuxiliaryConnection {
+
+		private final BoltConnection boltConnection;
+
+		private final AccessMode accessMode;
+
+		private final AtomicBoolean resetNeeded = new AtomicBoolean(false);
+
+		private Neo4jTransaction transaction;
+
+		AuxiliaryConnection(BoltConnection boltConnection, AccessMode accessMode) {
+			this.boltConnection = boltConnection;
+			this.accessMode = accessMode;
+		}
+
 	}
 
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+/**
+ * Optional features of a {@link ConnectionImpl connection}, most of them shared by all
+ * connections of a driver with the same configuration.
+ *
+ * @param router optional router for client side routing
+ * @param implicitTransactions whether auto-commit statements use implicit Bolt
+ * transactions
+ * @param preparedStatementCache optional cache for prepared and callable statements
+ * @param explainOnPrepare whether prepared statements are explained when being prepared
+ * @param schemaCatalog optional catalog of tables and columns
+ * @param translationStore optional store for successful translations
+ * @param keysetPagination optional support for rewriting {@code LIMIT}/{@code OFFSET}
+ * queries
+ * @param maxAuxiliaryConnections the maximum number of additional connections for
+ * concurrently open auto-commit results
+ * @author Neo4j Drivers Team
+ */
+record ConnectionOptions(Router router, boolean implicitTransactions, PreparedStatementCache preparedStatementCache,
+		boolean explainOnPrepare, SchemaCatalog schemaCatalog, TranslationStore.Scope translationStore,
+		KeysetPagination keysetPagination, int maxAuxiliaryConnections) {
+
+	/**
+	 * All optional features disabled.
+	 */
+	static final ConnectionOptions DEFAULTS = new ConnectionOptions(null, false, null, false, null, null, null,
+			ConnectionImpl.DEFAULT_MAX_AUXILIARY_CONNECTIONS);
+
+	ConnectionOptions withPreparedStatementCache(PreparedStatementCache newPreparedStatementCache) {
+		return new ConnectionOptions(this.router, this.implicitTransactions, newPreparedStatementCache,
+				this.explainOnPrepare, this.schemaCatalog, this.translationStore, this.keysetPagination,
+				this.maxAuxiliaryConnections);
+	}
+
+	ConnectionOptions withMaxAuxiliaryConnections(int newMaxAuxiliaryConnections) {
+		return new ConnectionOptions(this.router, this.implicitTransactions, this.preparedStatementCache,
+				this.explainOnPrepare, this.schemaCatalog, this.translationStore, this.keysetPagination,
+				newMaxAuxiliaryConnections);
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.neo4j.jdbc.Neo4jException.GQLError;
+
+/**
+ * Reads rows from comma separated values as specified in
+ * <a href="https://www.rfc-editor.org/rfc/rfc4180">RFC 4180</a>, one row at a time. The
+ * first record is the header and provides the column names. Fields may be enclosed in
+ * double quotes and may then contain commas, line breaks and escaped double quotes. All
+ * values are strings, empty fields that are not quoted are {@literal null}.
+ *
+ * @author Neo4j Drivers Team
+ */
+final class CsvRows implements Iterator<Map<String, Object>> {
+
+	private final BufferedReader reader;
+
+	private final List<String> header;
+
+	private List<String> next;
+
+	private long lineNumber;
+
+	CsvRows(Reader reader) {
+		this.reader = (reader instanceof BufferedReader bufferedReader) ? bufferedReader : new BufferedReader(reader);
+		var firstRecord = readRecord();
+		this.header = (firstRecord != null) ? List.copyOf(firstRecord) : List.of();
+		this.next = readRecord();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return this.next != null;
+	}
+
+	@Override
+	public Map<String, Object> next() {
+		if (this.next == null) {
+			throw new NoSuchElementException();
+		}
+		var fields = this.next;
+		if (fields.size() != this.header.size()) {
+			throw new UncheckedSQLException(new Neo4jException(GQLError.$22N11.withTemplatedMessage(
+					"record %d with %d instead of %d fields".formatted(this.lineNumber, fields.size(),
+							this.header.size()))));
+		}
+		var row = new LinkedHashMap<String, Object>(this.header.size());
+		for (int i = 0; i < fields.size(); ++i) {
+			row.put(this.header.get(i), fields.get(i));
+		}
+		this.next = readRecord();
+		return row;
+	}
+
+	private List<String> readRecord() {
+		try {
+			return readRecord0();
+		}
+		catch (IOException ex) {
+			throw new UncheckedSQLException(new Neo4jException(Neo4jException.withCause(ex)));
+		}
+	}
+
+	private List<String> readRecord0() throws IOException {
+		int c = this.reader.read();
+		if (c == -1) {
+			return null;
+		}
+		++this.lineNumber;
+		var fields = new ArrayList<String>();
+		var field = new StringBuilder();
+		var quoted = false;
+		var inQuotes = false;
+		while (true) {
+			if (inQuotes) {
+				if (c == -1) {
+					throw new IOException("Unterminated quoted field in record " + this.lineNumber);
+				}
+				if (c == '"') {
+					this.reader.mark(1);
+					var following = this.reader.read();
+					if (following == '"') {
+						field.append('"');
+					}
+					else {
+						inQuotes = false;
+						this.reader.reset();
+					}
+				}
+				else {
+					field.append((char) c);
+				}
+			}
+			else if (c == '"' && field.isEmpty() && !quoted) {
+				inQuotes = true;
+				quoted = true;
+			}
+			else if (c == ',' || c == '\n' || c == '\r' || c == -1) {
+				fields.add((field.isEmpty() && !quoted) ? null : field.toString());
+				field.setLength(0);
+				quoted = false;
+				if (c != ',') {
+					if (c == '\r') {
+						this.reader.mark(1);
+						if (this.reader.read() != '\n') {
+							this.reader.reset();
+						}
+					}
+					return fields;
+				}
+			}
+			else {
+				field.append((char) c);
+			}
+			c = this.reader.read();
+		}
+	}
+
+}
@@ -39,15 +39,16 @@ interface Cursor {
 	 * @param remainingRowAllowance maximum number of rows toe be retrieved
 	 * @param fetchSize the fetch size to be used
 	 * @param currentBatchResponse the initial response
-	 * @param onNextBatch a callback that should be invoked when another batch is pulled
+	 * @param observer callbacks that should be invoked around pulling another batch and
+	 * committing the transaction
 	 * @return a new cursor
 	 */
 	static Cursor of(Neo4jTransaction transaction, Neo4jTransaction.RunResponse runResponse, int remainingRowAllowance,
-			int fetchSize, Neo4jTransaction.PullResponse currentBatchResponse, Runnable onNextBatch) {
+			int fetchSize, Neo4jTransaction.PullResponse currentBatchResponse, Observer observer) {
 		var records = currentBatchResponse.records();
 		var currentBatch = records.iterator();
 		return new BoltCursor(records.isEmpty() ? null : records.get(0), transaction, runResponse,
-				remainingRowAllowance, fetchSize, currentBatchResponse, currentBatch, onNextBatch);
+				remainingRowAllowance, fetchSize, currentBatchResponse, currentBatch, observer);
 	}
 
 	/**
@@ -98,10 +99,49 @@ interface Cursor {
 	 */
 	int getFetchSize();
 
+	/**
+	 * {@return true if closing this cursor commits an auto-commit transaction}
+	 */
+	default boolean hasPendingCommit() {
+		return false;
+	}
+
 	/**
 	 * Closes this cursor and cleans up all resources associated with it.
 	 */
 	default void close() throws SQLException {
 	}
 
+	/**
+	 * Callbacks for the round trips a cursor makes to the server.
+	 */
+	interface Observer {
+
+		/**
+		 * Called before another batch of records is pulled.
+		 */
+		default void beforeNextBatch() {
+		}
+
+		/**
+		 * Called after another batch of records has been pulled or pulling failed.
+		 * @param response the response, {@literal null} when pulling failed
+		 */
+		default void afterNextBatch(Neo4jTransaction.PullResponse response) {
+		}
+
+		/**
+		 * Called before the cursor commits an auto-commit transaction.
+		 */
+		default void beforeCommit() {
+		}
+
+		/**
+		 * Called after the commit of an auto-commit transaction succeeded or failed.
+		 */
+		default void afterCommit() {
+		}
+
+	}
+
 }
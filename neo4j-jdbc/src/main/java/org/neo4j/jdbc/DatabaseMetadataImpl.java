@@ -49,9 +49,11 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.neo4j.cypherdsl.support.schema_name.SchemaNames;
 import org.neo4j.jdbc.Neo4jTransaction.PullResponse;
 import org.neo4j.jdbc.Neo4jTransaction.ResultSummary;
 import org.neo4j.jdbc.Neo4jTransaction.RunResponse;
@@ -225,6 +227,15 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 
 	private static final String TABLE_TYPE_RELATIONSHIP = "RELATIONSHIP";
 
+	/**
+	 * Number of values sampled per requested partition when computing split points.
+	 */
+	private static final int SAMPLE_SIZE_PER_PARTITION = 1_000;
+
+	private static final int MIN_SAMPLE_SIZE = 10_000;
+
+	private static final Pattern SIMPLE_SQL_IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
 	static {
 		QUERIES = new Properties();
 		try {
@@ -271,13 +282,21 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 
 	private final Lazy<Boolean> readOnly;
 
-	private final Map<GetTablesCacheKey, GetTablesCacheValue> tablesCache = new ConcurrentHashMap<>();
+	private final Map<GetTablesCacheKey, CachedResultSet> tablesCache = new ConcurrentHashMap<>();
 
 	private final Map<String, View> views;
 
+	private final SchemaCatalog schemaCatalog;
+
 	DatabaseMetadataImpl(Connection connection, boolean automaticSqlTranslation, int relationshipSampleSize,
 			Collection<View> views) {
+		this(connection, automaticSqlTranslation, relationshipSampleSize, views, null);
+	}
+
+	DatabaseMetadataImpl(Connection connection, boolean automaticSqlTranslation, int relationshipSampleSize,
+			Collection<View> views, SchemaCatalog schemaCatalog) {
 		this.connection = connection;
+		this.schemaCatalog = schemaCatalog;
 		this.automaticSqlTranslation = automaticSqlTranslation;
 		this.relationshipSampleSize = relationshipSampleSize;
 
@@ -1052,7 +1071,9 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 
 		try {
 			var key = new GetTablesCacheKey(catalog, schemaPattern, tableNamePattern, types);
-			var result = this.tablesCache.computeIfAbsent(key, this::getTables0);
+			var result = (this.schemaCatalog != null)
+					? this.schemaCatalog.get(key, CachedResultSet.class, this, metaData -> metaData.getTables0(key))
+					: this.tablesCache.computeIfAbsent(key, this::getTables0);
 			// We cannot cache the result set, as any proper usage would close it for
 			// good, and it's much harder to dig down into the implementation and prevent
 			// closing it on a case base case basis than just recreating it
@@ -1199,7 +1220,7 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 		return List.copyOf(result);
 	}
 
-	private GetTablesCacheValue getTables0(GetTablesCacheKey key) {
+	private CachedResultSet getTables0(GetTablesCacheKey key) {
 
 		var tableNamePattern = sanitizeNamePattern(key.tableNamePattern);
 		var types = key.types();
@@ -1212,7 +1233,7 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 						&& (types == null || Arrays.stream(types).anyMatch(type -> type.equals(table.TABLE_TYPE))))
 				.toList();
 			try {
-				return GetTablesCacheValue.of(selected);
+				return CachedResultSet.of(selected);
 			}
 			catch (SQLException ex) {
 				throw new UncheckedSQLException(ex);
@@ -1223,7 +1244,7 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 				"sampleSize", this.relationshipSampleSize, "types", types, "views", this.views.keySet());
 
 		try (var resultSet = doQueryForResultSet(request)) {
-			return GetTablesCacheValue.of(resultSet);
+			return CachedResultSet.of(resultSet);
 		}
 		catch (SQLException ex) {
 			throw new UncheckedSQLException(ex);
@@ -1277,9 +1298,6 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 						column.type())));
 	}
 
-	// Yep, this is complex; S3047 is about looping the records twice
-	// which is needed, however.
-	@SuppressWarnings({ "squid:S3776", "squid:S3047" })
 	@Override
 	public ResultSet getColumns(String catalog, String schemaPattern, String tableNamePattern, String columnNamePattern)
 			throws SQLException {
@@ -1287,6 +1305,26 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 		assertCatalogIsNullOrEmpty(catalog);
 		assertSchemaIsPublicOrNull(schemaPattern);
 
+		CachedResultSet result;
+		if (this.schemaCatalog != null) {
+			// Catalog and schema patterns have been asserted to be irrelevant
+			var key = new GetColumnsCacheKey(tableNamePattern, columnNamePattern);
+			result = this.schemaCatalog.get(key, CachedResultSet.class, this,
+					metaData -> metaData.getColumns0(catalog, schemaPattern, key.tableNamePattern(),
+							key.columnNamePattern()));
+		}
+		else {
+			result = getColumns0(catalog, schemaPattern, tableNamePattern, columnNamePattern);
+		}
+		return new LocalStatementImpl(this.connection, result.runResponse(), result.pullResponse()).getResultSet();
+	}
+
+	// Yep, this is complex; S3047 is about looping the records twice
+	// which is needed, however.
+	@SuppressWarnings({ "squid:S3776", "squid:S3047" })
+	private CachedResultSet getColumns0(String catalog, String schemaPattern, String tableNamePattern,
+			String columnNamePattern) throws SQLException {
+
 		tableNamePattern = sanitizeNamePattern(tableNamePattern);
 		columnNamePattern = sanitizeNamePattern(columnNamePattern);
 
@@ -1403,10 +1441,7 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 		}
 
 		var keys = getKeysForGetColumns();
-		var runResponse = createRunResponseForStaticKeys(keys);
-		var pullResponse = staticPullResponseFor(keys, rows);
-
-		return new LocalStatementImpl(this.connection, runResponse, pullResponse).getResultSet();
+		return new CachedResultSet(createRunResponseForStaticKeys(keys), staticPullResponseFor(keys, rows));
 	}
 
 	private ArrayList<Value> addColumn(Value nodeLabel, Value propertyName, Value propertyType, int NULLABLE,
@@ -1755,7 +1790,7 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 		var request = getRequest("getIndexInfo", "name", table, "unique", unique);
 		try (var rs = doQueryForResultSet(request)) {
 			while (rs.next()) {
-				intermediateResults.add(Map.of("name", rs.getString("name"), "tableName",
+				intermediateResults.add(Map.of("name", rs.getString("name"), "type", rs.getString("type"), "tableName",
 						rs.getObject("labelsOrTypes", Value.class).asList().get(0), "properties",
 						rs.getObject("properties"), "owningConstraint", rs.getObject("owningConstraint", Value.class)));
 			}
@@ -1764,6 +1799,81 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 				DatabaseMetaData.tableIndexOther));
 	}
 
+	@Override
+	public ResultSet getPartitions(String table, String column, int numberOfPartitions) throws SQLException {
+		if (numberOfPartitions < 1) {
+			throw new Neo4jException(withReason(
+					"The number of partitions must be greater than 0 (was %d)".formatted(numberOfPartitions)));
+		}
+
+		var splitPoints = new ArrayList<Value>();
+		if (numberOfPartitions > 1) {
+			var label = quote(table);
+			var property = quote(column);
+			var countRequest = getRequest("getPartitions.count");
+			var count = doQueryForPullResponse(new Request(countRequest.query.formatted(label), countRequest.args))
+				.records()
+				.get(0)
+				.get(0)
+				.asLong();
+			if (count > 0) {
+				// Sampling keeps the server from sorting all values of huge tables, the
+				// count store makes the ratio essentially free
+				var sampleSize = Math.max(MIN_SAMPLE_SIZE, (long) SAMPLE_SIZE_PER_PARTITION * numberOfPartitions);
+				var ratio = Math.min(1.0, sampleSize / (double) count);
+				var request = getRequest("getPartitions.splitPoints", "ratio", ratio, "partitions",
+						numberOfPartitions);
+				request = new Request(request.query.formatted(label, property), request.args);
+				for (var record : doQueryForPullResponse(request).records()) {
+					splitPoints.add(record.get(0));
+				}
+			}
+		}
+
+		var keys = List.of(COL_TABLE_NAME, COL_COLUMN_NAME, "PARTITION", "LOWER_BOUND", "UPPER_BOUND", "PREDICATE");
+		return new LocalStatementImpl(this.connection, createRunResponseForStaticKeys(keys),
+				staticPullResponseFor(keys, partitionsFor(table, column, splitPoints)))
+			.getResultSet();
+	}
+
+	/**
+	 * Creates the rows of {@link #getPartitions(String, String, int)} from the given
+	 * split points. There is always one partition more than split points.
+	 * @param table the name of the table
+	 * @param column the name of the column
+	 * @param splitPoints the ordered, distinct split points
+	 * @return one row per partition
+	 */
+	static List<Value[]> partitionsFor(String table, String column, List<Value> splitPoints) {
+		var identifier = SIMPLE_SQL_IDENTIFIER.matcher(column).matches() ? column
+				: "\"" + column.replace("\"", "\"\"") + "\"";
+		var rows = new ArrayList<Value[]>(splitPoints.size() + 1);
+		for (int i = 0; i <= splitPoints.size(); ++i) {
+			var lowerBound = (i > 0) ? splitPoints.get(i - 1) : Values.NULL;
+			var upperBound = (i < splitPoints.size()) ? splitPoints.get(i) : Values.NULL;
+			var lowerLiteral = SqlLiterals.of(lowerBound.asObject());
+			var upperLiteral = SqlLiterals.of(upperBound.asObject());
+			String predicate = null;
+			if (i == 0 && upperLiteral != null) {
+				predicate = "%1$s < %2$s OR %1$s IS NULL".formatted(identifier, upperLiteral);
+			}
+			else if (i > 0 && i == splitPoints.size() && lowerLiteral != null) {
+				predicate = "%s >= %s".formatted(identifier, lowerLiteral);
+			}
+			else if (lowerLiteral != null && upperLiteral != null) {
+				predicate = "%1$s >= %2$s AND %1$s < %3$s".formatted(identifier, lowerLiteral, upperLiteral);
+			}
+			rows.add(new Value[] { Values.value(table), Values.value(column), Values.value(i + 1), lowerBound,
+					upperBound, (predicate != null) ? Values.value(predicate) : Values.NULL });
+		}
+		return rows;
+	}
+
+	private static String quote(String identifier) throws SQLException {
+		return SchemaNames.sanitize(identifier, true)
+			.orElseThrow(() -> new Neo4jException(withReason("Cannot quote identifier " + identifier)));
+	}
+
 	@Override
 	public boolean supportsResultSetType(int type) {
 		return type == ResultSet.TYPE_FORWARD_ONLY;
@@ -2179,6 +2289,18 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 
 	@Override
 	public DatabaseMetaData flush() {
+		if (this.schemaCatalog != null) {
+			this.schemaCatalog.flush();
+		}
+		return flushLocal();
+	}
+
+	/**
+	 * Flushes the caches of this instance only and keeps the schema catalog, which is
+	 * shared with other connections.
+	 * @return the same instance for further usage
+	 */
+	DatabaseMetadataImpl flushLocal() {
 		this.tablesCache.clear();
 		return this;
 	}
@@ -2220,9 +2342,12 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 		}
 	}
 
-	private record GetTablesCacheValue(RunResponse runResponse, PullResponse pullResponse) {
+	private record GetColumnsCacheKey(String tableNamePattern, String columnNamePattern) {
+	}
+
+	private record CachedResultSet(RunResponse runResponse, PullResponse pullResponse) {
 
-		static GetTablesCacheValue of(Collection<VgTable> tables) throws SQLException {
+		static CachedResultSet of(Collection<VgTable> tables) throws SQLException {
 
 			var keys = new ArrayList<String>();
 			var recordComponents = VgTable.class.getRecordComponents();
@@ -2250,10 +2375,10 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 			}
 			var response = createRunResponseForStaticKeys(keys);
 			var pull = staticPullResponseFor(keys, values);
-			return new GetTablesCacheValue(response, pull);
+			return new CachedResultSet(response, pull);
 		}
 
-		static GetTablesCacheValue of(ResultSet resultSet) throws SQLException {
+		static CachedResultSet of(ResultSet resultSet) throws SQLException {
 			var keys = new ArrayList<String>();
 			var metaData = resultSet.getMetaData();
 			var columnCount = metaData.getColumnCount();
@@ -2270,7 +2395,7 @@ final class DatabaseMetadataImpl implements Neo4jDatabaseMetaData {
 			}
 			var response = createRunResponseForStaticKeys(keys);
 			var pull = staticPullResponseFor(keys, values);
-			return new GetTablesCacheValue(response, pull);
+			return new CachedResultSet(response, pull);
 		}
 	}
 
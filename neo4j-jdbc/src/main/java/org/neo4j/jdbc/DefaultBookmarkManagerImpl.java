@@ -20,10 +20,10 @@ package org.neo4j.jdbc;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -37,24 +37,21 @@ import java.util.stream.Collectors;
  */
 final class DefaultBookmarkManagerImpl implements BookmarkManager {
 
-	private final Set<String> bookmarks = new HashSet<>();
+	/**
+	 * An immutable snapshot of the current bookmarks, replaced as a whole on each update,
+	 * so that reading the bookmarks at the begin of a transaction neither locks nor
+	 * copies.
+	 */
+	private final AtomicReference<Set<String>> bookmarks = new AtomicReference<>(Set.of());
 
-	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-
-	private final Lock read = this.lock.readLock();
-
-	private final Lock write = this.lock.writeLock();
+	@Override
+	public Set<String> getBookmarks() {
+		return this.bookmarks.get();
+	}
 
 	@Override
 	public <T> Set<T> getBookmarks(Function<String, T> transformer) {
-
-		try {
-			this.read.lock();
-			return this.bookmarks.stream().map(transformer).collect(Collectors.toUnmodifiableSet());
-		}
-		finally {
-			this.read.unlock();
-		}
+		return this.bookmarks.get().stream().map(transformer).collect(Collectors.toUnmodifiableSet());
 	}
 
 	@Override
@@ -64,16 +61,19 @@ final class DefaultBookmarkManagerImpl implements BookmarkManager {
 		Objects.requireNonNull(transformer, "A function for deriving a String value from a bookmark is required");
 		Objects.requireNonNull(newBookmarks, "New bookmarks might not be null");
 
-		try {
-			this.write.lock();
-			if (usedBookmarks != null) {
-				usedBookmarks.forEach(b -> this.bookmarks.remove(transformer.apply(b)));
+		// Transform only once, the update function might be applied several times
+		var superseded = (usedBookmarks != null) ? usedBookmarks.stream().map(transformer).toList()
+				: List.<String>of();
+		var added = newBookmarks.stream().map(transformer).toList();
+		this.bookmarks.updateAndGet(current -> {
+			if (current.containsAll(added) && superseded.stream().noneMatch(current::contains)) {
+				return current;
 			}
-			newBookmarks.forEach(b -> this.bookmarks.add(transformer.apply(b)));
-		}
-		finally {
-			this.write.unlock();
-		}
+			var next = new HashSet<>(current);
+			superseded.forEach(next::remove);
+			next.addAll(added);
+			return Set.copyOf(next);
+		});
 	}
 
 }
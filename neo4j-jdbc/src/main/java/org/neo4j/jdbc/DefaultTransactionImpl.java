@@ -27,8 +27,12 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -44,6 +48,7 @@ import org.neo4j.bolt.connection.TransactionType;
 import org.neo4j.bolt.connection.exception.BoltFailureException;
 import org.neo4j.bolt.connection.message.Message;
 import org.neo4j.bolt.connection.message.Messages;
+import org.neo4j.bolt.connection.summary.CommitSummary;
 import org.neo4j.bolt.connection.summary.PullSummary;
 import org.neo4j.bolt.connection.values.Value;
 import org.neo4j.jdbc.BoltConnectionObservations.NoopObservation;
@@ -55,6 +60,21 @@ import org.neo4j.jdbc.values.Values;
 
 final class DefaultTransactionImpl implements Neo4jTransaction {
 
+	/**
+	 * Fatal exceptions of asynchronous interactions are handled on this executor instead
+	 * of the I/O thread that completed the interaction, as handling them might close the
+	 * connection and wait for that.
+	 */
+	private static final Lazy<Executor> FATAL_EXCEPTION_EXECUTOR = Lazy
+		.of(DefaultTransactionImpl::newFatalExceptionExecutor);
+
+	/**
+	 * Codes of failures caused by sending a transaction to a server that does not have the
+	 * required role (anymore), usually because the leader has changed.
+	 */
+	private static final Set<String> ROUTING_FAILURE_CODES = Set.of("Neo.ClientError.Cluster.NotALeader",
+			"Neo.ClientError.General.ForbiddenOnReadOnlyDatabase");
+
 	private final BoltConnection boltConnection;
 
 	private final FatalExceptionHandler fatalExceptionHandler;
@@ -63,6 +83,19 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 
 	private final boolean autoCommit;
 
+	/**
+	 * Flag whether this auto-commit transaction is an implicit Bolt transaction, in
+	 * which the database, bookmarks and metadata are sent with the RUN message and the
+	 * server commits once the result has been consumed.
+	 */
+	private final boolean implicit;
+
+	private final String databaseName;
+
+	private final AccessMode accessMode;
+
+	private final Map<String, Value> transactionMetadata;
+
 	private final BookmarkManager bookmarkManager;
 
 	private final Consumer<State> onFailedCallback;
@@ -79,15 +112,27 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 			Map<String, Object> transactionMetadata, FatalExceptionHandler fatalExceptionHandler, boolean resetNeeded,
 			boolean autoCommit, AccessMode accessMode, State state, String databaseName,
 			Consumer<State> onFailedCallback, Authentication currentAuthentication) {
+		this(boltConnection, bookmarkManager, transactionMetadata, fatalExceptionHandler, resetNeeded, autoCommit,
+				accessMode, state, databaseName, onFailedCallback, currentAuthentication, false);
+	}
+
+	DefaultTransactionImpl(BoltConnection boltConnection, BookmarkManager bookmarkManager,
+			Map<String, Object> transactionMetadata, FatalExceptionHandler fatalExceptionHandler, boolean resetNeeded,
+			boolean autoCommit, AccessMode accessMode, State state, String databaseName,
+			Consumer<State> onFailedCallback, Authentication currentAuthentication, boolean implicit) {
 
 		this.boltConnection = Objects.requireNonNull(boltConnection);
 		this.fatalExceptionHandler = Objects.requireNonNull(fatalExceptionHandler);
 
 		this.bookmarkManager = Objects.requireNonNullElseGet(bookmarkManager, NoopBookmarkManagerImpl::new);
 		this.onFailedCallback = onFailedCallback;
-		this.usedBookmarks = this.bookmarkManager.getBookmarks(Function.identity());
+		this.usedBookmarks = this.bookmarkManager.getBookmarks();
 
 		this.autoCommit = autoCommit;
+		this.implicit = autoCommit && implicit;
+		this.databaseName = databaseName;
+		this.accessMode = accessMode;
+		this.transactionMetadata = BoltAdapters.adaptMap(transactionMetadata);
 		this.state = Objects.requireNonNullElse(state, State.NEW);
 
 		this.beginPipelinedStage = this.boltConnection.authInfo()
@@ -105,8 +150,13 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 					messages.add(Messages.logoff());
 					messages.add(Messages.logon(Neo4jDriver.toAuthToken(currentAuthentication)));
 				}
+				if (this.implicit) {
+					// Database, bookmarks and metadata are sent with the RUN message
+					return messages.isEmpty() ? CompletableFuture.<Void>completedStage(null)
+							: this.boltConnection.write(messages);
+				}
 				messages.add(Messages.beginTransaction(databaseName, accessMode, null, this.usedBookmarks, txType, null,
-						BoltAdapters.adaptMap(transactionMetadata), NotificationConfig.defaultConfig()));
+						this.transactionMetadata, NotificationConfig.defaultConfig()));
 				return this.boltConnection.write(messages);
 			});
 
@@ -118,20 +168,66 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		assertNoException();
 		assertRunnableState();
 
+		var responses = execute(runAndPull0(query, parameters, fetchSize), timeout);
+		return onRunAndPull(responses);
+	}
+
+	@Override
+	public CompletionStage<RunAndPullResponses> runAndPullAsync(String query, Map<String, Object> parameters,
+			int fetchSize, int timeout) {
+		try {
+			assertNoException();
+			assertRunnableState();
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedStage(ex);
+		}
+
+		var responsesFuture = runAndPull0(query, parameters, fetchSize);
+		if (timeout > 0) {
+			responsesFuture = responsesFuture.orTimeout(timeout, TimeUnit.SECONDS);
+		}
+		return responsesFuture.handle((responses, error) -> {
+			if (error != null) {
+				throw new CompletionException(handleFailureAsync(error));
+			}
+			return onRunAndPull(responses);
+		});
+	}
+
+	private CompletableFuture<RunAndPullResponses> runAndPull0(String query, Map<String, Object> parameters,
+			int fetchSize) {
 		var handler = new BasicResponseHandler();
-		var responsesFuture = this.beginPipelinedStage.thenCompose(ignored -> {
-			var messages = List.of(Messages.run(query, BoltAdapters.adaptMap(parameters)),
-					Messages.pull(-1, fetchSize));
+		return this.beginPipelinedStage.thenCompose(ignored -> {
+			var messages = List.of(newRunMessage(query, parameters), Messages.pull(-1, fetchSize));
 			return this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE);
 		})
 			.thenCompose(ignored -> handler.summaries())
-			.thenApply(DefaultTransactionImpl::asRunAndPullResponses)
+			.thenApply(summaries -> {
+				onImplicitResultConsumed(summaries.pullSummary().metadata());
+				return asRunAndPullResponses(summaries);
+			})
 			.toCompletableFuture();
-		var responses = execute(responsesFuture, timeout);
+	}
+
+	@Override
+	public RunAndPullResponses runPullAndCommit(String query, Map<String, Object> parameters, int fetchSize,
+			int timeout) throws SQLException {
+		// Whether the result fits into the pull is only known from its response: a
+		// server still streaming the result would reject a COMMIT sent along with the
+		// pull, so the commit follows the response and discards the remaining records
+		var responses = runAndPull(query, parameters, fetchSize, timeout);
+		if (isRunnable()) {
+			commit();
+		}
+		return responses;
+	}
+
+	private RunAndPullResponses onRunAndPull(RunAndPullResponses responses) {
 		if (responses.pullResponse().hasMore()) {
 			this.openResults.add(responses.runResponse());
 		}
-		this.state = State.READY;
+		this.state = (this.implicit && !responses.pullResponse().hasMore()) ? State.COMMITTED : State.READY;
 		return responses;
 	}
 
@@ -144,39 +240,99 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		var handler = new BasicResponseHandler();
 		var responsesFuture = this.beginPipelinedStage.thenCompose(ignored -> {
 			var messages = new ArrayList<Message>(3);
-			messages.add(Messages.run(query, BoltAdapters.adaptMap(parameters)));
+			messages.add(newRunMessage(query, parameters));
 			messages.add(Messages.discard(-1, -1));
-			if (commit) {
+			if (commit && !this.implicit) {
 				messages.add(Messages.commit());
 			}
 			return this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE);
 		})
 			.thenCompose(ignored -> handler.summaries())
-			.thenApply(DefaultTransactionImpl::asDiscardResponse)
+			.thenApply(summaries -> {
+				onImplicitResultConsumed(summaries.discardSummary().metadata());
+				return asDiscardResponse(summaries);
+			})
 			.toCompletableFuture();
 		var response = execute(responsesFuture, timeout);
 		if (!State.COMMITTED.equals(this.state)) {
-			this.state = commit ? State.COMMITTED : State.READY;
+			this.state = (commit || this.implicit) ? State.COMMITTED : State.READY;
 		}
 		return response;
 	}
 
+	@Override
+	public CompletionStage<DiscardResponse> runAndDiscardAsync(String query, Map<String, Object> parameters) {
+		try {
+			assertNoException();
+			assertRunnableState();
+			if (this.implicit) {
+				throw new Neo4jException(
+						Neo4jException.withReason("Pipelining queries is not supported in implicit transactions"));
+			}
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedStage(ex);
+		}
+
+		// The state is changed right away, so that the next query can be pipelined
+		// without waiting for this one
+		this.state = State.READY;
+		var handler = new BasicResponseHandler();
+		var messages = List.of(newRunMessage(query, parameters), Messages.discard(-1, -1));
+		return this.beginPipelinedStage
+			.thenCompose(ignored -> this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE))
+			.thenCompose(ignored -> handler.summaries())
+			.handle((summaries, error) -> {
+				if (error != null) {
+					throw new CompletionException(handleFailureAsync(error));
+				}
+				return asDiscardResponse(summaries);
+			});
+	}
+
 	@Override
 	public PullResponse pull(RunResponse runResponse, long request) throws SQLException {
 		assertNoException();
-		if (!State.READY.equals(this.state)) {
-			throw new Neo4jException(Neo4jException.withReason(
-					String.format("The requested action is not supported in %s transaction state", this.state)));
+		assertReadyState();
+		var pullResponse = execute(pull0(runResponse, request), 0);
+		return onPull(runResponse, pullResponse);
+	}
+
+	@Override
+	public CompletionStage<PullResponse> pullAsync(RunResponse runResponse, long request) {
+		try {
+			assertNoException();
+			assertReadyState();
 		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedStage(ex);
+		}
+		return pull0(runResponse, request).handle((pullResponse, error) -> {
+			if (error != null) {
+				throw new CompletionException(handleFailureAsync(error));
+			}
+			return onPull(runResponse, pullResponse);
+		});
+	}
+
+	private CompletableFuture<PullResponse> pull0(RunResponse runResponse, long request) {
 		var handler = new BasicResponseHandler();
-		var responseFuture = this.boltConnection
+		return this.boltConnection
 			.writeAndFlush(handler, Messages.pull(runResponse.queryId(), request), NoopObservation.INSTANCE)
 			.thenCompose(ignored -> handler.summaries())
-			.thenApply(summaries -> asPullResponse(runResponse.keys(), summaries.valuesList(), summaries.pullSummary()))
+			.thenApply(summaries -> {
+				onImplicitResultConsumed(summaries.pullSummary().metadata());
+				return asPullResponse(runResponse.keys(), summaries.valuesList(), summaries.pullSummary());
+			})
 			.toCompletableFuture();
-		var pullResponse = execute(responseFuture, 0);
+	}
+
+	private PullResponse onPull(RunResponse runResponse, PullResponse pullResponse) {
 		if (!pullResponse.hasMore()) {
 			this.openResults.remove(runResponse);
+			if (this.implicit) {
+				this.state = State.COMMITTED;
+			}
 		}
 		return pullResponse;
 	}
@@ -186,26 +342,93 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		assertNoException();
 		assertRunnableState();
 
+		execute(commit0(), 0);
+		this.openResults.clear();
+	}
+
+	@Override
+	public CompletionStage<Void> commitAsync() {
+		try {
+			assertNoException();
+			assertRunnableState();
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedStage(ex);
+		}
+		return commit0().handle((ignored, error) -> {
+			if (error != null) {
+				throw new CompletionException(handleFailureAsync(error));
+			}
+			this.openResults.clear();
+			return null;
+		});
+	}
+
+	private CompletableFuture<Void> commit0() {
+		if (this.implicit) {
+			return discardImplicit();
+		}
 		var handler = new BasicResponseHandler();
 		var messages = new ArrayList<Message>(this.openResults.size() + 1);
 		appendDiscards(messages);
 		messages.add(Messages.commit());
-		var responsesFuture = this.beginPipelinedStage
+		return this.beginPipelinedStage
 			.thenCompose(ignored -> this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE))
 			.thenCompose(ignored -> handler.summaries())
 			.thenApply(BasicResponseHandler.Summaries::commitSummary)
 			.whenComplete((response, error) -> {
-				if (!(response == null || response.bookmark().orElse("").isBlank())) {
-					this.bookmarkManager.updateBookmarks(Function.identity(), this.usedBookmarks,
-							List.of(response.bookmark().orElse("")));
-				}
+				onCommit(response);
 				if (error == null) {
 					this.state = State.COMMITTED;
 				}
 			})
+			.<Void>thenApply(ignored -> null)
 			.toCompletableFuture();
-		execute(responsesFuture, 0);
-		this.openResults.clear();
+	}
+
+	/**
+	 * An implicit transaction is committed by the server as soon as its result has been
+	 * consumed, so committing means discarding whatever is left of it.
+	 * @return a stage completing when the implicit transaction has been finished
+	 */
+	private CompletableFuture<Void> discardImplicit() {
+		if (this.openResults.isEmpty()) {
+			this.state = State.COMMITTED;
+			return CompletableFuture.completedFuture(null);
+		}
+		var handler = new BasicResponseHandler();
+		var messages = new ArrayList<Message>(this.openResults.size());
+		appendDiscards(messages);
+		return this.beginPipelinedStage
+			.thenCompose(ignored -> this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE))
+			.thenCompose(ignored -> handler.summaries())
+			.thenAccept(summaries -> {
+				onImplicitResultConsumed(summaries.discardSummary().metadata());
+				this.state = State.COMMITTED;
+			})
+			.toCompletableFuture();
+	}
+
+	private void onCommit(CommitSummary response) {
+		if (response != null) {
+			updateBookmarks(response.bookmark().orElse(""));
+		}
+	}
+
+	private void onImplicitResultConsumed(Map<String, Value> metadata) {
+		if (!this.implicit || metadata == null) {
+			return;
+		}
+		var bookmark = metadata.get("bookmark");
+		if (bookmark != null && !bookmark.isNull()) {
+			updateBookmarks(Values.value(bookmark).asString());
+		}
+	}
+
+	private void updateBookmarks(String bookmark) {
+		if (!bookmark.isBlank()) {
+			this.bookmarkManager.updateBookmarks(Function.identity(), this.usedBookmarks, List.of(bookmark));
+		}
 	}
 
 	@Override
@@ -219,8 +442,19 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 
 		var handler = new BasicResponseHandler();
 		var messages = new ArrayList<Message>(this.openResults.size() + 1);
-		appendDiscards(messages);
-		messages.add(Messages.rollback());
+		if (this.implicit) {
+			// There is no explicit transaction to roll back, resetting the connection
+			// terminates a still running implicit one
+			if (this.openResults.isEmpty()) {
+				this.state = State.ROLLEDBACK;
+				return;
+			}
+			messages.add(Messages.reset());
+		}
+		else {
+			appendDiscards(messages);
+			messages.add(Messages.rollback());
+		}
 		var responsesFuture = this.beginPipelinedStage
 			.thenCompose(ignored -> this.boltConnection.writeAndFlush(handler, messages, NoopObservation.INSTANCE))
 			.thenCompose(ignored -> handler.summaries())
@@ -253,35 +487,92 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		try {
 			return (timeout > 0) ? future.get(timeout, TimeUnit.SECONDS) : future.get();
 		}
-		catch (TimeoutException ignored) {
-			fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
-			throw new SQLTimeoutException("The query timeout has been exceeded");
-		}
 		catch (InterruptedException ex) {
 			Thread.currentThread().interrupt();
 			fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
 			throw new Neo4jException(Neo4jException.withInternal(ex, "The thread has been interrupted."));
 		}
-		catch (ExecutionException ex) {
-			var cause = ex.getCause();
-			if (cause == null) {
-				cause = ex;
-			}
+		catch (TimeoutException | ExecutionException ex) {
+			throw handleFailure(ex);
+		}
+	}
 
-			var sqlException = new Neo4jException(
-					Neo4jException.withMessageAndCause("An error occurred while handling request", cause));
+	/**
+	 * Fails this transaction according to the given failure and returns the exception
+	 * that must be thrown to the caller.
+	 * @param failure the failure of one of the Bolt interactions
+	 * @return the exception to be thrown
+	 * @throws SQLException if this transaction cannot be failed
+	 */
+	private SQLException handleFailure(Throwable failure) throws SQLException {
+		return handleFailure(failure, Runnable::run);
+	}
 
-			if (cause instanceof BoltFailureException) {
-				fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
-			}
-			else {
-				fail(new Neo4jException(GQLError.$08000.withMessage("The connection is no longer valid")));
-				this.fatalExceptionHandler.handle(this.exception, sqlException);
+	/**
+	 * Fails this transaction according to the given failure and returns the exception
+	 * that must be thrown to the caller.
+	 * @param failure the failure of one of the Bolt interactions
+	 * @param fatalExceptionExecutor the executor on which a fatal exception is handled
+	 * @return the exception to be thrown
+	 * @throws SQLException if this transaction cannot be failed
+	 */
+	private SQLException handleFailure(Throwable failure, Executor fatalExceptionExecutor) throws SQLException {
+		var cause = failure;
+		if (failure instanceof ExecutionException || failure instanceof CompletionException) {
+			cause = Objects.requireNonNullElse(failure.getCause(), failure);
+		}
+
+		if (cause instanceof TimeoutException) {
+			fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
+			return new SQLTimeoutException("The query timeout has been exceeded");
+		}
+
+		var sqlException = new Neo4jException(
+				Neo4jException.withMessageAndCause("An error occurred while handling request", cause));
+
+		if (cause instanceof BoltFailureException boltFailureException) {
+			fail(new Neo4jException(GQLError.$25N02.withMessage("The transaction is no longer valid")));
+			if (ROUTING_FAILURE_CODES.contains(boltFailureException.code())) {
+				fatalExceptionExecutor
+					.execute(() -> this.fatalExceptionHandler.handleRoutingFailure(this.boltConnection));
 			}
-			throw sqlException;
+		}
+		else {
+			fail(new Neo4jException(GQLError.$08000.withMessage("The connection is no longer valid")));
+			var fatalException = this.exception;
+			fatalExceptionExecutor.execute(() -> this.fatalExceptionHandler.handle(fatalException, sqlException));
+		}
+		return sqlException;
+	}
+
+	private SQLException handleFailureAsync(Throwable failure) {
+		try {
+			return handleFailure(failure, FATAL_EXCEPTION_EXECUTOR.resolve());
+		}
+		catch (SQLException ex) {
+			return ex;
 		}
 	}
 
+	private static Executor newFatalExceptionExecutor() {
+		var executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			var thread = new Thread(runnable, "neo4j-jdbc-fatal-exception-handler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private Message newRunMessage(String query, Map<String, Object> parameters) {
+		if (this.implicit) {
+			return Messages.run(this.databaseName, this.accessMode, null, this.usedBookmarks, query,
+					BoltAdapters.adaptMap(parameters), null, this.transactionMetadata,
+					NotificationConfig.defaultConfig());
+		}
+		return Messages.run(query, BoltAdapters.adaptMap(parameters));
+	}
+
 	private void appendDiscards(List<Message> messages) {
 		for (var runResponse : this.openResults) {
 			messages.add(Messages.discard(runResponse.queryId(), -1));
@@ -294,6 +585,13 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		}
 	}
 
+	private void assertReadyState() throws SQLException {
+		if (!State.READY.equals(this.state)) {
+			throw new Neo4jException(Neo4jException.withReason(
+					String.format("The requested action is not supported in %s transaction state", this.state)));
+		}
+	}
+
 	private void assertRunnableState() throws SQLException {
 		if (!isRunnable()) {
 			throw new Neo4jException(Neo4jException.withReason(
@@ -338,6 +636,15 @@ final class DefaultTransactionImpl implements Neo4jTransaction {
 		 */
 		void handle(SQLException fatalSqlException, SQLException sqlException);
 
+		/**
+		 * Handles a failure indicating that the server of the given connection has lost
+		 * its role in the cluster, for example because it is no longer the leader. The
+		 * connection itself is still usable.
+		 * @param boltConnection the connection to the server that has lost its role
+		 */
+		default void handleRoutingFailure(BoltConnection boltConnection) {
+		}
+
 	}
 
 	private record RunResponseImpl(long queryId, List<String> keys) implements RunResponse {
@@ -21,7 +21,9 @@ package org.neo4j.jdbc;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -47,6 +49,23 @@ final class Events {
 		});
 	}
 
+	/**
+	 * Notifies all listeners with the same event. The event is only created when there
+	 * are any listeners at all.
+	 * @param listeners the listeners to notify
+	 * @param event supplies the event to pass to each listener
+	 * @param callback the callback to invoke with each listener and the event
+	 * @param <T> the type of the listeners
+	 * @param <E> the type of the event
+	 */
+	static <T, E> void notify(Collection<T> listeners, Supplier<E> event, BiConsumer<T, E> callback) {
+		if (listeners.isEmpty()) {
+			return;
+		}
+		var value = event.get();
+		notify(listeners, listener -> callback.accept(listener, value));
+	}
+
 	/**
 	 * Strips parameters away from the URL.
 	 * @param jdbcUrl the URL to clean
@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.neo4j.jdbc.values.Record;
+
+/**
+ * Turns SQL queries paging through a table with {@code ORDER BY key LIMIT n OFFSET m}
+ * into keyset-paginated queries. The last sort key of each page is remembered, and when
+ * the page directly following it is requested, the offset is replaced with a condition
+ * on the sort key, which the server can answer with an index seek instead of skipping
+ * all previous rows.
+ * <p>
+ * Sort keys don't need to be unique: the condition includes the last value and the
+ * number of rows of the previous pages with that value are skipped. Only SELECT
+ * statements on a single table without grouping, {@code DISTINCT} or set operations,
+ * ordered by a single column that is unambiguously part of the result, are paginated
+ * that way. Rows with a {@literal null} sort key are excluded once the offset has been
+ * replaced.
+ *
+ * @author Neo4j Drivers Team
+ */
+final class KeysetPagination {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.keyset-pagination");
+
+	private static final int MAX_QUERIES = 256;
+
+	private static final Set<String> UNSUPPORTED_KEYWORDS = Set.of("GROUP", "HAVING", "DISTINCT", "UNION",
+			"INTERSECT", "EXCEPT", "FETCH", "TOP", "NULLS", "JOIN");
+
+	private final Map<String, Position> positions = new LinkedHashMap<>(16, 0.75f, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Position> eldest) {
+			return size() > MAX_QUERIES;
+		}
+
+	};
+
+	/**
+	 * Plans the execution of the given statement.
+	 * @param sql the statement to execute
+	 * @return the page to execute, or {@literal null} if the statement is not a page
+	 * of a query that can be paginated by its sort key
+	 */
+	Page plan(String sql) {
+		var query = PagedQuery.of(sql);
+		if (query == null) {
+			return null;
+		}
+		if (query.offset() == 0) {
+			return new Page(sql, query, null, 0);
+		}
+		Position position;
+		synchronized (this.positions) {
+			position = this.positions.get(query.key());
+		}
+		if (position == null || position.nextOffset() != query.offset()) {
+			return null;
+		}
+		var rewrittenSql = query.seek(SqlLiterals.of(position.lastValue()), position.ties());
+		LOGGER.log(Level.FINE, () -> "Seeking page at offset %d by its sort key".formatted(query.offset()));
+		return new Page(rewrittenSql, query, position.lastValue(), position.ties());
+	}
+
+	private void update(PagedQuery query, Position position) {
+		synchronized (this.positions) {
+			if (position == null) {
+				this.positions.remove(query.key());
+			}
+			else {
+				this.positions.put(query.key(), position);
+			}
+		}
+	}
+
+	/**
+	 * The last sort key of a query and the number of rows returned so far with that key.
+	 *
+	 * @param nextOffset the offset of the page following the last one
+	 * @param lastValue the last sort key
+	 * @param ties the number of rows returned with the last sort key
+	 */
+	private record Position(long nextOffset, Object lastValue, long ties) {
+	}
+
+	/**
+	 * A page being executed, observing the rows of its result to remember the position
+	 * of the next page.
+	 */
+	final class Page {
+
+		private final String sql;
+
+		private final PagedQuery query;
+
+		private Object lastValue;
+
+		private long ties;
+
+		private long rows;
+
+		private int column = -1;
+
+		private boolean completed;
+
+		Page(String sql, PagedQuery query, Object lastValue, long ties) {
+			this.sql = sql;
+			this.query = query;
+			this.lastValue = lastValue;
+			this.ties = ties;
+		}
+
+		/**
+		 * {@return the statement to execute for this page}
+		 */
+		String sql() {
+			return this.sql;
+		}
+
+		/**
+		 * Looks up the sort key in the columns of the result. The position is not
+		 * remembered when the sort key is ambiguous.
+		 * @param columns the columns of the result
+		 */
+		void start(List<String> columns) {
+			var name = columns.contains(this.query.sortKey()) ? this.query.sortKey() : this.query.sortColumn();
+			var index = columns.indexOf(name);
+			this.column = (index == columns.lastIndexOf(name)) ? index : -1;
+		}
+
+		void onRow(Record record) {
+			++this.rows;
+			if (this.column < 0) {
+				return;
+			}
+			var value = record.get(this.column).asObject();
+			if (value != null && value.equals(this.lastValue)) {
+				++this.ties;
+			}
+			else {
+				this.lastValue = value;
+				this.ties = 1;
+			}
+		}
+
+		/**
+		 * Remembers the position after the rows that have been read, or forgets the
+		 * position of the query if it cannot be used for the next page.
+		 */
+		void complete() {
+			if (this.completed) {
+				return;
+			}
+			this.completed = true;
+			var usable = this.column >= 0 && this.rows > 0 && SqlLiterals.of(this.lastValue) != null;
+			update(this.query,
+					usable ? new Position(this.query.offset() + this.rows, this.lastValue, this.ties) : null);
+		}
+
+	}
+
+	/**
+	 * A SQL query of a single page.
+	 *
+	 * @param sql the original statement
+	 * @param key the statement without {@code LIMIT} and {@code OFFSET}, identifying all
+	 * pages of the same query
+	 * @param sortKey the sort key as written, without quotes
+	 * @param sortColumn the column part of the sort key
+	 * @param sortExpression the sort key as it appears in the statement
+	 * @param descending whether the sort order is descending
+	 * @param offset the requested offset
+	 * @param where the {@code WHERE} keyword, might be {@literal null}
+	 * @param orderBy the {@code ORDER} keyword
+	 * @param offsetValue the value of the offset
+	 */
+	record PagedQuery(String sql, String key, String sortKey, String sortColumn, String sortExpression,
+			boolean descending, long offset, Token where, Token orderBy, Token offsetValue) {
+
+		static PagedQuery of(String sql) {
+			var tokens = Token.tokenize(sql);
+			if (tokens == null || tokens.size() < 8 || !tokens.get(0).isKeyword("SELECT")) {
+				return null;
+			}
+			var last = tokens.size() - 1;
+			if (";".equals(tokens.get(last).text())) {
+				--last;
+			}
+			// LIMIT <n> OFFSET <m>
+			if (last < 7 || !tokens.get(last).isNumber() || !tokens.get(last - 1).isKeyword("OFFSET")
+					|| !tokens.get(last - 2).isNumber() || !tokens.get(last - 3).isKeyword("LIMIT")) {
+				return null;
+			}
+			var limit = tokens.get(last - 3);
+			var keyEnd = last - 4;
+			var descending = tokens.get(keyEnd).isKeyword("DESC");
+			if (descending || tokens.get(keyEnd).isKeyword("ASC")) {
+				--keyEnd;
+			}
+			var keyStart = (keyEnd >= 2 && ".".equals(tokens.get(keyEnd - 1).text())) ? keyEnd - 2 : keyEnd;
+			if (keyStart < 2 || !tokens.get(keyStart - 1).isKeyword("BY")
+					|| !tokens.get(keyStart - 2).isKeyword("ORDER") || !tokens.get(keyStart).isIdentifier()
+					|| !tokens.get(keyEnd).isIdentifier()) {
+				return null;
+			}
+
+			Token where = null;
+			var selectList = true;
+			var fromList = false;
+			var sortColumn = tokens.get(keyEnd).name();
+			for (var i = 1; i < keyStart - 2; ++i) {
+				var token = tokens.get(i);
+				if (token.isKeyword("SELECT") || UNSUPPORTED_KEYWORDS.contains(token.keyword())
+						|| (token.isKeyword("WHERE") && where != null)) {
+					return null;
+				}
+				else if (token.isKeyword("WHERE")) {
+					where = token;
+					fromList = false;
+				}
+				else if (token.isKeyword("FROM")) {
+					selectList = false;
+					fromList = true;
+				}
+				else if (fromList && ",".equals(token.text())) {
+					// Rows of several tables might have the same sort key
+					return null;
+				}
+				else if (selectList && token.isIdentifier() && token.name().equalsIgnoreCase(sortColumn)
+						&& isAlias(tokens.get(i - 1))) {
+					// The sort key refers to an alias of the select list
+					return null;
+				}
+			}
+			var offset = Long.parseLong(tokens.get(last).text());
+			var sortKey = (keyStart == keyEnd) ? sortColumn : tokens.get(keyStart).name() + "." + sortColumn;
+			var sortExpression = sql.substring(tokens.get(keyStart).start(), tokens.get(keyEnd).end());
+			return new PagedQuery(sql, sql.substring(0, limit.start()).strip(), sortKey, sortColumn, sortExpression,
+					descending, offset, where, tokens.get(keyStart - 2), tokens.get(last));
+		}
+
+		private static boolean isAlias(Token previous) {
+			return !(previous.isKeyword("SELECT") || ",".equals(previous.text()) || ".".equals(previous.text()));
+		}
+
+		/**
+		 * Replaces the offset with a condition on the sort key.
+		 * @param lastValue the literal of the last sort key
+		 * @param ties the number of rows to skip having the last sort key
+		 * @return the rewritten statement
+		 */
+		String seek(String lastValue, long ties) {
+			var condition = this.sortExpression + (this.descending ? " <= " : " >= ") + lastValue;
+			String head;
+			if (this.where != null) {
+				head = this.sql.substring(0, this.where.end()) + " ("
+						+ this.sql.substring(this.where.end(), this.orderBy.start()).strip() + ") AND " + condition;
+			}
+			else {
+				head = this.sql.substring(0, this.orderBy.start()).stripTrailing() + " WHERE " + condition;
+			}
+			return head + " " + this.sql.substring(this.orderBy.start(), this.offsetValue.start()) + ties
+					+ this.sql.substring(this.offsetValue.end());
+		}
+
+	}
+
+	/**
+	 * A token of a SQL statement.
+	 *
+	 * @param text the text of the token
+	 * @param start the start of the token in the statement
+	 * @param end the end of the token in the statement
+	 */
+	record Token(String text, int start, int end) {
+
+		/**
+		 * Splits the given statement into tokens, skipping whitespace and comments.
+		 * @param sql the statement
+		 * @return the tokens or {@literal null} if the statement contains hints
+		 */
+		static List<Token> tokenize(String sql) {
+			var tokens = new ArrayList<Token>();
+			var length = sql.length();
+			var position = 0;
+			while (position < length) {
+				var c = sql.charAt(position);
+				var start = position;
+				if (Character.isWhitespace(c)) {
+					++position;
+					continue;
+				}
+				else if (c == '-' && sql.startsWith("--", position)) {
+					var end = sql.indexOf('\n', position);
+					position = (end < 0) ? length : end;
+					continue;
+				}
+				else if (c == '/' && sql.startsWith("/*", position)) {
+					if (sql.startsWith("/*+", position)) {
+						return null;
+					}
+					var end = sql.indexOf("*/", position + 2);
+					position = (end < 0) ? length : end + 2;
+					continue;
+				}
+				else if (c == '\'' || c == '"' || c == '`') {
+					position = quotedEnd(sql, position, c);
+				}
+				else if (Character.isLetterOrDigit(c) || c == '_' || c == '$') {
+					while (position < length && (Character.isLetterOrDigit(sql.charAt(position))
+							|| sql.charAt(position) == '_' || sql.charAt(position) == '$')) {
+						++position;
+					}
+				}
+				else {
+					++position;
+				}
+				tokens.add(new Token(sql.substring(start, position), start, position));
+			}
+			return tokens;
+		}
+
+		private static int quotedEnd(String sql, int start, char quote) {
+			var index = start + 1;
+			while (index < sql.length()) {
+				if (sql.charAt(index) == quote) {
+					if (index + 1 < sql.length() && sql.charAt(index + 1) == quote) {
+						index += 2;
+						continue;
+					}
+					return index + 1;
+				}
+				++index;
+			}
+			return sql.length();
+		}
+
+		String keyword() {
+			return this.text.toUpperCase(Locale.ROOT);
+		}
+
+		boolean isKeyword(String keyword) {
+			return keyword.equalsIgnoreCase(this.text);
+		}
+
+		boolean isNumber() {
+			return this.text.length() < 19 && this.text.chars().allMatch(Character::isDigit);
+		}
+
+		boolean isIdentifier() {
+			var first = this.text.charAt(0);
+			return first == '"' || first == '`' || Character.isLetter(first) || first == '_';
+		}
+
+		/**
+		 * {@return the name of an identifier without quotes}
+		 */
+		String name() {
+			var first = this.text.charAt(0);
+			if ((first == '"' || first == '`') && this.text.length() > 1) {
+				var quote = String.valueOf(first);
+				return this.text.substring(1, this.text.length() - 1).replace(quote + quote, quote);
+			}
+			return this.text;
+		}
+
+	}
+
+}
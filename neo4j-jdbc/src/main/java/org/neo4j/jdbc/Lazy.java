@@ -18,10 +18,16 @@
  */
 package org.neo4j.jdbc;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
- * Utility class for lazily and thread safe resolving a supplier of things.
+ * Utility class for lazily and thread safe resolving a supplier of things. Resolving is
+ * guarded by a {@link ReentrantLock} instead of a monitor, as suppliers might block on
+ * network I/O, which would pin the carrier of a virtual thread inside a
+ * {@code synchronized} block.
  *
  * @param <T> the type of things to be resolved
  * @author Michael J. Simons
@@ -31,6 +37,8 @@ final class Lazy<T> {
 
 	private final ThrowingSupplier<T> supplier;
 
+	private final Lock lock = new ReentrantLock();
+
 	private volatile T resolved;
 
 	static <T> Lazy<T> of(ThrowingSupplier<T> supplier) {
@@ -49,7 +57,8 @@ final class Lazy<T> {
 
 		T result = this.resolved;
 		if (result == null) {
-			synchronized (this) {
+			this.lock.lock();
+			try {
 				result = this.resolved;
 				if (result == null) {
 					try {
@@ -64,6 +73,9 @@ final class Lazy<T> {
 					result = this.resolved;
 				}
 			}
+			finally {
+				this.lock.unlock();
+			}
 		}
 		return result;
 	}
@@ -81,20 +93,41 @@ final class Lazy<T> {
 	}
 
 	/**
-	 * This method is not synchronized and must be used in a {@code synchronized} block on
-	 * this {@link Lazy}.
-	 * @return true if this instance has been resolved
+	 * {@return true if this instance has been resolved}
 	 */
 	boolean isResolved() {
 		return this.resolved != null;
 	}
 
 	/**
-	 * Forgets the resolved value. This method is not synchronized and must be used in a
-	 * {@code synchronized} block on this {@link Lazy}.
+	 * Passes the resolved value to {@code action}, while no other thread can resolve or
+	 * forget it. Does nothing if this instance has not been resolved.
+	 * @param action the action to perform with the resolved value
+	 */
+	void ifResolved(Consumer<T> action) {
+		this.lock.lock();
+		try {
+			var result = this.resolved;
+			if (result != null) {
+				action.accept(result);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Forgets the resolved value.
 	 */
 	void forget() {
-		this.resolved = null;
+		this.lock.lock();
+		try {
+			this.resolved = null;
+		}
+		finally {
+			this.lock.unlock();
+		}
 	}
 
 }
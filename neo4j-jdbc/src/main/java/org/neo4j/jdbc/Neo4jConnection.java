@@ -18,9 +18,14 @@
  */
 package org.neo4j.jdbc;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.net.URI;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Executor;
 
 import org.neo4j.jdbc.events.ConnectionListener;
@@ -125,4 +130,91 @@ public sealed interface Neo4jConnection extends Connection, Neo4jMetadataWriter
 	 */
 	void setTracer(Neo4jTracer tracer);
 
+	/**
+	 * Returns the statistics of the prepared statement cache this connection shares with
+	 * all other connections from the same driver and configuration. The cache is disabled
+	 * by default and must be enabled with a positive value for
+	 * {@link Neo4jDriver#PROPERTY_PREPARED_STATEMENT_CACHE_SIZE}.
+	 * @return the statistics of the prepared statement cache, empty when the cache is
+	 * disabled
+	 * @since 6.15.0
+	 */
+	Optional<PreparedStatementCacheStatistics> getPreparedStatementCacheStatistics();
+
+	/**
+	 * Sets the executor on which the stages returned by
+	 * {@link Neo4jStatement#executeQueryAsync(String)} complete and on which the
+	 * subscribers of {@link Neo4jStatement#executeQueryAsPublisher(String)} are signalled.
+	 * Responses of the server are received on the threads of the network layer, which
+	 * must not be blocked by user code, hence they are never used for those purposes. The
+	 * default is the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+	 * @param executor the executor to use, must not be {@literal null}
+	 * @since 6.15.0
+	 */
+	void setAsyncExecutor(Executor executor);
+
+	/**
+	 * Returns the executor for continuations of asynchronous executions.
+	 * @return the executor for continuations of asynchronous executions
+	 * @since 6.15.0
+	 * @see #setAsyncExecutor(Executor)
+	 */
+	Executor getAsyncExecutor();
+
+	/**
+	 * Loads the given rows in chunks as described by {@code bulkLoad}. All chunks are
+	 * sent in the same transaction: In auto-commit mode, that transaction is committed
+	 * after the last chunk, otherwise the rows are part of the current transaction. Rows
+	 * are read from the iterator only as fast as the server acknowledges the chunks.
+	 * @param bulkLoad describes how the rows are mapped to nodes or relationships
+	 * @param rows the rows to load, each a map from column names to values
+	 * @return the totals of the load
+	 * @throws SQLException if a row has no value for a key or endpoint column or if any
+	 * chunk fails to load, the transaction is then failed
+	 * @since 6.15.0
+	 */
+	BulkLoad.Result bulkLoad(BulkLoad bulkLoad, Iterator<? extends Map<String, ?>> rows) throws SQLException;
+
+	/**
+	 * Loads comma separated values as described by {@code bulkLoad}. The first record
+	 * must be a header with the column names, all values are loaded as strings and empty
+	 * fields are treated as {@literal null}. Strings never match numeric or boolean key
+	 * properties of existing nodes, register a
+	 * {@link BulkLoad#withColumnConverter(String, java.util.function.Function) converter}
+	 * for such columns. The reader is not closed.
+	 * @param bulkLoad describes how the rows are mapped to nodes or relationships
+	 * @param csv the comma separated values
+	 * @return the totals of the load
+	 * @throws SQLException if the input cannot be read or any chunk fails to load
+	 * @since 6.15.0
+	 * @see #bulkLoad(BulkLoad, Iterator)
+	 */
+	BulkLoad.Result bulkLoad(BulkLoad bulkLoad, Reader csv) throws SQLException;
+
+	/**
+	 * Loads UTF-8 encoded comma separated values as described by {@code bulkLoad}. The
+	 * stream is not closed.
+	 * @param bulkLoad describes how the rows are mapped to nodes or relationships
+	 * @param csv the comma separated values
+	 * @return the totals of the load
+	 * @throws SQLException if the input cannot be read or any chunk fails to load
+	 * @since 6.15.0
+	 * @see #bulkLoad(BulkLoad, Reader)
+	 */
+	BulkLoad.Result bulkLoad(BulkLoad bulkLoad, InputStream csv) throws SQLException;
+
+	/**
+	 * A snapshot of the statistics of a prepared statement cache.
+	 *
+	 * @param size the number of cached statements
+	 * @param capacity the maximum number of cached statements
+	 * @param hits the number of statements that have been prepared from the cache
+	 * @param misses the number of statements that had to be prepared from scratch
+	 * @param evictions the number of statements that have been evicted to stay within the
+	 * capacity
+	 * @since 6.15.0
+	 */
+	record PreparedStatementCacheStatistics(int size, int capacity, long hits, long misses, long evictions) {
+	}
+
 }
@@ -19,6 +19,8 @@
 package org.neo4j.jdbc;
 
 import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 
 /**
  * Neo4j extension for {@link java.sql.DatabaseMetaData}.
@@ -34,4 +36,36 @@ public sealed interface Neo4jDatabaseMetaData extends DatabaseMetaData permits D
 	 */
 	DatabaseMetaData flush();
 
+	/**
+	 * Computes the boundaries of partitions of about equal size over the values of a
+	 * column of a table, meant to be used for partitioned, parallel reads, for example as
+	 * predicates of Spark's JDBC source. The boundaries are quantiles of a random sample
+	 * of the non-null values of the column, the number of rows of the table is taken from
+	 * the count store. Fewer partitions than requested are returned if the column has
+	 * not enough distinct values.
+	 * <p>
+	 * Each row of the returned result set describes one partition:
+	 * <ol>
+	 * <li><b>TABLE_NAME</b> String {@code =>} the name of the table</li>
+	 * <li><b>COLUMN_NAME</b> String {@code =>} the name of the column</li>
+	 * <li><b>PARTITION</b> int {@code =>} the number of the partition, starting at 1</li>
+	 * <li><b>LOWER_BOUND</b> Object {@code =>} the inclusive lower bound of the partition
+	 * (may be {@literal null} for the first partition)</li>
+	 * <li><b>UPPER_BOUND</b> Object {@code =>} the exclusive upper bound of the
+	 * partition (may be {@literal null} for the last partition)</li>
+	 * <li><b>PREDICATE</b> String {@code =>} a SQL predicate selecting all rows of the
+	 * partition, the first partition includes rows with a {@literal null} value (may be
+	 * {@literal null} if there is only one partition or a bound cannot be written as SQL
+	 * literal)</li>
+	 * </ol>
+	 * @param table the name of the table
+	 * @param column the name of the column, should contain values of one type only
+	 * @param numberOfPartitions the maximum number of partitions
+	 * @return a result set describing the partitions
+	 * @throws SQLException if a database access error occurs or the number of partitions
+	 * is less than 1
+	 * @since 6.15.0
+	 */
+	ResultSet getPartitions(String table, String column, int numberOfPartitions) throws SQLException;
+
 }
@@ -29,16 +29,20 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.DriverPropertyInfo;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -48,8 +52,15 @@ import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -59,6 +70,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import io.github.cdimascio.dotenv.Dotenv;
+import org.neo4j.bolt.connection.AccessMode;
 import org.neo4j.bolt.connection.AuthToken;
 import org.neo4j.bolt.connection.AuthTokens;
 import org.neo4j.bolt.connection.BoltConnection;
@@ -133,6 +145,16 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 	 */
 	public static final String USER_AGENT_ENV_KEY = "NEO4J_JDBC_USER_AGENT";
 
+	/**
+	 * The environment and system property key for enabling the warm-up of the instance
+	 * registered with the {@link DriverManager}. If set to {@literal true}, the
+	 * translators available on the class path, their parsers and view definitions are
+	 * initialized on a background thread as soon as the driver is registered.
+	 * @since 6.15.0
+	 * @see #warmUp()
+	 */
+	public static final String WARM_UP_ENV_KEY = "NEO4J_JDBC_WARM_UP";
+
 	/**
 	 * The name of the {@link #getPropertyInfo(String, Properties) property} containing
 	 * the password.
@@ -255,6 +277,107 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 	 */
 	public static final String PROPERTY_TRY_TCP_FAST_OPEN = "tryTcpFastOpen";
 
+	/**
+	 * An optional configuration flag to enable client side routing for Neo4j clusters.
+	 * When enabled, the driver fetches the routing table from the configured host,
+	 * executes transactions in read only mode on readers and all other transactions on
+	 * the leader. When a transaction fails because its server is no longer the leader,
+	 * the next transaction of the connection is sent to the new leader. Defaults to
+	 * {@literal false}, which connects directly to the configured host.
+	 * @since 6.15.0
+	 */
+	public static final String PROPERTY_ROUTING = "routing";
+
+	/**
+	 * An optional configuration flag to run auto-commit statements in implicit Bolt
+	 * transactions. The database, bookmarks and transaction metadata are then sent with
+	 * the query itself instead of with a separate {@code BEGIN} and the server commits
+	 * once the result has been consumed, which saves two messages per statement.
+	 * Defaults to {@literal false}.
+	 * @since 6.15.0
+	 */
+	public static final String PROPERTY_IMPLICIT_TRANSACTIONS = "implicitTransactions";
+
+	/**
+	 * An optional configuration for the number of prepared and callable statements to
+	 * cache per driver and configuration. The cache keeps the Cypher generated for a
+	 * statement, so that the translation, the rewriting of placeholders and the
+	 * introspection of procedures is done only once per distinct statement. Statements
+	 * that have been marked as not poolable don't use the cache. Defaults to {@literal 0},
+	 * which disables the cache.
+	 * @since 6.15.0
+	 */
+	public static final String PROPERTY_PREPARED_STATEMENT_CACHE_SIZE = "preparedStatementCacheSize";
+
+	/**
+	 * An optional configuration for the number of additional connections a connection
+	 * opens for auto-commit statements executed while the result of another auto-commit
+	 * statement is still open. Executing a statement fails if all of them are in use.
+	 * Defaults to {@literal 4}, {@literal 0} disables additional connections.
+	 * @since 6.15.0
+	 */
+	public static final String PROPERTY_MAX_AUXILIARY_CONNECTIONS = "maxAuxiliaryConnections";
+
+	/**
+	 * An optional configuration flag to send an {@code EXPLAIN} of each prepared statement
+	 * to the server when it is prepared, without waiting for the response. The server
+	 * plans and caches the statement before its first execution and
+	 * {@link java.sql.PreparedStatement#getMetaData()} returns the column names of the
+	 * plan before execution. Defaults to {@literal false}.
+	 * @since 6.15.0
+	 */
+	public static final String PROPERTY_EXPLAIN_ON_PREPARE = "explainOnPrepare";
+
+	/**
+	 * An optional configuration for the number of seconds after which entries of the
+	 * schema catalog are refreshed. The schema catalog is shared by all connections of the
+	 * driver to the same database and keeps the tables and columns returned by
+	 * {@link java.sql.DatabaseMetaData}. It is warmed in the background when the first
+	 * connection is opened, so that the SQL translator does not have to retrieve metadata
+	 * from the server for each statement. Stale entries are refreshed in the background.
+	 * Defaults to {@literal 0}, which disables the shared catalog.
+	 * @since 6.15.0
+	 */
+	public static final String PROPERTY_SCHEMA_CATALOG_REFRESH_INTERVAL = "schemaCatalogRefreshInterval";
+
+	/**
+	 * An optional configuration for a file in which successful SQL translations are
+	 * stored. The file is read when the first connection using it is opened, and new
+	 * translations are appended to it, so that they survive restarts of the application.
+	 * Translations are only used with the same translator configuration and driver
+	 * version they have been made with and are not invalidated when the schema of the
+	 * database changes. The file can be generated ahead of time with
+	 * {@link #precompileTranslations(String, Properties, Collection)}. Defaults to
+	 * {@literal null}, which disables the store.
+	 * @since 6.15.0
+	 */
+	public static final String PROPERTY_TRANSLATION_STORE = "translationStore";
+
+	/**
+	 * An optional configuration flag to initialize the translators of each new connection
+	 * on a background thread, instead of doing so when the first statement is translated.
+	 * Only applies when {@link #PROPERTY_SQL_TRANSLATION_ENABLED} is {@literal true}.
+	 * Defaults to {@literal false}.
+	 * @since 6.15.0
+	 * @see #WARM_UP_ENV_KEY
+	 */
+	public static final String PROPERTY_WARM_UP = "warmUp";
+
+	/**
+	 * An optional configuration flag to page through queries ordered by a single column
+	 * with a condition on that column instead of an offset. When the page directly
+	 * following the last page of a query is requested with {@code LIMIT} and
+	 * {@code OFFSET}, the offset is replaced by a condition on the last sort key, so that
+	 * the server does not have to skip all previous rows. Only applies to statements, not
+	 * prepared statements, when {@link #PROPERTY_SQL_TRANSLATION_ENABLED} is
+	 * {@literal true}, and only to queries on a single table without joins. Rows with a
+	 * {@literal null} sort key are missing from all pages following the first one, so
+	 * this should only be enabled for non-nullable sort keys. Defaults to
+	 * {@literal false}.
+	 * @since 6.15.0
+	 */
+	public static final String PROPERTY_KEYSET_PAGINATION = "keysetPagination";
+
 	private static final String URL_REGEX = "^jdbc:neo4j(?:\\+(?<transport>s(?:sc)?)?)?(?::(?<protocol>https?))?://(?<host>[^:/?]+):?(?<port>\\d+)?/?(?<database>[^?]+)?\\??(?<urlParams>\\S+)?$";
 
 	/**
@@ -273,7 +396,11 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 	 */
 	static {
 		try {
-			DriverManager.registerDriver(new Neo4jDriver());
+			var driver = new Neo4jDriver();
+			DriverManager.registerDriver(driver);
+			if (isWarmUpEnabled()) {
+				driver.warmUp();
+			}
 		}
 		catch (SQLException ex) {
 			throw new ExceptionInInitializerError(ex);
@@ -429,6 +556,20 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 
 	private final Map<DriverConfig, BookmarkManager> bookmarkManagers = new ConcurrentHashMap<>();
 
+	private final Map<DriverConfig, PreparedStatementCache> preparedStatementCaches = new ConcurrentHashMap<>();
+
+	private final Map<DriverConfig, SchemaCatalog> schemaCatalogs = new ConcurrentHashMap<>();
+
+	private final Map<Path, TranslationStore> translationStores = new ConcurrentHashMap<>();
+
+	private final Map<DriverConfig, KeysetPagination> keysetPaginations = new ConcurrentHashMap<>();
+
+	private final Lazy<Executor> warmUpExecutor = Lazy.of(Neo4jDriver::newWarmUpExecutor);
+
+	private final AtomicReference<CompletionStage<Void>> warmUp = new AtomicReference<>();
+
+	private final Map<DriverConfig, Router> routers = new ConcurrentHashMap<>();
+
 	private final Map<String, Object> transactionMetadata = new ConcurrentHashMap<>();
 
 	private final Set<DriverListener> listeners = new HashSet<>();
@@ -474,15 +615,28 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 		var enableTranslationCaching = driverConfig.enableTranslationCaching;
 		var rewriteBatchedStatements = driverConfig.rewriteBatchedStatements;
 		var rewritePlaceholders = driverConfig.rewritePlaceholders;
-		var translatorFactory = driverConfig.rawConfig.get(PROPERTY_TRANSLATOR_FACTORY);
 		var bookmarkManager = this.bookmarkManagers.computeIfAbsent(driverConfig,
 				k -> driverConfig.useBookmarks ? new DefaultBookmarkManagerImpl() : new NoopBookmarkManagerImpl());
 
-		Supplier<List<TranslatorFactory>> translatorFactoriesSupplier = this.sqlTranslatorFactories::resolve;
-		if (translatorFactory != null && !translatorFactory.isBlank()) {
-			translatorFactoriesSupplier = () -> getSqlTranslatorFactory(translatorFactory);
+		var preparedStatementCacheSize = driverConfig.preparedStatementCacheSize();
+		var preparedStatementCache = (preparedStatementCacheSize > 0) ? this.preparedStatementCaches
+			.computeIfAbsent(driverConfig, k -> new PreparedStatementCache(preparedStatementCacheSize)) : null;
+
+		var schemaCatalogRefreshInterval = driverConfig.schemaCatalogRefreshInterval();
+		SchemaCatalog schemaCatalog = null;
+		if (!schemaCatalogRefreshInterval.isZero()) {
+			// The catalog uses its own connections for refreshing, configured like this
+			var catalogInfo = (info != null) ? (Properties) info.clone() : null;
+			schemaCatalog = this.schemaCatalogs.computeIfAbsent(driverConfig,
+					k -> new SchemaCatalog(schemaCatalogRefreshInterval,
+							() -> connect(url, catalogInfo, authenticationSupplier)));
 		}
 
+		var translatorFactoriesSupplier = getSqlTranslatorFactoriesSupplier(driverConfig);
+		var translationStore = getTranslationStore(driverConfig);
+		var keysetPagination = (enableSqlTranslation && driverConfig.keysetPagination())
+				? this.keysetPaginations.computeIfAbsent(driverConfig, k -> new KeysetPagination()) : null;
+
 		var finalAuthenticationSupplier = determineAuthenticationSupplier(authenticationSupplier, driverConfig);
 		var targetUrl = driverConfig.toUrl();
 
@@ -493,16 +647,37 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 			}
 		});
 
-		var connection = new ConnectionImpl(targetUrl, finalAuthenticationSupplier,
-				authentication -> establishBoltConnection(driverConfig, userAgent, connectTimeoutMillis, securityPlan,
-						toAuthToken(authentication)),
+		var address = driverConfig.host() + driverConfig.formattedPort();
+		var router = driverConfig.routing() ? this.routers.computeIfAbsent(driverConfig,
+				k -> new Router(address, databaseName,
+						(routedAddress, authentication) -> establishBoltConnection(driverConfig, routedAddress,
+								userAgent, connectTimeoutMillis, securityPlan, toAuthToken(authentication))))
+				: null;
+		Function<Authentication, BoltConnection> boltConnectionSupplier;
+		if (router != null) {
+			boltConnectionSupplier = authentication -> router.acquire(AccessMode.WRITE, authentication);
+		}
+		else {
+			boltConnectionSupplier = authentication -> establishBoltConnection(driverConfig, address, userAgent,
+					connectTimeoutMillis, securityPlan, toAuthToken(authentication));
+		}
+
+		var connection = new ConnectionImpl(targetUrl, finalAuthenticationSupplier, boltConnectionSupplier,
 				getSqlTranslatorSupplier(enableSqlTranslation, driverConfig.rawConfig(), translatorFactoriesSupplier),
 				enableSqlTranslation, enableTranslationCaching, rewriteBatchedStatements, rewritePlaceholders,
 				bookmarkManager, this.transactionMetadata, driverConfig.relationshipSampleSize(), databaseName,
-				aborted -> {
-					var event = new ConnectionClosedEvent(targetUrl, aborted);
-					Events.notify(this.listeners, listener -> listener.onConnectionClosed(event));
-				}, connectionListeners);
+				aborted -> Events.notify(this.listeners, () -> new ConnectionClosedEvent(targetUrl, aborted),
+						DriverListener::onConnectionClosed),
+				connectionListeners,
+				new ConnectionOptions(router, driverConfig.implicitTransactions(), preparedStatementCache,
+						driverConfig.explainOnPrepare(), schemaCatalog, translationStore, keysetPagination,
+						driverConfig.maxAuxiliaryConnections()));
+		if (schemaCatalog != null) {
+			schemaCatalog.warmUp();
+		}
+		if (enableSqlTranslation && driverConfig.warmUp()) {
+			this.warmUpExecutor.resolve().execute(connection::warmUpTranslators);
+		}
 
 		synchronized (this) {
 			if (this.tracer != null) {
@@ -510,10 +685,105 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 			}
 		}
 
-		Events.notify(this.listeners, listener -> listener.onConnectionOpened(new ConnectionOpenedEvent(targetUrl)));
+		Events.notify(this.listeners, () -> new ConnectionOpenedEvent(targetUrl), DriverListener::onConnectionOpened);
 		return connection;
 	}
 
+	@Override
+	public CompletionStage<Void> warmUp() {
+
+		var result = new CompletableFuture<Void>();
+		var stage = result.minimalCompletionStage();
+		if (!this.warmUp.compareAndSet(null, stage)) {
+			return this.warmUp.get();
+		}
+		this.warmUpExecutor.resolve().execute(() -> {
+			try {
+				var start = System.nanoTime();
+				var translators = sortedListOfTranslators(Map.of(), this.sqlTranslatorFactories.resolve());
+				translators.forEach(Translator::warmUp);
+				var elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+				getParentLogger().log(Level.FINE,
+						() -> "Warmed up %d translators in %d ms".formatted(translators.size(), elapsed));
+				result.complete(null);
+			}
+			catch (RuntimeException ex) {
+				getParentLogger().log(Level.WARNING, ex, () -> "Could not warm up the driver");
+				result.completeExceptionally(ex);
+			}
+		});
+		return stage;
+	}
+
+	static boolean isWarmUpEnabled() {
+		var value = System.getProperty(WARM_UP_ENV_KEY);
+		if (value == null || value.isBlank()) {
+			value = System.getenv(WARM_UP_ENV_KEY);
+		}
+		return Boolean.parseBoolean(value);
+	}
+
+	/**
+	 * Warm-up uses at most one daemon thread, which terminates when idle.
+	 * @return a new executor
+	 */
+	private static Executor newWarmUpExecutor() {
+		var executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			var thread = new Thread(runnable, "neo4j-jdbc-warm-up");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	@Override
+	public int precompileTranslations(String url, Properties info, Collection<String> statements)
+			throws SQLException {
+
+		var driverConfig = DriverConfig.of(url, info);
+		var translationStore = getTranslationStore(driverConfig);
+		if (translationStore == null) {
+			throw new Neo4jException(GQLError.$22N06.withTemplatedMessage(PROPERTY_TRANSLATION_STORE));
+		}
+
+		// Translations are made on a connection, so that translations depending on the
+		// schema of the database are the same as the ones connections would store
+		var translated = 0;
+		try (var connection = connect(url, info)) {
+			var translator = connection.unwrap(ConnectionImpl.class)
+				.getTranslator(true, warning -> getParentLogger().log(Level.FINE, warning, warning::getMessage));
+			for (var statement : statements) {
+				try {
+					translator.apply(statement);
+					++translated;
+				}
+				catch (IllegalArgumentException | IllegalStateException | UnsupportedOperationException ex) {
+					getParentLogger().log(Level.WARNING, ex, () -> "Could not translate `%s`".formatted(statement));
+				}
+			}
+		}
+		translationStore.persist();
+		return translated;
+	}
+
+	private Supplier<List<TranslatorFactory>> getSqlTranslatorFactoriesSupplier(DriverConfig driverConfig) {
+		var translatorFactory = driverConfig.rawConfig.get(PROPERTY_TRANSLATOR_FACTORY);
+		if (translatorFactory != null && !translatorFactory.isBlank()) {
+			return () -> getSqlTranslatorFactory(translatorFactory);
+		}
+		return this.sqlTranslatorFactories::resolve;
+	}
+
+	private TranslationStore.Scope getTranslationStore(DriverConfig driverConfig) {
+		var file = driverConfig.translationStore();
+		if (file == null) {
+			return null;
+		}
+		return this.translationStores.computeIfAbsent(file, TranslationStore::open)
+			.scope(driverConfig.translatorConfigHash());
+	}
+
 	Supplier<Authentication> determineAuthenticationSupplier(Supplier<Authentication> authenticationSupplier,
 			DriverConfig driverConfig) {
 
@@ -578,11 +848,10 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 		throw new IllegalArgumentException("Unsupported authentication type %s".formatted(authentication));
 	}
 
-	private BoltConnection establishBoltConnection(DriverConfig driverConfig, String userAgent,
+	private BoltConnection establishBoltConnection(DriverConfig driverConfig, String address, String userAgent,
 			int connectTimeoutMillis, SecurityPlan securityPlan, AuthToken authToken) {
 
-		var targetUri = URI
-			.create("%s://%s%s".formatted(driverConfig.protocol(), driverConfig.host(), driverConfig.formattedPort()));
+		var targetUri = URI.create("%s://%s".formatted(driverConfig.protocol(), address));
 
 		Map<String, Object> additionalOptions;
 		if (!driverConfig.tryTcpFastOpen()) {
@@ -1160,6 +1429,12 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 				PROPERTY_SQL_TRANSLATION_CACHING_ENABLED, PROPERTY_REWRITE_BATCHED_STATEMENTS,
 				PROPERTY_REWRITE_PLACEHOLDERS, PROPERTY_SSL, PROPERTY_SSL_MODE, PROPERTY_TRY_TCP_FAST_OPEN);
 
+		private static final Set<String> TRANSLATION_INDEPENDENT_PROPERTIES = Set.of(PROPERTY_USE_BOOKMARKS,
+				PROPERTY_RELATIONSHIP_SAMPLE_SIZE, PROPERTY_ROUTING, PROPERTY_IMPLICIT_TRANSACTIONS,
+				PROPERTY_PREPARED_STATEMENT_CACHE_SIZE, PROPERTY_MAX_AUXILIARY_CONNECTIONS, PROPERTY_EXPLAIN_ON_PREPARE,
+				PROPERTY_SCHEMA_CATALOG_REFRESH_INTERVAL, PROPERTY_TRANSLATION_STORE, PROPERTY_WARM_UP,
+				PROPERTY_KEYSET_PAGINATION, PROPERTY_AUTHN_SUPPLIER);
+
 		DriverConfig {
 			rawConfig = Collections.unmodifiableMap(new TreeMap<>(rawConfig));
 		}
@@ -1279,6 +1554,105 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 			}
 		}
 
+		/**
+		 * {@return true if client side routing has been enabled for the Bolt protocol}
+		 */
+		boolean routing() {
+			return "neo4j".equals(this.protocol())
+					&& Boolean.parseBoolean(this.rawConfig().getOrDefault(PROPERTY_ROUTING, "false"));
+		}
+
+		/**
+		 * {@return true if auto-commit statements should use implicit transactions}
+		 */
+		boolean implicitTransactions() {
+			return Boolean.parseBoolean(this.rawConfig().getOrDefault(PROPERTY_IMPLICIT_TRANSACTIONS, "false"));
+		}
+
+		/**
+		 * {@return the number of prepared statements to cache, 0 if caching is disabled}
+		 */
+		int preparedStatementCacheSize() {
+			return Math.max(0,
+					Integer.parseInt(this.rawConfig().getOrDefault(PROPERTY_PREPARED_STATEMENT_CACHE_SIZE, "0")));
+		}
+
+		/**
+		 * {@return the maximum number of additional connections for concurrently open
+		 * auto-commit results}
+		 */
+		int maxAuxiliaryConnections() {
+			return Math.max(0, Integer.parseInt(this.rawConfig()
+				.getOrDefault(PROPERTY_MAX_AUXILIARY_CONNECTIONS,
+						String.valueOf(ConnectionImpl.DEFAULT_MAX_AUXILIARY_CONNECTIONS))));
+		}
+
+		/**
+		 * {@return true if prepared statements should be explained when being prepared}
+		 */
+		boolean explainOnPrepare() {
+			return Boolean.parseBoolean(this.rawConfig().getOrDefault(PROPERTY_EXPLAIN_ON_PREPARE, "false"));
+		}
+
+		/**
+		 * {@return the refresh interval of the schema catalog, zero if the catalog is
+		 * disabled}
+		 */
+		Duration schemaCatalogRefreshInterval() {
+			return Duration.ofSeconds(Math.max(0,
+					Long.parseLong(this.rawConfig().getOrDefault(PROPERTY_SCHEMA_CATALOG_REFRESH_INTERVAL, "0"))));
+		}
+
+		/**
+		 * {@return true if the translators of new connections should be warmed up in the
+		 * background}
+		 */
+		boolean warmUp() {
+			return Boolean.parseBoolean(this.rawConfig().getOrDefault(PROPERTY_WARM_UP, "false"));
+		}
+
+		/**
+		 * {@return true if statements should page through queries by their sort key}
+		 */
+		boolean keysetPagination() {
+			return Boolean.parseBoolean(this.rawConfig().getOrDefault(PROPERTY_KEYSET_PAGINATION, "false"));
+		}
+
+		/**
+		 * {@return the file of the translation store, {@literal null} if the store is
+		 * disabled}
+		 */
+		Path translationStore() {
+			var value = this.rawConfig().get(PROPERTY_TRANSLATION_STORE);
+			return (value == null || value.isBlank()) ? null : Path.of(value).toAbsolutePath().normalize();
+		}
+
+		/**
+		 * Computes a hash of all properties that might change the outcome of a
+		 * translation, together with the name of the database and the version of the
+		 * driver. Properties that are known to affect only the connection, such as the
+		 * host or the credentials, are not part of it.
+		 * @return a hash of the translator configuration
+		 */
+		String translatorConfigHash() {
+			try {
+				var digest = MessageDigest.getInstance("SHA-256");
+				digest.update((ProductVersion.getValue() + "\n" + this.database()).getBytes(StandardCharsets.UTF_8));
+				for (var entry : this.rawConfig.entrySet()) {
+					var key = entry.getKey();
+					if (DRIVER_SPECIFIC_PROPERTIES.contains(key) || TRANSLATION_INDEPENDENT_PROPERTIES.contains(key)
+							|| key.startsWith("authn.")) {
+						continue;
+					}
+					digest.update(("\n" + key + "=" + entry.getValue()).getBytes(StandardCharsets.UTF_8));
+				}
+				return HexFormat.of().formatHex(digest.digest(), 0, 8);
+			}
+			catch (NoSuchAlgorithmException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+
 		String formattedPort() {
 			return (this.port() != null) ? (":" + this.port()) : "";
 		}
@@ -1296,6 +1670,35 @@ public final class Neo4jDriver implements Neo4jDriverExtensions {
 			if (this.tryTcpFastOpen()) {
 				append(result, PROPERTY_TRY_TCP_FAST_OPEN, this.tryTcpFastOpen()).append("&");
 			}
+			if (this.routing()) {
+				append(result, PROPERTY_ROUTING, this.routing()).append("&");
+			}
+			if (this.implicitTransactions()) {
+				append(result, PROPERTY_IMPLICIT_TRANSACTIONS, this.implicitTransactions()).append("&");
+			}
+			if (this.preparedStatementCacheSize() > 0) {
+				append(result, PROPERTY_PREPARED_STATEMENT_CACHE_SIZE, this.preparedStatementCacheSize()).append("&");
+			}
+			if (this.maxAuxiliaryConnections() != ConnectionImpl.DEFAULT_MAX_AUXILIARY_CONNECTIONS) {
+				append(result, PROPERTY_MAX_AUXILIARY_CONNECTIONS, this.maxAuxiliaryConnections()).append("&");
+			}
+			if (this.explainOnPrepare()) {
+				append(result, PROPERTY_EXPLAIN_ON_PREPARE, this.explainOnPrepare()).append("&");
+			}
+			if (!this.schemaCatalogRefreshInterval().isZero()) {
+				append(result, PROPERTY_SCHEMA_CATALOG_REFRESH_INTERVAL,
+						this.schemaCatalogRefreshInterval().toSeconds())
+					.append("&");
+			}
+			if (this.translationStore() != null) {
+				append(result, PROPERTY_TRANSLATION_STORE, this.translationStore()).append("&");
+			}
+			if (this.warmUp()) {
+				append(result, PROPERTY_WARM_UP, this.warmUp()).append("&");
+			}
+			if (this.keysetPagination()) {
+				append(result, PROPERTY_KEYSET_PAGINATION, this.keysetPagination()).append("&");
+			}
 			return URI.create(result.substring(0, result.length() - 1));
 		}
 
@@ -23,6 +23,7 @@ import java.sql.Driver;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 import org.neo4j.jdbc.authn.spi.Authentication;
@@ -149,4 +150,42 @@ public sealed interface Neo4jDriverExtensions extends Driver, Neo4jMetadataWrite
 	Connection connect(String url, Properties info, Supplier<Authentication> authenticationSupplier)
 			throws SQLException;
 
+	/**
+	 * Translates the given SQL statements with the translators configured by {@code url}
+	 * and {@code info} and adds the successful translations to the translation store
+	 * configured via {@link Neo4jDriver#PROPERTY_TRANSLATION_STORE}. This can be used to
+	 * generate the store at build time, so that applications don't need to translate
+	 * their statements after a cold start. The statements are translated on a connection
+	 * to the database, so that translations depending on the schema of the database are
+	 * the same as the ones done by the application.
+	 * <p>
+	 * Take note that the combination of {@code url} and {@code info} must be the same as
+	 * used later on to connect, otherwise the stored translations won't be used. Stored
+	 * translations are not invalidated when the schema of the database changes, use
+	 * {@link Neo4jConnection#flushTranslationCache()} in that case.
+	 * @param url the URL of the database the statements will be used with
+	 * @param info additional properties that will be specified on
+	 * {@link #connect(String, Properties)}, can be {@literal null}
+	 * @param statements the statements to translate
+	 * @return the number of statements that have been translated successfully
+	 * @throws SQLException if the url is invalid, no translation store is configured, no
+	 * translators are available or the database is not reachable
+	 * @since 6.15.0
+	 */
+	int precompileTranslations(String url, Properties info, Collection<String> statements) throws SQLException;
+
+	/**
+	 * Initializes all translators available on the class path, including their parsers
+	 * and view definitions, on a background thread, so that the first statement
+	 * translated after the start of an application does not pay for it. Warm-up happens
+	 * only once per driver, all calls return the same stage, which can be used as a
+	 * readiness signal. The instance registered with the {@link java.sql.DriverManager}
+	 * warms up on registration when {@link Neo4jDriver#WARM_UP_ENV_KEY} is set to
+	 * {@literal true}.
+	 * @return a stage that completes when warm-up is done
+	 * @since 6.15.0
+	 * @see Neo4jDriver#PROPERTY_WARM_UP
+	 */
+	CompletionStage<Void> warmUp();
+
 }
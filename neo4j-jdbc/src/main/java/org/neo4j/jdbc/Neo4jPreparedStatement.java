@@ -27,6 +27,10 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import org.neo4j.jdbc.values.Record;
 
 /**
  * A Neo4j specific extension of a {@link PreparedStatement}. It may be referred to for
@@ -211,4 +215,21 @@ public sealed interface Neo4jPreparedStatement extends PreparedStatement permits
 	 */
 	void setArray(String parameterName, Array value) throws SQLException;
 
+	/**
+	 * Asynchronous version of {@link #executeQuery()}, see
+	 * {@link Neo4jStatement#executeQueryAsync(String)} for details.
+	 * @return a stage completing with the result set or with a {@link SQLException}
+	 * @since 6.15.0
+	 */
+	CompletionStage<Neo4jResultSet> executeQueryAsync();
+
+	/**
+	 * Streaming version of {@link #executeQuery()}, see
+	 * {@link Neo4jStatement#executeQueryAsPublisher(String)} for details. The parameters
+	 * that are set at the time of calling this method are used.
+	 * @return a publisher of the records of the query
+	 * @since 6.15.0
+	 */
+	Flow.Publisher<Record> executeQueryAsPublisher();
+
 }
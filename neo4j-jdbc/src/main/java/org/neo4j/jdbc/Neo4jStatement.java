@@ -19,8 +19,11 @@
 package org.neo4j.jdbc;
 
 import java.sql.Statement;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 
 import org.neo4j.jdbc.events.StatementListener;
+import org.neo4j.jdbc.values.Record;
 
 /**
  * A Neo4j specific extension of a {@link java.sql.Statement}. It may be referred to for
@@ -44,4 +47,36 @@ public sealed interface Neo4jStatement extends Statement, Neo4jMetadataWriter pe
 	 */
 	void addListener(StatementListener statementListener);
 
+	/**
+	 * Executes the given query without blocking the calling thread while waiting for the
+	 * server. The returned stage completes with the result set as soon as the first batch
+	 * of records has been received. Fetching further batches by iterating the result set
+	 * is blocking, use {@link #executeQueryAsPublisher(String)} for streaming large
+	 * results. The statement must not be used otherwise until the stage has completed.
+	 * <p>
+	 * Only waiting for the server is asynchronous: translating the query and beginning
+	 * the transaction happen on the calling thread before this method returns. Both might
+	 * block, for example when a new connection is opened or when the translator retrieves
+	 * metadata from the server.
+	 * @param sql the query to execute
+	 * @return a stage completing with the result set or with a {@link java.sql.SQLException}
+	 * @see #executeQuery(String)
+	 * @since 6.15.0
+	 */
+	CompletionStage<Neo4jResultSet> executeQueryAsync(String sql);
+
+	/**
+	 * Creates a publisher for the records of the given query. The query is run when the
+	 * single subscriber requests records for the first time, further batches are pulled
+	 * from the server only when there is outstanding demand, without blocking any thread.
+	 * The maximum number of rows of this statement is honoured, an auto-commit transaction
+	 * is committed after the last record or on cancellation of the subscription.
+	 * Translating the query and beginning the transaction happen on the thread requesting
+	 * records for the first time, as described in {@link #executeQueryAsync(String)}.
+	 * @param sql the query to execute
+	 * @return a publisher of the records of the query
+	 * @since 6.15.0
+	 */
+	Flow.Publisher<Record> executeQueryAsPublisher(String sql);
+
 }
@@ -22,6 +22,8 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.neo4j.bolt.connection.SummaryCounters;
 import org.neo4j.jdbc.values.Record;
@@ -30,7 +32,9 @@ import org.neo4j.jdbc.values.Record;
  * A transaction that manages a Bolt transaction on the network level.
  * <p>
  * This interface represents common interactions with Bolt transaction and, therefore, has
- * synchronous methods to represent those.
+ * synchronous methods to represent those. The asynchronous variants default to their
+ * synchronous counterparts and must not be interleaved with other calls on the same
+ * transaction before the returned stage has been completed.
  *
  * @author Neo4j Drivers Team
  */
@@ -46,6 +50,72 @@ interface Neo4jTransaction {
 
 	void commit() throws SQLException;
 
+	/**
+	 * Runs a query, pulls at most {@code fetchSize} records and commits the transaction
+	 * right away instead of when the result is closed. Records that have not been pulled
+	 * are discarded before the commit, callers must only use this if they don't need more
+	 * than {@code fetchSize} records.
+	 * @param query the query to run
+	 * @param parameters the parameters of the query
+	 * @param fetchSize the maximum number of records to pull
+	 * @param timeout the timeout in seconds, {@literal 0} for no timeout
+	 * @return the responses to the run and the pull
+	 * @throws SQLException if running, pulling or committing fails
+	 */
+	default RunAndPullResponses runPullAndCommit(String query, Map<String, Object> parameters, int fetchSize,
+			int timeout) throws SQLException {
+		var responses = runAndPull(query, parameters, fetchSize, timeout);
+		commit();
+		return responses;
+	}
+
+	default CompletionStage<RunAndPullResponses> runAndPullAsync(String query, Map<String, Object> parameters,
+			int fetchSize, int timeout) {
+		try {
+			return CompletableFuture.completedStage(runAndPull(query, parameters, fetchSize, timeout));
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedStage(ex);
+		}
+	}
+
+	/**
+	 * Runs a query and discards its result without waiting for the response. Other than
+	 * the remaining asynchronous variants, implementations may allow further calls of
+	 * this method before the returned stage has been completed, so that several queries
+	 * can be pipelined in the same transaction. The transaction is not committed.
+	 * @param query the query to run
+	 * @param parameters the parameters of the query
+	 * @return a stage completing with the response to the discard
+	 */
+	default CompletionStage<DiscardResponse> runAndDiscardAsync(String query, Map<String, Object> parameters) {
+		try {
+			return CompletableFuture.completedStage(runAndDiscard(query, parameters, 0, false));
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedStage(ex);
+		}
+	}
+
+	default CompletionStage<PullResponse> pullAsync(RunResponse runResponse, long request) {
+		try {
+			return CompletableFuture.completedStage(pull(runResponse, request));
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedStage(ex);
+		}
+	}
+
+	default CompletionStage<Void> commitAsync() {
+		try {
+			commit();
+			return CompletableFuture.completedStage(null);
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedStage(ex);
+		}
+	}
+
 	void rollback() throws SQLException;
 
 	void fail(SQLException exception) throws SQLException;
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.neo4j.jdbc.Neo4jConnection.PreparedStatementCacheStatistics;
+
+/**
+ * A bounded, least recently used cache for the outcome of preparing a statement, shared
+ * by all connections of a driver with the same configuration. For prepared statements
+ * the fully processed Cypher (after translation and rewriting of placeholders) and the
+ * warnings raised while processing it are cached, for callable statements the Cypher
+ * generated from the call descriptor together with the parameter metadata, so that
+ * neither the translator chain nor the parser and the metadata queries need to run again
+ * for the same statement. Values are computed outside the lock; concurrent misses for the
+ * same key may compute the value more than once, but only the first one is kept.
+ *
+ * @author Neo4j Drivers Team
+ */
+final class PreparedStatementCache {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.prepared-statement-cache");
+
+	private final int capacity;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Map<Key, Object> entries;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	PreparedStatementCache(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("The capacity of the prepared statement cache must be greater than 0");
+		}
+		this.capacity = capacity;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+				var evict = size() > PreparedStatementCache.this.capacity;
+				if (evict) {
+					++PreparedStatementCache.this.evictions;
+					LOGGER.log(Level.FINER, () -> "Evicting %s".formatted(eldest.getKey()));
+				}
+				return evict;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached value for the given key or computes and caches it.
+	 * @param key the key of the statement
+	 * @param type the type of the cached value
+	 * @param loader computes the value on a miss
+	 * @param <T> the type of the cached value
+	 * @return the cached or computed value
+	 * @throws SQLException any exception thrown by the loader, nothing is cached then
+	 */
+	<T> T computeIfAbsent(Key key, Class<T> type, SqlSupplier<T> loader) throws SQLException {
+		this.lock.lock();
+		try {
+			var value = this.entries.get(key);
+			if (value != null) {
+				++this.hits;
+				return type.cast(value);
+			}
+			++this.misses;
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		var newValue = Objects.requireNonNull(loader.get());
+		this.lock.lock();
+		try {
+			return type.cast(this.entries.merge(key, newValue, (oldValue, ignored) -> oldValue));
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	void flush() {
+		this.lock.lock();
+		try {
+			this.entries.clear();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	PreparedStatementCacheStatistics getStatistics() {
+		this.lock.lock();
+		try {
+			return new PreparedStatementCacheStatistics(this.entries.size(), this.capacity, this.hits, this.misses,
+					this.evictions);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Identifies a prepared statement. The result set options are part of the key, as
+	 * required by the JDBC spec for statement pools, even though they don't change the
+	 * generated Cypher as of now.
+	 *
+	 * @param sql the SQL as passed by the client
+	 * @param callable whether this is a callable statement
+	 * @param resultSetType the result set type
+	 * @param resultSetConcurrency the result set concurrency
+	 * @param resultSetHoldability the result set holdability
+	 * @param autoGeneratedKeys the auto generated keys flag
+	 */
+	record Key(String sql, boolean callable, int resultSetType, int resultSetConcurrency, int resultSetHoldability,
+			int autoGeneratedKeys) {
+
+		Key {
+			Objects.requireNonNull(sql);
+		}
+
+	}
+
+	/**
+	 * A supplier that may throw {@link SQLException SQL exceptions}.
+	 *
+	 * @param <T> the type of the supplied value
+	 */
+	@FunctionalInterface
+	interface SqlSupplier<T> {
+
+		T get() throws SQLException;
+
+	}
+
+}
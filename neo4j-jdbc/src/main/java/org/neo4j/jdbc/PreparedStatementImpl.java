@@ -40,6 +40,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.RowId;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
@@ -59,21 +60,32 @@ import java.util.Calendar;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
 import org.neo4j.jdbc.Neo4jException.GQLError;
+import org.neo4j.jdbc.translator.spi.Translator;
+import org.neo4j.jdbc.values.Record;
 import org.neo4j.jdbc.values.Type;
 import org.neo4j.jdbc.values.Value;
 import org.neo4j.jdbc.values.ValueException;
@@ -94,6 +106,8 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 	private static final Pattern SQL_PLACEHOLDER_PATTERN = Pattern
 		.compile("\\?(?=(?:[^\"']*[\"'][^\"']*[\"'])*[^\"']*$)");
 
+	private static final Pattern ORDINAL_PARAMETER_PATTERN = Pattern.compile("\\$(\\d+)");
+
 	// We did not consider using concurrent datastructures as the `PreparedStatement` is
 	// usually not treated as thread-safe
 	private final Deque<Map<String, Object>> parameters = new ArrayDeque<>();
@@ -106,19 +120,110 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 
 	private final int autoGeneratedKeys;
 
+	private final PreparedStatementCache cache;
+
+	private final PreparedStatementCache.Key cacheKey;
+
+	private final Lazy<Optional<String>> batchCypher;
+
+	private volatile CompletionStage<List<String>> explainedKeys;
+
+	private volatile int explainedParameterCount;
+
+	private boolean cachedWarningsAdded;
+
 	PreparedStatementImpl(Connection connection, Neo4jTransactionSupplier transactionSupplier,
 			UnaryOperator<String> translator, Warnings localWarnings, Consumer<Class<? extends Statement>> onClose,
 			boolean rewritePlaceholders, boolean rewriteBatchedStatements, int autoGeneratedKeys, String sql) {
+		this(connection, transactionSupplier, translator, null, localWarnings, onClose, rewritePlaceholders,
+				rewriteBatchedStatements, autoGeneratedKeys, sql, null, null);
+	}
+
+	PreparedStatementImpl(Connection connection, Neo4jTransactionSupplier transactionSupplier,
+			UnaryOperator<String> translator, Function<String, Optional<String>> batchTranslator,
+			Warnings localWarnings, Consumer<Class<? extends Statement>> onClose, boolean rewritePlaceholders,
+			boolean rewriteBatchedStatements, int autoGeneratedKeys, String sql, PreparedStatementCache cache,
+			PreparedStatementCache.Key cacheKey) {
 		super(connection, transactionSupplier,
 				rewritePlaceholders ? s -> PreparedStatementImpl.rewritePlaceholders(translator.apply(s)) : translator,
 				localWarnings, onClose);
 		this.rewriteBatchedStatements = rewriteBatchedStatements;
 		this.autoGeneratedKeys = autoGeneratedKeys;
 		this.sql = sql;
+		this.cache = (cacheKey != null) ? cache : null;
+		this.cacheKey = cacheKey;
+		this.batchCypher = Lazy
+			.of(() -> (batchTranslator != null) ? batchTranslator.apply(sql) : Optional.<String>empty());
 		this.poolable = true;
 		this.parameters.add(newParameterMap());
 	}
 
+	/**
+	 * Uses the prepared statement cache of the connection for the statement this object
+	 * has been prepared for, unless the statement has been marked as not poolable. The
+	 * warnings raised while processing the statement are cached along with it and added
+	 * once to the warnings of each statement prepared from the cache.
+	 * @param sql the SQL to process
+	 * @return the processed SQL
+	 * @throws SQLException if the SQL cannot be processed
+	 */
+	@Override
+	protected String processSQL(String sql) throws SQLException {
+		if (this.cache == null || !this.poolable || !this.sql.equals(sql)) {
+			return super.processSQL(sql);
+		}
+		var processedStatement = this.cache.computeIfAbsent(this.cacheKey, ProcessedStatement.class, () -> {
+			var previousWarning = this.warnings.last();
+			var cypher = super.processSQL(sql);
+			this.cachedWarningsAdded = true;
+			return new ProcessedStatement(cypher, this.warnings.copyAfter(previousWarning));
+		});
+		if (!this.cachedWarningsAdded) {
+			processedStatement.warnings().forEach(warning -> this.warnings.accept(Warnings.copy(warning)));
+			this.cachedWarningsAdded = true;
+		}
+		return processedStatement.cypher();
+	}
+
+	/**
+	 * Processes the statement and hands the resulting Cypher to the given function, which
+	 * is expected to {@code EXPLAIN} it asynchronously, so that the server has a plan
+	 * cached when this statement is executed for the first time. The column names of the
+	 * plan are used for {@link #getMetaData()} until this statement has been executed.
+	 * Failures are only logged, as they will surface again on execution.
+	 * @param explainer the function sending {@code EXPLAIN} and returning the column names
+	 */
+	void explain(Function<String, CompletionStage<List<String>>> explainer) {
+		try {
+			var cypher = processSQL(this.sql);
+			var matcher = ORDINAL_PARAMETER_PATTERN.matcher(cypher);
+			var parameterCount = 0;
+			while (matcher.find()) {
+				parameterCount = Math.max(parameterCount, Integer.parseInt(matcher.group(1)));
+			}
+			this.explainedParameterCount = parameterCount;
+			this.explainedKeys = explainer.apply(cypher);
+		}
+		catch (SQLException | RuntimeException ex) {
+			LOGGER.log(Level.FINE, ex, () -> "Could not explain `%s`".formatted(this.sql));
+		}
+	}
+
+	private Optional<List<String>> getExplainedKeys() {
+		var keys = this.explainedKeys;
+		if (keys == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(keys.toCompletableFuture().join());
+		}
+		catch (CompletionException | CancellationException ex) {
+			LOGGER.log(Level.FINE, ex, () -> "Could not explain `%s`".formatted(this.sql));
+			this.explainedKeys = null;
+			return Optional.empty();
+		}
+	}
+
 	static String rewritePlaceholders(String raw) {
 		int index = 1;
 
@@ -179,11 +284,34 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 		return super.executeUpdate0(this.sql, true, getCurrentBatch(), this.autoGeneratedKeys);
 	}
 
+	@Override
+	public CompletionStage<Neo4jResultSet> executeQueryAsync() {
+		LOGGER.log(Level.FINER, () -> "Executing query asynchronously");
+		return super.executeQueryAsync0(this.sql, true, new HashMap<>(getCurrentBatch()));
+	}
+
+	@Override
+	public Flow.Publisher<Record> executeQueryAsPublisher() {
+		LOGGER.log(Level.FINER, () -> "Creating publisher");
+		return super.executeQueryAsPublisher0(this.sql, true, new HashMap<>(getCurrentBatch()));
+	}
+
 	@Override
 	public final ResultSet executeQuery(String sql) throws SQLException {
 		throw newIllegalMethodInvocation();
 	}
 
+	@Override
+	public final CompletionStage<Neo4jResultSet> executeQueryAsync(String sql) {
+		return CompletableFuture.failedStage(newIllegalMethodInvocation());
+	}
+
+	@Override
+	public final Flow.Publisher<Record> executeQueryAsPublisher(String sql) {
+		var exception = newIllegalMethodInvocation();
+		return new RecordPublisher(fetchSize -> CompletableFuture.failedStage(exception), 0, 0, asyncExecutor());
+	}
+
 	@Override
 	public final int executeUpdate(String sql) throws SQLException {
 		throw newIllegalMethodInvocation();
@@ -217,24 +345,30 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 	public int[] executeBatch() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Executing batch");
 		assertIsOpen();
+		int[] result;
+		var batchCypher = this.rewriteBatchedStatements ? this.batchCypher.resolve() : Optional.<String>empty();
+		if (batchCypher.isPresent()) {
+			// The translator took care of the whole batch and expects the parameter sets
+			// as list of maps
+			var processedSql = batchCypher.get();
+			LOGGER.log(Level.FINE, "Statement {0} has been translated into batch statement {1}",
+					new Object[] { this.sql, processedSql });
+			result = new int[] { super.executeUpdate0(processedSql, false,
+					Map.of(Translator.BATCH_PARAMETER_NAME, getValidParameters(null)), this.autoGeneratedKeys) };
+			this.clearBatch();
+			return result;
+		}
+
 		// Apply any SQL to Cypher transformation upfront and assume a simple
 		// CREATE statement provided and not something that already does an unwind.
 		// But even without rewriting the batch, it's fast as things don't have
 		// to be parsed twice.
 		var processedSql = processSQL(this.sql);
-		int[] result;
 		if (this.rewriteBatchedStatements) {
 			// No, can't use the comparator constructor here, as that one would be used
 			// to check then for equality as well
 			var keys = new HashSet<String>();
-			var validParameters = new ArrayList<Map<String, Object>>();
-			for (var parameter : this.parameters) {
-				if (parameter.isEmpty()) {
-					continue;
-				}
-				keys.addAll(parameter.keySet());
-				validParameters.add(parameter);
-			}
+			var validParameters = getValidParameters(keys);
 			for (String key : keys.stream().sorted(Comparator.comparing(String::length).reversed()).toList()) {
 				// The boundary of the regex works only reliable with indexed
 				// ordinalParameters,
@@ -265,6 +399,20 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 		return result;
 	}
 
+	private List<Map<String, Object>> getValidParameters(Set<String> keys) {
+		var validParameters = new ArrayList<Map<String, Object>>();
+		for (var parameter : this.parameters) {
+			if (parameter.isEmpty()) {
+				continue;
+			}
+			if (keys != null) {
+				keys.addAll(parameter.keySet());
+			}
+			validParameters.add(parameter);
+		}
+		return validParameters;
+	}
+
 	@Override
 	public void clearBatch() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Clearing batch");
@@ -878,7 +1026,10 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 	public ResultSetMetaData getMetaData() throws SQLException {
 		LOGGER.log(Level.FINER, () -> "Getting meta data");
 		if (super.resultSet == null) {
-			throw new Neo4jException(withReason("#execute has not been called"));
+			var keys = getExplainedKeys()
+				.orElseThrow(() -> new Neo4jException(withReason("#execute has not been called")));
+			var connection = getConnection();
+			return new ResultSetMetaDataImpl(connection.getSchema(), connection.getCatalog(), keys, null);
 		}
 		if (this.cursorMoved.compareAndSet(false, true)) {
 			super.resultSet.value().next();
@@ -936,16 +1087,17 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 	/**
 	 * The Neo4j JDBC Driver does not inspect prepared or callable statements, hence the
 	 * number of parameters will be only known after all parameters have been explicitly
-	 * set. As a consequence, the driver is also not aware of the actual type of
-	 * parameters for prepared statements, meaning for any prepared statement this method
-	 * is of limited use.
+	 * set, or, if statements are explained on prepare, the number of ordinal parameters
+	 * of the processed statement. As a consequence, the driver is also not aware of the
+	 * actual type of parameters for prepared statements, meaning for any prepared
+	 * statement this method is of limited use.
 	 * @return a restricted set of information about this statements parameter
 	 * @see PreparedStatement#getParameterMetaData()
 	 */
 	@Override
 	public ParameterMetaData getParameterMetaData() {
 		LOGGER.log(Level.FINER, () -> "Getting parameter meta data");
-		return new ParameterMetaDataImpl(this.getCurrentBatch().size());
+		return new ParameterMetaDataImpl(Math.max(this.getCurrentBatch().size(), this.explainedParameterCount));
 	}
 
 	@Override
@@ -1087,4 +1239,14 @@ sealed class PreparedStatementImpl extends StatementImpl implements Neo4jPrepare
 		setParameter(parameterName, (value != null) ? Values.value(value.toString()) : Values.NULL);
 	}
 
+	/**
+	 * The outcome of processing a prepared statement as stored in the prepared statement
+	 * cache.
+	 *
+	 * @param cypher the processed statement
+	 * @param warnings the warnings raised while processing, not chained
+	 */
+	private record ProcessedStatement(String cypher, List<SQLWarning> warnings) {
+	}
+
 }
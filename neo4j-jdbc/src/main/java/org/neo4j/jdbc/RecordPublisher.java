@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.neo4j.jdbc.Neo4jTransaction.PullResponse;
+import org.neo4j.jdbc.Neo4jTransaction.RunAndPullResponses;
+import org.neo4j.jdbc.Neo4jTransaction.RunResponse;
+import org.neo4j.jdbc.values.Record;
+
+/**
+ * A unicast {@link Flow.Publisher} of the records of a single query. Nothing is sent to
+ * the server before the first request. The query is then run with a fetch size equal to
+ * the outstanding demand, but at least the fetch size of the statement, and further
+ * batches are only pulled when the subscriber requests more records than have been
+ * buffered, so that the subscriber is never overwhelmed, small requests don't cause a
+ * round trip per record and no thread is blocked while waiting for the server. An
+ * auto-commit transaction is committed once all records have been emitted or the
+ * subscription has been cancelled. The subscriber is signalled on the given executor
+ * and never on the threads of the network layer.
+ *
+ * @author Neo4j Drivers Team
+ */
+final class RecordPublisher implements Flow.Publisher<Record> {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.record-publisher");
+
+	private final IntFunction<CompletionStage<Execution>> execution;
+
+	private final int fetchSize;
+
+	private final long maxRows;
+
+	private final Executor executor;
+
+	private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+	/**
+	 * Creates a new publisher.
+	 * @param execution the function to start the query with the given fetch size
+	 * @param fetchSize the minimum number of records to pull at once
+	 * @param maxRows the maximum number of records to emit, {@literal 0} for no limit
+	 * @param executor the executor on which the subscriber is signalled once the server
+	 * has responded
+	 */
+	RecordPublisher(IntFunction<CompletionStage<Execution>> execution, int fetchSize, long maxRows,
+			Executor executor) {
+		this.execution = Objects.requireNonNull(execution);
+		this.fetchSize = fetchSize;
+		this.maxRows = maxRows;
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super Record> subscriber) {
+		Objects.requireNonNull(subscriber);
+		if (!this.subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(new Flow.Subscription() {
+				@Override
+				public void request(long n) {
+				}
+
+				@Override
+				public void cancel() {
+				}
+			});
+			subscriber.onError(new IllegalStateException("This publisher supports only one subscriber"));
+			return;
+		}
+		var subscription = new RecordSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * The transaction and the first responses of a query.
+	 *
+	 * @param transaction the transaction in which the query has been run
+	 * @param responses the responses to the initial run and pull
+	 */
+	record Execution(Neo4jTransaction transaction, RunAndPullResponses responses) {
+	}
+
+	private final class RecordSubscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super Record> subscriber;
+
+		private final Queue<Record> buffer = new ConcurrentLinkedQueue<>();
+
+		private final AtomicLong demand = new AtomicLong();
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private final AtomicBoolean inFlight = new AtomicBoolean(false);
+
+		private final AtomicBoolean finished = new AtomicBoolean(false);
+
+		private final AtomicBoolean terminated = new AtomicBoolean(false);
+
+		private volatile Neo4jTransaction transaction;
+
+		private volatile RunResponse runResponse;
+
+		private volatile boolean exhausted;
+
+		private volatile boolean cancelled;
+
+		private volatile boolean done;
+
+		private volatile Throwable error;
+
+		private long requested;
+
+		RecordSubscription(Flow.Subscriber<? super Record> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				this.error = new IllegalArgumentException("Non-positive request signals are illegal");
+				this.buffer.clear();
+				this.exhausted = true;
+			}
+			else {
+				this.demand.getAndUpdate(current -> (Long.MAX_VALUE - current < n) ? Long.MAX_VALUE : current + n);
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			if (this.cancelled) {
+				return;
+			}
+			this.cancelled = true;
+			drain();
+		}
+
+		private void drain() {
+			if (this.wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				if (this.cancelled) {
+					this.buffer.clear();
+					if (!this.done) {
+						this.done = true;
+						finish();
+					}
+				}
+				else if (!this.done) {
+					emit();
+				}
+				missed = this.wip.addAndGet(-missed);
+			}
+			while (missed != 0);
+		}
+
+		private void emit() {
+			while (this.demand.get() > 0 && !this.buffer.isEmpty()) {
+				if (this.demand.get() != Long.MAX_VALUE) {
+					this.demand.decrementAndGet();
+				}
+				this.subscriber.onNext(this.buffer.poll());
+				if (this.cancelled) {
+					return;
+				}
+			}
+			if (!this.buffer.isEmpty()) {
+				return;
+			}
+			if (this.error != null) {
+				this.done = true;
+				if (this.terminated.compareAndSet(false, true)) {
+					this.subscriber.onError(this.error);
+				}
+			}
+			else if (this.exhausted) {
+				this.done = true;
+				if (this.terminated.compareAndSet(false, true)) {
+					this.subscriber.onComplete();
+				}
+			}
+			else if (this.demand.get() > 0 && this.inFlight.compareAndSet(false, true)) {
+				fetch();
+			}
+		}
+
+		private void fetch() {
+			var fetchSize = nextFetchSize();
+			CompletionStage<PullResponse> next;
+			if (this.runResponse == null) {
+				CompletionStage<Execution> start;
+				try {
+					start = RecordPublisher.this.execution.apply((int) Math.min(fetchSize, Integer.MAX_VALUE));
+				}
+				catch (RuntimeException ex) {
+					start = CompletableFuture.failedStage(ex);
+				}
+				next = start.thenApply(started -> {
+					this.transaction = started.transaction();
+					this.runResponse = started.responses().runResponse();
+					return started.responses().pullResponse();
+				});
+			}
+			else {
+				next = this.transaction.pullAsync(this.runResponse, fetchSize);
+			}
+			next.thenCompose(this::onPullResponse).whenCompleteAsync((ignored, failure) -> {
+				if (failure != null) {
+					this.error = (failure instanceof CompletionException && failure.getCause() != null)
+							? failure.getCause() : failure;
+					this.buffer.clear();
+				}
+				this.inFlight.set(false);
+				if (this.cancelled) {
+					finish();
+				}
+				drain();
+			}, RecordPublisher.this.executor);
+		}
+
+		private CompletionStage<Void> onPullResponse(PullResponse pullResponse) {
+			for (var record : pullResponse.records()) {
+				if (RecordPublisher.this.maxRows > 0 && this.requested >= RecordPublisher.this.maxRows) {
+					break;
+				}
+				this.buffer.add(record);
+				++this.requested;
+			}
+			var limitReached = RecordPublisher.this.maxRows > 0 && this.requested >= RecordPublisher.this.maxRows;
+			if (pullResponse.hasMore() && !limitReached) {
+				return CompletableFuture.completedStage(null);
+			}
+			var transactionToCommit = this.transaction;
+			CompletionStage<Void> stage = CompletableFuture.completedStage(null);
+			if (transactionToCommit != null && transactionToCommit.isAutoCommit()
+					&& this.finished.compareAndSet(false, true)) {
+				stage = transactionToCommit.commitAsync();
+			}
+			return stage.thenRun(() -> this.exhausted = true);
+		}
+
+		private long nextFetchSize() {
+			var currentDemand = this.demand.get();
+			if (currentDemand == Long.MAX_VALUE && RecordPublisher.this.maxRows <= 0) {
+				return -1;
+			}
+			var batchSize = Math.max(currentDemand, RecordPublisher.this.fetchSize);
+			if (RecordPublisher.this.maxRows > 0) {
+				return Math.min(batchSize, RecordPublisher.this.maxRows - this.requested);
+			}
+			return batchSize;
+		}
+
+		/**
+		 * Commits an auto-commit transaction after cancellation, which discards any
+		 * pending result. A failure is logged, and signalled to the subscriber as well,
+		 * unless it has already received a terminal signal.
+		 */
+		private void finish() {
+			var transactionToCommit = this.transaction;
+			if (transactionToCommit != null && transactionToCommit.isAutoCommit() && !this.inFlight.get()
+					&& transactionToCommit.isRunnable() && this.finished.compareAndSet(false, true)) {
+				transactionToCommit.commitAsync().whenCompleteAsync((ignored, failure) -> {
+					if (failure == null) {
+						return;
+					}
+					var cause = (failure instanceof CompletionException && failure.getCause() != null)
+							? failure.getCause() : failure;
+					LOGGER.log(Level.WARNING, cause, () -> "Failed to commit after cancelling the subscription");
+					if (this.terminated.compareAndSet(false, true)) {
+						this.subscriber.onError(cause);
+					}
+				}, RecordPublisher.this.executor);
+			}
+		}
+
+	}
+
+}
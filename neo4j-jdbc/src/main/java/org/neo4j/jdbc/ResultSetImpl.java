@@ -50,6 +50,7 @@ import java.time.OffsetTime;
 import java.util.Calendar;
 import java.util.EnumSet;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -76,7 +77,7 @@ import org.neo4j.jdbc.values.Value;
 
 import static org.neo4j.jdbc.Neo4jException.withReason;
 
-final class ResultSetImpl implements Neo4jResultSet {
+final class ResultSetImpl implements Neo4jResultSet, Cursor.Observer {
 
 	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.result-set");
 
@@ -124,18 +125,25 @@ final class ResultSetImpl implements Neo4jResultSet {
 
 	private final Set<ResultSetListener> listeners = new HashSet<>();
 
+	private boolean hasListeners;
+
 	private boolean openedEventFired;
 
 	private boolean closedEventFired;
 
+	/**
+	 * The page of a keyset-paginated query this result belongs to, might be
+	 * {@literal null}.
+	 */
+	private KeysetPagination.Page keysetPage;
+
 	ResultSetImpl(StatementImpl statement, int maxFieldSize, Neo4jTransaction transaction, RunResponse runResponse,
 			PullResponse batchPullResponse, int fetchSize, int maxRowLimit) {
 		this.statement = Objects.requireNonNull(statement);
 		this.maxFieldSize = maxFieldSize;
 
 		this.cursor = Cursor.of(Objects.requireNonNull(transaction), Objects.requireNonNull(runResponse),
-				(maxRowLimit > 0) ? maxRowLimit : -1, fetchSize, Objects.requireNonNull(batchPullResponse),
-				this::onNextBatch);
+				(maxRowLimit > 0) ? maxRowLimit : -1, fetchSize, Objects.requireNonNull(batchPullResponse), this);
 
 		var sampleRecord = this.cursor.getSampleRecord();
 		this.keys = (sampleRecord != null) ? sampleRecord.keys() : runResponse.keys();
@@ -159,6 +167,12 @@ final class ResultSetImpl implements Neo4jResultSet {
 	@Override
 	public void addListener(ResultSetListener resultSetListener) {
 		this.listeners.add(Objects.requireNonNull(resultSetListener));
+		this.hasListeners = true;
+	}
+
+	void observe(KeysetPagination.Page page) {
+		this.keysetPage = page;
+		page.start(this.keys);
 	}
 
 	@Override
@@ -167,9 +181,9 @@ final class ResultSetImpl implements Neo4jResultSet {
 		if (this.closed) {
 			throw new Neo4jException(withReason("This result set is closed"));
 		}
-		if (this.beforeFirst.compareAndSet(true, false) && !this.openedEventFired) {
-			Events.notify(this.listeners, listener -> listener
-				.onIterationStarted(new IterationStartedEvent(Long.toString(System.identityHashCode(this)))));
+		if (this.beforeFirst.compareAndSet(true, false) && this.hasListeners && !this.openedEventFired) {
+			Events.notify(this.listeners, () -> new IterationStartedEvent(Long.toString(System.identityHashCode(this))),
+					ResultSetListener::onIterationStarted);
 			this.openedEventFired = true;
 		}
 		var result = this.cursor.next();
@@ -179,22 +193,63 @@ final class ResultSetImpl implements Neo4jResultSet {
 				this.first.compareAndSet(true, false);
 			}
 			this.last.compareAndSet(false, !this.cursor.isLast());
+			if (this.keysetPage != null) {
+				this.keysetPage.onRow(this.cursor.getCurrentRecord());
+			}
 		}
 		else {
 			this.first.compareAndSet(true, false);
 			this.last.compareAndSet(true, false);
-			if (this.afterLast.compareAndSet(false, true) && this.openedEventFired && !this.closedEventFired) {
-				Events.notify(this.listeners, listener -> listener
-					.onIterationDone(new IterationDoneEvent(Long.toString(System.identityHashCode(this)), true)));
+			// A pending commit is still part of the iteration, which is then done when
+			// closing this result set
+			if (this.afterLast.compareAndSet(false, true) && this.openedEventFired && !this.closedEventFired
+					&& !this.cursor.hasPendingCommit()) {
+				Events.notify(this.listeners,
+						() -> new IterationDoneEvent(Long.toString(System.identityHashCode(this)), true),
+						ResultSetListener::onIterationDone);
 				this.closedEventFired = true;
 			}
 		}
 		return result;
 	}
 
-	void onNextBatch() {
-		Events.notify(this.listeners, listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.PULLED_NEXT_BATCH,
-				Map.of("source", this.getClass(), "id", Long.toString(System.identityHashCode(this))))));
+	@Override
+	public void beforeNextBatch() {
+		notifyListeners(Neo4jEvent.Type.NEXT_BATCH_REQUESTED, null);
+	}
+
+	@Override
+	public void afterNextBatch(Neo4jTransaction.PullResponse response) {
+		if (response == null) {
+			return;
+		}
+		notifyListeners(Neo4jEvent.Type.PULLED_NEXT_BATCH, response);
+	}
+
+	@Override
+	public void beforeCommit() {
+		notifyListeners(Neo4jEvent.Type.COMMIT_REQUESTED, null);
+	}
+
+	@Override
+	public void afterCommit() {
+		notifyListeners(Neo4jEvent.Type.COMMIT_RESPONSE_ACQUIRED, null);
+	}
+
+	private void notifyListeners(Neo4jEvent.Type type, Neo4jTransaction.PullResponse response) {
+		if (!this.hasListeners) {
+			return;
+		}
+		Events.notify(this.listeners, () -> {
+			var payload = new HashMap<String, Object>();
+			payload.put("source", this.getClass());
+			payload.put("id", Long.toString(System.identityHashCode(this)));
+			if (response != null) {
+				payload.put(Neo4jEvent.PAYLOAD_RECORDS, response.records().size());
+				payload.put(Neo4jEvent.PAYLOAD_HAS_MORE, response.hasMore());
+			}
+			return new Neo4jEvent(type, payload);
+		}, ResultSetListener::on);
 	}
 
 	@Override
@@ -204,9 +259,13 @@ final class ResultSetImpl implements Neo4jResultSet {
 			return;
 		}
 		this.cursor.close();
+		if (this.keysetPage != null) {
+			this.keysetPage.complete();
+		}
 		if (this.openedEventFired && !this.closedEventFired) {
-			Events.notify(this.listeners, listener -> listener.onIterationDone(
-					new IterationDoneEvent(Long.toString(System.identityHashCode(this)), this.isAfterLast())));
+			Events.notify(this.listeners,
+					() -> new IterationDoneEvent(Long.toString(System.identityHashCode(this)), this.isAfterLast()),
+					ResultSetListener::onIterationDone);
 			this.closedEventFired = true;
 		}
 		this.closed = true;
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.neo4j.bolt.connection.AccessMode;
+import org.neo4j.bolt.connection.BoltConnection;
+import org.neo4j.jdbc.Neo4jException.GQLError;
+import org.neo4j.jdbc.authn.spi.Authentication;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+
+/**
+ * Client side routing for Neo4j clusters. The router fetches the routing table of a
+ * database from one of the known routers (the initial one being the host and port of the
+ * URL), caches it for its time to live and hands out Bolt connections to readers for
+ * {@link AccessMode#READ read} access and to the leader for {@link AccessMode#WRITE
+ * write} access. Readers are selected by the least number of connections currently in
+ * use. If no server for the requested access mode can be reached, the routing table is
+ * refreshed once and the connection is retried against the then current servers, which
+ * covers a change of the leader. Connections that have already been acquired are not
+ * routed again by the router itself: a connection {@link #invalidate() invalidates} the
+ * routing table and acquires a new connection once a transaction failed because its
+ * server has lost its role.
+ *
+ * @author Neo4j Drivers Team
+ */
+final class Router {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.routing");
+
+	static final String ROUTING_TABLE_QUERY = "CALL dbms.routing.getRoutingTable($context, $database)";
+
+	private final String initialRouter;
+
+	private final String databaseName;
+
+	private final BiFunction<String, Authentication, BoltConnection> connector;
+
+	private final RoutingTableLoader routingTableLoader;
+
+	private final Clock clock;
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Map<String, AtomicInteger> connectionsInUse = new ConcurrentHashMap<>();
+
+	private final Map<BoltConnection, String> acquiredConnections = new IdentityHashMap<>();
+
+	private final AtomicInteger offset = new AtomicInteger();
+
+	private volatile RoutingTable routingTable;
+
+	Router(String initialRouter, String databaseName, BiFunction<String, Authentication, BoltConnection> connector) {
+		this(initialRouter, databaseName, connector, Router::fetchRoutingTable, Clock.systemUTC());
+	}
+
+	Router(String initialRouter, String databaseName, BiFunction<String, Authentication, BoltConnection> connector,
+			RoutingTableLoader routingTableLoader, Clock clock) {
+		this.initialRouter = Objects.requireNonNull(initialRouter);
+		this.databaseName = Objects.requireNonNull(databaseName);
+		this.connector = Objects.requireNonNull(connector);
+		this.routingTableLoader = Objects.requireNonNull(routingTableLoader);
+		this.clock = Objects.requireNonNull(clock);
+	}
+
+	/**
+	 * Opens a new connection to a server suitable for the given access mode. The
+	 * connection must be {@link #release(BoltConnection) released} after it has been
+	 * closed.
+	 * @param accessMode the access mode for which the connection is required
+	 * @param authentication the authentication to use
+	 * @return a new connection
+	 */
+	BoltConnection acquire(AccessMode accessMode, Authentication authentication) {
+
+		RuntimeException lastFailure = null;
+		for (int attempt = 0; attempt < 2; ++attempt) {
+			var currentRoutingTable = getRoutingTable(authentication, attempt > 0);
+			for (var address : currentRoutingTable.select(accessMode, this::getConnectionsInUse,
+					this.offset.getAndIncrement())) {
+				try {
+					var boltConnection = this.connector.apply(address, authentication);
+					this.connectionsInUse.computeIfAbsent(address, k -> new AtomicInteger()).incrementAndGet();
+					synchronized (this.acquiredConnections) {
+						this.acquiredConnections.put(boltConnection, address);
+					}
+					return boltConnection;
+				}
+				catch (RuntimeException ex) {
+					LOGGER.log(Level.FINE, ex, () -> "Could not connect to %s".formatted(address));
+					forget(address);
+					lastFailure = ex;
+				}
+			}
+		}
+
+		throw new UncheckedSQLException(new Neo4jException(GQLError.$08000.causedBy(lastFailure)
+			.withMessage("No server available for %s access to database %s".formatted(accessMode,
+					this.databaseName))));
+	}
+
+	/**
+	 * Releases a connection that was acquired through this router. Unknown connections
+	 * are ignored.
+	 * @param boltConnection the connection to release
+	 */
+	void release(BoltConnection boltConnection) {
+		String address;
+		synchronized (this.acquiredConnections) {
+			address = this.acquiredConnections.remove(boltConnection);
+		}
+		if (address != null) {
+			this.connectionsInUse.get(address).decrementAndGet();
+		}
+	}
+
+	int getConnectionsInUse(String address) {
+		var counter = this.connectionsInUse.get(address);
+		return (counter != null) ? counter.get() : 0;
+	}
+
+	/**
+	 * Marks the current routing table as stale, so that the next acquisition fetches a
+	 * new one.
+	 */
+	void invalidate() {
+		this.routingTable = null;
+	}
+
+	RoutingTable getRoutingTable(Authentication authentication, boolean forceRefresh) {
+
+		var now = this.clock.instant();
+		var currentRoutingTable = this.routingTable;
+		if (!forceRefresh && currentRoutingTable != null && !currentRoutingTable.isExpired(now)) {
+			return currentRoutingTable;
+		}
+
+		this.lock.lock();
+		try {
+			if (!forceRefresh && this.routingTable != null && !this.routingTable.isExpired(now)) {
+				return this.routingTable;
+			}
+			this.routingTable = refresh(authentication);
+			return this.routingTable;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private RoutingTable refresh(Authentication authentication) {
+
+		var routers = new LinkedHashSet<String>();
+		if (this.routingTable != null) {
+			routers.addAll(this.routingTable.routers());
+		}
+		routers.add(this.initialRouter);
+
+		Exception lastFailure = null;
+		for (var router : routers) {
+			BoltConnection boltConnection = null;
+			try {
+				boltConnection = this.connector.apply(router, authentication);
+				var newRoutingTable = this.routingTableLoader.load(boltConnection, authentication, this.initialRouter,
+						this.databaseName, this.clock.instant());
+				LOGGER.log(Level.FINE, () -> "Fetched %s from %s".formatted(newRoutingTable, router));
+				return newRoutingTable;
+			}
+			catch (SQLException | RuntimeException ex) {
+				LOGGER.log(Level.FINE, ex, () -> "Could not fetch routing table from %s".formatted(router));
+				lastFailure = ex;
+			}
+			finally {
+				if (boltConnection != null) {
+					boltConnection.close();
+				}
+			}
+		}
+
+		throw new UncheckedSQLException(new Neo4jException(GQLError.$08000.causedBy(lastFailure)
+			.withMessage("Could not fetch a routing table for database %s from any of %s".formatted(this.databaseName,
+					routers))));
+	}
+
+	private void forget(String address) {
+		this.lock.lock();
+		try {
+			if (this.routingTable != null) {
+				this.routingTable = this.routingTable.without(address);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	static RoutingTable fetchRoutingTable(BoltConnection boltConnection, Authentication authentication,
+			String initialRouter, String databaseName, Instant now) throws SQLException {
+
+		var transaction = new DefaultTransactionImpl(boltConnection, new NoopBookmarkManagerImpl(), Map.of(),
+				(fatalSqlException, sqlException) -> {
+				}, false, true, AccessMode.READ, null, "system", state -> {
+				}, authentication);
+		var responses = transaction.runAndPull(ROUTING_TABLE_QUERY,
+				Map.of("context", Map.of("address", initialRouter), "database", databaseName), -1, 0);
+		transaction.commit();
+		var records = responses.pullResponse().records();
+		if (records.isEmpty()) {
+			throw new Neo4jException(
+					GQLError.$08000.withMessage("Empty routing table for database %s".formatted(databaseName)));
+		}
+		return RoutingTable.of(records.get(0), now);
+	}
+
+	/**
+	 * Loads a routing table through a connection to a router.
+	 */
+	@FunctionalInterface
+	interface RoutingTableLoader {
+
+		RoutingTable load(BoltConnection boltConnection, Authentication authentication, String initialRouter,
+				String databaseName, Instant now) throws SQLException;
+
+	}
+
+	/**
+	 * An immutable snapshot of a routing table.
+	 *
+	 * @param routers the addresses of servers that can provide routing tables
+	 * @param readers the addresses of servers for read access
+	 * @param writers the addresses of servers for write access, usually the leader
+	 * @param expiresAt the point in time after which the table must be refreshed
+	 */
+	record RoutingTable(List<String> routers, List<String> readers, List<String> writers, Instant expiresAt) {
+
+		RoutingTable {
+			routers = List.copyOf(routers);
+			readers = List.copyOf(readers);
+			writers = List.copyOf(writers);
+		}
+
+		/**
+		 * Creates a routing table from the result of
+		 * {@link Router#ROUTING_TABLE_QUERY}.
+		 * @param record the one and only record returned by the routing procedure
+		 * @param now the current instant
+		 * @return a new routing table
+		 */
+		static RoutingTable of(Record record, Instant now) {
+			var routers = new ArrayList<String>();
+			var readers = new ArrayList<String>();
+			var writers = new ArrayList<String>();
+			for (var server : record.get("servers").asList(value -> value)) {
+				var addresses = server.get("addresses").asList(Value::asString);
+				switch (server.get("role").asString()) {
+					case "ROUTE" -> routers.addAll(addresses);
+					case "READ" -> readers.addAll(addresses);
+					case "WRITE" -> writers.addAll(addresses);
+					default -> LOGGER.log(Level.FINE, () -> "Ignoring unknown role %s".formatted(server.get("role")));
+				}
+			}
+			return new RoutingTable(routers, readers, writers, now.plusSeconds(record.get("ttl").asLong()));
+		}
+
+		boolean isExpired(Instant now) {
+			return !now.isBefore(this.expiresAt) || this.routers.isEmpty();
+		}
+
+		RoutingTable without(String address) {
+			return new RoutingTable(this.routers.stream().filter(a -> !a.equals(address)).toList(),
+					this.readers.stream().filter(a -> !a.equals(address)).toList(),
+					this.writers.stream().filter(a -> !a.equals(address)).toList(), this.expiresAt);
+		}
+
+		/**
+		 * Orders the candidates for the given access mode by the number of connections in
+		 * use, starting at a rotating offset, so that servers with the same number of
+		 * connections are used in turns. Reads fall back to the writers if there are no
+		 * readers, for example in single instance setups.
+		 * @param accessMode the requested access mode
+		 * @param connectionsInUse a function returning the number of connections in use
+		 * @param offset the offset for distributing load among equally used servers
+		 * @return the candidates in order of preference
+		 */
+		List<String> select(AccessMode accessMode, ToIntFunction<String> connectionsInUse, int offset) {
+			var candidates = (accessMode == AccessMode.READ && !this.readers.isEmpty()) ? this.readers : this.writers;
+			if (candidates.isEmpty()) {
+				return List.of();
+			}
+			var rotated = new ArrayList<String>(candidates.size());
+			var start = Math.floorMod(offset, candidates.size());
+			for (int i = 0; i < candidates.size(); ++i) {
+				rotated.add(candidates.get((start + i) % candidates.size()));
+			}
+			// Stable sort keeps the rotation for servers with the same number of connections
+			rotated.sort(Comparator.comparingInt(connectionsInUse));
+			return rotated;
+		}
+
+	}
+
+}
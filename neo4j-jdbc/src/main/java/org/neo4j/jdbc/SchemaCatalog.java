@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.neo4j.jdbc.Neo4jException.withCause;
+
+/**
+ * A catalog of tables and columns shared by all connections of a driver to the same
+ * database. The catalog is warmed once in the background with all tables, their columns
+ * and all Cypher-backed views, so that translating SQL statements does not need a round
+ * trip to the server to retrieve metadata. Entries older than the refresh interval are
+ * still served, but refreshed in the background on a dedicated connection.
+ * <p>
+ * Concurrent loads of the same entry share one round trip. {@link #flush() Flushing} the
+ * catalog starts a new version, entries of older versions are loaded again on their next
+ * use.
+ *
+ * @author Neo4j Drivers Team
+ */
+final class SchemaCatalog {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.schema-catalog");
+
+	private final long refreshIntervalNanos;
+
+	private final ThrowingSupplier<Connection> connectionSupplier;
+
+	private final Executor executor;
+
+	private final LongSupplier nanoTime;
+
+	private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+	private final Set<Object> staleKeys = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong version = new AtomicLong();
+
+	private final AtomicBoolean warmedUp = new AtomicBoolean(false);
+
+	private final AtomicBoolean refreshScheduled = new AtomicBoolean(false);
+
+	SchemaCatalog(Duration refreshInterval, ThrowingSupplier<Connection> connectionSupplier) {
+		this(refreshInterval, connectionSupplier, newExecutor(), System::nanoTime);
+	}
+
+	SchemaCatalog(Duration refreshInterval, ThrowingSupplier<Connection> connectionSupplier, Executor executor,
+			LongSupplier nanoTime) {
+		if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+			throw new IllegalArgumentException("The refresh interval of the schema catalog must be positive");
+		}
+		this.refreshIntervalNanos = refreshInterval.toNanos();
+		this.connectionSupplier = connectionSupplier;
+		this.executor = executor;
+		this.nanoTime = nanoTime;
+	}
+
+	/**
+	 * The background work uses at most one thread, which terminates when idle, so that a
+	 * catalog does not keep resources once the application stops using the driver.
+	 * @return a new executor
+	 */
+	private static Executor newExecutor() {
+		var executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			var thread = new Thread(runnable, "neo4j-jdbc-schema-catalog");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * Retrieves the tables of all types and the columns of all tables and Cypher-backed
+	 * views in the background. Does nothing when the catalog has already been warmed.
+	 */
+	void warmUp() {
+		if (!this.warmedUp.compareAndSet(false, true)) {
+			return;
+		}
+		this.executor.execute(() -> withConnection(metaData -> {
+			metaData.getTables(null, null, null, new String[] { "CBV" }).close();
+			var tableNames = new ArrayList<String>();
+			try (var tables = metaData.getTables(null, null, null, null)) {
+				while (tables.next()) {
+					tableNames.add(tables.getString("TABLE_NAME"));
+				}
+			}
+			for (var tableName : tableNames) {
+				metaData.getColumns(null, null, tableName, null).close();
+			}
+			LOGGER.log(Level.FINE, () -> "Warmed schema catalog with %d tables".formatted(tableNames.size()));
+		}));
+	}
+
+	/**
+	 * Gets the value for the given key or loads it with the given metadata when the key
+	 * has not been loaded in the current version of the catalog. Stale values are
+	 * returned as is and scheduled for a refresh.
+	 * @param key the key of the value
+	 * @param type the type of the value
+	 * @param metaData the metadata to load a missing value with
+	 * @param loader the loader of the value, also used to refresh it
+	 * @param <T> the type of the value
+	 * @return the value
+	 * @throws SQLException if the value cannot be loaded
+	 */
+	<T> T get(Object key, Class<T> type, DatabaseMetadataImpl metaData, Loader<T> loader) throws SQLException {
+
+		var currentVersion = this.version.get();
+		var entry = this.entries.get(key);
+		if (entry == null || entry.version != currentVersion) {
+			var newEntry = new Entry(currentVersion, loader);
+			entry = this.entries.compute(key,
+					(k, existing) -> (existing == null || existing.version != currentVersion) ? newEntry : existing);
+			if (entry == newEntry) {
+				try {
+					newEntry.update(loader.load(metaData), this.nanoTime.getAsLong());
+				}
+				catch (SQLException | RuntimeException ex) {
+					this.entries.remove(key, newEntry);
+					newEntry.value.completeExceptionally(ex);
+					throw ex;
+				}
+			}
+		}
+		else if (entry.value.isDone() && this.nanoTime.getAsLong() - entry.loadedAt > this.refreshIntervalNanos) {
+			scheduleRefresh(key);
+		}
+
+		try {
+			return type.cast(entry.value.join());
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof SQLException sqlException) {
+				throw sqlException;
+			}
+			throw new Neo4jException(withCause(ex.getCause()));
+		}
+	}
+
+	/**
+	 * Starts a new version of this catalog.
+	 */
+	void flush() {
+		this.version.incrementAndGet();
+		this.entries.clear();
+		this.staleKeys.clear();
+	}
+
+	/**
+	 * {@return the current version of this catalog}
+	 */
+	long getVersion() {
+		return this.version.get();
+	}
+
+	private void scheduleRefresh(Object key) {
+		if (this.staleKeys.add(key) && this.refreshScheduled.compareAndSet(false, true)) {
+			this.executor.execute(this::refresh);
+		}
+	}
+
+	private void refresh() {
+		this.refreshScheduled.set(false);
+		withConnection(metaData -> {
+			for (var key : new ArrayList<>(this.staleKeys)) {
+				var entry = this.entries.get(key);
+				if (entry != null) {
+					try {
+						entry.update(entry.loader.load(metaData), this.nanoTime.getAsLong());
+					}
+					catch (SQLException | RuntimeException ex) {
+						LOGGER.log(Level.FINE, ex, () -> "Could not refresh %s".formatted(key));
+					}
+				}
+				this.staleKeys.remove(key);
+			}
+		});
+	}
+
+	private void withConnection(Action action) {
+		try (var connection = this.connectionSupplier.get()) {
+			action.run(connection.getMetaData().unwrap(DatabaseMetadataImpl.class));
+		}
+		catch (Exception ex) {
+			LOGGER.log(Level.WARNING, ex, () -> "Could not update the schema catalog");
+		}
+	}
+
+	/**
+	 * Loads a single value of the catalog.
+	 *
+	 * @param <T> the type of the value
+	 */
+	@FunctionalInterface
+	interface Loader<T> {
+
+		/**
+		 * Loads the value with the given metadata.
+		 * @param metaData the metadata to use, bypassing the catalog
+		 * @return the loaded value
+		 * @throws SQLException if the value cannot be loaded
+		 */
+		T load(DatabaseMetadataImpl metaData) throws SQLException;
+
+	}
+
+	@FunctionalInterface
+	private interface Action {
+
+		void run(DatabaseMetadataImpl metaData) throws SQLException;
+
+	}
+
+	private static final class Entry {
+
+		private final long version;
+
+		private final Loader<?> loader;
+
+		private volatile CompletableFuture<Object> value = new CompletableFuture<>();
+
+		private volatile long loadedAt;
+
+		Entry(long version, Loader<?> loader) {
+			this.version = version;
+			this.loader = loader;
+		}
+
+		void update(Object newValue, long timestamp) {
+			this.loadedAt = timestamp;
+			if (!this.value.complete(newValue)) {
+				this.value = CompletableFuture.completedFuture(newValue);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+/**
+ * Utility class rendering values as SQL literals, for example when the driver itself
+ * creates SQL conditions on sort keys or partition bounds. Those conditions are
+ * translated to Cypher like any other SQL.
+ *
+ * @author Neo4j Drivers Team
+ * @since 6.15.0
+ */
+final class SqlLiterals {
+
+	/**
+	 * {@return the SQL literal for the given value or {@literal null} if there is no
+	 * literal for it}
+	 * @param value the value to render
+	 */
+	static String of(Object value) {
+		if (value instanceof Long || value instanceof Integer) {
+			return value.toString();
+		}
+		else if (value instanceof Double d && Double.isFinite(d)) {
+			return d.toString();
+		}
+		else if (value instanceof String s) {
+			return "'" + s.replace("'", "''") + "'";
+		}
+		return null;
+	}
+
+	private SqlLiterals() {
+	}
+
+}
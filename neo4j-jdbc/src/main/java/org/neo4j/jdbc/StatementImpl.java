@@ -23,6 +23,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.sql.BatchUpdateException;
@@ -37,6 +38,7 @@ import java.sql.Statement;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.HexFormat;
 import java.util.List;
@@ -44,9 +46,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 import java.util.logging.Level;
@@ -110,7 +119,13 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	private final UnaryOperator<String> sqlProcessor;
 
-	private final Warnings warnings;
+	/**
+	 * Optional processor allowed to replace literals with parameters, the values of which
+	 * are added to the given map.
+	 */
+	private final BiFunction<String, Map<String, Object>, String> parameterizingSqlProcessor;
+
+	protected final Warnings warnings;
 
 	private final AtomicBoolean resultSetAcquired = new AtomicBoolean(false);
 
@@ -122,11 +137,34 @@ non-sealed class StatementImpl implements Neo4jStatement {
 
 	private final Set<StatementListener> listeners = new HashSet<>();
 
+	/**
+	 * Flags whether any listener has been registered. Listeners are usually added while
+	 * the statement is created by the connection, so that these flags are effectively
+	 * fixed afterward and the hot paths only need to check a single field.
+	 */
+	private boolean hasListeners;
+
+	private boolean hasResultSetListeners;
+
+	/**
+	 * Replaces offsets of paginated queries with conditions on their sort key, might be
+	 * {@literal null}.
+	 */
+	private KeysetPagination keysetPagination;
+
 	StatementImpl(Connection connection, Neo4jTransactionSupplier transactionSupplier,
 			UnaryOperator<String> sqlProcessor, Warnings localWarnings, Consumer<Class<? extends Statement>> onClose) {
+		this(connection, transactionSupplier, sqlProcessor, null, localWarnings, onClose);
+	}
+
+	StatementImpl(Connection connection, Neo4jTransactionSupplier transactionSupplier,
+			UnaryOperator<String> sqlProcessor,
+			BiFunction<String, Map<String, Object>, String> parameterizingSqlProcessor, Warnings localWarnings,
+			Consumer<Class<? extends Statement>> onClose) {
 		this.connection = Objects.requireNonNull(connection);
 		this.transactionSupplier = Objects.requireNonNull(transactionSupplier);
 		this.sqlProcessor = Objects.requireNonNullElseGet(sqlProcessor, UnaryOperator::identity);
+		this.parameterizingSqlProcessor = parameterizingSqlProcessor;
 		this.warnings = Objects.requireNonNullElseGet(localWarnings, Warnings::new);
 		this.onClose = Objects.requireNonNullElse(onClose, type -> {
 		});
@@ -139,6 +177,7 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		this.connection = null;
 		this.transactionSupplier = null;
 		this.sqlProcessor = UnaryOperator.identity();
+		this.parameterizingSqlProcessor = null;
 		this.warnings = new Warnings();
 		this.onClose = type -> {
 		};
@@ -147,7 +186,13 @@ non-sealed class StatementImpl implements Neo4jStatement {
 	@Override
 	public ResultSet executeQuery(String sql) throws SQLException {
 		assertNoPendingBatch();
-		return executeQuery0(sql, true, Map.of());
+		var page = (this.keysetPagination != null) ? this.keysetPagination.plan(sql) : null;
+		if (page == null) {
+			return executeQuery0(sql, true, Map.of());
+		}
+		var result = executeQuery0(page.sql(), true, Map.of());
+		this.resultSet.value().observe(page);
+		return result;
 	}
 
 	protected final ResultSet executeQuery0(String sql, boolean applyProcessor, Map<String, Object> parameters)
@@ -157,49 +202,181 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		return recordEvent(sql, ExecutionMode.QUERY, context -> {
 			this.updateCount = -1;
 			this.multipleResultsApi = false;
-			var processedSQL = applyProcessor ? processSQL(sql) : sql;
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED, context)));
+			var processedSQL = applyProcessor ? processSQL(sql, parameters) : new ProcessedSQL(sql, parameters);
+			notifyListeners(Neo4jEvent.Type.SQL_PROCESSED, context);
 			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context)));
-			var responses = runAndPull(transaction, processedSQL, parameters, context);
+			notifyTransactionAcquired(transaction, context);
+			var responses = runAndPull(transaction, processedSQL.sql(), processedSQL.parameters(), context);
 			this.resultSet = newResultSet(transaction, responses, Kind.DEFAULT);
 			this.resultSetAcquired.set(false);
 			return this.resultSet.value();
 		});
 	}
 
+	@Override
+	public CompletionStage<Neo4jResultSet> executeQueryAsync(String sql) {
+		try {
+			assertNoPendingBatch();
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedStage(ex);
+		}
+		return executeQueryAsync0(sql, true, Map.of());
+	}
+
+	protected final CompletionStage<Neo4jResultSet> executeQueryAsync0(String sql, boolean applyProcessor,
+			Map<String, Object> parameters) {
+		try {
+			assertIsOpen();
+			closeResultSet();
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedStage(ex);
+		}
+		var finalFetchSize = (this.maxRows > 0) ? Math.min(this.maxRows, this.fetchSize) : this.fetchSize;
+		return runAndPullAsync(sql, applyProcessor, parameters, finalFetchSize)
+			.<Neo4jResultSet>thenApply(execution -> {
+				this.resultSet = newResultSet(execution.transaction(), execution.responses(), Kind.DEFAULT);
+				this.resultSetAcquired.set(false);
+				return this.resultSet.value();
+			});
+	}
+
+	@Override
+	public Flow.Publisher<Record> executeQueryAsPublisher(String sql) {
+		try {
+			assertNoPendingBatch();
+		}
+		catch (SQLException ex) {
+			return new RecordPublisher(fetchSize -> CompletableFuture.failedStage(ex), 0, 0, asyncExecutor());
+		}
+		return executeQueryAsPublisher0(sql, true, Map.of());
+	}
+
+	protected final Flow.Publisher<Record> executeQueryAsPublisher0(String sql, boolean applyProcessor,
+			Map<String, Object> parameters) {
+		return new RecordPublisher(fetchSize -> {
+			try {
+				assertIsOpen();
+			}
+			catch (SQLException ex) {
+				return CompletableFuture.failedStage(ex);
+			}
+			return runAndPullAsync(sql, applyProcessor, parameters, fetchSize);
+		}, this.fetchSize, this.maxRows, asyncExecutor());
+	}
+
+	/**
+	 * {@return the executor on which asynchronous executions continue once the server has
+	 * responded}
+	 */
+	final Executor asyncExecutor() {
+		try {
+			return this.connection.unwrap(Neo4jConnection.class).getAsyncExecutor();
+		}
+		catch (SQLException ex) {
+			return ForkJoinPool.commonPool();
+		}
+	}
+
+	private CompletionStage<RecordPublisher.Execution> runAndPullAsync(String sql, boolean applyProcessor,
+			Map<String, Object> parameters, int fetchSize) {
+		return recordEventAsync(sql, ExecutionMode.QUERY, context -> {
+			this.updateCount = -1;
+			this.multipleResultsApi = false;
+			var processedSQL = applyProcessor ? processSQL(sql, parameters) : new ProcessedSQL(sql, parameters);
+			notifyListeners(Neo4jEvent.Type.SQL_PROCESSED, context);
+			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
+			notifyTransactionAcquired(transaction, context);
+			var processedParameters = getParameters(processedSQL.parameters());
+			// The stage is completed on a thread of the network layer, which must neither
+			// notify listeners nor complete any stage visible to the caller. Failures are
+			// handled explicitly, as they would otherwise be propagated on the same thread
+			return transaction.runAndPullAsync(processedSQL.sql(), processedParameters, fetchSize, this.queryTimeout)
+				.handleAsync((responses, error) -> {
+					if (error != null) {
+						throw (error instanceof CompletionException completionException) ? completionException
+								: new CompletionException(error);
+					}
+					notifyRunAndPullResponseAcquired(responses, context);
+					return new RecordPublisher.Execution(transaction, responses);
+				}, asyncExecutor());
+		});
+	}
+
 	private RunAndPullResponses runAndPull(Neo4jTransaction transaction, String processedSQL,
 			Map<String, Object> parameters, Map<String, Object> context) throws SQLException {
 		var finalFetchSize = (this.maxRows > 0) ? Math.min(this.maxRows, this.fetchSize) : this.fetchSize;
-		var runAndPull = transaction.runAndPull(processedSQL, getParameters(parameters), finalFetchSize,
-				this.queryTimeout);
-		Events.notify(this.listeners,
-				listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.RUN_AND_PULL_RESPONSE_ACQUIRED, context)));
+		RunAndPullResponses runAndPull;
+		// All rows that can be returned fit into the first batch, so that the transaction
+		// can be committed right away instead of when the cursor is closed
+		if (transaction.isAutoCommit() && this.maxRows > 0 && this.maxRows <= this.fetchSize) {
+			runAndPull = transaction.runPullAndCommit(processedSQL, getParameters(parameters), finalFetchSize,
+					this.queryTimeout);
+		}
+		else {
+			runAndPull = transaction.runAndPull(processedSQL, getParameters(parameters), finalFetchSize,
+					this.queryTimeout);
+		}
+		notifyRunAndPullResponseAcquired(runAndPull, context);
 		return runAndPull;
 	}
 
 	private ResultSetHolder newResultSet(Neo4jTransaction transaction, RunAndPullResponses responses, Kind kind) {
 		var newResultSet = new ResultSetImpl(this, this.maxFieldSize, transaction, responses.runResponse(),
 				responses.pullResponse(), this.fetchSize, this.maxRows);
-		this.listeners.forEach(listener -> {
-			if (listener instanceof ResultSetListener resultSetListener) {
-				newResultSet.addListener(resultSetListener);
-			}
-		});
+		addResultSetListeners(newResultSet);
 		return new ResultSetHolder(newResultSet, kind);
 	}
 
 	private ResultSetHolder newResultSet(List<Record> records, Kind kind) {
 
 		var newResultSet = new ResultSetImpl(this, this.maxFieldSize, records);
-		this.listeners.forEach(listener -> {
+		addResultSetListeners(newResultSet);
+		return new ResultSetHolder(newResultSet, kind);
+	}
+
+	private void addResultSetListeners(ResultSetImpl newResultSet) {
+		if (!this.hasResultSetListeners) {
+			return;
+		}
+		for (var listener : this.listeners) {
 			if (listener instanceof ResultSetListener resultSetListener) {
 				newResultSet.addListener(resultSetListener);
 			}
-		});
-		return new ResultSetHolder(newResultSet, kind);
+		}
+	}
+
+	/**
+	 * Notifies all listeners about a generic event. The event is only created when there
+	 * are listeners at all, so that the hot path does not allocate anything otherwise.
+	 * @param type the type of the event
+	 * @param context the context of the execution
+	 */
+	private void notifyListeners(Neo4jEvent.Type type, Map<String, Object> context) {
+		if (!this.hasListeners) {
+			return;
+		}
+		Events.notify(this.listeners, () -> new Neo4jEvent(type, context), StatementListener::on);
+	}
+
+	private void notifyTransactionAcquired(Neo4jTransaction transaction, Map<String, Object> context) {
+		if (!this.hasListeners) {
+			return;
+		}
+		var payload = new HashMap<>(context);
+		payload.put(Neo4jEvent.PAYLOAD_BEGIN_PIPELINED, transaction.getState() == Neo4jTransaction.State.NEW);
+		notifyListeners(Neo4jEvent.Type.TRANSACTION_ACQUIRED, payload);
+	}
+
+	private void notifyRunAndPullResponseAcquired(RunAndPullResponses responses, Map<String, Object> context) {
+		if (!this.hasListeners) {
+			return;
+		}
+		var payload = new HashMap<>(context);
+		payload.put(Neo4jEvent.PAYLOAD_RECORDS, responses.pullResponse().records().size());
+		payload.put(Neo4jEvent.PAYLOAD_HAS_MORE, responses.pullResponse().hasMore());
+		notifyListeners(Neo4jEvent.Type.RUN_AND_PULL_RESPONSE_ACQUIRED, payload);
 	}
 
 	@Override
@@ -229,15 +406,13 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		return recordEvent(sql, ExecutionMode.UPDATE, context -> {
 			this.updateCount = -1;
 			this.multipleResultsApi = false;
-			var processedSQL = applyProcessor ? processSQL(sql) : sql;
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED, context)));
+			var processedSQL = applyProcessor ? processSQL(sql, parameters) : new ProcessedSQL(sql, parameters);
+			notifyListeners(Neo4jEvent.Type.SQL_PROCESSED, context);
 			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context)));
+			notifyTransactionAcquired(transaction, context);
 			Optional<SummaryCounters> counters;
 			if (returnGeneratedKeys) {
-				var responses = runAndPull(transaction, processedSQL, parameters, context);
+				var responses = runAndPull(transaction, processedSQL.sql(), processedSQL.parameters(), context);
 				var nextResultSet = newResultSet(transaction, responses, Kind.GENERATED_KEYS);
 				if (records.isEmpty()) {
 					this.resultSet = nextResultSet;
@@ -250,10 +425,9 @@ non-sealed class StatementImpl implements Neo4jStatement {
 				counters = responses.pullResponse().resultSummary().map(ResultSummary::counters);
 			}
 			else {
-				var discardResponse = transaction.runAndDiscard(processedSQL, getParameters(parameters),
-						this.queryTimeout, transaction.isAutoCommit());
-				Events.notify(this.listeners,
-						listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.DISCARD_RESPONSE_ACQUIRED, context)));
+				var discardResponse = transaction.runAndDiscard(processedSQL.sql(),
+						getParameters(processedSQL.parameters()), this.queryTimeout, transaction.isAutoCommit());
+				notifyListeners(Neo4jEvent.Type.DISCARD_RESPONSE_ACQUIRED, context);
 				counters = discardResponse.resultSummary().map(ResultSummary::counters);
 			}
 
@@ -395,13 +569,11 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		return recordEvent(sql, ExecutionMode.PLAIN, context -> {
 			this.updateCount = -1;
 			this.multipleResultsApi = true;
-			var processedSQL = processSQL(sql);
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED, context)));
+			var processedSQL = processSQL(sql, parameters);
+			notifyListeners(Neo4jEvent.Type.SQL_PROCESSED, context);
 			var transaction = this.transactionSupplier.getTransaction(this.transactionMetadata);
-			Events.notify(this.listeners,
-					listener -> listener.on(new Neo4jEvent(Neo4jEvent.Type.TRANSACTION_ACQUIRED, context)));
-			var responses = runAndPull(transaction, processedSQL, parameters, context);
+			notifyTransactionAcquired(transaction, context);
+			var responses = runAndPull(transaction, processedSQL.sql(), processedSQL.parameters(), context);
 			this.updateCount = responses.pullResponse()
 				.resultSummary()
 				.map(summary -> summary.counters().totalCount())
@@ -427,15 +599,16 @@ non-sealed class StatementImpl implements Neo4jStatement {
 	private <T> T recordEvent(String statement, ExecutionMode executionType, SqlCallable<T> callable)
 			throws SQLException {
 
-		if (this.listeners.isEmpty()) {
+		if (!this.hasListeners) {
 			return callable.call(Map.of());
 		}
 
 		var id = statementId();
 		var s = System.nanoTime();
 		var databaseURL = this.connection.unwrap(Neo4jConnection.class).getDatabaseURL();
-		var startEvent = new ExecutionStartedEvent(id, databaseURL, getType(), executionType, statement);
-		Events.notify(this.listeners, listener -> listener.onExecutionStarted(startEvent));
+		Events.notify(this.listeners,
+				() -> new ExecutionStartedEvent(id, databaseURL, getType(), executionType, statement),
+				StatementListener::onExecutionStarted);
 
 		var context = Map.<String, Object>of("source", getType(), "id", id);
 		var state = ExecutionEndedEvent.State.FAILED;
@@ -446,9 +619,53 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		}
 		finally {
 			final long e = System.nanoTime();
-			var endEvent = new ExecutionEndedEvent(id, databaseURL, state, Duration.ofNanos(e - s));
-			Events.notify(this.listeners, listener -> listener.onExecutionEnded(endEvent));
+			var finalState = state;
+			Events.notify(this.listeners,
+					() -> new ExecutionEndedEvent(id, databaseURL, finalState, Duration.ofNanos(e - s)),
+					StatementListener::onExecutionEnded);
+		}
+	}
+
+	private <T> CompletionStage<T> recordEventAsync(String statement, ExecutionMode executionType,
+			SqlCallable<CompletionStage<T>> callable) {
+
+		if (!this.hasListeners) {
+			try {
+				return callable.call(Map.of());
+			}
+			catch (SQLException ex) {
+				return CompletableFuture.failedStage(ex);
+			}
+		}
+
+		var id = statementId();
+		var s = System.nanoTime();
+		URI databaseURL;
+		try {
+			databaseURL = this.connection.unwrap(Neo4jConnection.class).getDatabaseURL();
+		}
+		catch (SQLException ex) {
+			return CompletableFuture.failedStage(ex);
+		}
+		Events.notify(this.listeners,
+				() -> new ExecutionStartedEvent(id, databaseURL, getType(), executionType, statement, true),
+				StatementListener::onExecutionStarted);
+
+		var context = Map.<String, Object>of("source", getType(), "id", id);
+		CompletionStage<T> result;
+		try {
+			result = callable.call(context);
+		}
+		catch (SQLException ex) {
+			result = CompletableFuture.failedStage(ex);
 		}
+		return result.whenComplete((ignored, error) -> {
+			final long e = System.nanoTime();
+			var state = (error != null) ? ExecutionEndedEvent.State.FAILED : ExecutionEndedEvent.State.SUCCESSFUL;
+			Events.notify(this.listeners,
+					() -> new ExecutionEndedEvent(id, databaseURL, state, Duration.ofNanos(e - s)),
+					StatementListener::onExecutionEnded);
+		});
 	}
 
 	private String statementId() {
@@ -734,9 +951,37 @@ non-sealed class StatementImpl implements Neo4jStatement {
 		}
 	}
 
-	protected final String processSQL(String sql) throws SQLException {
+	protected String processSQL(String sql) throws SQLException {
+		return processSQL(sql, this.sqlProcessor);
+	}
+
+	/**
+	 * Processes the SQL with the parameterizing processor if there is one, so that
+	 * literals replaced by parameters are passed along with the given parameters.
+	 * Parameters given explicitly take precedence over those derived from literals.
+	 * @param sql the SQL to process
+	 * @param parameters the parameters of the statement
+	 * @return the processed SQL and its parameters
+	 * @throws SQLException if the SQL cannot be processed
+	 */
+	private ProcessedSQL processSQL(String sql, Map<String, Object> parameters) throws SQLException {
+		if (this.parameterizingSqlProcessor == null) {
+			return new ProcessedSQL(processSQL(sql), parameters);
+		}
+		var literalParameters = new HashMap<String, Object>();
+		var processedSQL = processSQL(sql, s -> this.parameterizingSqlProcessor.apply(s, literalParameters));
+		if (literalParameters.isEmpty()) {
+			return new ProcessedSQL(processedSQL, parameters);
+		}
+		if (parameters != null) {
+			literalParameters.putAll(parameters);
+		}
+		return new ProcessedSQL(processedSQL, literalParameters);
+	}
+
+	private static String processSQL(String sql, UnaryOperator<String> sqlProcessor) throws SQLException {
 		try {
-			var processedSQL = this.sqlProcessor.apply(sql);
+			var processedSQL = sqlProcessor.apply(sql);
 			if (SQL_LOGGER.isLoggable(Level.FINE) && !processedSQL.equals(sql)) {
 				SQL_LOGGER.log(Level.FINE, "Processed ''{0}'' into ''{1}''", new Object[] { sql, processedSQL });
 			}
@@ -759,6 +1004,12 @@ non-sealed class StatementImpl implements Neo4jStatement {
 	@Override
 	public void addListener(StatementListener statementListener) {
 		this.listeners.add(Objects.requireNonNull(statementListener));
+		this.hasListeners = true;
+		this.hasResultSetListeners |= statementListener instanceof ResultSetListener;
+	}
+
+	void useKeysetPagination(KeysetPagination newKeysetPagination) {
+		this.keysetPagination = newKeysetPagination;
 	}
 
 	Class<? extends Statement> getType() {
@@ -805,4 +1056,7 @@ non-sealed class StatementImpl implements Neo4jStatement {
 	protected record ResultSetHolder(ResultSetImpl value, Kind kind) {
 	}
 
+	private record ProcessedSQL(String sql, Map<String, Object> parameters) {
+	}
+
 }
@@ -24,6 +24,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.jdbc.events.ConnectionListener;
@@ -37,7 +38,8 @@ import org.neo4j.jdbc.tracing.Neo4jTracer;
  * A tracing mechanism based on the event system of the driver. It will listen on the
  * creation of connections, so that any statement created on them is traced. It will
  * listen on statements for the beginning and ending of executions and on result-sets to
- * listen to start and ending of iteration.
+ * listen to start and ending of iteration. The phases of both executions and iterations
+ * (translation, the initial run, further pulls and commits) are traced as child spans.
  *
  * @author Michael J. Simons
  * @since 6.3.0
@@ -50,6 +52,19 @@ final class Tracing implements ConnectionListener, StatementListener, ResultSetL
 
 	private final Map<String, Neo4jSpan> resultSetIterationSpans = new ConcurrentHashMap<>();
 
+	/**
+	 * Child spans of either an execution or an iteration span, representing a single
+	 * phase such as translation, the initial run or any further pull. There is at most one
+	 * phase active per execution or iteration.
+	 */
+	private final Map<String, Neo4jSpan> phaseSpans = new ConcurrentHashMap<>();
+
+	/**
+	 * Ids of asynchronous executions, whose phases end on other threads than they started
+	 * on. Their spans are never put into the scope of any thread.
+	 */
+	private final Set<String> asynchronousExecutions = ConcurrentHashMap.newKeySet();
+
 	private final Map<String, String> defaultTags;
 
 	Tracing(Neo4jTracer tracer, Neo4jConnection connection) {
@@ -91,11 +106,21 @@ final class Tracing implements ConnectionListener, StatementListener, ResultSetL
 		var tags = new HashMap<>(this.defaultTags);
 		tags.putAll(Map.of("db.operation.name", String.format("%s#%s".formatted(type, method)), "db.query.text",
 				event.statement()));
-		this.executionSpans.put(event.id(), this.tracer.start("neo4j.jdbc %s".formatted(method), tags));
+		var name = "neo4j.jdbc %s".formatted(method);
+		if (event.asynchronous()) {
+			this.asynchronousExecutions.add(event.id());
+			this.executionSpans.put(event.id(), this.tracer.startDetached(name, tags, null));
+		}
+		else {
+			this.executionSpans.put(event.id(), this.tracer.start(name, tags));
+		}
+		startPhase(event.id(), "process sql");
 	}
 
 	@Override
 	public void onExecutionEnded(ExecutionEndedEvent event) {
+		endPhase(event.id(), null);
+		this.asynchronousExecutions.remove(event.id());
 		var span = this.executionSpans.remove(event.id());
 		if (span != null) {
 			span.end();
@@ -111,6 +136,7 @@ final class Tracing implements ConnectionListener, StatementListener, ResultSetL
 
 	@Override
 	public void onIterationDone(IterationDoneEvent event) {
+		endPhase(event.id(), null);
 		var span = this.resultSetIterationSpans.remove(event.id());
 		if (span != null) {
 			span.end();
@@ -136,7 +162,57 @@ final class Tracing implements ConnectionListener, StatementListener, ResultSetL
 			return;
 		}
 
-		span.annotate(event.type().toString());
+		if (span != null) {
+			span.annotate(event.type().toString());
+		}
+
+		switch (event.type()) {
+			case SQL_PROCESSED, DISCARD_RESPONSE_ACQUIRED, COMMIT_RESPONSE_ACQUIRED -> endPhase(id, null);
+			case TRANSACTION_ACQUIRED -> {
+				var beginPipelined = Boolean.TRUE.equals(event.payload().get(Neo4jEvent.PAYLOAD_BEGIN_PIPELINED));
+				startPhase(id, beginPipelined ? "begin run pull" : "run pull");
+			}
+			case RUN_AND_PULL_RESPONSE_ACQUIRED, PULLED_NEXT_BATCH -> endPhase(id, event.payload());
+			case NEXT_BATCH_REQUESTED -> startPhase(id, "pull");
+			case COMMIT_REQUESTED -> startPhase(id, "commit");
+		}
+	}
+
+	/**
+	 * Starts a new phase as a child of the currently active execution or iteration span.
+	 * Any phase that is still active for the same id is ended before.
+	 * @param id the id of the execution or iteration
+	 * @param operation the name of the operation
+	 */
+	private void startPhase(String id, String operation) {
+		endPhase(id, null);
+		var tags = new HashMap<>(this.defaultTags);
+		tags.put("db.operation.name", operation);
+		var name = "neo4j.jdbc %s".formatted(operation);
+		if (this.asynchronousExecutions.contains(id)) {
+			this.phaseSpans.put(id, this.tracer.startDetached(name, tags, this.executionSpans.get(id)));
+		}
+		else {
+			this.phaseSpans.put(id, this.tracer.start(name, tags));
+		}
+	}
+
+	private void endPhase(String id, Map<String, Object> payload) {
+		var span = this.phaseSpans.remove(id);
+		if (span == null) {
+			return;
+		}
+		if (payload != null) {
+			var records = payload.get(Neo4jEvent.PAYLOAD_RECORDS);
+			if (records != null) {
+				span.tag("db.response.returned_rows", records.toString());
+			}
+			var hasMore = payload.get(Neo4jEvent.PAYLOAD_HAS_MORE);
+			if (hasMore != null) {
+				span.tag("neo4j.jdbc.has_more", hasMore.toString());
+			}
+		}
+		span.end();
 	}
 
 	Map<String, String> defaultTags() {
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A file backed store of successful SQL translations, shared by all connections of a
+ * driver using the same file. The file is read once when the store is opened, new
+ * translations are appended to it in batches on a background thread, so that the next
+ * start of the application finds them, without putting disk I/O on the path of the
+ * statement being translated.
+ * <p>
+ * Each line of the file contains the hash of the translator configuration, the SQL
+ * statement and the Cypher statement, separated by tabs. Translations are only used for
+ * the configuration they have been made with. Lines that cannot be read are skipped, for
+ * equal keys the last line wins.
+ * <p>
+ * The store keeps at most a fixed number of translations, evicting the least recently
+ * used ones, so that applications sending many distinct statements, for example with
+ * inlined literals, don't grow it without bounds. The file is rewritten with the
+ * retained translations once it contains twice as many lines.
+ *
+ * @author Neo4j Drivers Team
+ */
+final class TranslationStore {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.translation-store");
+
+	private static final String HEADER = "# neo4j-jdbc translation store, format 1";
+
+	static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+	private static final Lazy<Executor> WRITER = Lazy.of(TranslationStore::newWriter);
+
+	private final Path file;
+
+	private final int maxEntries;
+
+	private final Executor writer;
+
+	/**
+	 * Translations in access order, guarded by {@link #lock}.
+	 */
+	private final Map<Key, String> translations;
+
+	private final Lock lock = new ReentrantLock();
+
+	/**
+	 * Lines not yet appended to the file.
+	 */
+	private final Queue<String> pendingLines = new ConcurrentLinkedQueue<>();
+
+	private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+
+	/**
+	 * Serializes all writes to the file, guards {@link #linesInFile}.
+	 */
+	private final Lock fileLock = new ReentrantLock();
+
+	private int linesInFile;
+
+	private TranslationStore(Path file, int maxEntries, Executor writer) {
+		this.file = file;
+		this.maxEntries = maxEntries;
+		this.writer = writer;
+		this.translations = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+				return size() > TranslationStore.this.maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Opens the store in the given file and reads all translations stored in it. The
+	 * file is created with the first translation if it does not exist.
+	 * @param file the file containing the translations
+	 * @return the opened store
+	 */
+	static TranslationStore open(Path file) {
+		return open(file, DEFAULT_MAX_ENTRIES, WRITER.resolve());
+	}
+
+	/**
+	 * Opens the store in the given file and reads the most recent translations stored in
+	 * it.
+	 * @param file the file containing the translations
+	 * @param maxEntries the maximum number of translations to keep
+	 * @param writer the executor on which the file is written
+	 * @return the opened store
+	 */
+	static TranslationStore open(Path file, int maxEntries, Executor writer) {
+		var store = new TranslationStore(file, maxEntries, writer);
+		try {
+			var lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+			for (var line : lines) {
+				store.read(line);
+			}
+			store.linesInFile = lines.size();
+			LOGGER.log(Level.FINE, () -> "Loaded %d translations from %s".formatted(store.size(), file));
+		}
+		catch (NoSuchFileException ex) {
+			LOGGER.log(Level.FINE, () -> "Translation store %s does not exist yet".formatted(file));
+		}
+		catch (IOException | UncheckedIOException ex) {
+			LOGGER.log(Level.WARNING, ex, () -> "Could not read translation store %s".formatted(file));
+		}
+		return store;
+	}
+
+	private static Executor newWriter() {
+		var executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			var thread = new Thread(runnable, "neo4j-jdbc-translation-store");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * {@return the scope of the store for translators configured with the given hash}
+	 * @param configHash the hash of the translator configuration
+	 */
+	Scope scope(String configHash) {
+		return new Scope(this, configHash);
+	}
+
+	/**
+	 * {@return the number of translations in this store}
+	 */
+	int size() {
+		this.lock.lock();
+		try {
+			return this.translations.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	String get(String configHash, String sql) {
+		this.lock.lock();
+		try {
+			return this.translations.get(new Key(configHash, sql));
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	void put(String configHash, String sql, String cypher) {
+		String previous;
+		this.lock.lock();
+		try {
+			previous = this.translations.put(new Key(configHash, sql), cypher);
+		}
+		finally {
+			this.lock.unlock();
+		}
+		if (cypher.equals(previous)) {
+			return;
+		}
+		this.pendingLines.add(toLine(configHash, sql, cypher));
+		if (this.writeScheduled.compareAndSet(false, true)) {
+			this.writer.execute(this::write);
+		}
+	}
+
+	/**
+	 * Removes all translations made with the given configuration from this store and
+	 * rewrites the file with the remaining ones.
+	 * @param configHash the hash of the translator configuration
+	 */
+	void flush(String configHash) {
+		this.lock.lock();
+		try {
+			this.translations.keySet().removeIf(key -> key.configHash().equals(configHash));
+		}
+		finally {
+			this.lock.unlock();
+		}
+		this.writer.execute(this::rewrite);
+	}
+
+	/**
+	 * Writes all translations not yet written to the file on the calling thread.
+	 */
+	void persist() {
+		write();
+	}
+
+	/**
+	 * Appends all pending lines to the file in one go, or rewrites the file if it would
+	 * grow beyond twice the number of translations this store keeps.
+	 */
+	private void write() {
+		this.writeScheduled.set(false);
+		var content = new StringBuilder();
+		var numberOfLines = 0;
+		String line;
+		while ((line = this.pendingLines.poll()) != null) {
+			content.append(line);
+			++numberOfLines;
+		}
+		if (numberOfLines == 0) {
+			return;
+		}
+
+		this.fileLock.lock();
+		try {
+			if (this.linesInFile + numberOfLines > 2 * this.maxEntries) {
+				rewrite();
+				return;
+			}
+			if (!Files.exists(this.file)) {
+				content.insert(0, HEADER + "\n");
+				this.linesInFile = 1;
+			}
+			Files.writeString(this.file, content, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND);
+			this.linesInFile += numberOfLines;
+		}
+		catch (IOException ex) {
+			LOGGER.log(Level.WARNING, ex, () -> "Could not write to translation store %s".formatted(this.file));
+		}
+		finally {
+			this.fileLock.unlock();
+		}
+	}
+
+	/**
+	 * Replaces the content of the file with the translations currently retained. The
+	 * content is written to a temporary file in the same directory first, which is then
+	 * moved over the file, so that a crash during the rewrite never leaves a truncated
+	 * store behind.
+	 */
+	private void rewrite() {
+		this.fileLock.lock();
+		Path temporaryFile = null;
+		try {
+			// All pending lines are part of the translations
+			this.pendingLines.clear();
+			var content = new StringBuilder(HEADER).append("\n");
+			int numberOfLines;
+			this.lock.lock();
+			try {
+				this.translations.forEach((key, cypher) -> content.append(toLine(key.configHash(), key.sql(), cypher)));
+				numberOfLines = this.translations.size() + 1;
+			}
+			finally {
+				this.lock.unlock();
+			}
+			temporaryFile = Files.createTempFile(this.file.toAbsolutePath().getParent(),
+					this.file.getFileName().toString(), ".tmp");
+			Files.writeString(temporaryFile, content, StandardCharsets.UTF_8);
+			try {
+				Files.move(temporaryFile, this.file, StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+			}
+			temporaryFile = null;
+			this.linesInFile = numberOfLines;
+		}
+		catch (IOException ex) {
+			LOGGER.log(Level.WARNING, ex, () -> "Could not rewrite translation store %s".formatted(this.file));
+		}
+		finally {
+			deleteIfExists(temporaryFile);
+			this.fileLock.unlock();
+		}
+	}
+
+	private static void deleteIfExists(Path temporaryFile) {
+		if (temporaryFile == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(temporaryFile);
+		}
+		catch (IOException ex) {
+			LOGGER.log(Level.FINE, ex, () -> "Could not delete temporary file %s".formatted(temporaryFile));
+		}
+	}
+
+	private void read(String line) {
+		if (line.isBlank() || line.startsWith("#")) {
+			return;
+		}
+		var fields = line.split("\t", -1);
+		if (fields.length != 3) {
+			LOGGER.log(Level.FINE, () -> "Skipping malformed line in translation store %s".formatted(this.file));
+			return;
+		}
+		this.translations.put(new Key(fields[0], unescape(fields[1])), unescape(fields[2]));
+	}
+
+	private static String toLine(String configHash, String sql, String cypher) {
+		return String.join("\t", configHash, escape(sql), escape(cypher)) + "\n";
+	}
+
+	static String escape(String value) {
+		var result = new StringBuilder(value.length());
+		for (var c : value.toCharArray()) {
+			switch (c) {
+				case '\\' -> result.append("\\\\");
+				case '\t' -> result.append("\\t");
+				case '\n' -> result.append("\\n");
+				case '\r' -> result.append("\\r");
+				default -> result.append(c);
+			}
+		}
+		return result.toString();
+	}
+
+	static String unescape(String value) {
+		var result = new StringBuilder(value.length());
+		for (var i = 0; i < value.length(); ++i) {
+			var c = value.charAt(i);
+			if (c != '\\' || i + 1 == value.length()) {
+				result.append(c);
+				continue;
+			}
+			var next = value.charAt(++i);
+			switch (next) {
+				case 't' -> result.append('\t');
+				case 'n' -> result.append('\n');
+				case 'r' -> result.append('\r');
+				default -> result.append(next);
+			}
+		}
+		return result.toString();
+	}
+
+	private record Key(String configHash, String sql) {
+	}
+
+	/**
+	 * The translations of a store made with one translator configuration.
+	 *
+	 * @param store the store
+	 * @param configHash the hash of the translator configuration
+	 */
+	record Scope(TranslationStore store, String configHash) {
+
+		String get(String sql) {
+			return this.store.get(this.configHash, sql);
+		}
+
+		void put(String sql, String cypher) {
+			this.store.put(this.configHash, sql, cypher);
+		}
+
+		void flush() {
+			this.store.flush(this.configHash);
+		}
+
+		void persist() {
+			this.store.persist();
+		}
+
+	}
+
+}
@@ -19,6 +19,8 @@
 package org.neo4j.jdbc;
 
 import java.sql.SQLWarning;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Consumer;
 
@@ -52,4 +54,37 @@ class Warnings implements Consumer<SQLWarning> {
 		UPDATER.compareAndSet(this, this.value, null);
 	}
 
+	/**
+	 * {@return the last warning of the chain or {@literal null} if there are no warnings}
+	 */
+	SQLWarning last() {
+		var warning = this.value;
+		while (warning != null && warning.getNextWarning() != null) {
+			warning = warning.getNextWarning();
+		}
+		return warning;
+	}
+
+	/**
+	 * Copies all warnings following the given warning, or all warnings, if the given
+	 * warning is {@literal null}. The copies are not chained, so that they can be added to
+	 * other holders.
+	 * @param previous the last warning not to copy
+	 * @return the copied warnings
+	 */
+	List<SQLWarning> copyAfter(SQLWarning previous) {
+		var warning = (previous != null) ? previous.getNextWarning() : this.value;
+		var copies = new ArrayList<SQLWarning>();
+		while (warning != null) {
+			copies.add(copy(warning));
+			warning = warning.getNextWarning();
+		}
+		return List.copyOf(copies);
+	}
+
+	static SQLWarning copy(SQLWarning warning) {
+		return new SQLWarning(warning.getMessage(), warning.getSQLState(), warning.getErrorCode(),
+				warning.getCause());
+	}
+
 }
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.events;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An asynchronous dispatcher for slow listeners. Listeners wrapped by an instance of this
+ * class will not be called on the thread that caused the event, but on a single,
+ * dedicated daemon thread owned by the dispatcher. Events are handed over through a
+ * bounded ring buffer. If the buffer is full, the event is dropped instead of blocking
+ * the caller, so that user callbacks never block the thread executing a query. The
+ * number of dropped events can be retrieved via {@link #getDroppedEvents()}.
+ * <p>
+ * A wrapped listener will only receive the events of the type it has been wrapped as,
+ * even if the original listener implements more listener interfaces. Listeners that
+ * register themselves on statements or result sets from within a callback (such as the
+ * built-in tracing) should not be wrapped, as their callbacks would race with the
+ * execution.
+ *
+ * <pre>{@code
+ * var dispatcher = AsyncEventDispatcher.create(1024);
+ * connection.unwrap(Neo4jConnection.class).addListener(dispatcher.wrap(mySlowConnectionListener));
+ * }</pre>
+ *
+ * @author Neo4j Drivers Team
+ * @since 6.15.0
+ */
+public final class AsyncEventDispatcher implements AutoCloseable {
+
+	private static final Logger LOGGER = Logger.getLogger("org.neo4j.jdbc.events");
+
+	private static final AtomicLong THREAD_COUNTER = new AtomicLong();
+
+	/**
+	 * The default capacity of the ring buffer.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * The maximum time {@link #close()} waits for pending events to be delivered.
+	 */
+	private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+	/**
+	 * Wakes up the worker when the dispatcher is closed, so that it notices the closed
+	 * flag without waiting for the next poll to time out.
+	 */
+	private static final Runnable POISON_PILL = () -> {
+	};
+
+	private final BlockingQueue<Runnable> ringBuffer;
+
+	private final AtomicLong droppedEvents = new AtomicLong();
+
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+
+	private final Thread worker;
+
+	/**
+	 * Creates a new dispatcher with a ring buffer of the {@link #DEFAULT_CAPACITY default
+	 * capacity}.
+	 * @return a new, started dispatcher
+	 */
+	public static AsyncEventDispatcher create() {
+		return create(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new dispatcher with a ring buffer of the given capacity.
+	 * @param capacity the maximum number of pending events, must be greater than 0
+	 * @return a new, started dispatcher
+	 */
+	public static AsyncEventDispatcher create(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("The capacity of the ring buffer must be greater than 0");
+		}
+		return new AsyncEventDispatcher(capacity);
+	}
+
+	private AsyncEventDispatcher(int capacity) {
+		this.ringBuffer = new ArrayBlockingQueue<>(capacity);
+		this.worker = new Thread(this::drain, "neo4j-jdbc-event-dispatcher-" + THREAD_COUNTER.incrementAndGet());
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+
+	/**
+	 * Wraps a {@link DriverListener} so that all its callbacks are invoked
+	 * asynchronously.
+	 * @param listener the listener to wrap
+	 * @return a listener dispatching to {@code listener} through this dispatcher
+	 */
+	public DriverListener wrap(DriverListener listener) {
+		Objects.requireNonNull(listener);
+		return new DriverListener() {
+			@Override
+			public void onConnectionOpened(ConnectionOpenedEvent event) {
+				dispatch(listener, l -> l.onConnectionOpened(event));
+			}
+
+			@Override
+			public void onConnectionClosed(ConnectionClosedEvent event) {
+				dispatch(listener, l -> l.onConnectionClosed(event));
+			}
+		};
+	}
+
+	/**
+	 * Wraps a {@link ConnectionListener} so that all its callbacks are invoked
+	 * asynchronously.
+	 * @param listener the listener to wrap
+	 * @return a listener dispatching to {@code listener} through this dispatcher
+	 */
+	public ConnectionListener wrap(ConnectionListener listener) {
+		Objects.requireNonNull(listener);
+		return new ConnectionListener() {
+			@Override
+			public void onStatementCreated(StatementCreatedEvent event) {
+				dispatch(listener, l -> l.onStatementCreated(event));
+			}
+
+			@Override
+			public void onStatementClosed(StatementClosedEvent event) {
+				dispatch(listener, l -> l.onStatementClosed(event));
+			}
+
+			@Override
+			public void onTranslationCached(TranslationCachedEvent event) {
+				dispatch(listener, l -> l.onTranslationCached(event));
+			}
+
+			@Override
+			public void onNewAuthentication(NewAuthenticationEvent event) {
+				dispatch(listener, l -> l.onNewAuthentication(event));
+			}
+		};
+	}
+
+	/**
+	 * Wraps a {@link StatementListener} so that all its callbacks are invoked
+	 * asynchronously.
+	 * @param listener the listener to wrap
+	 * @return a listener dispatching to {@code listener} through this dispatcher
+	 */
+	public StatementListener wrap(StatementListener listener) {
+		Objects.requireNonNull(listener);
+		return new StatementListener() {
+			@Override
+			public void onExecutionStarted(ExecutionStartedEvent event) {
+				dispatch(listener, l -> l.onExecutionStarted(event));
+			}
+
+			@Override
+			public void onExecutionEnded(ExecutionEndedEvent event) {
+				dispatch(listener, l -> l.onExecutionEnded(event));
+			}
+
+			@Override
+			public void on(Neo4jEvent event) {
+				dispatch(listener, l -> l.on(event));
+			}
+		};
+	}
+
+	/**
+	 * Wraps a {@link ResultSetListener} so that all its callbacks are invoked
+	 * asynchronously.
+	 * @param listener the listener to wrap
+	 * @return a listener dispatching to {@code listener} through this dispatcher
+	 */
+	public ResultSetListener wrap(ResultSetListener listener) {
+		Objects.requireNonNull(listener);
+		return new ResultSetListener() {
+			@Override
+			public void onIterationStarted(IterationStartedEvent event) {
+				dispatch(listener, l -> l.onIterationStarted(event));
+			}
+
+			@Override
+			public void onIterationDone(IterationDoneEvent event) {
+				dispatch(listener, l -> l.onIterationDone(event));
+			}
+
+			@Override
+			public void on(Neo4jEvent event) {
+				dispatch(listener, l -> l.on(event));
+			}
+		};
+	}
+
+	/**
+	 * {@return the number of events that have been dropped because the ring buffer was
+	 * full or the dispatcher has already been closed}
+	 */
+	public long getDroppedEvents() {
+		return this.droppedEvents.get();
+	}
+
+	/**
+	 * Stops the dispatcher. Pending events are still delivered, new events will be
+	 * dropped. Waits up to 5 seconds for the pending events to be delivered, a listener
+	 * being notified is never interrupted.
+	 */
+	@Override
+	public void close() {
+		if (!this.closed.compareAndSet(false, true)) {
+			return;
+		}
+		// If the buffer is full, the worker is busy anyway and does not need to be woken up
+		this.ringBuffer.offer(POISON_PILL);
+		if (Thread.currentThread() == this.worker) {
+			return;
+		}
+		try {
+			this.worker.join(CLOSE_TIMEOUT.toMillis());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		if (this.worker.isAlive()) {
+			LOGGER.log(Level.WARNING, () -> "Pending events have not been delivered within %s after closing"
+				.formatted(CLOSE_TIMEOUT));
+		}
+	}
+
+	private <T> void dispatch(T listener, Consumer<T> callback) {
+		if (this.closed.get() || !this.ringBuffer.offer(() -> callback.accept(listener))) {
+			this.droppedEvents.incrementAndGet();
+		}
+	}
+
+	private void drain() {
+		while (!(this.closed.get() && this.ringBuffer.isEmpty())) {
+			Runnable next;
+			try {
+				next = this.ringBuffer.poll(100, TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			if (next == null || next == POISON_PILL) {
+				continue;
+			}
+			try {
+				next.run();
+			}
+			catch (Exception ex) {
+				LOGGER.log(Level.WARNING, ex, () -> "Could not notify listener asynchronously");
+			}
+		}
+	}
+
+}
@@ -32,6 +32,30 @@ import java.util.Map;
  */
 public record Neo4jEvent(Type type, Map<String, Object> payload) {
 
+	/**
+	 * The key under which the number of records of a pull response is stored in the
+	 * payload of {@link Type#RUN_AND_PULL_RESPONSE_ACQUIRED} and
+	 * {@link Type#PULLED_NEXT_BATCH} events.
+	 * @since 6.15.0
+	 */
+	public static final String PAYLOAD_RECORDS = "records";
+
+	/**
+	 * The key under which the flag whether there are more records to pull is stored
+	 * in the payload of {@link Type#RUN_AND_PULL_RESPONSE_ACQUIRED} and
+	 * {@link Type#PULLED_NEXT_BATCH} events.
+	 * @since 6.15.0
+	 */
+	public static final String PAYLOAD_HAS_MORE = "hasMore";
+
+	/**
+	 * The key under which the flag whether a {@code BEGIN} message has been pipelined
+	 * with the initial {@code RUN} is stored in the payload of
+	 * {@link Type#TRANSACTION_ACQUIRED} events.
+	 * @since 6.15.0
+	 */
+	public static final String PAYLOAD_BEGIN_PIPELINED = "beginPipelined";
+
 	/**
 	 * Creates a new event with a given type and payload.
 	 * @param type the type of the event
@@ -71,10 +95,27 @@ public record Neo4jEvent(Type type, Map<String, Object> payload) {
 		 * discarded.
 		 */
 		DISCARD_RESPONSE_ACQUIRED("discardResponseAcquired"),
+		/**
+		 * Fired before another batch of records is pulled over bolt.
+		 * @since 6.15.0
+		 */
+		NEXT_BATCH_REQUESTED("nextBatchRequested"),
 		/**
 		 * Fired after another batch of records has been pulled over bolt.
 		 */
-		PULLED_NEXT_BATCH("pulledNextBatch");
+		PULLED_NEXT_BATCH("pulledNextBatch"),
+		/**
+		 * Fired before an auto-commit transaction is committed when its result set is
+		 * closed.
+		 * @since 6.15.0
+		 */
+		COMMIT_REQUESTED("commitRequested"),
+		/**
+		 * Fired after the commit of an auto-commit transaction has been acknowledged or
+		 * has failed.
+		 * @since 6.15.0
+		 */
+		COMMIT_RESPONSE_ACQUIRED("commitResponseAcquired");
 
 		Type(String value) {
 			this.value = value;
@@ -36,7 +36,8 @@ public interface ResultSetListener extends Neo4jEventListener {
 	}
 
 	/**
-	 * Will be called when the iteration of a result set is done.
+	 * Will be called when the iteration of a result set is done. If closing the result
+	 * set commits an auto-commit transaction, the iteration is done after that commit.
 	 * @param event the event carrying the necessary details
 	 */
 	default void onIterationDone(IterationDoneEvent event) {
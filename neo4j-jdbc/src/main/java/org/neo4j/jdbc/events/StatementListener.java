@@ -57,9 +57,26 @@ public interface StatementListener extends Neo4jEventListener {
 	 * @param executionMode the mode of the execution
 	 * @param statement the statement to be executed. This will always the original
 	 * statement passed to execute, not a potentially translated one
+	 * @param asynchronous {@literal true} if the execution does not block the calling
+	 * thread, the end of the execution is then notified on another thread (since 6.15.0)
 	 */
 	record ExecutionStartedEvent(String id, URI uri, Class<? extends Statement> statementType,
-			ExecutionMode executionMode, String statement) {
+			ExecutionMode executionMode, String statement, boolean asynchronous) {
+
+		/**
+		 * Creates a new event for a blocking execution.
+		 * @param id a generated id to correlate this event to the corresponding
+		 * {@link ExecutionEndedEvent end event}
+		 * @param uri the URL of the Neo4j instance that was queried
+		 * @param statementType the actual type of the statement as defined in the JDBC
+		 * spec.
+		 * @param executionMode the mode of the execution
+		 * @param statement the statement to be executed
+		 */
+		public ExecutionStartedEvent(String id, URI uri, Class<? extends Statement> statementType,
+				ExecutionMode executionMode, String statement) {
+			this(id, uri, statementType, executionMode, statement, false);
+		}
 
 		/**
 		 * The mode how a statement is executed (plain, without any immediate visible
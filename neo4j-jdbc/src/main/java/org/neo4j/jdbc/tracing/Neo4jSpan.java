@@ -38,6 +38,18 @@ public interface Neo4jSpan {
 	 */
 	void annotate(String name);
 
+	/**
+	 * Adds a tag to this span after it has been started. Tags are usually passed to
+	 * {@link Neo4jTracer#start(String, Map)}, but some values such as the number of
+	 * records returned by a pull are only known when the span is about to be ended. The
+	 * default implementation ignores the tag.
+	 * @param key the key of the tag
+	 * @param value the value of the tag
+	 * @since 6.15.0
+	 */
+	default void tag(String key, String value) {
+	}
+
 	/**
 	 * Removes the span from scope and ends it.
 	 */
@@ -40,4 +40,21 @@ public interface Neo4jTracer {
 	 */
 	Neo4jSpan start(String name, Map<String, String> tags);
 
+	/**
+	 * Starts a new span without putting it into the context of the current thread, so
+	 * that it can be ended on any thread. This is used for asynchronous executions, which
+	 * end on another thread than the one they have been started on. The new span shall be
+	 * a child of {@code parent} if given, or of the ongoing span in the current thread
+	 * otherwise. The default implementation delegates to {@link #start(String, Map)},
+	 * tracers keeping spans in thread local scopes should override it.
+	 * @param name the name of the span to start
+	 * @param tags optional list of tags, should be {@literal null} safe
+	 * @param parent the parent of the new span, may be {@literal null}
+	 * @return a new span
+	 * @since 6.15.0
+	 */
+	default Neo4jSpan startDetached(String name, Map<String, String> tags, Neo4jSpan parent) {
+		return start(name, tags);
+	}
+
 }
@@ -18,7 +18,10 @@
  */
 package org.neo4j.jdbc;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Nested;
@@ -51,6 +54,49 @@ class BookmarkManagerTests {
 			assertThat(current).isEmpty();
 		}
 
+		@Test
+		void snapshotsShouldBeSharedUntilUpdated() {
+			var bookmarkManager = new DefaultBookmarkManagerImpl();
+			bookmarkManager.updateBookmarks(Function.identity(), List.of(), List.of("a"));
+			var snapshot = bookmarkManager.getBookmarks();
+			assertThat(bookmarkManager.getBookmarks()).isSameAs(snapshot);
+
+			bookmarkManager.updateBookmarks(Function.identity(), List.of(), List.of("a"));
+			assertThat(bookmarkManager.getBookmarks()).isSameAs(snapshot);
+
+			bookmarkManager.updateBookmarks(Function.identity(), snapshot, List.of("b"));
+			assertThat(bookmarkManager.getBookmarks()).containsExactly("b");
+			assertThat(snapshot).containsExactly("a");
+		}
+
+		@Test
+		void concurrentUpdatesShouldKeepOnlyUnsupersededBookmarks() throws Exception {
+			var bookmarkManager = new DefaultBookmarkManagerImpl();
+			var numberOfThreads = 8;
+			var executor = Executors.newFixedThreadPool(numberOfThreads);
+			try {
+				var futures = new ArrayList<Future<?>>();
+				for (int i = 0; i < numberOfThreads; ++i) {
+					var thread = i;
+					futures.add(executor.submit(() -> {
+						for (int j = 0; j < 1_000; ++j) {
+							var used = bookmarkManager.getBookmarks();
+							bookmarkManager.updateBookmarks(Function.identity(), used, List.of(thread + ":" + j));
+						}
+					}));
+				}
+				for (var future : futures) {
+					future.get();
+				}
+			}
+			finally {
+				executor.shutdown();
+			}
+			var bookmarks = bookmarkManager.getBookmarks();
+			assertThat(bookmarks).isNotEmpty().hasSizeLessThanOrEqualTo(numberOfThreads);
+			assertThat(bookmarks).anyMatch(bookmark -> bookmark.endsWith(":999"));
+		}
+
 	}
 
 	@Nested
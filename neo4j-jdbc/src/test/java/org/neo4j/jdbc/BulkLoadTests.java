@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.SummaryCounters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class BulkLoadTests {
+
+	@Test
+	void shouldMergeNodesOnKeys() throws SQLException {
+		var bulkLoad = BulkLoad.nodes("Person", "id");
+
+		assertThat(bulkLoad.toCypher()).isEqualTo(
+				"UNWIND $rows AS row MERGE (n:`Person` {`id`: row.properties.`id`}) SET n += row.properties");
+		assertThat(bulkLoad.toParameter(mapOf("id", "1", "name", "Alice", "age", null), 1))
+			.isEqualTo(Map.of("properties", Map.of("id", "1", "name", "Alice")));
+	}
+
+	@Test
+	void shouldCreateNodesWithoutKeys() {
+		assertThat(BulkLoad.nodes("Movie").toCypher())
+			.isEqualTo("UNWIND $rows AS row CREATE (n:`Movie`) SET n += row.properties");
+	}
+
+	@Test
+	void shouldLoadRelationshipsBetweenEndpoints() throws SQLException {
+		var bulkLoad = BulkLoad.relationships("ACTED_IN", new BulkLoad.Endpoint("Person", "id", "person"),
+				new BulkLoad.Endpoint("Movie", "title", "movie"));
+
+		assertThat(bulkLoad.toCypher()).isEqualTo(
+				"UNWIND $rows AS row MATCH (s:`Person` {`id`: row.start}) MATCH (e:`Movie` {`title`: row.end}) "
+						+ "CREATE (s)-[r:`ACTED_IN`]->(e) SET r += row.properties");
+		assertThat(bulkLoad.toParameter(Map.of("person", 1, "movie", "The Matrix", "role", "Neo"), 1)).isEqualTo(
+				Map.of("start", 1, "end", "The Matrix", "properties", Map.of("role", "Neo")));
+	}
+
+	@Test
+	void shouldRejectMissingKeys() {
+		var nodes = BulkLoad.nodes("Person", "id");
+		var relationships = BulkLoad.relationships("ACTED_IN", new BulkLoad.Endpoint("Person", "id", "person"),
+				new BulkLoad.Endpoint("Movie", "title", "movie"));
+
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> nodes.toParameter(mapOf("id", null, "name", "Alice"), 3))
+			.withMessageContaining("column id in row 3");
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> relationships.toParameter(mapOf("person", 1, "movie", null), 7))
+			.withMessageContaining("column movie in row 7");
+	}
+
+	@Test
+	void shouldFailBeforeSendingChunkWithMissingKey() {
+		var transaction = mock(Neo4jTransaction.class);
+		var rows = List.of(mapOf("id", "1"), mapOf("id", null)).iterator();
+
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> BulkLoader.load(transaction, BulkLoad.nodes("Node", "id"), rows))
+			.withMessageContaining("column id in row 2");
+		verifyNoInteractions(transaction);
+	}
+
+	@Test
+	void shouldConvertStringValues() throws SQLException {
+		var bulkLoad = BulkLoad
+			.relationships("ACTED_IN", new BulkLoad.Endpoint("Person", "id", "person"),
+					new BulkLoad.Endpoint("Movie", "title", "movie"))
+			.withColumnConverter("person", Long::valueOf)
+			.withColumnConverter("year", Integer::valueOf);
+
+		assertThat(bulkLoad.toParameter(Map.of("person", "1", "movie", "The Matrix", "year", 1999), 1))
+			.isEqualTo(Map.of("start", 1L, "end", "The Matrix", "properties", Map.of("year", 1999)));
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> bulkLoad.toParameter(Map.of("person", "x", "movie", "The Matrix"), 4))
+			.withMessageContaining("value 'x' of column person in row 4")
+			.withCauseInstanceOf(NumberFormatException.class);
+	}
+
+	@Test
+	void shouldValidateOptions() {
+		assertThatIllegalArgumentException().isThrownBy(() -> BulkLoad.nodes(" "))
+			.withMessage("The label must not be null or blank");
+		assertThatIllegalArgumentException().isThrownBy(() -> BulkLoad.nodes("Person").withChunkSize(0))
+			.withMessage("The chunk size must be greater than 0");
+		assertThatIllegalArgumentException().isThrownBy(() -> BulkLoad.nodes("Person").withMaxChunksInFlight(0))
+			.withMessage("The number of chunks in flight must be greater than 0");
+	}
+
+	@Test
+	void shouldPipelineBoundedNumberOfChunks() throws SQLException {
+		var outstanding = new AtomicInteger();
+		var maxOutstanding = new AtomicInteger();
+		var chunks = new ArrayList<Integer>();
+		var transaction = mock(Neo4jTransaction.class);
+		given(transaction.runAndDiscardAsync(anyString(), anyMap())).willAnswer(invocation -> {
+			maxOutstanding.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+			var chunk = (List<?>) invocation.<Map<String, Object>>getArgument(1).get("rows");
+			var response = discardResponse(chunk.size());
+			return CompletableFuture.supplyAsync(() -> {
+				outstanding.decrementAndGet();
+				return response;
+			}, CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS));
+		});
+		var rows = IntStream.range(0, 25).mapToObj(i -> Map.of("id", i)).iterator();
+
+		var result = BulkLoader.load(transaction, BulkLoad.nodes("Node", "id")
+			.withChunkSize(3)
+			.withMaxChunksInFlight(2)
+			.withChunkListener(chunkResult -> chunks.add(chunkResult.chunk())), rows);
+
+		assertThat(result).isEqualTo(new BulkLoad.Result(9, 25, 25, 0, 25, 25));
+		assertThat(chunks).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+		assertThat(maxOutstanding).hasValueBetween(1, 2);
+	}
+
+	@Test
+	void shouldFailOnFirstFailedChunk() {
+		var response = discardResponse(1);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transaction.runAndDiscardAsync(anyString(), anyMap()))
+			.willReturn(CompletableFuture.completedFuture(response))
+			.willReturn(CompletableFuture.failedFuture(new SQLException("Constraint violated")));
+		var rows = IntStream.range(0, 5).mapToObj(i -> Map.of("id", i)).iterator();
+
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> BulkLoader.load(transaction, BulkLoad.nodes("Node").withChunkSize(1), rows))
+			.withMessage("Constraint violated");
+	}
+
+	@Test
+	void shouldReadCsv() {
+		var rows = new CsvRows(new StringReader("""
+				id,name,comment\r
+				1,"Doe, John","He said ""hi""
+				twice"\r
+				2,,""
+				"""));
+
+		assertThat(rows.next())
+			.isEqualTo(mapOf("id", "1", "name", "Doe, John", "comment", "He said \"hi\"\ntwice"));
+		assertThat(rows.next()).isEqualTo(mapOf("id", "2", "name", null, "comment", ""));
+		assertThat(rows.hasNext()).isFalse();
+	}
+
+	@Test
+	void shouldRejectRecordsWithWrongNumberOfFields() {
+		var rows = new CsvRows(new StringReader("a,b\n1\n"));
+
+		assertThatExceptionOfType(UncheckedSQLException.class).isThrownBy(rows::next)
+			.withMessageContaining("record 2 with 1 instead of 2 fields");
+	}
+
+	private static Map<String, Object> mapOf(Object... keysAndValues) {
+		var result = new HashMap<String, Object>();
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			result.put((String) keysAndValues[i], keysAndValues[i + 1]);
+		}
+		return result;
+	}
+
+	private static Neo4jTransaction.DiscardResponse discardResponse(int rows) {
+		var counters = mock(SummaryCounters.class);
+		given(counters.nodesCreated()).willReturn(rows);
+		given(counters.propertiesSet()).willReturn(rows);
+		given(counters.labelsAdded()).willReturn(rows);
+		var response = mock(Neo4jTransaction.DiscardResponse.class);
+		given(response.resultSummary()).willReturn(Optional.of(new Neo4jTransaction.ResultSummary(counters)));
+		return response;
+	}
+
+}
@@ -18,7 +18,9 @@
  */
 package org.neo4j.jdbc;
 
+import java.io.StringReader;
 import java.net.URI;
+import java.nio.file.Path;
 import java.sql.ClientInfoStatus;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -30,6 +32,8 @@ import java.sql.SQLWarning;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Wrapper;
+import java.time.Clock;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -37,12 +41,14 @@ import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -58,14 +64,18 @@ import org.neo4j.bolt.connection.BoltConnection;
 import org.neo4j.bolt.connection.ResponseHandler;
 import org.neo4j.bolt.connection.TransactionType;
 import org.neo4j.bolt.connection.exception.BoltException;
+import org.neo4j.bolt.connection.exception.BoltFailureException;
 import org.neo4j.bolt.connection.message.BeginMessage;
 import org.neo4j.bolt.connection.message.CommitMessage;
 import org.neo4j.bolt.connection.message.Message;
 import org.neo4j.bolt.connection.message.ResetMessage;
 import org.neo4j.bolt.connection.message.RollbackMessage;
+import org.neo4j.bolt.connection.message.RunMessage;
 import org.neo4j.bolt.connection.summary.CommitSummary;
+import org.neo4j.bolt.connection.summary.DiscardSummary;
 import org.neo4j.bolt.connection.summary.ResetSummary;
 import org.neo4j.bolt.connection.summary.RollbackSummary;
+import org.neo4j.bolt.connection.summary.RunSummary;
 import org.neo4j.jdbc.ConnectionImpl.TranslatorChain;
 import org.neo4j.jdbc.authn.spi.Authentication;
 import org.neo4j.jdbc.internal.bolt.BoltAdapters;
@@ -83,6 +93,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @SuppressWarnings("resource")
@@ -142,6 +153,72 @@ class ConnectionImplTests {
 		then(translator).should(times(1)).translate(eq(sql), any(DatabaseMetaData.class));
 	}
 
+	@Test
+	void shouldReuseProcessedStatementsFromCache() throws SQLException {
+		var translator = mock(Translator.class);
+		var sql = "SELECT * FROM Movie WHERE title = ?";
+		given(translator.translate(eq(sql), any(DatabaseMetaData.class)))
+			.willReturn("MATCH (movie:Movie) WHERE movie.title = ? RETURN *");
+		var cache = new PreparedStatementCache(8);
+		var connections = new ArrayList<ConnectionImpl>();
+		for (int i = 0; i < 2; ++i) {
+			connections.add(new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none,
+					auth -> mock(BoltConnection.class), () -> List.of(translator), true, false, false, true,
+					new NoopBookmarkManagerImpl(), Map.of(), 23, "aBeautifulDatabase", null, List.of(),
+					ConnectionOptions.DEFAULTS.withPreparedStatementCache(cache)));
+		}
+
+		for (var connection : connections) {
+			var statement = (PreparedStatementImpl) connection.prepareStatement(sql);
+			assertThat(statement.processSQL(sql)).isEqualTo("MATCH (movie:Movie) WHERE movie.title = $1 RETURN *");
+		}
+		then(translator).should(times(1)).translate(eq(sql), any(DatabaseMetaData.class));
+		assertThat(connections.get(0).getPreparedStatementCacheStatistics())
+			.hasValue(new Neo4jConnection.PreparedStatementCacheStatistics(1, 8, 1, 1, 0));
+
+		var notPoolable = (PreparedStatementImpl) connections.get(1).prepareStatement(sql);
+		notPoolable.setPoolable(false);
+		notPoolable.processSQL(sql);
+		then(translator).should(times(2)).translate(eq(sql), any(DatabaseMetaData.class));
+
+		connections.get(1).flushTranslationCache();
+		assertThat(connections.get(0).getPreparedStatementCacheStatistics()).hasValueSatisfying(
+				statistics -> assertThat(statistics.size()).isZero());
+	}
+
+	@Test
+	void shouldAddCachedTranslationWarnings() throws SQLException {
+		var sql = "SELECT * FROM Movie";
+		var failingTranslator = mock(Translator.class);
+		given(failingTranslator.translate(eq(sql), any(DatabaseMetaData.class)))
+			.willThrow(new IllegalArgumentException("Unsupported"));
+		var translator = mock(Translator.class);
+		given(translator.translate(eq(sql), any(DatabaseMetaData.class))).willReturn("MATCH (movie:Movie) RETURN *");
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none,
+				auth -> mock(BoltConnection.class), () -> List.of(failingTranslator, translator), true, false, false,
+				true, new NoopBookmarkManagerImpl(), Map.of(), 23, "aBeautifulDatabase", null, List.of(),
+				ConnectionOptions.DEFAULTS.withPreparedStatementCache(new PreparedStatementCache(8)));
+
+		for (int i = 0; i < 2; ++i) {
+			var statement = (PreparedStatementImpl) connection.prepareStatement(sql);
+			statement.processSQL(sql);
+			statement.processSQL(sql);
+			var warning = statement.getWarnings();
+			assertThat((Object) warning).isNotNull();
+			assertThat(warning.getMessage()).startsWith("Translator").contains("failed to translate");
+			assertThat(warning.getCause()).hasMessage("Unsupported");
+			assertThat((Object) warning.getNextWarning()).isNull();
+		}
+		then(translator).should(times(1)).translate(eq(sql), any(DatabaseMetaData.class));
+	}
+
+	@Test
+	void shouldNotHavePreparedStatementCacheByDefault() {
+		var connection = makeConnection(mock(BoltConnection.class));
+
+		assertThat(connection.getPreparedStatementCacheStatistics()).isEmpty();
+	}
+
 	@Test
 	void shouldBeAutoCommitByDefault() throws SQLException {
 		var connection = makeConnection(mock(BoltConnection.class));
@@ -354,6 +431,87 @@ class ConnectionImplTests {
 		then(boltConnection).shouldHaveNoMoreInteractions();
 	}
 
+	@Test
+	void shouldReplaceWriterConnectionAfterLeaderSwitch() throws SQLException {
+		var oldLeader = mockBoltConnection();
+		var newLeader = mockBoltConnection();
+		var leaders = new ArrayDeque<>(List.of(oldLeader, newLeader));
+		var routingTableLoads = new AtomicInteger();
+		// Every routing table names another leader
+		Router.RoutingTableLoader routingTableLoader = (boltConnection, authentication, initialRouter, databaseName,
+				now) -> new Router.RoutingTable(List.of("seed:7687"), List.of(),
+						List.of("core%d:7687".formatted(routingTableLoads.incrementAndGet())), now.plusSeconds(300));
+		var router = new Router("seed:7687", "neo4j",
+				(address, authentication) -> "seed:7687".equals(address) ? mock(BoltConnection.class)
+						: leaders.poll(),
+				routingTableLoader, Clock.systemUTC());
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://seed"), Authentication::none,
+				auth -> router.acquire(AccessMode.WRITE, auth), List::of, false, false, true, false,
+				new NoopBookmarkManagerImpl(), Map.of(), 23, "aBeautifulDatabase", null, List.of(),
+				new ConnectionOptions(router, false, null, false, null, null, null,
+						ConnectionImpl.DEFAULT_MAX_AUXILIARY_CONNECTIONS));
+
+		var notALeader = mock(BoltFailureException.class);
+		given(notALeader.code()).willReturn("Neo.ClientError.Cluster.NotALeader");
+		given(oldLeader.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+		given(oldLeader.writeAndFlush(any(), anyList(), any())).willReturn(CompletableFuture.failedFuture(notALeader));
+		given(oldLeader.close()).willReturn(CompletableFuture.completedStage(null));
+		given(newLeader.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+
+		var transaction = connection.getTransaction(Map.of());
+		assertThatThrownBy(() -> transaction.runAndDiscard("CREATE (n)", Map.of(), 0, false))
+			.isInstanceOf(SQLException.class);
+		then(oldLeader).should(never()).close();
+
+		connection.getTransaction(Map.of());
+
+		then(oldLeader).should().close();
+		then(newLeader).should().write(anyList());
+		assertThat(routingTableLoads).hasValue(2);
+		assertThat(router.getConnectionsInUse("core1:7687")).isZero();
+		assertThat(router.getConnectionsInUse("core2:7687")).isOne();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "", "x" })
+	void shouldRollbackAutoCommitBulkLoadOnInvalidRow(String invalidId) throws SQLException {
+		var boltConnection = mockBoltConnection();
+		given(boltConnection.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				var handler = invocation.<ResponseHandler>getArgument(0);
+				if (invocation.<List<Message>>getArgument(1).get(0) instanceof RollbackMessage) {
+					handler.onRollbackSummary(mock(RollbackSummary.class));
+				}
+				else {
+					handler.onRunSummary(mock(RunSummary.class));
+					handler.onDiscardSummary(mock(DiscardSummary.class));
+				}
+				handler.onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+		var connection = makeConnection(boltConnection);
+		var csv = new StringBuilder("id,name\n");
+		for (int i = 1; i <= 10; ++i) {
+			csv.append((i != 8) ? String.valueOf(i) : invalidId).append(",n").append(i).append("\n");
+		}
+		var bulkLoad = BulkLoad.nodes("Node", "id").withChunkSize(3).withColumnConverter("id", Long::valueOf);
+
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> connection.bulkLoad(bulkLoad, new StringReader(csv.toString())))
+			.withMessageContaining("column id in row 8");
+
+		// The first two chunks have been loaded, the third one contains the invalid row
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Message>> messagesCaptor = ArgumentCaptor.forClass(List.class);
+		then(boltConnection).should(times(3)).writeAndFlush(any(), messagesCaptor.capture(), any());
+		var messages = messagesCaptor.getAllValues();
+		assertThat(messages.get(0).get(0)).isInstanceOf(RunMessage.class);
+		assertThat(messages.get(1).get(0)).isInstanceOf(RunMessage.class);
+		assertThat(messages.get(2)).singleElement().isInstanceOf(RollbackMessage.class);
+		assertThat(messages).flatMap(List::copyOf).noneMatch(CommitMessage.class::isInstance);
+	}
+
 	@Test
 	void shouldHaveNonReadOnlyByDefault() throws SQLException {
 		var connection = makeConnection(mock(BoltConnection.class));
@@ -414,6 +572,71 @@ class ConnectionImplTests {
 		assertThat(beginMessage.bookmarks().isEmpty()).isTrue();
 	}
 
+	@Test
+	void shouldUseAuxiliaryConnectionForConcurrentAutoCommitTransactions() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		given(boltConnection.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+		var auxiliaryBoltConnection = mockBoltConnection();
+		given(auxiliaryBoltConnection.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+		var boltConnections = new ArrayDeque<>(List.of(boltConnection, auxiliaryBoltConnection));
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none,
+				auth -> boltConnections.poll(), List::of, false, false, true, false, new NoopBookmarkManagerImpl(),
+				Map.of(), 23, "aBeautifulDatabase", null, List.of());
+
+		var transaction = connection.getTransaction(Map.of());
+		var nestedTransaction = connection.getTransaction(Map.of());
+
+		assertThat(nestedTransaction).isNotSameAs(transaction);
+		assertThat(nestedTransaction.isAutoCommit()).isTrue();
+		assertThat(boltConnections).isEmpty();
+		then(boltConnection).should().write(anyList());
+		then(auxiliaryBoltConnection).should().write(anyList());
+		assertThatThrownBy(() -> connection.setReadOnly(true)).isExactlyInstanceOf(Neo4jException.class);
+	}
+
+	@Test
+	void shouldLimitAuxiliaryConnections() throws SQLException {
+		var boltConnections = new ArrayDeque<BoltConnection>();
+		for (var i = 0; i < 3; ++i) {
+			var boltConnection = mockBoltConnection();
+			given(boltConnection.write(anyList())).willReturn(CompletableFuture.completedStage(null));
+			boltConnections.add(boltConnection);
+		}
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none,
+				auth -> boltConnections.poll(), List::of, false, false, true, false, new NoopBookmarkManagerImpl(),
+				Map.of(), 23, "aBeautifulDatabase", null, List.of(),
+				ConnectionOptions.DEFAULTS.withMaxAuxiliaryConnections(1));
+
+		connection.getTransaction(Map.of());
+		connection.getTransaction(Map.of());
+
+		assertThatThrownBy(() -> connection.getTransaction(Map.of())).isExactlyInstanceOf(Neo4jException.class)
+			.hasMessageContaining("Cannot open more than 1 additional auto-commit results");
+		assertThat(boltConnections).hasSize(1);
+	}
+
+	@Test
+	void closeShouldCancelPendingExplains() throws SQLException {
+		var boltConnection = mockBoltConnection();
+		given(boltConnection.close()).willReturn(CompletableFuture.completedStage(null));
+		var metadataBoltConnection = mock(BoltConnection.class);
+		given(metadataBoltConnection.authInfo()).willReturn(new CompletableFuture<>());
+		var boltConnections = new ArrayDeque<>(List.of(boltConnection, metadataBoltConnection));
+		var connection = new ConnectionImpl(URI.create("jdbc:neo4j://localhost"), Authentication::none,
+				auth -> boltConnections.poll(), List::of, false, false, true, false, new NoopBookmarkManagerImpl(),
+				Map.of(), 23, "aBeautifulDatabase", null, List.of());
+
+		var first = connection.explain("RETURN 1").toCompletableFuture();
+		var second = connection.explain("RETURN 2").toCompletableFuture();
+		assertThat(first).isNotDone();
+		assertThat(second).isNotDone();
+
+		connection.close();
+
+		assertThat(first).isCancelled();
+		assertThat(second).isCancelled();
+	}
+
 	@Test
 	void catalogShouldBeEqualToDatabasename() throws SQLException {
 		var connection = makeConnection(mock(BoltConnection.class));
@@ -993,6 +1216,21 @@ class ConnectionImplTests {
 			assertThat(warnings).isEmpty();
 		}
 
+		@Test
+		void storedTranslationsShouldBeUsed(@TempDir Path tempDir) {
+
+			var warnings = new ArrayList<SQLWarning>();
+			var store = TranslationStore.open(tempDir.resolve("translations.txt")).scope("a");
+			store.put("x", "x_stored");
+			var translatorChain = new TranslatorChain(List.of(new StaticTranslator("s1")), null, warnings::add,
+					store);
+			assertThat(translatorChain.apply("x")).isEqualTo("x_stored");
+			assertThat(translatorChain.apply("s1")).isEqualTo("s1_translated");
+			assertThat(store.get("s1")).isEqualTo("s1_translated");
+			assertThatIllegalArgumentException().isThrownBy(() -> translatorChain.apply("y"));
+			assertThat(store.get("y")).isNull();
+		}
+
 		@Test
 		void singleTranslatorExceptionShouldBeRethrown() {
 
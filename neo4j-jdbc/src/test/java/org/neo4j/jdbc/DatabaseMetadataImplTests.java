@@ -21,6 +21,7 @@ package org.neo4j.jdbc;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -41,6 +42,7 @@ import org.neo4j.bolt.connection.LoggingProvider;
 import org.neo4j.bolt.connection.observation.ObservationProvider;
 import org.neo4j.bolt.connection.values.ValueFactory;
 import org.neo4j.jdbc.values.Type;
+import org.neo4j.jdbc.values.Values;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -287,6 +289,45 @@ class DatabaseMetadataImplTests {
 		assertThat(connection.getClientInfo("ApplicationName")).isEqualTo("a unit test");
 	}
 
+	@Test
+	void getPartitionsShouldRequireAtLeastOnePartition() {
+		var databaseMetadata = newDatabaseMetadata();
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> databaseMetadata.getPartitions("Person", "id", 0))
+			.withMessageContaining("The number of partitions must be greater than 0");
+	}
+
+	@Test
+	void partitionsShouldCoverAllValues() {
+		var rows = DatabaseMetadataImpl.partitionsFor("Person", "id", List.of(Values.value(10L), Values.value(20L)));
+
+		assertThat(rows).hasSize(3);
+		assertThat(rows).extracting(row -> row[2].asInt()).containsExactly(1, 2, 3);
+		assertThat(rows).extracting(row -> row[5].asString())
+			.containsExactly("id < 10 OR id IS NULL", "id >= 10 AND id < 20", "id >= 20");
+		assertThat(rows.get(0)[3].isNull()).isTrue();
+		assertThat(rows.get(2)[4].isNull()).isTrue();
+	}
+
+	@Test
+	void partitionsShouldQuoteColumnsAndStrings() {
+		var rows = DatabaseMetadataImpl.partitionsFor("Person", "last name", List.of(Values.value("O'Neil")));
+
+		assertThat(rows).extracting(row -> row[5].asString())
+			.containsExactly("\"last name\" < 'O''Neil' OR \"last name\" IS NULL", "\"last name\" >= 'O''Neil'");
+	}
+
+	@Test
+	void partitionsWithoutPredicates() {
+		var singlePartition = DatabaseMetadataImpl.partitionsFor("Person", "id", List.of());
+		assertThat(singlePartition).hasSize(1);
+		assertThat(singlePartition.get(0)[5].isNull()).isTrue();
+
+		var rows = DatabaseMetadataImpl.partitionsFor("Person", "born",
+				List.of(Values.value(LocalDate.of(1970, 1, 1))));
+		assertThat(rows).hasSize(2).allMatch(row -> row[5].isNull());
+	}
+
 	private Connection newConnection() throws SQLException {
 		var url = "jdbc:neo4j://host";
 
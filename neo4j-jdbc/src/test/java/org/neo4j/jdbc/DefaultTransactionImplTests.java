@@ -22,13 +22,16 @@ import java.sql.SQLException;
 import java.sql.SQLTimeoutException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -43,6 +46,7 @@ import org.neo4j.bolt.connection.BoltConnection;
 import org.neo4j.bolt.connection.ResponseHandler;
 import org.neo4j.bolt.connection.TransactionType;
 import org.neo4j.bolt.connection.exception.BoltException;
+import org.neo4j.bolt.connection.exception.BoltFailureException;
 import org.neo4j.bolt.connection.message.BeginMessage;
 import org.neo4j.bolt.connection.message.CommitMessage;
 import org.neo4j.bolt.connection.message.DiscardMessage;
@@ -67,7 +71,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 class DefaultTransactionImplTests {
@@ -148,6 +154,51 @@ class DefaultTransactionImplTests {
 		then(boltConnection).shouldHaveNoMoreInteractions();
 	}
 
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void shouldRunPullAndCommitAfterThePull(boolean hasMore) throws SQLException {
+		var boltConnection = mockBoltConnection();
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, NOOP_HANDLER, false, true,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+		var pullSummary = mock(PullSummary.class);
+		given(pullSummary.hasMore()).willReturn(hasMore);
+		given(boltConnection.writeAndFlush(any(), messageTypeMatcher(List.of(RunMessage.class, PullMessage.class)),
+				any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				invocation.<ResponseHandler>getArgument(0).onRunSummary(mock(RunSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onPullSummary(pullSummary);
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+		// A server still streaming the result would reject the COMMIT, so the rest of
+		// the result must be discarded first
+		var commitMessages = hasMore ? List.<Class<? extends Message>>of(DiscardMessage.class, CommitMessage.class)
+				: List.<Class<? extends Message>>of(CommitMessage.class);
+		given(boltConnection.writeAndFlush(any(), messageTypeMatcher(commitMessages), any()))
+			.willAnswer((Answer<CompletableFuture<Void>>) invocation -> {
+				if (hasMore) {
+					invocation.<ResponseHandler>getArgument(0).onDiscardSummary(mock(DiscardSummary.class));
+				}
+				invocation.<ResponseHandler>getArgument(0).onCommitSummary(mock(CommitSummary.class));
+				invocation.<ResponseHandler>getArgument(0).onComplete();
+				return CompletableFuture.completedFuture(null);
+			});
+
+		var response = this.transaction.runPullAndCommit("query", Collections.emptyMap(), 1, 0);
+
+		assertThat(response.pullResponse()).isNotNull();
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.COMMITTED);
+		assertThat(this.transaction.isRunnable()).isFalse();
+		var inOrder = inOrder(boltConnection);
+		inOrder.verify(boltConnection).write(anyList());
+		inOrder.verify(boltConnection)
+			.writeAndFlush(any(), messageTypeMatcher(List.of(RunMessage.class, PullMessage.class)), any());
+		inOrder.verify(boltConnection).writeAndFlush(any(), messageTypeMatcher(commitMessages), any());
+		then(boltConnection).should().authInfo();
+		then(boltConnection).shouldHaveNoMoreInteractions();
+	}
+
 	@ParameterizedTest
 	@ValueSource(booleans = { true, false })
 	void shouldRunAndDiscard(boolean commit) throws SQLException {
@@ -672,6 +723,34 @@ class DefaultTransactionImplTests {
 		then(fatalExceptionHandler).should().handle(any(SQLException.class), any(SQLException.class));
 	}
 
+	@ParameterizedTest
+	@CsvSource({ "Neo.ClientError.Cluster.NotALeader, true",
+			"Neo.ClientError.General.ForbiddenOnReadOnlyDatabase, true",
+			"Neo.ClientError.Statement.SyntaxError, false" })
+	void shouldNotifyExceptionHandlerOnRoutingFailure(String code, boolean routingFailure) {
+		var boltConnection = mockBoltConnection();
+		var fatalExceptionHandler = mock(DefaultTransactionImpl.FatalExceptionHandler.class);
+		var failure = mock(BoltFailureException.class);
+		given(failure.code()).willReturn(code);
+		given(boltConnection.writeAndFlush(any(), anyList(), any()))
+			.willReturn(CompletableFuture.failedFuture(failure));
+
+		this.transaction = new DefaultTransactionImpl(boltConnection, null, null, fatalExceptionHandler, false, true,
+				AccessMode.WRITE, null, "aBeautifulDatabase", state -> {
+				}, Authentication.usernameAndPassword("foo", "bar"));
+
+		assertThatThrownBy(() -> this.transaction.runAndDiscard("CREATE (n)", Map.of(), 0, false))
+			.isExactlyInstanceOf(Neo4jException.class);
+		assertThat(this.transaction.getState()).isEqualTo(Neo4jTransaction.State.FAILED);
+		if (routingFailure) {
+			then(fatalExceptionHandler).should().handleRoutingFailure(boltConnection);
+		}
+		else {
+			then(fatalExceptionHandler).should(never()).handleRoutingFailure(any());
+		}
+		then(fatalExceptionHandler).should(never()).handle(any(), any());
+	}
+
 	@ParameterizedTest
 	@ValueSource(booleans = { true, false })
 	void shouldDiscardOpenCursorsOnClose(boolean commit) throws SQLException {
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventsTests {
+
+	@Test
+	void noEventShouldBeCreatedWithoutListeners() {
+		var created = new AtomicInteger();
+
+		Events.<Consumer<Object>, Object>notify(List.of(), () -> {
+			created.incrementAndGet();
+			return new Object();
+		}, Consumer::accept);
+
+		assertThat(created).hasValue(0);
+	}
+
+	@Test
+	void eventShouldBeCreatedOncePerNotification() {
+		var created = new AtomicInteger();
+		var received = new ArrayList<Object>();
+		List<Consumer<Object>> listeners = List.of(received::add, event -> {
+			throw new IllegalStateException("Failing listeners must not affect others");
+		}, received::add);
+
+		Events.notify(listeners, () -> {
+			created.incrementAndGet();
+			return new Object();
+		}, Consumer::accept);
+
+		assertThat(created).hasValue(1);
+		assertThat(received).hasSize(2);
+		assertThat(received.get(0)).isSameAs(received.get(1));
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeysetPaginationTests {
+
+	private final KeysetPagination keysetPagination = new KeysetPagination();
+
+	private static void read(KeysetPagination.Page page, Object... ids) {
+		var keys = List.of("name", "id");
+		page.start(keys);
+		for (var id : ids) {
+			page.onRow(Record.of(keys, new Value[] { Values.value("n"), Values.value(id) }));
+		}
+		page.complete();
+	}
+
+	@Test
+	void shouldSeekFollowingPages() {
+
+		var sql = "SELECT name, id FROM Person p WHERE p.name <> 'x' ORDER BY id LIMIT 3 OFFSET %d";
+		var firstPage = this.keysetPagination.plan(sql.formatted(0));
+		assertThat(firstPage.sql()).isEqualTo(sql.formatted(0));
+		read(firstPage, 1L, 2L, 3L);
+
+		var secondPage = this.keysetPagination.plan(sql.formatted(3));
+		assertThat(secondPage.sql()).isEqualTo(
+				"SELECT name, id FROM Person p WHERE (p.name <> 'x') AND id >= 3 ORDER BY id LIMIT 3 OFFSET 1");
+		read(secondPage, 4L, 5L, 5L);
+
+		assertThat(this.keysetPagination.plan(sql.formatted(6)).sql()).isEqualTo(
+				"SELECT name, id FROM Person p WHERE (p.name <> 'x') AND id >= 5 ORDER BY id LIMIT 3 OFFSET 2");
+	}
+
+	@Test
+	void shouldCountTiesAcrossPages() {
+
+		var sql = "select name, id from Person order by p.id desc limit 2 offset %d;";
+		read(this.keysetPagination.plan(sql.formatted(0)), "c", "b");
+		read(this.keysetPagination.plan(sql.formatted(2)), "b", "b");
+
+		assertThat(this.keysetPagination.plan(sql.formatted(4)).sql())
+			.isEqualTo("select name, id from Person WHERE p.id <= 'b' order by p.id desc limit 2 offset 3;");
+	}
+
+	@Test
+	void shouldNotSeekPagesNotFollowingTheLastOne() {
+
+		var sql = "SELECT * FROM Person ORDER BY id LIMIT 2 OFFSET %d";
+		assertThat(this.keysetPagination.plan(sql.formatted(4))).isNull();
+
+		read(this.keysetPagination.plan(sql.formatted(0)), 1L);
+		assertThat(this.keysetPagination.plan(sql.formatted(2))).isNull();
+	}
+
+	@Test
+	void shouldForgetPositionsWithoutUsableSortKey() {
+
+		var sql = "SELECT * FROM Person ORDER BY id LIMIT 2 OFFSET %d";
+		read(this.keysetPagination.plan(sql.formatted(0)), 1L, null);
+
+		assertThat(this.keysetPagination.plan(sql.formatted(2))).isNull();
+	}
+
+	@Test
+	void shouldForgetPositionsWithAmbiguousSortKey() {
+
+		var sql = "SELECT p.id, p.id FROM Person p ORDER BY p.id LIMIT 1 OFFSET %d";
+		var keys = List.of("id", "id");
+		var page = this.keysetPagination.plan(sql.formatted(0));
+		page.start(keys);
+		page.onRow(Record.of(keys, new Value[] { Values.value(1L), Values.value(1L) }));
+		page.complete();
+
+		assertThat(this.keysetPagination.plan(sql.formatted(1))).isNull();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "SELECT * FROM Person ORDER BY id LIMIT 2",
+			"SELECT * FROM Person ORDER BY 1 LIMIT 2 OFFSET 0",
+			"SELECT DISTINCT id FROM Person ORDER BY id LIMIT 2 OFFSET 0",
+			"SELECT id, count(*) FROM Person GROUP BY id ORDER BY id LIMIT 2 OFFSET 0",
+			"SELECT name AS id FROM Person ORDER BY id LIMIT 2 OFFSET 0",
+			"SELECT * FROM Person WHERE id IN (SELECT id FROM Actor) ORDER BY id LIMIT 2 OFFSET 0",
+			"SELECT * FROM Person ORDER BY name, id LIMIT 2 OFFSET 0",
+			"SELECT p.id FROM Person p JOIN Movie m ON m.id = p.id ORDER BY p.id LIMIT 2 OFFSET 0",
+			"SELECT p.id FROM Person p, Movie m WHERE m.id IN (1, 2) ORDER BY p.id LIMIT 2 OFFSET 0",
+			"/*+ NEO4J FORCE_CYPHER */ SELECT * FROM Person ORDER BY id LIMIT 2 OFFSET 0",
+			"MATCH (n) RETURN n.id AS id ORDER BY id LIMIT 2 OFFSET 0" })
+	void shouldIgnoreUnsupportedQueries(String sql) {
+
+		assertThat(this.keysetPagination.plan(sql)).isNull();
+	}
+
+}
@@ -19,7 +19,10 @@
 package org.neo4j.jdbc;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
@@ -61,6 +64,29 @@ class LazyTests {
 		assertThat(cnt.get()).isEqualTo(2);
 	}
 
+	@Test
+	void shouldNotHoldMonitorWhileResolving() {
+		var holdsLock = new AtomicBoolean(true);
+		var lazy = new AtomicReference<Lazy<Integer>>();
+		lazy.set(Lazy.of(() -> {
+			holdsLock.set(Thread.holdsLock(lazy.get()));
+			return 1;
+		}));
+		assertThat(lazy.get().resolve()).isOne();
+		assertThat(holdsLock).isFalse();
+	}
+
+	@Test
+	void shouldOnlyPassResolvedValue() {
+		var lazy = Lazy.of(() -> 1);
+		var values = new ArrayList<Integer>();
+		lazy.ifResolved(values::add);
+		assertThat(values).isEmpty();
+		lazy.resolve();
+		lazy.ifResolved(values::add);
+		assertThat(values).containsExactly(1);
+	}
+
 	@Test
 	void shouldNotWrapRuntimeException() {
 		var lazy = Lazy.of(() -> {
@@ -18,23 +18,36 @@
  */
 package org.neo4j.jdbc;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.bolt.connection.AuthToken;
 import org.neo4j.bolt.connection.AuthTokens;
+import org.neo4j.bolt.connection.BoltConnection;
+import org.neo4j.bolt.connection.BoltConnectionProvider;
+import org.neo4j.bolt.connection.BoltConnectionProviderFactory;
+import org.neo4j.bolt.connection.LoggingProvider;
+import org.neo4j.bolt.connection.observation.ObservationProvider;
+import org.neo4j.bolt.connection.values.ValueFactory;
 import org.neo4j.jdbc.authn.spi.Authentication;
 import org.neo4j.jdbc.authn.spi.CustomAuthentication;
 import org.neo4j.jdbc.authn.spi.TokenAuthentication;
@@ -47,8 +60,12 @@ import org.neo4j.jdbc.values.Values;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.then;
 
 class Neo4jDriverTests {
 
@@ -155,6 +172,92 @@ class Neo4jDriverTests {
 			.withMessage("now");
 	}
 
+	@Test
+	void precompileTranslationsShouldFillTheStore(@TempDir Path tempDir) throws SQLException, IOException {
+
+		BoltConnection boltConnection = mock();
+		given(boltConnection.close()).willReturn(CompletableFuture.completedFuture(null));
+		BoltConnectionProvider boltConnectionProvider = mock();
+		given(boltConnectionProvider.connect(any(), any(), any(), any(), anyInt(), anyLong(), any(), any(), any(),
+				any(), any()))
+			.willReturn(CompletableFuture.completedFuture(boltConnection));
+		var driver = new Neo4jDriver(List.of(new BoltConnectionProviderFactory() {
+			@Override
+			public boolean supports(String s) {
+				return true;
+			}
+
+			@Override
+			public BoltConnectionProvider create(LoggingProvider loggingProvider, ValueFactory valueFactory,
+					ObservationProvider observationProvider, Map<String, ?> additionalConfig) {
+				return boltConnectionProvider;
+			}
+		}));
+
+		var file = tempDir.resolve("translations.txt");
+		var info = properties(Map.of("user", "test", "password", "password", Neo4jDriver.PROPERTY_TRANSLATOR_FACTORY,
+				UpperCaseTranslatorFactory.class.getName(), Neo4jDriver.PROPERTY_TRANSLATION_STORE, file.toString()));
+
+		var translated = driver.precompileTranslations("jdbc:neo4j://localhost", info,
+				List.of("match (n) return n", "fail"));
+
+		assertThat(translated).isOne();
+		then(boltConnection).should().close();
+		var store = TranslationStore.open(file);
+		var hash = Neo4jDriver.DriverConfig.of("jdbc:neo4j://localhost", info).translatorConfigHash();
+		assertThat(store.get(hash, "match (n) return n")).isEqualTo("MATCH (N) RETURN N");
+		assertThat(store.size()).isOne();
+		assertThat(Files.readAllLines(file)).hasSize(2);
+	}
+
+	@Test
+	void precompileTranslationsShouldRequireAStore() {
+
+		assertThatExceptionOfType(SQLException.class).isThrownBy(
+				() -> new Neo4jDriver().precompileTranslations("jdbc:neo4j://localhost", new Properties(), List.of()))
+			.withMessageContaining("translationStore needs to be specified");
+	}
+
+	@Test
+	void translatorConfigHashShouldIgnoreConnectionProperties() throws SQLException {
+
+		var hash = Neo4jDriver.DriverConfig.of("jdbc:neo4j://localhost/movies?s2c.prettyPrint=true", new Properties())
+			.translatorConfigHash();
+
+		assertThat(Neo4jDriver.DriverConfig
+			.of("jdbc:neo4j://example.com:7688/movies?s2c.prettyPrint=true&user=u&useBookmarks=false",
+					new Properties())
+			.translatorConfigHash()).isEqualTo(hash);
+		assertThat(Neo4jDriver.DriverConfig.of("jdbc:neo4j://localhost/movies?s2c.prettyPrint=false", new Properties())
+			.translatorConfigHash()).isNotEqualTo(hash);
+		assertThat(Neo4jDriver.DriverConfig.of("jdbc:neo4j://localhost/other?s2c.prettyPrint=true", new Properties())
+			.translatorConfigHash()).isNotEqualTo(hash);
+	}
+
+	@Test
+	void warmUpShouldHappenOnlyOnce() throws Exception {
+
+		var driver = new Neo4jDriver();
+		var readiness = driver.warmUp();
+
+		assertThat(driver.warmUp()).isSameAs(readiness);
+		assertThat(readiness.toCompletableFuture().get(10, TimeUnit.SECONDS)).isNull();
+	}
+
+	static final class UpperCaseTranslatorFactory implements TranslatorFactory {
+
+		@Override
+		public Translator create(Map<String, ?> properties) {
+			return (statement, optionalDatabaseMetaData) -> {
+				if ("fail".equals(statement)) {
+					throw new IllegalArgumentException("Cannot translate " + statement);
+				}
+				return statement.toUpperCase(Locale.ROOT);
+			};
+		}
+
+	}
+
 	@Test
 	void defaultUAShouldWork() {
 		assertThat(Neo4jDriver.getDefaultUserAgent()).matches("neo4j-jdbc/dev");
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.jdbc.Neo4jConnection.PreparedStatementCacheStatistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class PreparedStatementCacheTests {
+
+	private static PreparedStatementCache.Key key(String sql) {
+		return new PreparedStatementCache.Key(sql, false, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY,
+				ResultSet.CLOSE_CURSORS_AT_COMMIT, Statement.NO_GENERATED_KEYS);
+	}
+
+	@Test
+	void shouldValidateCapacity() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new PreparedStatementCache(0))
+			.withMessage("The capacity of the prepared statement cache must be greater than 0");
+	}
+
+	@Test
+	void shouldComputeOnlyOnce() throws SQLException {
+		var cache = new PreparedStatementCache(2);
+		var loads = new AtomicInteger();
+
+		for (int i = 0; i < 3; ++i) {
+			var value = cache.computeIfAbsent(key("a"), String.class, () -> "A" + loads.incrementAndGet());
+			assertThat(value).isEqualTo("A1");
+		}
+
+		assertThat(cache.getStatistics()).isEqualTo(new PreparedStatementCacheStatistics(1, 2, 2, 1, 0));
+	}
+
+	@Test
+	void shouldDistinguishResultSetOptions() throws SQLException {
+		var cache = new PreparedStatementCache(2);
+		var other = new PreparedStatementCache.Key("a", false, ResultSet.TYPE_FORWARD_ONLY,
+				ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, Statement.NO_GENERATED_KEYS);
+
+		cache.computeIfAbsent(key("a"), String.class, () -> "A");
+		cache.computeIfAbsent(other, String.class, () -> "B");
+
+		assertThat(cache.getStatistics().misses()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsed() throws SQLException {
+		var cache = new PreparedStatementCache(2);
+
+		cache.computeIfAbsent(key("a"), String.class, () -> "A");
+		cache.computeIfAbsent(key("b"), String.class, () -> "B");
+		cache.computeIfAbsent(key("a"), String.class, () -> "A");
+		cache.computeIfAbsent(key("c"), String.class, () -> "C");
+		var value = cache.computeIfAbsent(key("b"), String.class, () -> "B2");
+
+		assertThat(value).isEqualTo("B2");
+		assertThat(cache.getStatistics()).isEqualTo(new PreparedStatementCacheStatistics(2, 2, 1, 4, 2));
+	}
+
+	@Test
+	void shouldNotCacheFailures() throws SQLException {
+		var cache = new PreparedStatementCache(2);
+
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> cache.computeIfAbsent(key("a"), String.class,
+				() -> {
+					throw new SQLException("Invalid statement");
+				}));
+		var value = cache.computeIfAbsent(key("a"), String.class, () -> "A");
+
+		assertThat(value).isEqualTo("A");
+		assertThat(cache.getStatistics().size()).isOne();
+	}
+
+	@Test
+	void flushShouldRemoveAllEntries() throws SQLException {
+		var cache = new PreparedStatementCache(2);
+		cache.computeIfAbsent(key("a"), String.class, () -> "A");
+
+		cache.flush();
+
+		assertThat(cache.getStatistics().size()).isZero();
+	}
+
+}
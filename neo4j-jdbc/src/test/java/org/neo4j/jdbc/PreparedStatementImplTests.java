@@ -51,11 +51,14 @@ import java.time.OffsetTime;
 import java.time.Period;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -156,6 +159,38 @@ class PreparedStatementImplTests {
 		then(transaction).shouldHaveNoMoreInteractions();
 	}
 
+	@Test
+	void shouldPreferTranslatedBatches() throws SQLException {
+		// given
+		var query = "UNWIND $rows AS row CREATE (n:N {v: row.`1`})";
+		var parameters = Map.of("rows", List.of(Map.of("1", Values.value("a")), Map.of("1", Values.value("b"))));
+		var discardResponse = mock(Neo4jTransaction.DiscardResponse.class);
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		given(transaction.runAndDiscard(query, parameters, 0, true)).willReturn(discardResponse);
+		var response = mock(Neo4jTransaction.ResultSummary.class);
+		given(discardResponse.resultSummary()).willReturn(Optional.of(response));
+		var counters = mock(SummaryCounters.class);
+		given(response.counters()).willReturn(counters);
+		given(counters.nodesCreated()).willReturn(2);
+		this.statement = new PreparedStatementImpl(StatementImplTests.mockConnection(), transactionSupplier,
+				sql -> sql, sql -> Optional.of(query), null, null, false, true, Statement.NO_GENERATED_KEYS,
+				"INSERT INTO N (v) VALUES (?)", null, null);
+
+		// when
+		this.statement.setString(1, "a");
+		this.statement.addBatch();
+		this.statement.setString(1, "b");
+		this.statement.addBatch();
+		var updates = this.statement.executeBatch();
+
+		// then
+		assertThat(updates).containsExactly(2);
+		then(transaction).should().runAndDiscard(query, parameters, 0, true);
+	}
+
 	@Test
 	void shouldExecuteQueryUsingMultipleResultsApi() throws SQLException {
 		// given
@@ -538,6 +573,37 @@ class PreparedStatementImplTests {
 		assertThat(metaData).isNotNull();
 	}
 
+	@Test
+	void shouldUseExplainedColumnsBeforeExecution() throws SQLException {
+		var query = "MATCH (n:Person) WHERE n.name = $1 OR n.age > $2 RETURN n.name AS name, n.age AS age";
+		this.statement = newStatement(StatementImplTests.mockConnection(), mock(Neo4jTransactionSupplier.class),
+				query);
+		var explained = new ArrayList<String>();
+
+		this.statement.explain(cypher -> {
+			explained.add(cypher);
+			return CompletableFuture.completedStage(List.of("name", "age"));
+		});
+
+		assertThat(explained).containsExactly(query);
+		var metaData = this.statement.getMetaData();
+		assertThat(metaData.getColumnCount()).isEqualTo(2);
+		assertThat(metaData.getColumnName(1)).isEqualTo("name");
+		assertThat(metaData.getColumnName(2)).isEqualTo("age");
+		assertThat(this.statement.getParameterMetaData().getParameterCount()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldRequireExecutionWhenExplainFailed() throws SQLException {
+		this.statement = newStatement(StatementImplTests.mockConnection(), mock(Neo4jTransactionSupplier.class),
+				"RETURN 1");
+
+		this.statement.explain(cypher -> CompletableFuture.failedStage(new SQLException("Invalid syntax")));
+
+		assertThatThrownBy(() -> this.statement.getMetaData()).isInstanceOf(SQLException.class)
+			.hasMessageEndingWith("#execute has not been called");
+	}
+
 	@ParameterizedTest
 	@MethodSource("getUnwrapArgs")
 	void shouldUnwrap(Class<?> cls, boolean shouldUnwrap) throws SQLException {
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.bolt.connection.AccessMode;
+import org.neo4j.bolt.connection.BoltConnection;
+import org.neo4j.jdbc.authn.spi.Authentication;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+class RouterTests {
+
+	private static final Instant NOW = Instant.parse("2026-10-19T12:00:00Z");
+
+	private final Map<BoltConnection, String> openedConnections = new HashMap<>();
+
+	private final Set<String> unreachable = new HashSet<>();
+
+	private BoltConnection connect(String address, Authentication authentication) {
+		if (this.unreachable.contains(address)) {
+			throw new IllegalStateException("Connection to %s refused".formatted(address));
+		}
+		var boltConnection = mock(BoltConnection.class);
+		this.openedConnections.put(boltConnection, address);
+		return boltConnection;
+	}
+
+	private Router newRouter(Queue<Router.RoutingTable> routingTables, AtomicInteger loads, Clock clock) {
+		return new Router("seed:7687", "neo4j", this::connect, (boltConnection, authentication, initialRouter,
+				databaseName, now) -> {
+			loads.incrementAndGet();
+			var routingTable = (routingTables.size() > 1) ? routingTables.poll() : routingTables.peek();
+			return new Router.RoutingTable(routingTable.routers(), routingTable.readers(), routingTable.writers(),
+					now.plusSeconds(300));
+		}, clock);
+	}
+
+	private static Router.RoutingTable routingTable(List<String> readers, String writer) {
+		return new Router.RoutingTable(List.of("seed:7687"), readers, List.of(writer), NOW.plusSeconds(300));
+	}
+
+	@Test
+	void shouldParseRoutingTable() {
+		var record = Record.of(List.of("ttl", "servers"), new Value[] { Values.value(300),
+				Values.value(List.of(Map.of("addresses", List.of("core1:7687"), "role", "WRITE"),
+						Map.of("addresses", List.of("core2:7687", "replica1:7687"), "role", "READ"),
+						Map.of("addresses", List.of("core1:7687", "core2:7687"), "role", "ROUTE"))) });
+
+		var routingTable = Router.RoutingTable.of(record, NOW);
+
+		assertThat(routingTable.writers()).containsExactly("core1:7687");
+		assertThat(routingTable.readers()).containsExactly("core2:7687", "replica1:7687");
+		assertThat(routingTable.routers()).containsExactly("core1:7687", "core2:7687");
+		assertThat(routingTable.expiresAt()).isEqualTo(NOW.plusSeconds(300));
+		assertThat(routingTable.isExpired(NOW)).isFalse();
+		assertThat(routingTable.isExpired(NOW.plusSeconds(300))).isTrue();
+	}
+
+	@Test
+	void shouldSendWritesToLeaderAndReadsToLeastConnectedReader() {
+		var router = newRouter(new ArrayDeque<>(List.of(routingTable(List.of("r1:7687", "r2:7687"), "w:7687"))),
+				new AtomicInteger(), Clock.fixed(NOW, ZoneId.of("UTC")));
+
+		var writer = router.acquire(AccessMode.WRITE, Authentication.none());
+		assertThat(this.openedConnections.get(writer)).isEqualTo("w:7687");
+
+		var reader1 = router.acquire(AccessMode.READ, Authentication.none());
+		var reader2 = router.acquire(AccessMode.READ, Authentication.none());
+		assertThat(Set.of(this.openedConnections.get(reader1), this.openedConnections.get(reader2)))
+			.containsExactlyInAnyOrder("r1:7687", "r2:7687");
+
+		router.release(reader1);
+		var reader3 = router.acquire(AccessMode.READ, Authentication.none());
+		assertThat(this.openedConnections.get(reader3)).isEqualTo(this.openedConnections.get(reader1));
+		assertThat(router.getConnectionsInUse("r1:7687")).isOne();
+		assertThat(router.getConnectionsInUse("r2:7687")).isOne();
+	}
+
+	@Test
+	void shouldUseWritersForReadsWithoutReaders() {
+		var router = newRouter(new ArrayDeque<>(List.of(routingTable(List.of(), "w:7687"))), new AtomicInteger(),
+				Clock.fixed(NOW, ZoneId.of("UTC")));
+
+		var reader = router.acquire(AccessMode.READ, Authentication.none());
+		assertThat(this.openedConnections.get(reader)).isEqualTo("w:7687");
+	}
+
+	@Test
+	void shouldCacheRoutingTableUntilExpired() {
+		var loads = new AtomicInteger();
+		var clock = new MutableClock();
+		var router = newRouter(new ArrayDeque<>(List.of(routingTable(List.of("r1:7687"), "w:7687"))), loads, clock);
+
+		router.acquire(AccessMode.READ, Authentication.none());
+		router.acquire(AccessMode.WRITE, Authentication.none());
+		assertThat(loads).hasValue(1);
+
+		clock.advance(Duration.ofSeconds(301));
+		router.acquire(AccessMode.WRITE, Authentication.none());
+		router.acquire(AccessMode.READ, Authentication.none());
+		assertThat(loads).hasValue(2);
+
+		router.invalidate();
+		router.acquire(AccessMode.WRITE, Authentication.none());
+		assertThat(loads).hasValue(3);
+	}
+
+	@Test
+	void shouldRetryWritesAgainstNewLeader() {
+		var loads = new AtomicInteger();
+		this.unreachable.add("w1:7687");
+		var router = newRouter(new ArrayDeque<>(
+				List.of(routingTable(List.of("r1:7687"), "w1:7687"), routingTable(List.of("r1:7687"), "w2:7687"))),
+				loads, Clock.fixed(NOW, ZoneId.of("UTC")));
+
+		var writer = router.acquire(AccessMode.WRITE, Authentication.none());
+		assertThat(this.openedConnections.get(writer)).isEqualTo("w2:7687");
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void shouldFailWithoutReachableServer() {
+		this.unreachable.add("w:7687");
+		var router = newRouter(new ArrayDeque<>(List.of(routingTable(List.of("r1:7687"), "w:7687"))),
+				new AtomicInteger(), Clock.fixed(NOW, ZoneId.of("UTC")));
+
+		assertThatExceptionOfType(UncheckedSQLException.class)
+			.isThrownBy(() -> router.acquire(AccessMode.WRITE, Authentication.none()))
+			.havingCause()
+			.withMessageEndingWith("No server available for WRITE access to database neo4j");
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = NOW;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.of("UTC");
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
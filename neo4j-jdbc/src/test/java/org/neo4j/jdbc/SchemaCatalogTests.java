@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class SchemaCatalogTests {
+
+	private final Queue<Runnable> backgroundTasks = new ArrayDeque<>();
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private final DatabaseMetadataImpl callerMetaData = mock(DatabaseMetadataImpl.class);
+
+	private final DatabaseMetadataImpl backgroundMetaData = mock(DatabaseMetadataImpl.class);
+
+	private SchemaCatalog catalog;
+
+	@BeforeEach
+	void createCatalog() throws SQLException {
+		var metaData = mock(DatabaseMetaData.class);
+		given(metaData.unwrap(DatabaseMetadataImpl.class)).willReturn(this.backgroundMetaData);
+		var connection = mock(Connection.class);
+		given(connection.getMetaData()).willReturn(metaData);
+		this.catalog = new SchemaCatalog(Duration.ofSeconds(10), () -> connection, this.backgroundTasks::add,
+				this.nanoTime::get);
+	}
+
+	private String get(String key) throws SQLException {
+		return this.catalog.get(key, String.class, this.callerMetaData,
+				metaData -> ((metaData == this.callerMetaData) ? "caller " : "background ") + key + " "
+						+ this.loads.incrementAndGet());
+	}
+
+	@Test
+	void shouldValidateRefreshInterval() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SchemaCatalog(Duration.ZERO, () -> null))
+			.withMessage("The refresh interval of the schema catalog must be positive");
+	}
+
+	@Test
+	void shouldLoadOnlyOnce() throws SQLException {
+		assertThat(get("a")).isEqualTo("caller a 1");
+		assertThat(get("a")).isEqualTo("caller a 1");
+		assertThat(get("b")).isEqualTo("caller b 2");
+		assertThat(this.backgroundTasks).isEmpty();
+	}
+
+	@Test
+	void shouldServeStaleEntriesAndRefreshThemInTheBackground() throws SQLException {
+		get("a");
+		this.nanoTime.addAndGet(Duration.ofSeconds(11).toNanos());
+
+		assertThat(get("a")).isEqualTo("caller a 1");
+		assertThat(get("a")).isEqualTo("caller a 1");
+		assertThat(this.backgroundTasks).hasSize(1);
+
+		this.backgroundTasks.poll().run();
+
+		assertThat(get("a")).isEqualTo("background a 2");
+		assertThat(this.backgroundTasks).isEmpty();
+	}
+
+	@Test
+	void flushShouldStartNewVersion() throws SQLException {
+		get("a");
+
+		this.catalog.flush();
+
+		assertThat(this.catalog.getVersion()).isOne();
+		assertThat(get("a")).isEqualTo("caller a 2");
+	}
+
+	@Test
+	void shouldNotKeepFailures() throws SQLException {
+		assertThatExceptionOfType(SQLException.class)
+			.isThrownBy(() -> this.catalog.get("a", String.class, this.callerMetaData, metaData -> {
+				throw new SQLException("Server unavailable");
+			}))
+			.withMessage("Server unavailable");
+
+		assertThat(get("a")).isEqualTo("caller a 1");
+	}
+
+	@Test
+	void shouldWarmUpOnlyOnce() throws SQLException {
+		var tables = mock(ResultSet.class);
+		given(tables.next()).willReturn(true, false);
+		given(tables.getString("TABLE_NAME")).willReturn("Movie");
+		given(this.backgroundMetaData.getTables(null, null, null, null)).willReturn(tables);
+		given(this.backgroundMetaData.getTables(null, null, null, new String[] { "CBV" }))
+			.willReturn(mock(ResultSet.class));
+		var columns = mock(ResultSet.class);
+		given(this.backgroundMetaData.getColumns(null, null, "Movie", null)).willReturn(columns);
+
+		this.catalog.warmUp();
+		this.catalog.warmUp();
+
+		assertThat(this.backgroundTasks).hasSize(1);
+		this.backgroundTasks.poll().run();
+		verify(columns).close();
+	}
+
+}
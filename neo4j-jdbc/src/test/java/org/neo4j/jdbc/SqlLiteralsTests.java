@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlLiteralsTests {
+
+	static Stream<Arguments> shouldRenderLiterals() {
+		return Stream.of(Arguments.of(42L, "42"), Arguments.of(23, "23"), Arguments.of(1.5, "1.5"),
+				Arguments.of("O'Reilly", "'O''Reilly'"), Arguments.of(Double.NaN, null), Arguments.of(null, null),
+				Arguments.of(List.of(1), null));
+	}
+
+	@ParameterizedTest
+	@MethodSource
+	void shouldRenderLiterals(Object value, String expected) {
+		assertThat(SqlLiterals.of(value)).isEqualTo(expected);
+	}
+
+}
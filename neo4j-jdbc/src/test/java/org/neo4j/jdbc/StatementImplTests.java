@@ -25,8 +25,16 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.sql.Wrapper;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -36,13 +44,19 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.bolt.connection.SummaryCounters;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 class StatementImplTests {
 
@@ -78,10 +92,313 @@ class StatementImplTests {
 		then(transaction).shouldHaveNoMoreInteractions();
 	}
 
+	@Test
+	void shouldPassParameterizedLiterals() throws SQLException {
+		// given
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var pullResponse = mock(Neo4jTransaction.PullResponse.class);
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.runAndPull("MATCH (n) WHERE n.id = $literal1 RETURN n", Map.of("literal1", 42L),
+				StatementImpl.DEFAULT_FETCH_SIZE, 0))
+			.willReturn(new Neo4jTransaction.RunAndPullResponses(runResponse, pullResponse));
+
+		this.statement = new StatementImpl(mockConnection(), transactionSupplier, UnaryOperator.identity(),
+				(sql, literalParameters) -> {
+					literalParameters.put("literal1", 42L);
+					return "MATCH (n) WHERE n.id = $literal1 RETURN n";
+				}, null, null);
+
+		// when
+		var resultSet = this.statement.executeQuery("SELECT * FROM n WHERE id = 42");
+
+		// then
+		assertThat(resultSet).isNotNull();
+		then(transaction).should()
+			.runAndPull("MATCH (n) WHERE n.id = $literal1 RETURN n", Map.of("literal1", 42L),
+					StatementImpl.DEFAULT_FETCH_SIZE, 0);
+	}
+
+	@Test
+	void shouldCommitWithFirstBatchWhenAllRowsFit() throws SQLException {
+		// given
+		var query = "query";
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var pullResponse = mock(Neo4jTransaction.PullResponse.class);
+		given(pullResponse.records()).willReturn(List.of(newRecord(1)));
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		given(transaction.runPullAndCommit(query, Collections.emptyMap(), 1, 0))
+			.willReturn(new Neo4jTransaction.RunAndPullResponses(runResponse, pullResponse));
+
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+		this.statement.setMaxRows(1);
+
+		// when
+		var resultSet = this.statement.executeQuery(query);
+		assertThat(resultSet.next()).isTrue();
+		assertThat(resultSet.next()).isFalse();
+		resultSet.close();
+
+		// then
+		then(transaction).should().runPullAndCommit(query, Collections.emptyMap(), 1, 0);
+		then(transaction).should(never()).runAndPull(any(), any(), anyInt(), anyInt());
+		then(transaction).should(never()).commit();
+	}
+
+	@Test
+	void shouldExecuteQueryAsync() throws SQLException {
+		// given
+		var query = "query";
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var pullResponse = mock(Neo4jTransaction.PullResponse.class);
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.runAndPullAsync(query, Collections.emptyMap(), StatementImpl.DEFAULT_FETCH_SIZE, 0))
+			.willReturn(CompletableFuture
+				.completedStage(new Neo4jTransaction.RunAndPullResponses(runResponse, pullResponse)));
+
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+
+		// when
+		var resultSet = this.statement.executeQueryAsync(query).toCompletableFuture().join();
+
+		// then
+		assertThat(resultSet).isNotNull();
+		then(transaction).should()
+			.runAndPullAsync(query, Collections.emptyMap(), StatementImpl.DEFAULT_FETCH_SIZE, 0);
+		then(transaction).shouldHaveNoMoreInteractions();
+	}
+
+	@Test
+	void shouldPublishRecordsOnDemand() throws SQLException {
+		// given
+		var query = "query";
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var firstBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(firstBatch.records()).willReturn(List.of(newRecord(1), newRecord(2)));
+		given(firstBatch.hasMore()).willReturn(true);
+		var secondBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(secondBatch.records()).willReturn(List.of(newRecord(3)));
+		given(secondBatch.hasMore()).willReturn(false);
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		given(transaction.runAndPullAsync(query, Collections.emptyMap(), 2, 0)).willReturn(
+				CompletableFuture.completedStage(new Neo4jTransaction.RunAndPullResponses(runResponse, firstBatch)));
+		given(transaction.pullAsync(runResponse, 2)).willReturn(CompletableFuture.completedStage(secondBatch));
+		given(transaction.commitAsync()).willReturn(CompletableFuture.completedStage(null));
+
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+		this.statement.setFetchSize(2);
+		var publisher = this.statement.executeQueryAsPublisher(query);
+		var received = new ArrayList<Long>();
+		var completed = new AtomicBoolean();
+		var subscription = new AtomicReference<Flow.Subscription>();
+
+		// when
+		publisher.subscribe(new Flow.Subscriber<>() {
+			@Override
+			public void onSubscribe(Flow.Subscription s) {
+				subscription.set(s);
+			}
+
+			@Override
+			public void onNext(Record item) {
+				received.add(item.get("n").asLong());
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				throw new AssertionError(throwable);
+			}
+
+			@Override
+			public void onComplete() {
+				completed.set(true);
+			}
+		});
+
+		// then
+		then(transactionSupplier).shouldHaveNoInteractions();
+		subscription.get().request(2);
+		assertThat(received).containsExactly(1L, 2L);
+		then(transaction).should().runAndPullAsync(query, Collections.emptyMap(), 2, 0);
+		then(transaction).should(never()).pullAsync(any(), anyLong());
+
+		subscription.get().request(2);
+		assertThat(received).containsExactly(1L, 2L, 3L);
+		assertThat(completed).isTrue();
+		then(transaction).should().pullAsync(runResponse, 2);
+		then(transaction).should().commitAsync();
+	}
+
+	@Test
+	void shouldPullAtLeastFetchSizeRecords() throws SQLException {
+		// given
+		var query = "query";
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var batch = mock(Neo4jTransaction.PullResponse.class);
+		given(batch.records()).willReturn(List.of(newRecord(1), newRecord(2), newRecord(3)));
+		given(batch.hasMore()).willReturn(false);
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		given(transaction.runAndPullAsync(query, Collections.emptyMap(), 3, 0))
+			.willReturn(CompletableFuture.completedStage(new Neo4jTransaction.RunAndPullResponses(runResponse, batch)));
+		given(transaction.commitAsync()).willReturn(CompletableFuture.completedStage(null));
+
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+		this.statement.setFetchSize(3);
+		var received = new ArrayList<Long>();
+		var completed = new AtomicBoolean();
+
+		// when
+		this.statement.executeQueryAsPublisher(query).subscribe(new Flow.Subscriber<>() {
+
+			private Flow.Subscription subscription;
+
+			@Override
+			public void onSubscribe(Flow.Subscription s) {
+				this.subscription = s;
+				s.request(1);
+			}
+
+			@Override
+			public void onNext(Record item) {
+				received.add(item.get("n").asLong());
+				this.subscription.request(1);
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				throw new AssertionError(throwable);
+			}
+
+			@Override
+			public void onComplete() {
+				completed.set(true);
+			}
+		});
+
+		// then
+		assertThat(received).containsExactly(1L, 2L, 3L);
+		assertThat(completed).isTrue();
+		then(transaction).should().runAndPullAsync(query, Collections.emptyMap(), 3, 0);
+		then(transaction).should(never()).pullAsync(any(), anyLong());
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void shouldCompleteAsyncExecutionOnAsyncExecutor(boolean fail) throws SQLException {
+		// given
+		var query = "query";
+		var responses = new CompletableFuture<Neo4jTransaction.RunAndPullResponses>();
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.runAndPullAsync(query, Collections.emptyMap(), StatementImpl.DEFAULT_FETCH_SIZE, 0))
+			.willReturn(responses);
+		var executions = new AtomicInteger();
+		var connection = (ConnectionImpl) mockConnection();
+		given(connection.getAsyncExecutor()).willReturn(runnable -> {
+			executions.incrementAndGet();
+			runnable.run();
+		});
+
+		this.statement = newStatement(connection, transactionSupplier);
+
+		// when
+		var resultSet = this.statement.executeQueryAsync(query).toCompletableFuture();
+		assertThat(executions).hasValue(0);
+		if (fail) {
+			responses.completeExceptionally(new SQLException("Failed on the network thread"));
+		}
+		else {
+			responses.complete(new Neo4jTransaction.RunAndPullResponses(mock(Neo4jTransaction.RunResponse.class),
+					mock(Neo4jTransaction.PullResponse.class)));
+		}
+
+		// then
+		assertThat(executions).hasValue(1);
+		if (fail) {
+			assertThatThrownBy(resultSet::join).hasCauseInstanceOf(SQLException.class)
+				.hasRootCauseMessage("Failed on the network thread");
+		}
+		else {
+			assertThat(resultSet.join()).isNotNull();
+		}
+	}
+
+	@Test
+	void shouldSignalFailedCommitAfterCancellation() throws SQLException {
+		// given
+		var query = "query";
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var batch = mock(Neo4jTransaction.PullResponse.class);
+		given(batch.records()).willReturn(List.of(newRecord(1)));
+		given(batch.hasMore()).willReturn(true);
+		var transactionSupplier = mock(Neo4jTransactionSupplier.class);
+		var transaction = mock(Neo4jTransaction.class);
+		given(transactionSupplier.getTransaction(any())).willReturn(transaction);
+		given(transaction.isAutoCommit()).willReturn(true);
+		given(transaction.isRunnable()).willReturn(true);
+		given(transaction.runAndPullAsync(query, Collections.emptyMap(), 1, 0))
+			.willReturn(CompletableFuture.completedStage(new Neo4jTransaction.RunAndPullResponses(runResponse, batch)));
+		given(transaction.commitAsync())
+			.willReturn(CompletableFuture.failedStage(new SQLException("Commit failed")));
+
+		this.statement = newStatement(mockConnection(), transactionSupplier);
+		this.statement.setFetchSize(1);
+		var error = new AtomicReference<Throwable>();
+
+		// when
+		this.statement.executeQueryAsPublisher(query).subscribe(new Flow.Subscriber<>() {
+
+			private Flow.Subscription subscription;
+
+			@Override
+			public void onSubscribe(Flow.Subscription s) {
+				this.subscription = s;
+				s.request(1);
+			}
+
+			@Override
+			public void onNext(Record item) {
+				this.subscription.cancel();
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				error.set(throwable);
+			}
+
+			@Override
+			public void onComplete() {
+				throw new AssertionError("Cancelled subscription must not complete");
+			}
+		});
+
+		// then
+		then(transaction).should().commitAsync();
+		assertThat(error.get()).isInstanceOf(SQLException.class).hasMessage("Commit failed");
+	}
+
+	private static Record newRecord(long value) {
+		return Record.of(List.of("n"), new Value[] { Values.value(value) });
+	}
+
 	static Connection mockConnection() throws SQLException {
 		var connection = mock(ConnectionImpl.class);
 		given(connection.unwrap(any())).willReturn(connection);
 		given(connection.getDatabaseURL()).willReturn(URI.create("jdbc:neo4j://foobar"));
+		given(connection.getAsyncExecutor()).willReturn(Runnable::run);
 		return connection;
 	}
 
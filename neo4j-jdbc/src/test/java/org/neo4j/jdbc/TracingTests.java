@@ -19,20 +19,41 @@
 package org.neo4j.jdbc;
 
 import java.net.URI;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.neo4j.bolt.connection.BoltConnection;
 import org.neo4j.jdbc.authn.spi.Authentication;
+import org.neo4j.jdbc.events.Neo4jEvent;
+import org.neo4j.jdbc.events.StatementListener.ExecutionEndedEvent;
+import org.neo4j.jdbc.events.StatementListener.ExecutionStartedEvent;
+import org.neo4j.jdbc.events.StatementListener.ExecutionStartedEvent.ExecutionMode;
+import org.neo4j.jdbc.tracing.Neo4jSpan;
 import org.neo4j.jdbc.tracing.Neo4jTracer;
+import org.neo4j.jdbc.values.Record;
+import org.neo4j.jdbc.values.Value;
+import org.neo4j.jdbc.values.Values;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class TracingTests {
 
@@ -48,10 +69,7 @@ class TracingTests {
 	@ParameterizedTest
 	@ValueSource(strings = { "jdbc:neo4j://localhost:8888", "jdbc:neo4j:http://localhost:8888" })
 	void shouldSetServerDefaultTags(String url) {
-		var databaseUrl = URI.create(url);
-		var connection = new ConnectionImpl(databaseUrl, Authentication::none, auth -> mock(BoltConnection.class),
-				List::of, false, false, false, false, new NoopBookmarkManagerImpl(), Map.of(), 0, "neo4j", null,
-				List.of());
+		var connection = newConnection(URI.create(url));
 
 		var tracing = new Tracing(this.tracer, connection);
 
@@ -60,4 +78,106 @@ class TracingTests {
 		assertThat(defaultTags.get("server.port")).isEqualTo("8888");
 	}
 
+	@Test
+	void shouldTracePhases() throws SQLException {
+		var connection = newConnection(URI.create("jdbc:neo4j://localhost:7687"));
+		var tracing = new Tracing(this.tracer, connection);
+
+		var executionSpan = mock(Neo4jSpan.class);
+		var iterationSpan = mock(Neo4jSpan.class);
+		var phaseSpan = mock(Neo4jSpan.class);
+		var commitSpan = mock(Neo4jSpan.class);
+		given(this.tracer.start(eq("neo4j.jdbc executeQuery"), anyMap())).willReturn(executionSpan);
+		given(this.tracer.start(eq("neo4j.jdbc iterate result"), anyMap())).willReturn(iterationSpan);
+		given(this.tracer.start(eq("neo4j.jdbc process sql"), anyMap())).willReturn(phaseSpan);
+		given(this.tracer.start(eq("neo4j.jdbc begin run pull"), anyMap())).willReturn(phaseSpan);
+		given(this.tracer.start(eq("neo4j.jdbc pull"), anyMap())).willReturn(phaseSpan);
+		given(this.tracer.start(eq("neo4j.jdbc commit"), anyMap())).willReturn(commitSpan);
+
+		var uri = connection.getDatabaseURL();
+		var statementContext = Map.<String, Object>of("source", PreparedStatement.class, "id", "s1");
+		tracing.onExecutionStarted(
+				new ExecutionStartedEvent("s1", uri, PreparedStatement.class, ExecutionMode.QUERY, "MATCH (n) RETURN n"));
+		tracing.on(new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED, statementContext));
+		tracing.on(new Neo4jEvent(Neo4jEvent.Type.TRANSACTION_ACQUIRED,
+				Map.of("source", PreparedStatement.class, "id", "s1", Neo4jEvent.PAYLOAD_BEGIN_PIPELINED, true)));
+		tracing.on(new Neo4jEvent(Neo4jEvent.Type.RUN_AND_PULL_RESPONSE_ACQUIRED, Map.of("source",
+				PreparedStatement.class, "id", "s1", Neo4jEvent.PAYLOAD_RECORDS, 10, Neo4jEvent.PAYLOAD_HAS_MORE, true)));
+		tracing.onExecutionEnded(new ExecutionEndedEvent("s1", uri, ExecutionEndedEvent.State.SUCCESSFUL,
+				Duration.ofMillis(1)));
+
+		// The events of the iteration are fired by an actual result set of an
+		// auto-commit transaction, which is committed on close
+		var transaction = mock(Neo4jTransaction.class);
+		given(transaction.isAutoCommit()).willReturn(true);
+		given(transaction.isRunnable()).willReturn(true);
+		var runResponse = mock(Neo4jTransaction.RunResponse.class);
+		var firstBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(firstBatch.records()).willReturn(List.of(newRecord(1)));
+		given(firstBatch.hasMore()).willReturn(true);
+		var secondBatch = mock(Neo4jTransaction.PullResponse.class);
+		given(secondBatch.records()).willReturn(List.of(newRecord(2), newRecord(3)));
+		given(secondBatch.hasMore()).willReturn(false);
+		given(transaction.pull(runResponse, 1000)).willReturn(secondBatch);
+		var resultSet = new ResultSetImpl(mock(StatementImpl.class), 0, transaction, runResponse, firstBatch, 1000, 0);
+		resultSet.addListener(tracing);
+
+		while (resultSet.next()) {
+			verify(iterationSpan, never()).end();
+		}
+		verify(this.tracer, never()).start(eq("neo4j.jdbc commit"), anyMap());
+		verify(iterationSpan, never()).end();
+		resultSet.close();
+
+		verify(this.tracer).start(eq("neo4j.jdbc process sql"), anyMap());
+		verify(this.tracer).start(eq("neo4j.jdbc begin run pull"), anyMap());
+		verify(this.tracer).start(eq("neo4j.jdbc pull"), anyMap());
+		verify(phaseSpan).tag("db.response.returned_rows", "10");
+		verify(phaseSpan).tag("db.response.returned_rows", "2");
+		verify(phaseSpan, times(3)).end();
+		verify(executionSpan).end();
+		var inOrder = inOrder(this.tracer, transaction, commitSpan, iterationSpan);
+		inOrder.verify(this.tracer).start(eq("neo4j.jdbc commit"), anyMap());
+		inOrder.verify(transaction).commit();
+		inOrder.verify(commitSpan).end();
+		inOrder.verify(iterationSpan).end();
+	}
+
+	@Test
+	void shouldNotScopeSpansOfAsynchronousExecutions() {
+		var connection = newConnection(URI.create("jdbc:neo4j://localhost:7687"));
+		var tracing = new Tracing(this.tracer, connection);
+
+		var executionSpan = mock(Neo4jSpan.class);
+		var phaseSpan = mock(Neo4jSpan.class);
+		given(this.tracer.startDetached(eq("neo4j.jdbc executeQuery"), anyMap(), isNull())).willReturn(executionSpan);
+		given(this.tracer.startDetached(eq("neo4j.jdbc process sql"), anyMap(), eq(executionSpan)))
+			.willReturn(phaseSpan);
+		given(this.tracer.startDetached(eq("neo4j.jdbc run pull"), anyMap(), eq(executionSpan)))
+			.willReturn(phaseSpan);
+
+		var uri = connection.getDatabaseURL();
+		var statementContext = Map.<String, Object>of("source", PreparedStatement.class, "id", "s1");
+		tracing.onExecutionStarted(new ExecutionStartedEvent("s1", uri, PreparedStatement.class, ExecutionMode.QUERY,
+				"MATCH (n) RETURN n", true));
+		tracing.on(new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED, statementContext));
+		tracing.on(new Neo4jEvent(Neo4jEvent.Type.TRANSACTION_ACQUIRED, statementContext));
+		tracing.on(new Neo4jEvent(Neo4jEvent.Type.RUN_AND_PULL_RESPONSE_ACQUIRED, statementContext));
+		tracing.onExecutionEnded(new ExecutionEndedEvent("s1", uri, ExecutionEndedEvent.State.SUCCESSFUL,
+				Duration.ofMillis(1)));
+
+		verify(this.tracer, never()).start(anyString(), anyMap());
+		verify(phaseSpan, times(2)).end();
+		verify(executionSpan).end();
+	}
+
+	private static Record newRecord(long value) {
+		return Record.of(List.of("n"), new Value[] { Values.value(value) });
+	}
+
+	private static ConnectionImpl newConnection(URI databaseUrl) {
+		return new ConnectionImpl(databaseUrl, Authentication::none, auth -> mock(BoltConnection.class), List::of,
+				false, false, false, false, new NoopBookmarkManagerImpl(), Map.of(), 0, "neo4j", null, List.of());
+	}
+
 }
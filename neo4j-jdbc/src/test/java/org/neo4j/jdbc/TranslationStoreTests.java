@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranslationStoreTests {
+
+	@TempDir
+	Path tempDir;
+
+	static TranslationStore open(Path file) {
+		return TranslationStore.open(file, TranslationStore.DEFAULT_MAX_ENTRIES, Runnable::run);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "SELECT 1", "SELECT 'a\tb'", "SELECT *\nFROM Movie\r\n", "SELECT '\\n'", "\\" })
+	void escapingShouldRoundTrip(String value) {
+		var escaped = TranslationStore.escape(value);
+		assertThat(escaped).doesNotContain("\t", "\n", "\r");
+		assertThat(TranslationStore.unescape(escaped)).isEqualTo(value);
+	}
+
+	@Test
+	void translationsShouldSurviveReopening() {
+		var file = this.tempDir.resolve("translations.txt");
+		var store = open(file);
+		var scope = store.scope("a");
+		scope.put("SELECT *\nFROM Movie", "MATCH (movie:Movie)\nRETURN *");
+		scope.put("SELECT *\nFROM Movie", "MATCH (movie:Movie)\nRETURN *");
+		store.scope("b").put("SELECT *\nFROM Movie", "MATCH (m:Movie) RETURN *");
+
+		var reopened = open(file);
+
+		assertThat(reopened.size()).isEqualTo(2);
+		assertThat(reopened.get("a", "SELECT *\nFROM Movie")).isEqualTo("MATCH (movie:Movie)\nRETURN *");
+		assertThat(reopened.get("b", "SELECT *\nFROM Movie")).isEqualTo("MATCH (m:Movie) RETURN *");
+		assertThat(reopened.get("c", "SELECT *\nFROM Movie")).isNull();
+	}
+
+	@Test
+	void flushShouldOnlyRemoveTranslationsOfTheScope() {
+		var file = this.tempDir.resolve("translations.txt");
+		var store = open(file);
+		store.scope("a").put("SELECT 1", "RETURN 1");
+		store.scope("b").put("SELECT 2", "RETURN 2");
+
+		store.scope("a").flush();
+
+		assertThat(store.get("a", "SELECT 1")).isNull();
+		var reopened = open(file);
+		assertThat(reopened.size()).isOne();
+		assertThat(reopened.get("b", "SELECT 2")).isEqualTo("RETURN 2");
+	}
+
+	@Test
+	void shouldSkipMalformedLines() throws IOException {
+		var file = this.tempDir.resolve("translations.txt");
+		Files.writeString(file, "# comment\nbroken\na\tSELECT 1\tRETURN 1\na\tSELECT 1\tRETURN 2\n");
+
+		var store = open(file);
+
+		assertThat(store.size()).isOne();
+		assertThat(store.get("a", "SELECT 1")).isEqualTo("RETURN 2");
+	}
+
+	@Test
+	void missingFilesShouldBeCreatedOnFirstTranslation() throws IOException {
+		var file = this.tempDir.resolve("translations.txt");
+		var store = open(file);
+		assertThat(store.size()).isZero();
+		assertThat(file).doesNotExist();
+
+		store.put("a", "SELECT 1", "RETURN 1");
+
+		assertThat(Files.readAllLines(file)).containsExactly("# neo4j-jdbc translation store, format 1",
+				"a\tSELECT 1\tRETURN 1");
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedTranslations() {
+		var file = this.tempDir.resolve("translations.txt");
+		var store = TranslationStore.open(file, 2, Runnable::run);
+		store.put("a", "SELECT 1", "RETURN 1");
+		store.put("a", "SELECT 2", "RETURN 2");
+		assertThat(store.get("a", "SELECT 1")).isEqualTo("RETURN 1");
+
+		store.put("a", "SELECT 3", "RETURN 3");
+
+		assertThat(store.size()).isEqualTo(2);
+		assertThat(store.get("a", "SELECT 2")).isNull();
+		assertThat(store.get("a", "SELECT 1")).isEqualTo("RETURN 1");
+		assertThat(store.get("a", "SELECT 3")).isEqualTo("RETURN 3");
+	}
+
+	@Test
+	void fileShouldBeCompacted() throws IOException {
+		var file = this.tempDir.resolve("translations.txt");
+		var store = TranslationStore.open(file, 2, Runnable::run);
+		for (var i = 0; i < 10; ++i) {
+			store.put("a", "SELECT " + i, "RETURN " + i);
+		}
+
+		assertThat(Files.readAllLines(file)).hasSizeLessThanOrEqualTo(4);
+		// The file is replaced atomically, no temporary files are left behind
+		try (var files = Files.list(this.tempDir)) {
+			assertThat(files).containsExactly(file);
+		}
+		var reopened = TranslationStore.open(file, 2, Runnable::run);
+		assertThat(reopened.get("a", "SELECT 9")).isEqualTo("RETURN 9");
+		assertThat(reopened.get("a", "SELECT 8")).isEqualTo("RETURN 8");
+	}
+
+	@Test
+	void translationsShouldBeWrittenInBatches() throws IOException {
+		var file = this.tempDir.resolve("translations.txt");
+		var tasks = new ArrayList<Runnable>();
+		var store = TranslationStore.open(file, TranslationStore.DEFAULT_MAX_ENTRIES, tasks::add);
+		store.put("a", "SELECT 1", "RETURN 1");
+		store.put("a", "SELECT 2", "RETURN 2");
+
+		assertThat(store.get("a", "SELECT 2")).isEqualTo("RETURN 2");
+		assertThat(file).doesNotExist();
+		assertThat(tasks).hasSize(1);
+
+		tasks.forEach(Runnable::run);
+		assertThat(Files.readAllLines(file)).containsExactly("# neo4j-jdbc translation store, format 1",
+				"a\tSELECT 1\tRETURN 1", "a\tSELECT 2\tRETURN 2");
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023-2026 "Neo4j,"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.jdbc.events;
+
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class AsyncEventDispatcherTests {
+
+	@Test
+	void shouldValidateCapacity() {
+		assertThatIllegalArgumentException().isThrownBy(() -> AsyncEventDispatcher.create(0))
+			.withMessage("The capacity of the ring buffer must be greater than 0");
+	}
+
+	@Test
+	void shouldDispatchOnDifferentThread() throws InterruptedException {
+		var latch = new CountDownLatch(1);
+		var callingThread = new AtomicReference<Thread>();
+		try (var dispatcher = AsyncEventDispatcher.create()) {
+			var listener = dispatcher.wrap(new DriverListener() {
+				@Override
+				public void onConnectionOpened(ConnectionOpenedEvent event) {
+					callingThread.set(Thread.currentThread());
+					latch.countDown();
+				}
+			});
+			listener.onConnectionOpened(new DriverListener.ConnectionOpenedEvent(URI.create("jdbc:neo4j://localhost")));
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+		assertThat(callingThread.get()).isNotNull().isNotEqualTo(Thread.currentThread());
+		assertThat(callingThread.get().getName()).startsWith("neo4j-jdbc-event-dispatcher-");
+	}
+
+	@Test
+	void shouldDropEventsInsteadOfBlocking() throws InterruptedException {
+		var blocker = new CountDownLatch(1);
+		var started = new CountDownLatch(1);
+		try (var dispatcher = AsyncEventDispatcher.create(1)) {
+			var listener = dispatcher.wrap(new StatementListener() {
+				@Override
+				public void on(Neo4jEvent event) {
+					started.countDown();
+					try {
+						blocker.await();
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			});
+
+			var event = new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED);
+			// Occupies the worker
+			listener.on(event);
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			// Fills the buffer
+			listener.on(event);
+			// Must be dropped
+			listener.on(event);
+			listener.on(event);
+
+			assertThat(dispatcher.getDroppedEvents()).isEqualTo(2);
+			blocker.countDown();
+		}
+	}
+
+	@Test
+	void shouldDeliverPendingEventsWithoutInterruptingOnClose() {
+		var delivered = new AtomicInteger();
+		var interrupted = new AtomicBoolean();
+		var dispatcher = AsyncEventDispatcher.create();
+		var listener = dispatcher.wrap(new StatementListener() {
+			@Override
+			public void on(Neo4jEvent event) {
+				try {
+					Thread.sleep(100);
+					delivered.incrementAndGet();
+				}
+				catch (InterruptedException ex) {
+					interrupted.set(true);
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+
+		var event = new Neo4jEvent(Neo4jEvent.Type.SQL_PROCESSED);
+		listener.on(event);
+		listener.on(event);
+		listener.on(event);
+		dispatcher.close();
+
+		assertThat(delivered).hasValue(3);
+		assertThat(interrupted).isFalse();
+		assertThat(dispatcher.getDroppedEvents()).isZero();
+	}
+
+	@Test
+	void shouldDropEventsAfterClose() {
+		var dispatcher = AsyncEventDispatcher.create();
+		var listener = dispatcher.wrap(new ResultSetListener() {
+		});
+		dispatcher.close();
+		listener.onIterationStarted(new ResultSetListener.IterationStartedEvent("4711"));
+		assertThat(dispatcher.getDroppedEvents()).isOne();
+	}
+
+}